@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.pipeline.batch.io.AccessionReportWriter;
+import uk.ac.ebi.eva.accession.pipeline.batch.tasklets.reportCheck.AccessionWrapperComparator;
+import uk.ac.ebi.eva.commons.core.models.IVariant;
+import uk.ac.ebi.eva.commons.core.models.pipeline.Variant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-chunk sorting done by {@link AccessionReportWriter}: building an
+ * {@link AccessionWrapperComparator} from the input order of the contigs and sorting the accessioned variants with it.
+ *
+ * Run with: java -jar eva-accession-benchmarks/target/benchmarks.jar AccessionReportSortingBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(AccessionReportSortingBenchmark.VARIANTS)
+public class AccessionReportSortingBenchmark {
+
+    static final int VARIANTS = 1000;
+
+    @Param({"100", "1000"})
+    private int chunkSize;
+
+    private List<List<IVariant>> inputChunks;
+
+    private List<List<AccessionWrapper<ISubmittedVariant, String, Long>>> accessionedChunks;
+
+    @Setup
+    public void setUp() {
+        ISubmittedVariant[] submittedVariants = SyntheticVariants.submittedVariants(new Random(42), VARIANTS, 20);
+        inputChunks = new ArrayList<>();
+        accessionedChunks = new ArrayList<>();
+        for (int chunkStart = 0; chunkStart < VARIANTS; chunkStart += chunkSize) {
+            List<IVariant> inputChunk = new ArrayList<>(chunkSize);
+            List<AccessionWrapper<ISubmittedVariant, String, Long>> accessionedChunk = new ArrayList<>(chunkSize);
+            for (int i = chunkStart; i < Math.min(chunkStart + chunkSize, VARIANTS); i++) {
+                ISubmittedVariant variant = submittedVariants[i];
+                inputChunk.add(new Variant(variant.getContig(), variant.getStart(),
+                                           variant.getStart() + variant.getReferenceAllele().length() - 1,
+                                           variant.getReferenceAllele(), variant.getAlternateAllele()));
+                accessionedChunk.add(new AccessionWrapper<>(5_000_000_000L + i, "hash-" + i, variant));
+            }
+            inputChunks.add(inputChunk);
+            accessionedChunks.add(accessionedChunk);
+        }
+    }
+
+    @Benchmark
+    public void sortChunks(Blackhole blackhole) {
+        for (int i = 0; i < inputChunks.size(); i++) {
+            List<AccessionWrapper<ISubmittedVariant, String, Long>> accessions = new ArrayList<>(
+                    accessionedChunks.get(i));
+            accessions.sort(new AccessionWrapperComparator(inputChunks.get(i)));
+            blackhole.consume(accessions);
+        }
+    }
+}
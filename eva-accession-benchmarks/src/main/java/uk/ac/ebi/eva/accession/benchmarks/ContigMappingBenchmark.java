@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.ac.ebi.eva.accession.core.contig.ContigMapping;
+import uk.ac.ebi.eva.accession.core.contig.ContigNaming;
+import uk.ac.ebi.eva.accession.core.contig.ContigSynonyms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the contig lookups done for every variant by the contig replacement processors and the release writers,
+ * querying with a mix of the naming conventions found in submitted files.
+ *
+ * Run with: java -jar eva-accession-benchmarks/target/benchmarks.jar ContigMappingBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ContigMappingBenchmark.LOOKUPS)
+public class ContigMappingBenchmark {
+
+    static final int LOOKUPS = 1000;
+
+    /**
+     * Chromosome-level assemblies have a few dozen contigs, while scaffold-level ones can have hundreds of thousands.
+     */
+    @Param({"40", "100000"})
+    private int contigs;
+
+    private ContigMapping contigMapping;
+
+    private String[] queriedContigs;
+
+    @Setup
+    public void setUp() {
+        List<ContigSynonyms> synonyms = new ArrayList<>(contigs);
+        for (int i = 0; i < contigs; i++) {
+            synonyms.add(new ContigSynonyms(sequenceName(i), "assembled-molecule", Integer.toString(i + 1),
+                                            genbank(i), refseq(i), "chr" + (i + 1), true));
+        }
+        contigMapping = new ContigMapping(synonyms);
+
+        Random random = new Random(42);
+        queriedContigs = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            int contig = random.nextInt(contigs);
+            switch (random.nextInt(4)) {
+                case 0:
+                    queriedContigs[i] = sequenceName(contig);
+                    break;
+                case 1:
+                    queriedContigs[i] = genbank(contig);
+                    break;
+                case 2:
+                    queriedContigs[i] = refseq(contig);
+                    break;
+                default:
+                    queriedContigs[i] = "chr" + (contig + 1);
+            }
+        }
+    }
+
+    private static String sequenceName(int index) {
+        return "scaffold_" + index;
+    }
+
+    private static String genbank(int index) {
+        return "CM" + String.format("%06d", 245 + index) + ".2";
+    }
+
+    private static String refseq(int index) {
+        return "NC_" + String.format("%06d", 6088 + index) + ".5";
+    }
+
+    @Benchmark
+    public void getContigSynonyms(Blackhole blackhole) {
+        for (String contig : queriedContigs) {
+            blackhole.consume(contigMapping.getContigSynonyms(contig));
+        }
+    }
+
+    @Benchmark
+    public void getInsdcSynonym(Blackhole blackhole) {
+        for (String contig : queriedContigs) {
+            ContigSynonyms contigSynonyms = contigMapping.getContigSynonyms(contig);
+            blackhole.consume(contigMapping.getContigSynonym(contig, contigSynonyms, ContigNaming.INSDC));
+        }
+    }
+}
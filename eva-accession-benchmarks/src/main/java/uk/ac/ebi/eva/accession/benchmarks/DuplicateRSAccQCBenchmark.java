@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.ac.ebi.eva.accession.clustering.batch.io.qc.DuplicateRSAccQCProcessor;
+import uk.ac.ebi.eva.accession.core.EVAObjectModelUtils;
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the grouping and connectivity check of {@link DuplicateRSAccQCProcessor} on RS accessions that have
+ * several clustered variant documents. Half of the RS accessions chain all their positions through shared SS
+ * accessions (not duplicates) and the other half don't (duplicates).
+ *
+ * Run with: java -jar eva-accession-benchmarks/target/benchmarks.jar DuplicateRSAccQCBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(DuplicateRSAccQCBenchmark.RS_ACCESSIONS)
+public class DuplicateRSAccQCBenchmark {
+
+    static final int RS_ACCESSIONS = 100;
+
+    private static final int SUBMITTED_VARIANTS_PER_POSITION = 3;
+
+    @Param({"2", "10"})
+    private int positionsPerRs;
+
+    private Map<Long, List<ClusteredVariantEntity>> clusteredVariantEntities;
+
+    private List<SubmittedVariantEntity> submittedVariantEntities;
+
+    private DuplicateRSAccQCProcessor processor;
+
+    @Setup
+    public void setUp() {
+        int variantsPerRs = positionsPerRs * SUBMITTED_VARIANTS_PER_POSITION;
+        ISubmittedVariant[] variants = SyntheticVariants.submittedVariants(new Random(42),
+                                                                           RS_ACCESSIONS * variantsPerRs, 1);
+        clusteredVariantEntities = new HashMap<>();
+        submittedVariantEntities = new ArrayList<>();
+        long nextSsAccession = 5_000_000_000L;
+        for (int rs = 0; rs < RS_ACCESSIONS; rs++) {
+            long rsAccession = 3_000_000_000L + rs;
+            boolean chained = rs % 2 == 0;
+            ISubmittedVariant firstVariant = variants[rs * variantsPerRs];
+            long sharedSsAccession = -1;
+            for (int position = 0; position < positionsPerRs; position++) {
+                long start = firstVariant.getStart() + position * 1000L;
+                for (int ss = 0; ss < SUBMITTED_VARIANTS_PER_POSITION; ss++) {
+                    ISubmittedVariant variant = variants[rs * variantsPerRs + position * SUBMITTED_VARIANTS_PER_POSITION
+                            + ss];
+                    // the first SS of each position reuses the last SS of the previous one, linking both positions
+                    long ssAccession = (chained && ss == 0 && sharedSsAccession != -1) ? sharedSsAccession
+                                                                                       : nextSsAccession++;
+                    sharedSsAccession = ssAccession;
+                    SubmittedVariantEntity entity = new SubmittedVariantEntity(
+                            ssAccession, "hash-" + ssAccession, firstVariant.getReferenceSequenceAccession(),
+                            firstVariant.getTaxonomyAccession(), variant.getProjectAccession(),
+                            firstVariant.getContig(), start, variant.getReferenceAllele(),
+                            variant.getAlternateAllele(), rsAccession, true, true, true, false, 1);
+                    submittedVariantEntities.add(entity);
+                }
+                if (position < 2) {
+                    clusteredVariantEntities.computeIfAbsent(rsAccession, key -> new ArrayList<>())
+                                            .add(EVAObjectModelUtils.toClusteredVariantEntity(
+                                                    submittedVariantEntities.get(submittedVariantEntities.size() - 1)));
+                }
+            }
+        }
+        // the Mongo template is only used to load the documents, which are already provided
+        processor = new DuplicateRSAccQCProcessor(null);
+    }
+
+    @Benchmark
+    public void findDuplicateRSAccessions(Blackhole blackhole) {
+        blackhole.consume(processor.findDuplicateRSAccessions(clusteredVariantEntities, submittedVariantEntities));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.ac.ebi.eva.accession.core.EVAObjectModelUtils;
+import uk.ac.ebi.eva.accession.core.model.ClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions done by the clustering for every submitted variant, from a {@link SubmittedVariantEntity}
+ * to the clustered variant model and entity (which includes hashing the clustered variant).
+ *
+ * Run with: java -jar eva-accession-benchmarks/target/benchmarks.jar EntityConversionBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(EntityConversionBenchmark.VARIANTS)
+public class EntityConversionBenchmark {
+
+    static final int VARIANTS = 1000;
+
+    @Param({"1", "20"})
+    private int maxIndelLength;
+
+    private SubmittedVariantEntity[] submittedVariantEntities;
+
+    private ClusteredVariant[] clusteredVariants;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ISubmittedVariant[] variants = SyntheticVariants.submittedVariants(random, VARIANTS, maxIndelLength);
+        submittedVariantEntities = new SubmittedVariantEntity[VARIANTS];
+        clusteredVariants = new ClusteredVariant[VARIANTS];
+        for (int i = 0; i < VARIANTS; i++) {
+            SubmittedVariantEntity entity = EVAObjectModelUtils.toSubmittedVariantEntity(5_000_000_000L + i,
+                                                                                         variants[i]);
+            entity.setClusteredVariantAccession(3_000_000_000L + random.nextInt(VARIANTS));
+            submittedVariantEntities[i] = entity;
+            clusteredVariants[i] = EVAObjectModelUtils.toClusteredVariant(entity);
+        }
+    }
+
+    @Benchmark
+    public void toClusteredVariant(Blackhole blackhole) {
+        for (SubmittedVariantEntity entity : submittedVariantEntities) {
+            blackhole.consume(EVAObjectModelUtils.toClusteredVariant(entity));
+        }
+    }
+
+    @Benchmark
+    public void toClusteredVariantEntityFromSubmittedVariantEntity(Blackhole blackhole) {
+        for (SubmittedVariantEntity entity : submittedVariantEntities) {
+            blackhole.consume(EVAObjectModelUtils.toClusteredVariantEntity(entity));
+        }
+    }
+
+    @Benchmark
+    public void toClusteredVariantEntityFromClusteredVariant(Blackhole blackhole) {
+        for (int i = 0; i < VARIANTS; i++) {
+            blackhole.consume(EVAObjectModelUtils.toClusteredVariantEntity(
+                    submittedVariantEntities[i].getClusteredVariantAccession(), clusteredVariants[i]));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.pipeline.batch.processors.ExcludeStructuralVariantsProcessor;
+import uk.ac.ebi.eva.commons.core.models.IVariant;
+import uk.ac.ebi.eva.commons.core.models.pipeline.Variant;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the structural variant regular expression that {@link ExcludeStructuralVariantsProcessor} evaluates on
+ * every input variant. Only non-structural alleles are used, which is the common case and the one that has to try
+ * every alternative of the expression; skipped variants are logged one by one, which would dominate the measurement.
+ *
+ * Run with: java -jar eva-accession-benchmarks/target/benchmarks.jar ExcludeStructuralVariantsBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ExcludeStructuralVariantsBenchmark.VARIANTS)
+public class ExcludeStructuralVariantsBenchmark {
+
+    static final int VARIANTS = 1000;
+
+    @Param({"1", "20", "200"})
+    private int maxIndelLength;
+
+    private IVariant[] variants;
+
+    private ExcludeStructuralVariantsProcessor processor;
+
+    @Setup
+    public void setUp() {
+        ISubmittedVariant[] submittedVariants = SyntheticVariants.submittedVariants(new Random(42), VARIANTS,
+                                                                                    maxIndelLength);
+        variants = new IVariant[VARIANTS];
+        for (int i = 0; i < VARIANTS; i++) {
+            ISubmittedVariant variant = submittedVariants[i];
+            variants[i] = new Variant(variant.getContig(), variant.getStart(),
+                                      variant.getStart() + variant.getReferenceAllele().length() - 1,
+                                      variant.getReferenceAllele(), variant.getAlternateAllele());
+        }
+        processor = new ExcludeStructuralVariantsProcessor();
+    }
+
+    @Benchmark
+    public void process(Blackhole blackhole) {
+        for (IVariant variant : variants) {
+            blackhole.consume(processor.process(variant));
+        }
+    }
+}
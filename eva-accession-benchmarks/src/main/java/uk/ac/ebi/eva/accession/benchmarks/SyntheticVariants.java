@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks;
+
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.core.model.SubmittedVariant;
+
+import java.util.Random;
+
+/**
+ * Generates reproducible variants for the benchmarks, so that they don't depend on any external data.
+ */
+public class SyntheticVariants {
+
+    public static final String ASSEMBLY_ACCESSION = "GCA_000002315.5";
+
+    public static final int TAXONOMY_ACCESSION = 9031;
+
+    private static final String[] PROJECTS = {"PRJEB12345", "PRJEB23456", "PRJNA34567"};
+
+    private static final int CONTIGS = 40;
+
+    private static final int MAX_START = 200_000_000;
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    public static String contig(int index) {
+        return "CM" + String.format("%06d", 245 + index) + ".2";
+    }
+
+    public static ISubmittedVariant[] submittedVariants(Random random, int count, int maxIndelLength) {
+        ISubmittedVariant[] variants = new ISubmittedVariant[count];
+        for (int i = 0; i < count; i++) {
+            String reference = randomAllele(random, 1 + random.nextInt(maxIndelLength));
+            String alternate;
+            do {
+                alternate = randomAllele(random, 1 + random.nextInt(maxIndelLength));
+            } while (alternate.equals(reference));
+            variants[i] = new SubmittedVariant(ASSEMBLY_ACCESSION, TAXONOMY_ACCESSION,
+                                               PROJECTS[random.nextInt(PROJECTS.length)],
+                                               contig(random.nextInt(CONTIGS)), 1 + random.nextInt(MAX_START),
+                                               reference, alternate, null);
+        }
+        return variants;
+    }
+
+    public static String randomAllele(Random random, int length) {
+        char[] allele = new char[length];
+        for (int i = 0; i < length; i++) {
+            allele[i] = BASES[random.nextInt(BASES.length)];
+        }
+        return new String(allele);
+    }
+}
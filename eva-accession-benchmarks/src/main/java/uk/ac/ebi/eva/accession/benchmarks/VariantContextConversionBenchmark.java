@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.ac.ebi.eva.accession.core.contig.ContigMapping;
+import uk.ac.ebi.eva.accession.core.contig.ContigNaming;
+import uk.ac.ebi.eva.accession.core.contig.ContigSynonyms;
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.release.batch.processors.VariantToVariantContextProcessor;
+import uk.ac.ebi.eva.commons.core.models.IVariant;
+import uk.ac.ebi.eva.commons.core.models.pipeline.Variant;
+import uk.ac.ebi.eva.commons.core.models.pipeline.VariantSourceEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static uk.ac.ebi.eva.accession.release.batch.io.VariantMongoAggregationReader.ALLELES_MATCH_KEY;
+import static uk.ac.ebi.eva.accession.release.batch.io.VariantMongoAggregationReader.ASSEMBLY_MATCH_KEY;
+import static uk.ac.ebi.eva.accession.release.batch.io.VariantMongoAggregationReader.CLUSTERED_VARIANT_VALIDATED_KEY;
+import static uk.ac.ebi.eva.accession.release.batch.io.VariantMongoAggregationReader.STUDY_ID_KEY;
+import static uk.ac.ebi.eva.accession.release.batch.io.VariantMongoAggregationReader.SUBMITTED_VARIANT_VALIDATED_KEY;
+import static uk.ac.ebi.eva.accession.release.batch.io.VariantMongoAggregationReader.SUPPORTED_BY_EVIDENCE_KEY;
+import static uk.ac.ebi.eva.accession.release.batch.io.VariantMongoAggregationReader.VARIANT_CLASS_KEY;
+
+/**
+ * Measures {@link VariantToVariantContextProcessor}, which converts every released RS into an HTSJDK VariantContext,
+ * replacing the contig and merging the INFO attributes of all its source entries (one per study).
+ *
+ * Run with: java -jar eva-accession-benchmarks/target/benchmarks.jar VariantContextConversionBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(VariantContextConversionBenchmark.VARIANTS)
+public class VariantContextConversionBenchmark {
+
+    static final int VARIANTS = 1000;
+
+    private static final int CONTIGS = 40;
+
+    private static final String[] STUDIES = {"PRJEB12345", "PRJEB23456", "PRJNA34567", "HANDLE BATCH;2=1,X"};
+
+    @Param({"1", "4"})
+    private int studiesPerVariant;
+
+    private IVariant[] variants;
+
+    private VariantToVariantContextProcessor processor;
+
+    @Setup
+    public void setUp() {
+        List<ContigSynonyms> synonyms = new ArrayList<>(CONTIGS);
+        for (int i = 0; i < CONTIGS; i++) {
+            synonyms.add(new ContigSynonyms(Integer.toString(i + 1), "assembled-molecule", Integer.toString(i + 1),
+                                            SyntheticVariants.contig(i), "NC_" + String.format("%06d", 6088 + i),
+                                            "chr" + (i + 1), true));
+        }
+        processor = new VariantToVariantContextProcessor(new ContigMapping(synonyms), ContigNaming.SEQUENCE_NAME);
+
+        Random random = new Random(42);
+        ISubmittedVariant[] submittedVariants = SyntheticVariants.submittedVariants(random, VARIANTS, 20);
+        variants = new IVariant[VARIANTS];
+        for (int i = 0; i < VARIANTS; i++) {
+            ISubmittedVariant submittedVariant = submittedVariants[i];
+            Variant variant = new Variant(submittedVariant.getContig(), submittedVariant.getStart(),
+                                          submittedVariant.getStart()
+                                                  + submittedVariant.getReferenceAllele().length() - 1,
+                                          submittedVariant.getReferenceAllele(),
+                                          submittedVariant.getAlternateAllele());
+            variant.setMainId("rs" + (3_000_000_000L + i));
+            for (int study = 0; study < studiesPerVariant; study++) {
+                VariantSourceEntry sourceEntry = new VariantSourceEntry(STUDIES[study], STUDIES[study]);
+                sourceEntry.addAttribute(VARIANT_CLASS_KEY, "SO:0001483");
+                sourceEntry.addAttribute(STUDY_ID_KEY, STUDIES[study]);
+                sourceEntry.addAttribute(SUPPORTED_BY_EVIDENCE_KEY, Boolean.toString(random.nextBoolean()));
+                sourceEntry.addAttribute(ASSEMBLY_MATCH_KEY, Boolean.toString(random.nextInt(10) > 0));
+                sourceEntry.addAttribute(ALLELES_MATCH_KEY, Boolean.toString(random.nextInt(10) > 0));
+                sourceEntry.addAttribute(SUBMITTED_VARIANT_VALIDATED_KEY, Boolean.toString(random.nextBoolean()));
+                sourceEntry.addAttribute(CLUSTERED_VARIANT_VALIDATED_KEY, Boolean.toString(random.nextBoolean()));
+                variant.addSourceEntry(sourceEntry);
+            }
+            variants[i] = variant;
+        }
+    }
+
+    @Benchmark
+    public void process(Blackhole blackhole) {
+        for (IVariant variant : variants) {
+            blackhole.consume(processor.process(variant));
+        }
+    }
+}
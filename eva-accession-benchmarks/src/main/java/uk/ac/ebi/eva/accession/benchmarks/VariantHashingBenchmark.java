@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
+
+import uk.ac.ebi.eva.accession.core.EVAObjectModelUtils;
+import uk.ac.ebi.eva.accession.core.model.ClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantHashingFunction;
+import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantSummaryFunction;
+import uk.ac.ebi.eva.accession.core.summary.SubmittedVariantHashingFunction;
+import uk.ac.ebi.eva.accession.core.summary.SubmittedVariantSummaryFunction;
+import uk.ac.ebi.eva.commons.core.models.VariantClassifier;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the summary + {@link SHA1HashingFunction} composition against the hashing engine used by
+ * {@link SubmittedVariantHashingFunction} and {@link ClusteredVariantHashingFunction}.
+ *
+ * Run with: java -jar eva-accession-benchmarks/target/benchmarks.jar VariantHashingBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(VariantHashingBenchmark.VARIANTS)
+public class VariantHashingBenchmark {
+
+    static final int VARIANTS = 1000;
+
+    @Param({"1", "20"})
+    private int maxIndelLength;
+
+    private ISubmittedVariant[] submittedVariants;
+
+    private IClusteredVariant[] clusteredVariants;
+
+    private Function<ISubmittedVariant, String> submittedSummaryAndSha1;
+
+    private Function<ISubmittedVariant, String> submittedHashingFunction;
+
+    private Function<IClusteredVariant, String> clusteredSummaryAndSha1;
+
+    private Function<IClusteredVariant, String> clusteredHashingFunction;
+
+    @Setup
+    public void setUp() {
+        submittedVariants = SyntheticVariants.submittedVariants(new Random(42), VARIANTS, maxIndelLength);
+        clusteredVariants = new IClusteredVariant[VARIANTS];
+        for (int i = 0; i < VARIANTS; i++) {
+            ISubmittedVariant variant = submittedVariants[i];
+            clusteredVariants[i] = new ClusteredVariant(variant.getReferenceSequenceAccession(),
+                                                        variant.getTaxonomyAccession(), variant.getContig(),
+                                                        variant.getStart(),
+                                                        VariantClassifier.getVariantClassification(
+                                                                variant.getReferenceAllele(),
+                                                                variant.getAlternateAllele()),
+                                                        null, null);
+        }
+        submittedSummaryAndSha1 = new SubmittedVariantSummaryFunction().andThen(new SHA1HashingFunction());
+        submittedHashingFunction = new SubmittedVariantHashingFunction();
+        clusteredSummaryAndSha1 = new ClusteredVariantSummaryFunction().andThen(new SHA1HashingFunction());
+        clusteredHashingFunction = new ClusteredVariantHashingFunction();
+    }
+
+    @Benchmark
+    public void submittedSummaryAndSha1(Blackhole blackhole) {
+        for (ISubmittedVariant variant : submittedVariants) {
+            blackhole.consume(submittedSummaryAndSha1.apply(variant));
+        }
+    }
+
+    @Benchmark
+    public void submittedHashingEngine(Blackhole blackhole) {
+        for (ISubmittedVariant variant : submittedVariants) {
+            blackhole.consume(submittedHashingFunction.apply(variant));
+        }
+    }
+
+    @Benchmark
+    public void clusteredSummaryAndSha1(Blackhole blackhole) {
+        for (IClusteredVariant variant : clusteredVariants) {
+            blackhole.consume(clusteredSummaryAndSha1.apply(variant));
+        }
+    }
+
+    @Benchmark
+    public void clusteredHashingEngine(Blackhole blackhole) {
+        for (IClusteredVariant variant : clusteredVariants) {
+            blackhole.consume(clusteredHashingFunction.apply(variant));
+        }
+    }
+
+    @Benchmark
+    public void clusteredHashFromSubmittedVariant(Blackhole blackhole) {
+        for (ISubmittedVariant variant : submittedVariants) {
+            blackhole.consume(EVAObjectModelUtils.getClusteredVariantHash(variant));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks.jobs;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Result of running one job in {@link JobThroughputBenchmark}.
+ */
+public class JobMeasurement {
+
+    static final String HEADER = String.format("%-40s %-10s %5s %10s %12s %12s  %s", "Job", "Status", "Exit",
+                                               "Seconds", "Variants/s", "Peak heap MB", "Mongo operations");
+
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private final String jobName;
+
+    private final String status;
+
+    private final int exitCode;
+
+    private final Duration duration;
+
+    private final int variants;
+
+    private final long peakHeapBytes;
+
+    private final Map<String, Long> mongoOperations;
+
+    public JobMeasurement(String jobName, String status, int exitCode, Duration duration, int variants,
+                          long peakHeapBytes, Map<String, Long> mongoOperations) {
+        this.jobName = jobName;
+        this.status = status;
+        this.exitCode = exitCode;
+        this.duration = duration;
+        this.variants = variants;
+        this.peakHeapBytes = peakHeapBytes;
+        this.mongoOperations = mongoOperations;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public double getVariantsPerSecond() {
+        return duration.isZero() ? 0 : variants * 1e9 / duration.toNanos();
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    public Map<String, Long> getMongoOperations() {
+        return mongoOperations;
+    }
+
+    String toRow() {
+        return String.format("%-40s %-10s %5d %10.1f %12.0f %12d  %s", jobName, status, exitCode,
+                             duration.toMillis() / 1000.0, getVariantsPerSecond(), peakHeapBytes / MEGABYTE,
+                             mongoOperations);
+    }
+
+    @Override
+    public String toString() {
+        return "JobMeasurement{" +
+                "status='" + status + '\'' +
+                ", exitCode=" + exitCode +
+                ", duration=" + duration +
+                ", variantsPerSecond=" + String.format("%.0f", getVariantsPerSecond()) +
+                ", peakHeapMB=" + peakHeapBytes / MEGABYTE +
+                ", mongoOperations=" + mongoOperations +
+                '}';
+    }
+}
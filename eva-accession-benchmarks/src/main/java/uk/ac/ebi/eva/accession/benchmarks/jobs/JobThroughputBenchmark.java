@@ -0,0 +1,326 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks.jobs;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.sun.net.httpserver.HttpServer;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MongoDBContainer;
+
+import uk.ac.ebi.eva.accession.benchmarks.SyntheticVariants;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERING_FROM_MONGO_JOB;
+import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.SUBSNP_ACCESSION_JOB;
+import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.ACTIVE_ACCESSIONS_RELEASE_FROM_DB_JOB;
+import static uk.ac.ebi.eva.remapping.ingest.configuration.BeanNames.INGEST_REMAPPED_VARIANTS_FROM_VCF_JOB;
+
+/**
+ * Runs the accessioning, clustering, release and remapping ingestion jobs one after the other on a synthetic dataset,
+ * the same way their applications run in production, and reports for each job the variants per second, the peak heap
+ * and the operations received by Mongo.
+ * <p>
+ * Mongo is started in a container unless a URI is provided, and the accession blocks are kept in an in-memory HSQLDB
+ * shared by all the jobs. The clustering works on the variants accessioned by the first job and the release on the
+ * RS created by the clustering. The peak heap is sampled, and includes the start-up of the Spring context of the job.
+ * <p>
+ * Run with: java -cp eva-accession-benchmarks/target/benchmarks.jar
+ * uk.ac.ebi.eva.accession.benchmarks.jobs.JobThroughputBenchmark --variants=100000 [--contigs=10] [--chunkSize=1000]
+ * [--mongoUri=mongodb://localhost:27017] [--workDir=/tmp/eva-job-benchmark]
+ */
+public class JobThroughputBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobThroughputBenchmark.class);
+
+    private static final String DATABASE = "eva_accession_benchmark";
+
+    private static final String MONGO_IMAGE = "mongo:6.0";
+
+    private static final String BLOCKS_JDBC_URL = "jdbc:hsqldb:mem:eva_benchmark_blocks;sql.syntax_pgs=true";
+
+    private static final String BLOCKS_SCHEMA = "contiguous_id_blocks_schema.sql";
+
+    private static final long HEAP_SAMPLING_MILLIS = 10;
+
+    private static final List<String> MONGO_OPERATIONS = Arrays.asList("insert", "query", "update", "delete",
+                                                                       "getmore", "command");
+
+    private static final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int variants = Integer.parseInt(options.getOrDefault("variants", "100000"));
+        int contigs = Integer.parseInt(options.getOrDefault("contigs", "10"));
+        String chunkSize = options.getOrDefault("chunkSize", "1000");
+        Path workDir = options.containsKey("workDir") ? Files.createDirectories(Paths.get(options.get("workDir")))
+                                                      : Files.createTempDirectory("eva-job-benchmark");
+        String mongoUri = options.get("mongoUri");
+
+        MongoDBContainer mongoContainer = null;
+        HttpServer countStats = startCountStatsStandIn();
+        try {
+            if (mongoUri == null) {
+                mongoContainer = new MongoDBContainer(MONGO_IMAGE);
+                mongoContainer.start();
+                mongoUri = mongoContainer.getReplicaSetUrl(DATABASE);
+            }
+            createBlocksSchema();
+
+            logger.info("Writing {} synthetic variants in {} contigs to {}", variants, contigs, workDir);
+            SyntheticDataset dataset = SyntheticDataset.write(workDir, variants, contigs, new Random(42));
+
+            Map<String, String> commonProperties = getCommonProperties(mongoUri, countStats, chunkSize);
+            List<JobMeasurement> measurements = new ArrayList<>();
+            try (MongoClient mongoClient = MongoClients.create(mongoUri)) {
+                mongoClient.getDatabase(DATABASE).drop();
+                measurements.add(run(uk.ac.ebi.eva.accession.pipeline.Application.class, SUBSNP_ACCESSION_JOB,
+                                     getAccessioningProperties(dataset, workDir), commonProperties, mongoClient,
+                                     dataset.getVariants()));
+                measurements.add(run(uk.ac.ebi.eva.accession.clustering.Application.class, CLUSTERING_FROM_MONGO_JOB,
+                                     getClusteringProperties(workDir), commonProperties, mongoClient,
+                                     dataset.getVariants()));
+                measurements.add(run(uk.ac.ebi.eva.accession.release.Application.class,
+                                     ACTIVE_ACCESSIONS_RELEASE_FROM_DB_JOB, getReleaseProperties(dataset, workDir),
+                                     commonProperties, mongoClient, dataset.getVariants()));
+                measurements.add(run(uk.ac.ebi.eva.remapping.ingest.Application.class,
+                                     INGEST_REMAPPED_VARIANTS_FROM_VCF_JOB, getIngestProperties(dataset),
+                                     commonProperties, mongoClient, dataset.getVariants()));
+            }
+            logReport(measurements, variants);
+        } finally {
+            countStats.stop(0);
+            if (mongoContainer != null) {
+                mongoContainer.stop();
+            }
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must be given as --name=value, found: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    /**
+     * The accessioning and clustering jobs post their counts to the count-stats service, which only has to accept them
+     */
+    private static HttpServer startCountStatsStandIn() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
+    private static void createBlocksSchema() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        populator.addScript(new ClassPathResource(BLOCKS_SCHEMA, JobThroughputBenchmark.class));
+        populator.execute(new DriverManagerDataSource(BLOCKS_JDBC_URL, "SA", ""));
+    }
+
+    /**
+     * The applications are given all their properties, and spring.config.name makes them ignore the
+     * application.properties of the modules, as only one of them would be found in the benchmarks jar.
+     */
+    private static Map<String, String> getCommonProperties(String mongoUri, HttpServer countStats,
+                                                           String chunkSize) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.config.name", "eva-job-benchmark");
+        properties.put("spring.main.allow-bean-definition-overriding", "true");
+        properties.put("spring.main.web-application-type", "none");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.jmx.enabled", "false");
+
+        properties.put("spring.data.mongodb.uri", mongoUri);
+        properties.put("spring.data.mongodb.database", DATABASE);
+        properties.put("mongodb.read-preference", "primary");
+
+        properties.put("continuous.id.blocks.datasource.driver-class-name", "org.hsqldb.jdbc.JDBCDriver");
+        properties.put("continuous.id.blocks.datasource.jdbc-url", BLOCKS_JDBC_URL);
+        properties.put("continuous.id.blocks.datasource.username", "SA");
+        properties.put("continuous.id.blocks.datasource.password", "");
+
+        properties.put("accessioning.instanceId", "benchmark-instance-01");
+        properties.put("accessioning.submitted.categoryId", "ss");
+        properties.put("accessioning.clustered.categoryId", "rs");
+        properties.put("accessioning.monotonic.ss.blockSize", "100000");
+        properties.put("accessioning.monotonic.ss.blockStartValue", "5000000000");
+        properties.put("accessioning.monotonic.ss.nextBlockInterval", "1000000000");
+        properties.put("accessioning.monotonic.rs.blockSize", "100000");
+        properties.put("accessioning.monotonic.rs.blockStartValue", "3000000000");
+        properties.put("accessioning.monotonic.rs.nextBlockInterval", "1000000000");
+
+        properties.put("eva.count-stats.url", "http://localhost:" + countStats.getAddress().getPort());
+        properties.put("eva.count-stats.username", "username");
+        properties.put("eva.count-stats.password", "password");
+        properties.put("recovery.cutoff.days", "14");
+        properties.put("build.version", "benchmark");
+
+        properties.put("parameters.chunkSize", chunkSize);
+        properties.put("parameters.assemblyAccession", SyntheticVariants.ASSEMBLY_ACCESSION);
+        properties.put("parameters.taxonomyAccession", Integer.toString(SyntheticVariants.TAXONOMY_ACCESSION));
+        return properties;
+    }
+
+    private static Map<String, String> getAccessioningProperties(SyntheticDataset dataset, Path workDir) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("parameters.projectAccession", SyntheticDataset.PROJECT_ACCESSION);
+        properties.put("parameters.vcf", dataset.getVcf().toString());
+        properties.put("parameters.vcfAggregation", "BASIC");
+        properties.put("parameters.fasta", dataset.getFasta().toString());
+        properties.put("parameters.assemblyReportUrl", dataset.getAssemblyReport().toUri().toString());
+        properties.put("parameters.outputVcf", workDir.resolve("accessioned.vcf").toString());
+        properties.put("parameters.contigNaming", "NO_REPLACEMENT");
+        return properties;
+    }
+
+    private static Map<String, String> getClusteringProperties(Path workDir) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("parameters.projects", "");
+        properties.put("parameters.remappedFrom", "");
+        properties.put("parameters.rsReportPath", workDir.resolve("rs_report.txt").toString());
+        properties.put("parameters.rsAccFile", "");
+        properties.put("parameters.allowRetry", "false");
+        return properties;
+    }
+
+    private static Map<String, String> getReleaseProperties(SyntheticDataset dataset, Path workDir)
+            throws IOException {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("parameters.fasta", dataset.getFasta().toString());
+        properties.put("parameters.assemblyReportUrl", dataset.getAssemblyReport().toUri().toString());
+        properties.put("parameters.outputFolder", Files.createDirectories(workDir.resolve("release")).toString());
+        properties.put("parameters.contigNaming", "SEQUENCE_NAME");
+        properties.put("parameters.rsAccFile", "");
+        properties.put("parameters.rsAccDumpFile", "");
+        return properties;
+    }
+
+    private static Map<String, String> getIngestProperties(SyntheticDataset dataset) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("parameters.vcf", dataset.getRemappedVcf().toString());
+        properties.put("parameters.assemblyAccession", SyntheticDataset.REMAPPED_ASSEMBLY_ACCESSION);
+        properties.put("parameters.remappedFrom", SyntheticVariants.ASSEMBLY_ACCESSION);
+        properties.put("parameters.loadTo", "EVA");
+        properties.put("parameters.assemblyReportUrl", dataset.getAssemblyReport().toUri().toString());
+        properties.put("parameters.remappingVersion", "benchmark");
+        return properties;
+    }
+
+    private static JobMeasurement run(Class<?> application, String jobName, Map<String, String> jobProperties,
+                                      Map<String, String> commonProperties, MongoClient mongoClient, int variants) {
+        Map<String, String> properties = new LinkedHashMap<>(commonProperties);
+        properties.putAll(jobProperties);
+        properties.put("spring.batch.job.names", jobName);
+        String[] args = properties.entrySet().stream()
+                                  .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                                  .toArray(String[]::new);
+
+        logger.info("Running {} on {} variants", jobName, variants);
+        System.gc();
+        Map<String, Long> mongoOperationsBefore = getMongoOperationCounts(mongoClient);
+        AtomicLong peakHeap = new AtomicLong();
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+        heapSampler.scheduleAtFixedRate(
+                () -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, HEAP_SAMPLING_MILLIS, TimeUnit.MILLISECONDS);
+        ConfigurableApplicationContext context;
+        try {
+            // the job is launched by the runner of the application, so it has finished when the context is returned
+            context = new SpringApplicationBuilder(application).run(args);
+        } finally {
+            heapSampler.shutdownNow();
+        }
+        Map<String, Long> mongoOperationsAfter = getMongoOperationCounts(mongoClient);
+
+        // the in-memory job repository only keeps the last execution, whatever the job name and parameters
+        JobExecution jobExecution = context.getBean(JobRepository.class).getLastJobExecution(jobName,
+                                                                                             new JobParameters());
+        int exitCode = SpringApplication.exit(context);
+
+        Map<String, Long> mongoOperations = new LinkedHashMap<>();
+        for (String operation : MONGO_OPERATIONS) {
+            mongoOperations.put(operation, mongoOperationsAfter.getOrDefault(operation, 0L)
+                    - mongoOperationsBefore.getOrDefault(operation, 0L));
+        }
+        String status = jobExecution == null ? "NOT_RUN" : jobExecution.getStatus().toString();
+        Duration duration = (jobExecution == null || jobExecution.getStartTime() == null
+                || jobExecution.getEndTime() == null) ? Duration.ZERO
+                                                      : Duration.between(jobExecution.getStartTime(),
+                                                                         jobExecution.getEndTime());
+        JobMeasurement measurement = new JobMeasurement(jobName, status, exitCode, duration, variants,
+                                                        peakHeap.get(), mongoOperations);
+        logger.info("Finished {}: {}", jobName, measurement);
+        return measurement;
+    }
+
+    private static Map<String, Long> getMongoOperationCounts(MongoClient mongoClient) {
+        Document serverStatus = mongoClient.getDatabase("admin").runCommand(new Document("serverStatus", 1));
+        Document operationCounters = serverStatus.get("opcounters", Document.class);
+        Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, Object> counter : operationCounters.entrySet()) {
+            counts.put(counter.getKey(), ((Number) counter.getValue()).longValue());
+        }
+        return counts;
+    }
+
+    private static void logReport(List<JobMeasurement> measurements, int variants) {
+        logger.info("Job throughput on {} synthetic variants", variants);
+        logger.info(JobMeasurement.HEADER);
+        for (JobMeasurement measurement : measurements) {
+            logger.info(measurement.toRow());
+        }
+    }
+}
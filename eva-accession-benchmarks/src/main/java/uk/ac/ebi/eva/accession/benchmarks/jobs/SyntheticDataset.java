@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.benchmarks.jobs;
+
+import uk.ac.ebi.eva.accession.benchmarks.SyntheticVariants;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the input files of the job benchmarks: a FASTA named by GenBank accessions, the assembly report that maps
+ * them to the sequence names used in the VCFs, an aggregated VCF to accession and the VCF that the remapping would
+ * produce for those same variants in the next version of the assembly.
+ *
+ * The reference alleles are taken from the FASTA and one in every {@link #MULTIALLELIC_EVERY} variants shares the
+ * position of the previous one, so that the clustering groups several submitted variants under the same RS.
+ */
+public class SyntheticDataset {
+
+    public static final String PROJECT_ACCESSION = "PRJEB12345";
+
+    public static final String REMAPPED_ASSEMBLY_ACCESSION = "GCA_000002315.6";
+
+    private static final int MULTIALLELIC_EVERY = 10;
+
+    private static final int DISTANCE_BETWEEN_POSITIONS = 10;
+
+    private static final int FASTA_LINE_LENGTH = 60;
+
+    private static final long FIRST_SS_ACCESSION = 5_000_000_000L;
+
+    private static final long FIRST_RS_ACCESSION = 3_000_000_000L;
+
+    private static final String CREATED_DATE = "2019-07-08T06:54:43.735";
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private final Path fasta;
+
+    private final Path assemblyReport;
+
+    private final Path vcf;
+
+    private final Path remappedVcf;
+
+    private final int variants;
+
+    private SyntheticDataset(Path directory, int variants) {
+        this.fasta = directory.resolve("reference.fa");
+        this.assemblyReport = directory.resolve("assembly_report.txt");
+        this.vcf = directory.resolve("variants.vcf.gz");
+        this.remappedVcf = directory.resolve("remapped_variants.vcf");
+        this.variants = variants;
+    }
+
+    public static SyntheticDataset write(Path directory, int variants, int contigs, Random random)
+            throws IOException {
+        SyntheticDataset dataset = new SyntheticDataset(directory, variants);
+        int positionsPerContig = (variants + contigs - 1) / contigs;
+        String[] sequences = new String[contigs];
+        for (int i = 0; i < contigs; i++) {
+            sequences[i] = SyntheticVariants.randomAllele(random,
+                                                          (positionsPerContig + 1) * DISTANCE_BETWEEN_POSITIONS);
+        }
+        dataset.writeFasta(sequences);
+        dataset.writeAssemblyReport(sequences);
+        dataset.writeVcfs(sequences, positionsPerContig, random);
+        return dataset;
+    }
+
+    private void writeFasta(String[] sequences) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(fasta)) {
+            for (int i = 0; i < sequences.length; i++) {
+                writer.write(">" + SyntheticVariants.contig(i));
+                writer.newLine();
+                for (int start = 0; start < sequences[i].length(); start += FASTA_LINE_LENGTH) {
+                    writer.write(sequences[i], start, Math.min(FASTA_LINE_LENGTH, sequences[i].length() - start));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private void writeAssemblyReport(String[] sequences) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(assemblyReport)) {
+            writer.write("# Sequence-Name\tSequence-Role\tAssigned-Molecule\tAssigned-Molecule-Location/Type"
+                                 + "\tGenBank-Accn\tRelationship\tRefSeq-Accn\tAssembly-Unit\tSequence-Length"
+                                 + "\tUCSC-style-name");
+            writer.newLine();
+            for (int i = 0; i < sequences.length; i++) {
+                writer.write(String.join("\t", sequenceName(i), "assembled-molecule", sequenceName(i), "Chromosome",
+                                         SyntheticVariants.contig(i), "=", String.format("NC_%06d.5", 6088 + i),
+                                         "Primary Assembly", Integer.toString(sequences[i].length()),
+                                         "chr" + sequenceName(i)));
+                writer.newLine();
+            }
+        }
+    }
+
+    private void writeVcfs(String[] sequences, int positionsPerContig, Random random) throws IOException {
+        try (Writer vcfWriter = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(vcf)), StandardCharsets.UTF_8));
+             BufferedWriter remappedWriter = Files.newBufferedWriter(remappedVcf)) {
+            vcfWriter.write("##fileformat=VCFv4.1\n"
+                                    + "##INFO=<ID=AC,Number=A,Type=Integer,Description=\"Allele count\">\n"
+                                    + "##INFO=<ID=AN,Number=1,Type=Integer,Description=\"Total number of alleles\">\n"
+                                    + "##INFO=<ID=AF,Number=A,Type=Float,Description=\"Allele frequency\">\n"
+                                    + "#CHROM\tPOS\tID\tREF\tALT\tQUAL\tFILTER\tINFO\n");
+            remappedWriter.write("##fileformat=VCFv4.3\n");
+            for (int i = 0; i < sequences.length; i++) {
+                remappedWriter.write("##contig=<ID=" + sequenceName(i) + ">\n");
+            }
+            remappedWriter.write("#CHROM\tPOS\tID\tREF\tALT\tQUAL\tFILTER\tINFO\n");
+
+            int position = 0;
+            long rsAccession = FIRST_RS_ACCESSION - 1;
+            for (int i = 0; i < variants; i++) {
+                int contig = i / positionsPerContig;
+                boolean samePositionAsPrevious = i % MULTIALLELIC_EVERY == MULTIALLELIC_EVERY - 1
+                        && i % positionsPerContig != 0;
+                if (!samePositionAsPrevious) {
+                    position = (i % positionsPerContig + 1) * DISTANCE_BETWEEN_POSITIONS;
+                    rsAccession++;
+                }
+                String[] alleles = randomAlleles(sequences[contig], position, samePositionAsPrevious, random);
+                int alleleCount = 1 + random.nextInt(100);
+                int alleleNumber = alleleCount + random.nextInt(1000);
+                vcfWriter.write(String.join("\t", sequenceName(contig), Integer.toString(position), ".",
+                                            alleles[0], alleles[1], ".", "PASS",
+                                            "AC=" + alleleCount + ";AN=" + alleleNumber + ";AF="
+                                                    + (float) alleleCount / alleleNumber));
+                vcfWriter.write('\n');
+
+                // the remapping shifts every variant by the same offset, as an insertion before all of them would
+                remappedWriter.write(String.join("\t", sequenceName(contig),
+                                                 Integer.toString(position + DISTANCE_BETWEEN_POSITIONS / 2),
+                                                 "ss" + (FIRST_SS_ACCESSION + i), alleles[0], alleles[1], "50",
+                                                 "PASS",
+                                                 "TAX=" + SyntheticVariants.TAXONOMY_ACCESSION + ";PROJECT="
+                                                         + PROJECT_ACCESSION + ";RS=rs" + rsAccession
+                                                         + ";CREATED=" + CREATED_DATE));
+                remappedWriter.newLine();
+            }
+        }
+    }
+
+    /**
+     * Mostly SNVs, with some insertions and deletions whose first base is the context base as required by VCF. The
+     * variants that share the position of the previous one are always SNVs.
+     */
+    private String[] randomAlleles(String sequence, int position, boolean snv, Random random) {
+        String referenceBase = sequence.substring(position - 1, position);
+        int type = snv ? 0 : random.nextInt(20);
+        if (type == 1) {
+            return new String[]{referenceBase,
+                                referenceBase + SyntheticVariants.randomAllele(random, 1 + random.nextInt(5))};
+        } else if (type == 2) {
+            return new String[]{sequence.substring(position - 1, position + 1 + random.nextInt(5)), referenceBase};
+        }
+        char alternate;
+        do {
+            alternate = BASES[random.nextInt(BASES.length)];
+        } while (alternate == referenceBase.charAt(0));
+        return new String[]{referenceBase, String.valueOf(alternate)};
+    }
+
+    private static String sequenceName(int contigIndex) {
+        return Integer.toString(contigIndex + 1);
+    }
+
+    public Path getFasta() {
+        return fasta;
+    }
+
+    public Path getAssemblyReport() {
+        return assemblyReport;
+    }
+
+    public Path getVcf() {
+        return vcf;
+    }
+
+    public Path getRemappedVcf() {
+        return remappedVcf;
+    }
+
+    public int getVariants() {
+        return variants;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.clustering.batch.io;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Splits the submitted variants that a {@link ClusteringMongoReader} reads into partitions that can be clustered in
+ * parallel, each one with its own reader and writer.
+ *
+ * The partitions are disjoint ranges of contig and start, so all the submitted variants in a locus, and so all the
+ * ones that would be clustered under the same RS, are read by the same partition. Contigs with more variants than a
+ * partition should have are split into ranges of start positions of the same length, and the rest are grouped so that
+ * each group has a similar number of variants.
+ */
+public class ClusteringMongoPartitioner implements Partitioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusteringMongoPartitioner.class);
+
+    static final String CONTIGS_KEY = "partitionContigs";
+
+    static final String FROM_START_KEY = "partitionFromStart";
+
+    static final String TO_START_KEY = "partitionToStart";
+
+    private static final String PARTITION_PREFIX = "partition";
+
+    private static final String CONTIG_FIELD = "contig";
+
+    private static final String START_FIELD = "start";
+
+    private static final String COUNT = "count";
+
+    private static final String MIN_START = "minStart";
+
+    private static final String MAX_START = "maxStart";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final String assembly;
+
+    private final boolean readOnlyClusteredVariants;
+
+    public ClusteringMongoPartitioner(MongoTemplate mongoTemplate, String assembly,
+                                      boolean readOnlyClusteredVariants) {
+        this.mongoTemplate = mongoTemplate;
+        this.assembly = assembly;
+        this.readOnlyClusteredVariants = readOnlyClusteredVariants;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ContigSummary> contigs = new HashMap<>();
+        if (readOnlyClusteredVariants) {
+            // the reader doesn't read dbSNP submitted variants when clustering variants without RS
+            summarise(DbsnpSubmittedVariantEntity.class, contigs);
+        }
+        summarise(SubmittedVariantEntity.class, contigs);
+        Map<String, ExecutionContext> partitions = plan(contigs.values(), gridSize);
+        logger.info("Split {} submitted variants in {} contigs of assembly {} into {} partitions",
+                    contigs.values().stream().mapToLong(ContigSummary::getCount).sum(), contigs.size(), assembly,
+                    partitions.size());
+        return partitions;
+    }
+
+    private void summarise(Class<?> entityClass, Map<String, ContigSummary> contigs) {
+        List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(ClusteringMongoReader.getQuery(assembly, readOnlyClusteredVariants)),
+                Aggregates.group("$" + CONTIG_FIELD, Accumulators.sum(COUNT, 1),
+                                 Accumulators.min(MIN_START, "$" + START_FIELD),
+                                 Accumulators.max(MAX_START, "$" + START_FIELD)));
+        for (Document document : mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
+                                              .aggregate(pipeline)
+                                              .allowDiskUse(true)) {
+            ContigSummary summary = new ContigSummary(document.getString("_id"),
+                                                      document.get(COUNT, Number.class).longValue(),
+                                                      document.get(MIN_START, Number.class).longValue(),
+                                                      document.get(MAX_START, Number.class).longValue());
+            contigs.merge(summary.getContig(), summary, ContigSummary::add);
+        }
+    }
+
+    static Map<String, ExecutionContext> plan(Collection<ContigSummary> contigs, int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        long totalVariants = contigs.stream().mapToLong(ContigSummary::getCount).sum();
+        if (totalVariants == 0) {
+            // a partition without restrictions, which won't read anything either
+            partitions.put(PARTITION_PREFIX + 0, new ExecutionContext());
+            return partitions;
+        }
+
+        long variantsPerPartition = (totalVariants + gridSize - 1) / gridSize;
+        List<ContigSummary> smallContigs = new ArrayList<>();
+        for (ContigSummary contig : sortBy(contigs, Comparator.comparing(ContigSummary::getContig))) {
+            if (contig.getCount() <= variantsPerPartition) {
+                smallContigs.add(contig);
+                continue;
+            }
+            long ranges = (contig.getCount() + variantsPerPartition - 1) / variantsPerPartition;
+            long rangeLength = (contig.getMaxStart() - contig.getMinStart() + ranges) / ranges;
+            for (long fromStart = contig.getMinStart(); fromStart <= contig.getMaxStart(); fromStart += rangeLength) {
+                ExecutionContext context = contigsContext(List.of(contig.getContig()));
+                context.putLong(FROM_START_KEY, fromStart);
+                context.putLong(TO_START_KEY, fromStart + rangeLength);
+                partitions.put(PARTITION_PREFIX + partitions.size(), context);
+            }
+        }
+
+        if (smallContigs.isEmpty()) {
+            return partitions;
+        }
+        // the biggest contigs are placed first, each one in the group with fewest variants so far
+        int groups = Math.max(1, Math.min(smallContigs.size(), gridSize - partitions.size()));
+        PriorityQueue<ContigGroup> contigGroups = new PriorityQueue<>(
+                Comparator.comparingLong(ContigGroup::getCount));
+        for (int i = 0; i < groups; i++) {
+            contigGroups.add(new ContigGroup());
+        }
+        for (ContigSummary contig : sortBy(smallContigs,
+                                           Comparator.comparingLong(ContigSummary::getCount).reversed()
+                                                     .thenComparing(ContigSummary::getContig))) {
+            ContigGroup group = contigGroups.remove();
+            group.add(contig);
+            contigGroups.add(group);
+        }
+        for (ContigGroup group : sortBy(contigGroups, Comparator.comparing(ContigGroup::getFirstContig))) {
+            partitions.put(PARTITION_PREFIX + partitions.size(), contigsContext(group.getContigs()));
+        }
+        return partitions;
+    }
+
+    private static <T> List<T> sortBy(Collection<T> items, Comparator<T> comparator) {
+        return items.stream().sorted(comparator).collect(Collectors.toList());
+    }
+
+    private static ExecutionContext contigsContext(List<String> contigs) {
+        ExecutionContext context = new ExecutionContext();
+        context.put(CONTIGS_KEY, new ArrayList<>(contigs));
+        return context;
+    }
+
+    /**
+     * Returns the filter of the partition described by the given execution context, or null if it doesn't describe a
+     * partition
+     */
+    public static Bson getPartitionFilter(ExecutionContext executionContext) {
+        if (!executionContext.containsKey(CONTIGS_KEY)) {
+            return null;
+        }
+        Bson filter = Filters.in(CONTIG_FIELD, (List<?>) executionContext.get(CONTIGS_KEY));
+        if (executionContext.containsKey(FROM_START_KEY)) {
+            filter = Filters.and(filter, Filters.gte(START_FIELD, executionContext.getLong(FROM_START_KEY)),
+                                 Filters.lt(START_FIELD, executionContext.getLong(TO_START_KEY)));
+        }
+        return filter;
+    }
+
+    static class ContigSummary {
+
+        private final String contig;
+
+        private final long count;
+
+        private final long minStart;
+
+        private final long maxStart;
+
+        ContigSummary(String contig, long count, long minStart, long maxStart) {
+            this.contig = contig;
+            this.count = count;
+            this.minStart = minStart;
+            this.maxStart = maxStart;
+        }
+
+        ContigSummary add(ContigSummary other) {
+            return new ContigSummary(contig, count + other.count, Math.min(minStart, other.minStart),
+                                     Math.max(maxStart, other.maxStart));
+        }
+
+        String getContig() {
+            return contig;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        long getMinStart() {
+            return minStart;
+        }
+
+        long getMaxStart() {
+            return maxStart;
+        }
+    }
+
+    private static class ContigGroup {
+
+        private final List<String> contigs = new ArrayList<>();
+
+        private long count;
+
+        void add(ContigSummary contig) {
+            contigs.add(contig.getContig());
+            count += contig.getCount();
+        }
+
+        List<String> getContigs() {
+            return contigs.stream().sorted().collect(Collectors.toList());
+        }
+
+        String getFirstContig() {
+            return getContigs().get(0);
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -15,10 +15,13 @@
  */
 package uk.ac.ebi.eva.accession.clustering.batch.io;
 
-import com.mongodb.BasicDBObject;
+import com.mongodb.MongoCursorNotFoundException;
 import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
@@ -27,11 +30,33 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
 
+import uk.ac.ebi.eva.accession.core.model.codecs.VariantEntityCodecProvider;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.projections.ProjectionProfile;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the submitted variants of an assembly to cluster, from the dbSNP collection first (only the clustered ones)
+ * and then from the EVA collection, each of them sorted by ID.
+ *
+ * The ID of the last variant read from each collection is saved as a checkpoint in the step execution context, and
+ * also in the {@link #CHECKPOINT_COLLECTION} collection if the reader has a {@link #setCheckpointId checkpoint ID},
+ * because the job repository is not persisted. When a job is run again after a failure, its readers continue after
+ * their checkpoints, as long as they read the same query. The checkpoint is removed once all the variants are read.
+ *
+ * A background thread fetches and decodes the next batches of variants while the current chunk is processed.
+ */
 public class ClusteringMongoReader implements ItemStreamReader<SubmittedVariantEntity> {
 
     private static final Logger logger = LoggerFactory.getLogger(ClusteringMongoReader.class);
@@ -40,13 +65,28 @@ public class ClusteringMongoReader implements ItemStreamReader<SubmittedVariantE
 
     static final String CLUSTERED_VARIANT_ACCESSION_FIELD = "rs";
 
-    String assembly;
+    static final String ID_FIELD = "_id";
+
+    public static final String CHECKPOINT_COLLECTION = "clusteringMongoReaderCheckpoint";
 
-    MongoCursor<Document> evaCursor;
+    static final String CHECKPOINT_QUERY_FIELD = "query";
 
-    MongoCursor<Document> dbsnpCursor;
+    static final String LAST_DBSNP_ID_KEY = "lastDbsnpId";
 
-    MongoConverter converter;
+    static final String LAST_EVA_ID_KEY = "lastEvaId";
+
+    private static final String CHECKPOINT_UPDATED_FIELD = "updated";
+
+    /**
+     * Number of batches that can be fetched in advance, besides the one being read
+     */
+    private static final int PREFETCHED_BATCHES = 2;
+
+    private static final long PREFETCHING_THREAD_TIMEOUT_SECONDS = 30;
+
+    private static final Batch LAST_BATCH = new Batch(false, Collections.emptyList());
+
+    String assembly;
 
     MongoTemplate mongoTemplate;
 
@@ -55,80 +95,331 @@ public class ClusteringMongoReader implements ItemStreamReader<SubmittedVariantE
     //decides whether already clustered or non clustered variants will be read by mongo reader
     private boolean readOnlyClusteredVariants;
 
+    private final ProjectionProfile projectionProfile;
+
+    /**
+     * Restricts the variants read to those of one partition, see {@link ClusteringMongoPartitioner}
+     */
+    Bson partitionFilter;
+
+    private String checkpointId;
+
+    /**
+     * IDs of the last variants returned from each collection
+     */
+    private String lastDbsnpId;
+
+    private String lastEvaId;
+
+    private BlockingQueue<Batch> prefetchedBatches;
+
+    private Thread prefetchingThread;
+
+    private volatile boolean closed;
+
+    private Batch currentBatch;
+
+    private Iterator<SubmittedVariantEntity> currentBatchIterator;
+
+    private boolean exhausted;
+
     public ClusteringMongoReader(MongoTemplate mongoTemplate, String assembly, int chunkSize,
                                  boolean readOnlyClusteredVariants) {
+        // the clustering writers copy the whole submitted variants into the operations
+        this(mongoTemplate, assembly, chunkSize, readOnlyClusteredVariants, ProjectionProfile.FULL);
+    }
+
+    public ClusteringMongoReader(MongoTemplate mongoTemplate, String assembly, int chunkSize,
+                                 boolean readOnlyClusteredVariants, ProjectionProfile projectionProfile) {
         this.mongoTemplate = mongoTemplate;
         this.assembly = assembly;
         this.chunkSize = chunkSize;
         this.readOnlyClusteredVariants = readOnlyClusteredVariants;
+        this.projectionProfile = projectionProfile;
     }
 
     @Override
     public SubmittedVariantEntity read() {
-        // Read from dbsnp collection first and subsequently EVA collection
-        Document nextElement;
-        if (dbsnpCursor != null && dbsnpCursor.hasNext()) {
-            nextElement = dbsnpCursor.next();
-        } else {
-            if (evaCursor == null) {
-                evaCursor = initializeCursor(SubmittedVariantEntity.class);
+        if (prefetchingThread == null) {
+            initializeReader();
+        }
+        while (currentBatchIterator == null || !currentBatchIterator.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            currentBatch = takeBatch();
+            if (currentBatch.failure != null) {
+                throw currentBatch.failure;
             }
-            nextElement = evaCursor.tryNext();
+            if (currentBatch == LAST_BATCH) {
+                exhausted = true;
+                return null;
+            }
+            currentBatchIterator = currentBatch.variants.iterator();
         }
-
-        return (nextElement != null) ? getSubmittedVariantEntity(nextElement) : null;
+        SubmittedVariantEntity variant = currentBatchIterator.next();
+        if (currentBatch.fromDbsnp) {
+            lastDbsnpId = variant.getId();
+        } else {
+            lastEvaId = variant.getId();
+        }
+        return variant;
     }
 
-    private SubmittedVariantEntity getSubmittedVariantEntity(Document notClusteredSubmittedVariants) {
-        return converter.read(SubmittedVariantEntity.class, new BasicDBObject(notClusteredSubmittedVariants));
+    private Batch takeBatch() {
+        try {
+            return prefetchedBatches.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the submitted variants to be fetched", e);
+        }
     }
 
     @Override
     public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (executionContext.containsKey(LAST_DBSNP_ID_KEY) || executionContext.containsKey(LAST_EVA_ID_KEY)) {
+            lastDbsnpId = (String) executionContext.get(LAST_DBSNP_ID_KEY);
+            lastEvaId = (String) executionContext.get(LAST_EVA_ID_KEY);
+        } else {
+            loadCheckpoint();
+        }
         initializeReader();
     }
 
+    /**
+     * Starts reading after the last variants read, if any, e.g. those of a checkpoint loaded when opening the reader
+     */
     public void initializeReader() {
-        if (readOnlyClusteredVariants){
-            dbsnpCursor = initializeCursor(DbsnpSubmittedVariantEntity.class);
-        } else {
+        stopPrefetching();
+        closed = false;
+        exhausted = false;
+        currentBatch = null;
+        currentBatchIterator = null;
+        prefetchedBatches = new ArrayBlockingQueue<>(PREFETCHED_BATCHES);
+        BlockingQueue<Batch> batches = prefetchedBatches;
+        String dbsnpStartId = lastDbsnpId;
+        String evaStartId = lastEvaId;
+        prefetchingThread = new Thread(() -> prefetch(batches, dbsnpStartId, evaStartId),
+                                       "clustering-mongo-reader-" + assembly);
+        prefetchingThread.setDaemon(true);
+        prefetchingThread.start();
+    }
+
+    private void prefetch(BlockingQueue<Batch> batches, String dbsnpStartId, String evaStartId) {
+        try {
             // When clustering variant that do not have any RSID we do not want to retrieve any dbSNP submitted variants
-            // We set the cursor for this purpose
-            dbsnpCursor = null;
-            evaCursor = initializeCursor(SubmittedVariantEntity.class);
+            // and once some EVA variant has been read, the dbSNP ones were all read already
+            if (readOnlyClusteredVariants && evaStartId == null) {
+                fetch(batches, DbsnpSubmittedVariantEntity.class, dbsnpStartId);
+            }
+            fetch(batches, SubmittedVariantEntity.class, evaStartId);
+            batches.put(LAST_BATCH);
+        } catch (InterruptedException e) {
+            // the reader was closed
+        } catch (RuntimeException e) {
+            if (!closed) {
+                try {
+                    batches.put(new Batch(e));
+                } catch (InterruptedException interruptedException) {
+                    // the reader was closed
+                }
+            }
         }
-        converter = mongoTemplate.getConverter();
     }
 
-    private MongoCursor<Document> initializeCursor(Class<?> entityClass) {
-        Bson query = Filters.and(Filters.in(ASSEMBLY_FIELD, assembly),
-                Filters.exists(CLUSTERED_VARIANT_ACCESSION_FIELD, readOnlyClusteredVariants),
-                Filters.exists(SubmittedVariantEntity.backPropagatedRSAttribute, false));
+    private void fetch(BlockingQueue<Batch> batches, Class<?> entityClass, String startId)
+            throws InterruptedException {
+        boolean fromDbsnp = entityClass.equals(DbsnpSubmittedVariantEntity.class);
+        List<SubmittedVariantEntity> variants = new ArrayList<>(chunkSize);
+        String lastFetchedId = startId;
+        int failedAttempts = 0;
+        while (true) {
+            try (MongoCursor<SubmittedVariantEntity> cursor = initializeCursor(entityClass, lastFetchedId)) {
+                while (cursor.hasNext()) {
+                    SubmittedVariantEntity variant = cursor.next();
+                    lastFetchedId = variant.getId();
+                    failedAttempts = 0;
+                    variants.add(variant);
+                    if (variants.size() == chunkSize) {
+                        batches.put(new Batch(fromDbsnp, variants));
+                        variants = new ArrayList<>(chunkSize);
+                    }
+                }
+                if (!variants.isEmpty()) {
+                    batches.put(new Batch(fromDbsnp, variants));
+                }
+                return;
+            } catch (MongoCursorNotFoundException e) {
+                failedAttempts++;
+                if (failedAttempts >= getMaxCursorAttempts()) {
+                    throw e;
+                }
+                // the variants fetched so far are kept, so the cursor is reopened after the last of them
+                logger.warn("Reopening the cursor after submitted variant {}: {}", lastFetchedId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return How many times in a row a cursor can be opened and lost (with a {@link MongoCursorNotFoundException})
+     * before failing. A cursor is only opened once by default.
+     */
+    protected int getMaxCursorAttempts() {
+        return 1;
+    }
+
+    public void setPartitionFilter(Bson partitionFilter) {
+        this.partitionFilter = partitionFilter;
+    }
+
+    /**
+     * @param checkpointId ID of the checkpoint document of the reader, which must be the same when the job is run again
+     *                     and different from the readers of any other step running at the same time. Without it, the
+     *                     checkpoint is only saved in the execution context.
+     */
+    public void setCheckpointId(String checkpointId) {
+        this.checkpointId = checkpointId;
+    }
+
+    static Bson getQuery(String assembly, boolean readOnlyClusteredVariants) {
+        return Filters.and(Filters.in(ASSEMBLY_FIELD, assembly),
+                           Filters.exists(CLUSTERED_VARIANT_ACCESSION_FIELD, readOnlyClusteredVariants),
+                           Filters.exists(SubmittedVariantEntity.backPropagatedRSAttribute, false));
+    }
+
+    Bson restrictToPartition(Bson query) {
+        return partitionFilter == null ? query : Filters.and(query, partitionFilter);
+    }
+
+    private String getQueryJson() {
+        return restrictToPartition(getQuery(assembly, readOnlyClusteredVariants)).toBsonDocument().toJson();
+    }
+
+    private MongoCursor<SubmittedVariantEntity> initializeCursor(Class<?> entityClass, String startId) {
+        Bson query = restrictToPartition(getQuery(assembly, readOnlyClusteredVariants));
+        if (startId != null) {
+            query = Filters.and(query, Filters.gt(ID_FIELD, startId));
+        }
         logger.info("Issuing find: {}", query);
 
-        FindIterable<Document> submittedVariants = getSubmittedVariants(query, entityClass);
+        FindIterable<SubmittedVariantEntity> submittedVariants = getSubmittedVariants(query, entityClass);
         return submittedVariants.iterator();
     }
 
-    private FindIterable<Document> getSubmittedVariants(Bson query, Class<?> entityClass) {
-        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
-                            .find(query)
-                            .noCursorTimeout(true)
-                            .batchSize(chunkSize);
+    private FindIterable<SubmittedVariantEntity> getSubmittedVariants(Bson query, Class<?> entityClass) {
+        // the documents of both collections are decoded as EVA entities
+        return VariantEntityCodecProvider.getCollection(mongoTemplate, entityClass, SubmittedVariantEntity.class)
+                                         .find(query)
+                                         .sort(Sorts.ascending(ID_FIELD))
+                                         .projection(projectionProfile.getProjection())
+                                         .noCursorTimeout(true)
+                                         .batchSize(chunkSize);
     }
 
+    private void loadCheckpoint() {
+        if (checkpointId == null) {
+            return;
+        }
+        Document checkpoint = getCheckpointCollection().find(Filters.eq(ID_FIELD, checkpointId)).first();
+        if (checkpoint == null) {
+            return;
+        }
+        if (!Objects.equals(getQueryJson(), checkpoint.getString(CHECKPOINT_QUERY_FIELD))) {
+            logger.warn("Ignoring the checkpoint {} of a different query: {}", checkpointId,
+                        checkpoint.getString(CHECKPOINT_QUERY_FIELD));
+            return;
+        }
+        lastDbsnpId = checkpoint.getString(LAST_DBSNP_ID_KEY);
+        lastEvaId = checkpoint.getString(LAST_EVA_ID_KEY);
+        logger.info("Resuming from checkpoint {}: after dbSNP submitted variant {} and EVA submitted variant {}",
+                    checkpointId, lastDbsnpId, lastEvaId);
+    }
+
+    /**
+     * Saves the IDs of the last variants read. It's called once each chunk is written, so a job run again after a
+     * failure doesn't read again the variants of the chunks that were already written.
+     */
     @Override
     public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (lastDbsnpId != null) {
+            executionContext.putString(LAST_DBSNP_ID_KEY, lastDbsnpId);
+        }
+        if (lastEvaId != null) {
+            executionContext.putString(LAST_EVA_ID_KEY, lastEvaId);
+        }
+        saveCheckpoint();
+    }
+
+    private void saveCheckpoint() {
+        if (checkpointId == null) {
+            return;
+        }
+        if (exhausted) {
+            getCheckpointCollection().deleteOne(Filters.eq(ID_FIELD, checkpointId));
+        } else if (lastDbsnpId != null || lastEvaId != null) {
+            Document checkpoint = new Document(ID_FIELD, checkpointId)
+                    .append(CHECKPOINT_QUERY_FIELD, getQueryJson())
+                    .append(LAST_DBSNP_ID_KEY, lastDbsnpId)
+                    .append(LAST_EVA_ID_KEY, lastEvaId)
+                    .append(CHECKPOINT_UPDATED_FIELD, new Date());
+            getCheckpointCollection().replaceOne(Filters.eq(ID_FIELD, checkpointId), checkpoint,
+                                                 new ReplaceOptions().upsert(true));
+        }
+    }
 
+    private MongoCollection<Document> getCheckpointCollection() {
+        return mongoTemplate.getCollection(CHECKPOINT_COLLECTION);
     }
 
     @Override
     public void close() throws ItemStreamException {
-        if (dbsnpCursor != null) {
-            dbsnpCursor.close();
+        stopPrefetching();
+    }
+
+    /**
+     * Interrupts the prefetching thread, which closes its cursor when it stops
+     */
+    private void stopPrefetching() {
+        if (prefetchingThread == null) {
+            return;
         }
-        if (evaCursor != null) {
-            evaCursor.close();
+        closed = true;
+        prefetchingThread.interrupt();
+        try {
+            prefetchingThread.join(TimeUnit.SECONDS.toMillis(PREFETCHING_THREAD_TIMEOUT_SECONDS));
+            if (prefetchingThread.isAlive()) {
+                logger.warn("The thread fetching submitted variants of assembly {} didn't stop after {} seconds",
+                            assembly, PREFETCHING_THREAD_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            prefetchingThread = null;
+            prefetchedBatches = null;
+        }
+    }
+
+    /**
+     * Up to a chunk of variants of the same collection, or the error that prevented fetching them
+     */
+    private static class Batch {
+
+        private final boolean fromDbsnp;
+
+        private final List<SubmittedVariantEntity> variants;
+
+        private final RuntimeException failure;
+
+        Batch(boolean fromDbsnp, List<SubmittedVariantEntity> variants) {
+            this.fromDbsnp = fromDbsnp;
+            this.variants = variants;
+            this.failure = null;
+        }
+
+        Batch(RuntimeException failure) {
+            this.fromDbsnp = false;
+            this.variants = Collections.emptyList();
+            this.failure = failure;
         }
     }
 }
@@ -31,11 +31,12 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistE
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
-import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.EventDocument;
 import uk.ac.ebi.eva.accession.clustering.metric.ClusteringMetric;
 import uk.ac.ebi.eva.accession.core.EVAObjectModelUtils;
+import uk.ac.ebi.eva.accession.core.batch.io.ReportSink;
 import uk.ac.ebi.eva.accession.core.model.ClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.HashedClusteredVariant;
 import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
 import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
@@ -49,30 +50,26 @@ import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantInactiveEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantOperationEntity;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.ClusteredVariantAccessioningService;
-import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantSummaryFunction;
+import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantHashingFunction;
 import uk.ac.ebi.eva.commons.core.models.VariantClassifier;
 import uk.ac.ebi.eva.metrics.metric.MetricCompute;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
-import static uk.ac.ebi.eva.accession.clustering.configuration.batch.io.RSMergeAndSplitCandidatesReaderConfiguration.MERGE_CANDIDATE_ID_PREFIX;
-import static uk.ac.ebi.eva.accession.clustering.configuration.batch.io.RSMergeAndSplitCandidatesReaderConfiguration.SPLIT_CANDIDATE_ID_PREFIX;
 
 /**
  * This writer has two parts:
@@ -85,6 +82,9 @@ import static uk.ac.ebi.eva.accession.clustering.configuration.batch.io.RSMergeA
  * set of variants, the check for the second definition is less efficient and less accurate: both the active and the
  * deprecated/merged collections should be queried, and we lost clusteredVariantOperations during the
  * deprecation pipeline in the dbSNP import due to a bug.
+ * <p>
+ * Several instances can write at the same time the partitions of a step (see {@link ClusteringMongoPartitioner}) if
+ * they share the {@link MergeAndSplitCandidates} and the {@link ReportSink} of the RS report.
  */
 public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
 
@@ -100,6 +100,11 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
 
     private final Map<String, Long> assignedAccessions;
 
+    /**
+     * Clustered variant hash of every submitted variant of the chunk being written, so they are computed only once
+     */
+    private final Map<SubmittedVariantEntity, String> clusteredVariantHashes;
+
     private final Long accessioningMonotonicInitSs;
 
     private final Long accessioningMonotonicInitRs;
@@ -108,13 +113,9 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
 
     private final boolean processClusteredRemappedVariants;
 
-    private final File rsReportFile;
+    private final ReportSink rsReportSink;
 
-    private FileWriter rsReportFileWriter;
-
-    private Map<String, SubmittedVariantOperationEntity> mergeCandidateSVOE;
-
-    private Map<Long, SubmittedVariantOperationEntity> rsSplitCandidateSVOE;
+    private final MergeAndSplitCandidates mergeAndSplitCandidates;
 
     private JobExecution jobExecution;
 
@@ -125,39 +126,34 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
                             Long accessioningMonotonicInitRs,
                             MetricCompute metricCompute,
                             boolean processClusteredRemappedVariants,
-                            File rsReportFile) throws IOException {
+                            ReportSink rsReportSink) {
+        this(mongoTemplate, assembly, clusteredVariantAccessioningService, accessioningMonotonicInitSs,
+             accessioningMonotonicInitRs, metricCompute, processClusteredRemappedVariants, rsReportSink,
+             new MergeAndSplitCandidates(mongoTemplate, assembly));
+    }
+
+    public ClusteringWriter(MongoTemplate mongoTemplate,
+                            String assembly,
+                            ClusteredVariantAccessioningService clusteredVariantAccessioningService,
+                            Long accessioningMonotonicInitSs,
+                            Long accessioningMonotonicInitRs,
+                            MetricCompute metricCompute,
+                            boolean processClusteredRemappedVariants,
+                            ReportSink rsReportSink,
+                            MergeAndSplitCandidates mergeAndSplitCandidates) {
         this.mongoTemplate = mongoTemplate;
         this.assembly = assembly;
         this.clusteredService = clusteredVariantAccessioningService;
-        this.clusteredHashingFunction = new ClusteredVariantSummaryFunction().andThen(new SHA1HashingFunction());
+        this.clusteredHashingFunction = new ClusteredVariantHashingFunction();
         this.assignedAccessions = new HashMap<>();
+        this.clusteredVariantHashes = new IdentityHashMap<>();
         Assert.notNull(accessioningMonotonicInitSs, "accessioningMonotonicInitSs must not be null. Check autowiring.");
         this.accessioningMonotonicInitSs = accessioningMonotonicInitSs;
         this.accessioningMonotonicInitRs = accessioningMonotonicInitRs;
         this.metricCompute = metricCompute;
         this.processClusteredRemappedVariants = processClusteredRemappedVariants;
-        this.rsReportFile = rsReportFile;
-        getSVOEWithMergeAndRSSplitCandidates();
-    }
-
-    private void getSVOEWithMergeAndRSSplitCandidates() {
-        List<String> MERGE_AND_SPLIT_EVENTS = Arrays.asList(EventType.RS_MERGE_CANDIDATES.name(),
-                EventType.RS_SPLIT_CANDIDATES.name());
-        Query queryOperations = query(where("eventType").in(MERGE_AND_SPLIT_EVENTS)
-                .and("inactiveObjects").elemMatch(where("seq").is(assembly)));
-        mergeCandidateSVOE = new HashMap<>();
-        rsSplitCandidateSVOE = new HashMap<>();
-
-        try (Stream<SubmittedVariantOperationEntity> svoes = mongoTemplate.stream(
-                queryOperations, SubmittedVariantOperationEntity.class)) {
-            svoes.forEach(svoe -> {
-                if (svoe.getEventType().equals(EventType.RS_MERGE_CANDIDATES)) {
-                    mergeCandidateSVOE.put(getClusteredVariantHash(svoe.getInactiveObjects().get(0).getModel()), svoe);
-                } else if (svoe.getEventType().equals(EventType.RS_SPLIT_CANDIDATES)) {
-                    rsSplitCandidateSVOE.put(svoe.getAccession(), svoe);
-                }
-            });
-        }
+        this.rsReportSink = rsReportSink;
+        this.mergeAndSplitCandidates = mergeAndSplitCandidates;
     }
 
     @Override
@@ -165,8 +161,8 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
             throws IOException, MongoBulkWriteException, AccessionCouldNotBeGeneratedException,
             AccessionDoesNotExistException {
         try {
-            this.rsReportFileWriter = new FileWriter(this.rsReportFile, true);
             assignedAccessions.clear();
+            clusteredVariantHashes.clear();
 
             // Write new Clustered Variants in mongo and get existing ones. May merge clustered variants
             getOrCreateClusteredVariantAccessions(submittedVariantEntities);
@@ -176,7 +172,8 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
                 clusterSubmittedVariants(submittedVariantEntities);
             }
         } finally {
-            this.rsReportFileWriter.close();
+            // the RS issued in the chunk are in the report before it's committed, even if it failed afterwards
+            rsReportSink.flush();
         }
     }
 
@@ -185,15 +182,15 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
         if (processClusteredRemappedVariants) {
             processClusteredRemappedVariants(submittedVariantEntities);
         } else {
-            List<ClusteredVariant> clusteredVariants = submittedVariantEntities.getItems().stream()
-                    .map(this::toClusteredVariant)
+            List<HashedClusteredVariant> clusteredVariants = submittedVariantEntities.getItems().stream()
+                    .map(this::toHashedClusteredVariant)
                     .collect(Collectors.toList());
             if (!clusteredVariants.isEmpty()) {
                 List<GetOrCreateAccessionWrapper<IClusteredVariant, String, Long>> accessionWrappers =
                         clusteredService.getOrCreate(clusteredVariants, jobExecution.getJobId().toString());
                 for (GetOrCreateAccessionWrapper<IClusteredVariant, String, Long> result : accessionWrappers) {
                     if (result.isNewAccession()) {
-                        ClusteringWriter.writeRSReportEntry(this.rsReportFileWriter, result.getAccession(),
+                        ClusteringWriter.writeRSReportEntry(this.rsReportSink, result.getAccession(),
                                 result.getHash());
                     }
                 }
@@ -243,30 +240,57 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
             return;
         }
 
-        Map<String, Long> allExistingHashesInDB = getSubmittedVariantsAllExistingHashesInDB(clusteredRemappedSubmittedVariants);
-        Map<String, SubmittedVariantOperationEntity> updateMergeCandidateSVOE = new HashMap<>();
-        Map<Long, SubmittedVariantOperationEntity> updateRsSplitCandidateSVOE = new HashMap<>();
-
+        List<ClusteredVariantEntity> remappedClusteredVariantEntities = clusteredRemappedSubmittedVariants.stream()
+                .map(this::toClusteredVariantEntity)
+                .collect(Collectors.toList());
         Set<Long> rsIDs = clusteredRemappedSubmittedVariants.stream()
                 .map(SubmittedVariantEntity::getClusteredVariantAccession)
                 .collect(Collectors.toSet());
+        // submitted variants of these RS in other loci may be being written by the writers of other partitions
+        mergeAndSplitCandidates.lock(rsIDs);
+        try {
+            processClusteredRemappedVariants(clusteredRemappedSubmittedVariants, remappedClusteredVariantEntities,
+                                             rsIDs);
+        } finally {
+            mergeAndSplitCandidates.unlock(rsIDs);
+        }
+    }
+
+    private void processClusteredRemappedVariants(List<SubmittedVariantEntity> clusteredRemappedSubmittedVariants,
+                                                  List<ClusteredVariantEntity> remappedClusteredVariantEntities,
+                                                  Set<Long> rsIDs) throws IOException {
+        // a single lookup of the merge and split candidates that the variants of the chunk may have
+        Set<String> hashes = remappedClusteredVariantEntities.stream()
+                .map(ClusteredVariantEntity::getHashedMessage)
+                .collect(Collectors.toSet());
+        mergeAndSplitCandidates.load(hashes, rsIDs);
+        Map<String, Long> allExistingHashesInDB = getSubmittedVariantsAllExistingHashesInDB(
+                remappedClusteredVariantEntities);
+        Map<String, SubmittedVariantOperationEntity> updateMergeCandidateSVOE = new HashMap<>();
+        Map<Long, SubmittedVariantOperationEntity> updateRsSplitCandidateSVOE = new HashMap<>();
+
         // Initialize a map of "RS -> list of associated hashes" with hashes for RS IDs already present in the database
         // We will keep updating this map when we encounter new RS IDs present in the remapped variants SS record
         // but with no corresponding RS record in the database
         Map<Long, Set<String>> allExistingHashesGroupByRS = getAllHashesForAssemblyAndRSInDB(new ArrayList<>(rsIDs));
+        Map<Long, List<SubmittedVariantEntity>> submittedVariantsByRS = getAllSubmittedVariantsWithClusteringAccessions(
+                getAccessionsOfPossibleCandidates(remappedClusteredVariantEntities, allExistingHashesInDB,
+                                                  allExistingHashesGroupByRS));
         List<ClusteredVariantEntity> clusteredVariantEntities = new ArrayList<>();
         List<ClusteredVariantEntity> dbsnpClusteredVariantEntities = new ArrayList<>();
 
-        for (SubmittedVariantEntity remappedSubmittedVariantEntity : clusteredRemappedSubmittedVariants) {
-            ClusteredVariantEntity clusteredVariantEntity = toClusteredVariantEntity(remappedSubmittedVariantEntity);
+        for (int i = 0; i < clusteredRemappedSubmittedVariants.size(); i++) {
+            SubmittedVariantEntity remappedSubmittedVariantEntity = clusteredRemappedSubmittedVariants.get(i);
+            ClusteredVariantEntity clusteredVariantEntity = remappedClusteredVariantEntities.get(i);
 
             boolean isExistingRSOrMergeCandidate = checkIfExistingRSOrCandidateForMerge(remappedSubmittedVariantEntity,
                     clusteredVariantEntity,
                     allExistingHashesInDB,
+                    submittedVariantsByRS,
                     updateMergeCandidateSVOE);
             allExistingHashesGroupByRS.putIfAbsent(clusteredVariantEntity.getAccession(), new HashSet<>());
             checkIfCandidateForRSSplit(remappedSubmittedVariantEntity, clusteredVariantEntity,
-                    allExistingHashesGroupByRS, updateRsSplitCandidateSVOE);
+                    allExistingHashesGroupByRS, submittedVariantsByRS, updateRsSplitCandidateSVOE);
 
             if (!isExistingRSOrMergeCandidate) {
                 if (clusteredVariantEntity.getAccession() >= accessioningMonotonicInitRs) {
@@ -292,9 +316,10 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
                 .collect(Collectors.toList());
     }
 
-    private Map<String, Long> getSubmittedVariantsAllExistingHashesInDB(List<SubmittedVariantEntity> submittedVariantEntities) {
-        List<ClusteredVariant> clusteredVariants = submittedVariantEntities.stream()
-                .map(this::toClusteredVariant)
+    private Map<String, Long> getSubmittedVariantsAllExistingHashesInDB(
+            List<ClusteredVariantEntity> clusteredVariantEntities) {
+        List<HashedClusteredVariant> clusteredVariants = clusteredVariantEntities.stream()
+                .map(cve -> new HashedClusteredVariant(cve, cve.getHashedMessage()))
                 .collect(Collectors.toList());
         return clusteredService.get(clusteredVariants).stream()
                 .collect(Collectors.toMap(AccessionWrapper::getHash, AccessionWrapper::getAccession));
@@ -314,17 +339,76 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
         return allHashesForAssemblyAndRSInDB;
     }
 
-    private List<SubmittedVariantEntity> getAllSubmittedVariantsWithClusteringAccession(Long accession) {
-        List<SubmittedVariantEntity> results = new ArrayList<>();
-        Query querySubmitted = query(where("seq").is(assembly).and("rs").is(accession));
-        results.addAll(mongoTemplate.find(querySubmitted, SubmittedVariantEntity.class));
-        results.addAll(mongoTemplate.find(querySubmitted, DbsnpSubmittedVariantEntity.class));
+    /**
+     * Returns the RS accessions whose submitted variants may be needed to create merge or split candidates for the
+     * given clustered variants, so that they can be retrieved with one query per collection. It may return more
+     * accessions than needed, but never less.
+     */
+    private Set<Long> getAccessionsOfPossibleCandidates(List<ClusteredVariantEntity> clusteredVariantEntities,
+                                                         Map<String, Long> allExistingHashesInDB,
+                                                         Map<Long, Set<String>> allExistingHashesGroupByRS) {
+        Map<String, Set<Long>> accessionsByHash = new HashMap<>();
+        Map<Long, Set<String>> hashesByAccession = new HashMap<>();
+        for (ClusteredVariantEntity clusteredVariantEntity : clusteredVariantEntities) {
+            Long accession = clusteredVariantEntity.getAccession();
+            String hash = clusteredVariantEntity.getHashedMessage();
+            accessionsByHash.computeIfAbsent(hash, k -> new HashSet<>()).add(accession);
+            hashesByAccession.computeIfAbsent(accession, k -> new HashSet<>(
+                    allExistingHashesGroupByRS.getOrDefault(accession, Collections.emptySet()))).add(hash);
+        }
+
+        Set<Long> accessions = new HashSet<>();
+        for (Map.Entry<String, Set<Long>> accessionsOfHash : accessionsByHash.entrySet()) {
+            if (mergeAndSplitCandidates.getMergeCandidate(accessionsOfHash.getKey()) != null) {
+                continue;
+            }
+            Long accessionInDB = allExistingHashesInDB.get(accessionsOfHash.getKey());
+            if (accessionInDB != null) {
+                if (accessionsOfHash.getValue().stream().anyMatch(accession -> !accession.equals(accessionInDB))) {
+                    accessions.add(accessionInDB);
+                }
+            } else if (accessionsOfHash.getValue().size() > 1) {
+                // the first of these RS will be inserted, and will be the merge target of the rest
+                accessions.addAll(accessionsOfHash.getValue());
+            }
+        }
+        for (Map.Entry<Long, Set<String>> hashesOfAccession : hashesByAccession.entrySet()) {
+            if (hashesOfAccession.getValue().size() > 1
+                    && mergeAndSplitCandidates.getSplitCandidate(hashesOfAccession.getKey()) == null) {
+                accessions.add(hashesOfAccession.getKey());
+            }
+        }
+        return accessions;
+    }
+
+    private Map<Long, List<SubmittedVariantEntity>> getAllSubmittedVariantsWithClusteringAccessions(
+            Collection<Long> accessions) {
+        Map<Long, List<SubmittedVariantEntity>> results = new HashMap<>();
+        if (accessions.isEmpty()) {
+            return results;
+        }
+        accessions.forEach(accession -> results.put(accession, new ArrayList<>()));
+        Query querySubmitted = query(where("seq").is(assembly).and("rs").in(accessions));
+        for (SubmittedVariantEntity sve : mongoTemplate.find(querySubmitted, SubmittedVariantEntity.class)) {
+            results.get(sve.getClusteredVariantAccession()).add(sve);
+        }
+        for (SubmittedVariantEntity sve : mongoTemplate.find(querySubmitted, DbsnpSubmittedVariantEntity.class)) {
+            results.get(sve.getClusteredVariantAccession()).add(sve);
+        }
         return results;
     }
 
+    private List<SubmittedVariantEntity> getAllSubmittedVariantsWithClusteringAccession(
+            Long accession, Map<Long, List<SubmittedVariantEntity>> submittedVariantsByRS) {
+        // only needed if the candidates changed after choosing which submitted variants to retrieve
+        return submittedVariantsByRS.computeIfAbsent(
+                accession, rs -> getAllSubmittedVariantsWithClusteringAccessions(Collections.singleton(rs)).get(rs));
+    }
+
     private boolean checkIfExistingRSOrCandidateForMerge(SubmittedVariantEntity submittedVariantEntity,
                                                          ClusteredVariantEntity clusteredVariantEntity,
                                                          Map<String, Long> allExistingHashesInDB,
+                                                         Map<Long, List<SubmittedVariantEntity>> submittedVariantsByRS,
                                                          Map<String, SubmittedVariantOperationEntity>
                                                                  updateMergeCandidateSVOE) {
         Long variantAccession = clusteredVariantEntity.getAccession();
@@ -337,9 +421,12 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
         }
 
         if (allExistingHashesInDB.containsKey(variantHash)) {
-            SubmittedVariantOperationEntity submittedVariantOperationEntity;
-            if (mergeCandidateSVOE.containsKey(variantHash)) {
-                submittedVariantOperationEntity = mergeCandidateSVOE.get(variantHash);
+            // the candidates modified in this chunk are not saved yet, so they must not be looked up again
+            SubmittedVariantOperationEntity submittedVariantOperationEntity = updateMergeCandidateSVOE.get(variantHash);
+            if (submittedVariantOperationEntity == null) {
+                submittedVariantOperationEntity = mergeAndSplitCandidates.getMergeCandidate(variantHash);
+            }
+            if (submittedVariantOperationEntity != null) {
                 List<SubmittedVariantInactiveEntity> inactiveEntities =
                         submittedVariantOperationEntity.getInactiveObjects();
                 if (!doesSubmittedVariantAlreadyExistInSVOE(submittedVariantEntity, inactiveEntities)) {
@@ -351,7 +438,7 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
                 }
             } else {
                 List<SubmittedVariantInactiveEntity> inactiveObjects =
-                        getAllSubmittedVariantsWithClusteringAccession(accessionInDB).stream()
+                        getAllSubmittedVariantsWithClusteringAccession(accessionInDB, submittedVariantsByRS).stream()
                                 .filter(sve -> toClusteredVariantEntity(sve).getHashedMessage().equals(variantHash))
                                 .map(SubmittedVariantInactiveEntity::new)
                                 .collect(Collectors.toList());
@@ -359,9 +446,9 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
                 submittedVariantOperationEntity = new SubmittedVariantOperationEntity();
                 submittedVariantOperationEntity.fill(EventType.RS_MERGE_CANDIDATES, accessionInDB,
                         "RS mismatch with " + accessionInDB, inactiveObjects);
-                mergeCandidateSVOE.put(variantHash, submittedVariantOperationEntity);
             }
             if (submittedVariantOperationEntity != null) {
+                mergeAndSplitCandidates.putMergeCandidate(variantHash, submittedVariantOperationEntity);
                 updateMergeCandidateSVOE.put(variantHash, submittedVariantOperationEntity);
             }
             return true;
@@ -372,15 +459,19 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
     private void checkIfCandidateForRSSplit(SubmittedVariantEntity submittedVariantEntity,
                                             ClusteredVariantEntity clusteredVariantEntity,
                                             Map<Long, Set<String>> allExistingHashesGroupByRS,
+                                            Map<Long, List<SubmittedVariantEntity>> submittedVariantsByRS,
                                             Map<Long, SubmittedVariantOperationEntity> updateRsSplitCandidateSVOE) {
         Long variantAccession = clusteredVariantEntity.getAccession();
         String variantHash = clusteredVariantEntity.getHashedMessage();
 
         if (!allExistingHashesGroupByRS.get(variantAccession).isEmpty() &&
                 !allExistingHashesGroupByRS.get(variantAccession).contains(variantHash)) {
-            SubmittedVariantOperationEntity submittedVariantOperationEntity;
-            if (rsSplitCandidateSVOE.containsKey(variantAccession)) {
-                submittedVariantOperationEntity = rsSplitCandidateSVOE.get(variantAccession);
+            SubmittedVariantOperationEntity submittedVariantOperationEntity =
+                    updateRsSplitCandidateSVOE.get(variantAccession);
+            if (submittedVariantOperationEntity == null) {
+                submittedVariantOperationEntity = mergeAndSplitCandidates.getSplitCandidate(variantAccession);
+            }
+            if (submittedVariantOperationEntity != null) {
                 List<SubmittedVariantInactiveEntity> inactiveEntities =
                         submittedVariantOperationEntity.getInactiveObjects();
                 if (!doesSubmittedVariantAlreadyExistInSVOE(submittedVariantEntity, inactiveEntities)) {
@@ -393,14 +484,15 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
             } else {
                 submittedVariantOperationEntity = new SubmittedVariantOperationEntity();
                 List<SubmittedVariantInactiveEntity> inactiveEntities =
-                        getAllSubmittedVariantsWithClusteringAccession(variantAccession).stream()
+                        getAllSubmittedVariantsWithClusteringAccession(variantAccession, submittedVariantsByRS)
+                                .stream()
                                 .map(SubmittedVariantInactiveEntity::new)
                                 .collect(Collectors.toList());
                 submittedVariantOperationEntity.fill(EventType.RS_SPLIT_CANDIDATES, variantAccession,
                         "Hash mismatch with " + variantAccession, inactiveEntities);
-                rsSplitCandidateSVOE.put(variantAccession, submittedVariantOperationEntity);
             }
             if (submittedVariantOperationEntity != null) {
+                mergeAndSplitCandidates.putSplitCandidate(variantAccession, submittedVariantOperationEntity);
                 updateRsSplitCandidateSVOE.put(variantAccession, submittedVariantOperationEntity);
             }
         }
@@ -421,20 +513,23 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
         mongoTemplate.insert(dbsnpClusteredVariantEntities, DbsnpClusteredVariantEntity.class);
         metricCompute.addCount(ClusteringMetric.CLUSTERED_VARIANTS_CREATED, clusteredVariantEntities.size() + dbsnpClusteredVariantEntities.size());
         for (ClusteredVariantEntity cve : clusteredVariantEntities) {
-            ClusteringWriter.writeRSReportEntry(this.rsReportFileWriter, cve.getAccession(), cve.getHashedMessage());
+            ClusteringWriter.writeRSReportEntry(this.rsReportSink, cve.getAccession(), cve.getHashedMessage());
         }
         for (ClusteredVariantEntity cve : dbsnpClusteredVariantEntities) {
-            ClusteringWriter.writeRSReportEntry(this.rsReportFileWriter, cve.getAccession(), cve.getHashedMessage());
+            ClusteringWriter.writeRSReportEntry(this.rsReportSink, cve.getAccession(), cve.getHashedMessage());
         }
 
-        List<SubmittedVariantOperationEntity> mergeSVOEInsertEntries = new ArrayList<>();
-        List<SubmittedVariantOperationEntity> rsSplitSVOEInsertEntries = new ArrayList<>();
+        // the operations are all on different documents, so they can be applied in any order
+        BulkOperations svoeBulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                SubmittedVariantOperationEntity.class);
+        List<SubmittedVariantOperationEntity> svoeInsertEntries = new ArrayList<>();
+        long numUpdates = 0;
 
         for (Map.Entry<String, SubmittedVariantOperationEntity> entry : mergeSVOE.entrySet()) {
             SubmittedVariantOperationEntity svoe = entry.getValue();
             if (Objects.isNull(svoe.getId())) {
                 svoe.setId(getMergeCandidateId(svoe));
-                mergeSVOEInsertEntries.add(svoe);
+                svoeInsertEntries.add(svoe);
                 continue;
             }
             Query querySubmitted = query(where("_id").is(svoe.getId())
@@ -443,8 +538,9 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
                     .and("reason").is("RS mismatch with " + svoe.getAccession()));
             Update update = new Update();
             update.set("inactiveObjects", svoe.getInactiveObjects());
-            // Since we are updating one specific record in SVOE, update first will be sufficient
-            mongoTemplate.updateFirst(querySubmitted, update, SubmittedVariantOperationEntity.class);
+            // Since we are updating one specific record in SVOE, update one will be sufficient
+            svoeBulkOperations.updateOne(querySubmitted, update);
+            ++numUpdates;
         }
 
         for (Map.Entry<Long, SubmittedVariantOperationEntity> entry : rsSplitSVOE.entrySet()) {
@@ -452,7 +548,7 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
             SubmittedVariantOperationEntity svoe = entry.getValue();
             if (Objects.isNull(svoe.getId())) {
                 svoe.setId(getSplitCandidateId(svoe));
-                rsSplitSVOEInsertEntries.add(svoe);
+                svoeInsertEntries.add(svoe);
                 continue;
             }
             Query querySubmitted = query(where("_id").is(svoe.getId())
@@ -461,18 +557,28 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
                     .and("reason").is("Hash mismatch with " + accession));
             Update update = new Update();
             update.set("inactiveObjects", svoe.getInactiveObjects());
-            // Since we are updating one specific record in SVOE, update first will be sufficient
-            mongoTemplate.updateFirst(querySubmitted, update, SubmittedVariantOperationEntity.class);
+            // Since we are updating one specific record in SVOE, update one will be sufficient
+            svoeBulkOperations.updateOne(querySubmitted, update);
+            ++numUpdates;
         }
 
-        mongoTemplate.insert(mergeSVOEInsertEntries, SubmittedVariantOperationEntity.class);
-        mongoTemplate.insert(rsSplitSVOEInsertEntries, SubmittedVariantOperationEntity.class);
+        if (numUpdates > 0 || !svoeInsertEntries.isEmpty()) {
+            svoeBulkOperations.insert(svoeInsertEntries);
+            svoeBulkOperations.execute();
+        }
     }
 
     public ClusteredVariantEntity toClusteredVariantEntity(SubmittedVariantEntity submittedVariantEntity) {
+        ClusteredVariant clusteredVariant = toClusteredVariant(submittedVariantEntity);
         return new ClusteredVariantEntity(submittedVariantEntity.getClusteredVariantAccession(),
-                getClusteredVariantHash(submittedVariantEntity),
+                clusteredHashingFunction.apply(clusteredVariant), clusteredVariant);
+    }
+
+    private HashedClusteredVariant toHashedClusteredVariant(SubmittedVariantEntity submittedVariantEntity) {
+        HashedClusteredVariant clusteredVariant = new HashedClusteredVariant(
                 toClusteredVariant(submittedVariantEntity));
+        clusteredVariantHashes.put(submittedVariantEntity, clusteredVariant.getHash());
+        return clusteredVariant;
     }
 
     private ClusteredVariant toClusteredVariant(ISubmittedVariant submittedVariant) {
@@ -599,7 +705,10 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
     }
 
     private Long getClusteredVariantAccession(SubmittedVariantEntity submittedVariantEntity) {
-        String hash = getClusteredVariantHash(submittedVariantEntity);
+        String hash = clusteredVariantHashes.get(submittedVariantEntity);
+        if (hash == null) {
+            hash = getClusteredVariantHash(submittedVariantEntity);
+        }
         return assignedAccessions.get(hash);
     }
 
@@ -608,19 +717,19 @@ public class ClusteringWriter implements ItemWriter<SubmittedVariantEntity> {
         return clusteredHashingFunction.apply(clusteredVariant);
     }
 
-    protected static void writeRSReportEntry(FileWriter rsReportWriter, Long rsAccession, String rsHash)
+    protected static void writeRSReportEntry(ReportSink rsReportSink, Long rsAccession, String rsHash)
             throws IOException {
-        rsReportWriter.write(String.format("%s\t%s\n", rsAccession, rsHash));
+        rsReportSink.append(String.format("%s\t%s\n", rsAccession, rsHash));
     }
 
     public static String getMergeCandidateId(SubmittedVariantOperationEntity svoe) {
-        return String.format("%s_%s_%s", MERGE_CANDIDATE_ID_PREFIX,
+        return MergeAndSplitCandidates.getMergeCandidateId(
                 svoe.getInactiveObjects().get(0).getReferenceSequenceAccession(),
                 EVAObjectModelUtils.getClusteredVariantHash(svoe.getInactiveObjects().get(0)));
     }
 
     public static String getSplitCandidateId(SubmittedVariantOperationEntity svoe) {
-        return String.format("%s_%s_%d", SPLIT_CANDIDATE_ID_PREFIX,
+        return MergeAndSplitCandidates.getSplitCandidateId(
                 svoe.getInactiveObjects().get(0).getReferenceSequenceAccession(),
                 svoe.getInactiveObjects().get(0).getClusteredVariantAccession());
     }
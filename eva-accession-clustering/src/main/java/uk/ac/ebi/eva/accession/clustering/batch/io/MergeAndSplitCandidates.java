@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.clustering.batch.io;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import uk.ac.ebi.eva.accession.core.metrics.CacheMetrics;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantOperationEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static uk.ac.ebi.eva.accession.clustering.configuration.batch.io.RSMergeAndSplitCandidatesReaderConfiguration.MERGE_CANDIDATE_ID_PREFIX;
+import static uk.ac.ebi.eva.accession.clustering.configuration.batch.io.RSMergeAndSplitCandidatesReaderConfiguration.SPLIT_CANDIDATE_ID_PREFIX;
+
+/**
+ * RS merge and split candidate operations of an assembly, by the hash of the clustered variant that is a candidate for
+ * merge and by the RS that is a candidate for split.
+ *
+ * The candidates are looked up by their IDs when needed, and kept in a cache where the least recently used ones are
+ * evicted once the cached operations have more than a maximum number of submitted variants in total. Only operations
+ * that are already saved can be evicted safely, so a {@link ClusteringWriter} must keep the operations that it modifies
+ * in a chunk until it saves them.
+ *
+ * The same instance can be used by the {@link ClusteringWriter}s of all the partitions of a step. Submitted variants
+ * of the same RS can be in different loci, and so in different partitions, so a writer has to {@link #lock} the RS
+ * accessions of a chunk while it checks and records their candidates. Otherwise two writers could both find that an
+ * RS is not in the assembly yet, and none of them would record it as a split candidate.
+ *
+ * Hits and misses are counted once per ID when the candidates of a chunk are {@link #load loaded}. Getting a
+ * candidate only counts a miss when it has to be looked up on its own, e.g. because it was evicted after loading it.
+ */
+public class MergeAndSplitCandidates implements CacheMetrics.Statistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(MergeAndSplitCandidates.class);
+
+    public static final int DEFAULT_MAX_SUBMITTED_VARIANTS = 100000;
+
+    /**
+     * Cached to remember that there is no candidate with an ID, without looking it up again
+     */
+    private static final CachedCandidate NO_CANDIDATE = new CachedCandidate(null);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final String assembly;
+
+    private final long maxSubmittedVariants;
+
+    private final LinkedHashMap<String, CachedCandidate> candidates;
+
+    private final Set<Long> lockedAccessions;
+
+    private long submittedVariants;
+
+    private long peakSubmittedVariants;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    public MergeAndSplitCandidates(MongoTemplate mongoTemplate, String assembly) {
+        this(mongoTemplate, assembly, DEFAULT_MAX_SUBMITTED_VARIANTS);
+    }
+
+    /**
+     * @param maxSubmittedVariants maximum number of submitted variants in all the cached operations
+     */
+    public MergeAndSplitCandidates(MongoTemplate mongoTemplate, String assembly, long maxSubmittedVariants) {
+        if (maxSubmittedVariants < 1) {
+            throw new IllegalArgumentException("The maximum number of submitted variants in the cached merge and "
+                                                       + "split candidates must be positive");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.assembly = assembly;
+        this.maxSubmittedVariants = maxSubmittedVariants;
+        this.candidates = new LinkedHashMap<>(16, 0.75f, true);
+        this.lockedAccessions = new HashSet<>();
+    }
+
+    public static String getMergeCandidateId(String assembly, String clusteredVariantHash) {
+        return String.format("%s_%s_%s", MERGE_CANDIDATE_ID_PREFIX, assembly, clusteredVariantHash);
+    }
+
+    public static String getSplitCandidateId(String assembly, Long rsAccession) {
+        return String.format("%s_%s_%d", SPLIT_CANDIDATE_ID_PREFIX, assembly, rsAccession);
+    }
+
+    public SubmittedVariantOperationEntity getMergeCandidate(String clusteredVariantHash) {
+        return get(getMergeCandidateId(assembly, clusteredVariantHash));
+    }
+
+    public void putMergeCandidate(String clusteredVariantHash, SubmittedVariantOperationEntity operation) {
+        put(getMergeCandidateId(assembly, clusteredVariantHash), new CachedCandidate(operation));
+    }
+
+    public SubmittedVariantOperationEntity getSplitCandidate(Long rsAccession) {
+        return get(getSplitCandidateId(assembly, rsAccession));
+    }
+
+    public void putSplitCandidate(Long rsAccession, SubmittedVariantOperationEntity operation) {
+        put(getSplitCandidateId(assembly, rsAccession), new CachedCandidate(operation));
+    }
+
+    /**
+     * Looks up in a single query the merge candidates of the hashes and the split candidates of the RS accessions that
+     * are not in the cache, so that the writer doesn't look them up one by one.
+     */
+    public void load(Collection<String> clusteredVariantHashes, Collection<Long> rsAccessions) {
+        Set<String> ids = new HashSet<>();
+        clusteredVariantHashes.forEach(hash -> ids.add(getMergeCandidateId(assembly, hash)));
+        rsAccessions.forEach(accession -> ids.add(getSplitCandidateId(assembly, accession)));
+        List<String> idsToLookUp = new ArrayList<>();
+        synchronized (this) {
+            for (String id : ids) {
+                if (candidates.containsKey(id)) {
+                    hits++;
+                } else {
+                    misses++;
+                    idsToLookUp.add(id);
+                }
+            }
+        }
+        if (idsToLookUp.isEmpty()) {
+            return;
+        }
+        Map<String, CachedCandidate> lookedUpCandidates = new LinkedHashMap<>();
+        idsToLookUp.forEach(id -> lookedUpCandidates.put(id, NO_CANDIDATE));
+        for (SubmittedVariantOperationEntity operation : mongoTemplate.find(query(where("_id").in(idsToLookUp)),
+                                                                            SubmittedVariantOperationEntity.class)) {
+            lookedUpCandidates.put(operation.getId(), new CachedCandidate(operation));
+        }
+        lookedUpCandidates.forEach(this::putIfAbsent);
+    }
+
+    private SubmittedVariantOperationEntity get(String id) {
+        synchronized (this) {
+            CachedCandidate candidate = candidates.get(id);
+            if (candidate != null) {
+                return candidate.getOperation();
+            }
+            misses++;
+        }
+        SubmittedVariantOperationEntity operation = mongoTemplate.findById(id, SubmittedVariantOperationEntity.class);
+        return putIfAbsent(id, operation == null ? NO_CANDIDATE : new CachedCandidate(operation)).getOperation();
+    }
+
+    private synchronized CachedCandidate putIfAbsent(String id, CachedCandidate candidate) {
+        // another writer may have created the candidate while it was being looked up
+        CachedCandidate cachedCandidate = candidates.get(id);
+        if (cachedCandidate != null) {
+            return cachedCandidate;
+        }
+        put(id, candidate);
+        return candidate;
+    }
+
+    /**
+     * Adds or replaces a candidate. Operations that are modified must be put again, so that the cache knows their new
+     * number of submitted variants.
+     */
+    private synchronized void put(String id, CachedCandidate candidate) {
+        CachedCandidate replacedCandidate = candidates.put(id, candidate);
+        if (replacedCandidate != null) {
+            submittedVariants -= replacedCandidate.getSubmittedVariants();
+        }
+        submittedVariants += candidate.getSubmittedVariants();
+        peakSubmittedVariants = Math.max(peakSubmittedVariants, submittedVariants);
+        Iterator<Map.Entry<String, CachedCandidate>> leastRecentlyUsed = candidates.entrySet().iterator();
+        // the candidate just added is never evicted, even if it's bigger than the maximum on its own
+        while (submittedVariants > maxSubmittedVariants && candidates.size() > 1) {
+            submittedVariants -= leastRecentlyUsed.next().getValue().getSubmittedVariants();
+            leastRecentlyUsed.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Waits until none of the accessions is locked by another writer, and then locks all of them. Taking them all at
+     * once means that two writers can't wait for each other.
+     */
+    public void lock(Collection<Long> rsAccessions) {
+        synchronized (lockedAccessions) {
+            while (rsAccessions.stream().anyMatch(lockedAccessions::contains)) {
+                try {
+                    lockedAccessions.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for RS accessions locked by another "
+                                                            + "clustering writer", e);
+                }
+            }
+            lockedAccessions.addAll(rsAccessions);
+        }
+    }
+
+    public void unlock(Collection<Long> rsAccessions) {
+        synchronized (lockedAccessions) {
+            lockedAccessions.removeAll(rsAccessions);
+            lockedAccessions.notifyAll();
+        }
+    }
+
+    public synchronized int size() {
+        return candidates.size();
+    }
+
+    /**
+     * @return number of submitted variants in all the cached operations, plus one per cached ID without candidate
+     */
+    public synchronized long getSubmittedVariants() {
+        return submittedVariants;
+    }
+
+    public synchronized long getPeakSubmittedVariants() {
+        return peakSubmittedVariants;
+    }
+
+    @Override
+    public long getWeight() {
+        return getSubmittedVariants();
+    }
+
+    @Override
+    public long getPeakWeight() {
+        return getPeakSubmittedVariants();
+    }
+
+    @Override
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    @Override
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Publishes the statistics of the cache in the registry, weighed in submitted variants
+     */
+    public void registerMetrics(MeterRegistry meterRegistry) {
+        CacheMetrics.register(meterRegistry, "RS merge and split candidates", "submittedVariants", this);
+    }
+
+    public synchronized void logStatistics() {
+        if (hits + misses > 0) {
+            logger.info("Cache of RS merge and split candidates of assembly {}: {} hits, {} misses, {} evictions, {} "
+                                + "entries with {} submitted variants (peak {}, maximum {})", assembly, hits, misses,
+                        evictions, candidates.size(), submittedVariants, peakSubmittedVariants,
+                        maxSubmittedVariants);
+        }
+    }
+
+    private static class CachedCandidate {
+
+        private final SubmittedVariantOperationEntity operation;
+
+        private final int submittedVariants;
+
+        CachedCandidate(SubmittedVariantOperationEntity operation) {
+            this.operation = operation;
+            this.submittedVariants = operation == null ? 1 : Math.max(1, operation.getInactiveObjects().size());
+        }
+
+        SubmittedVariantOperationEntity getOperation() {
+            return operation;
+        }
+
+        int getSubmittedVariants() {
+            return submittedVariants;
+        }
+    }
+}
@@ -33,6 +33,7 @@ import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.EventDocument;
 import uk.ac.ebi.eva.accession.clustering.batch.io.ClusteredVariantSplittingPolicy.SplitDeterminants;
 import uk.ac.ebi.eva.accession.clustering.metric.ClusteringMetric;
+import uk.ac.ebi.eva.accession.core.batch.io.ReportSink;
 import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
 import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
@@ -49,8 +50,6 @@ import uk.ac.ebi.eva.accession.core.service.nonhuman.SubmittedVariantAccessionin
 import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
 import uk.ac.ebi.eva.metrics.metric.MetricCompute;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Comparator;
@@ -91,9 +90,7 @@ public class RSSplitWriter implements ItemWriter<SubmittedVariantOperationEntity
 
     private final MetricCompute<ClusteringMetric> metricCompute;
 
-    private final File rsReportFile;
-
-    private FileWriter rsReportFileWriter;
+    private final ReportSink rsReportSink;
 
     private JobExecution jobExecution;
 
@@ -102,25 +99,24 @@ public class RSSplitWriter implements ItemWriter<SubmittedVariantOperationEntity
                          SubmittedVariantAccessioningService submittedVariantAccessioningService,
                          MongoTemplate mongoTemplate,
                          MetricCompute<ClusteringMetric> metricCompute,
-                         File rsReportFile) throws IOException {
+                         ReportSink rsReportSink) {
         this.clusteringWriter = clusteringWriter;
         this.clusteredVariantAccessioningService = clusteredVariantAccessioningService;
         this.submittedVariantAccessioningService = submittedVariantAccessioningService;
         this.mongoTemplate = mongoTemplate;
         this.metricCompute = metricCompute;
-        this.rsReportFile = rsReportFile;
+        this.rsReportSink = rsReportSink;
     }
 
     @Override
     public void write(@Nonnull Chunk<? extends SubmittedVariantOperationEntity> submittedVariantOperationEntities)
             throws MongoBulkWriteException, AccessionCouldNotBeGeneratedException, IOException {
         try {
-            this.rsReportFileWriter = new FileWriter(this.rsReportFile, true);
             for (SubmittedVariantOperationEntity entity : submittedVariantOperationEntities) {
                 writeRSSplit(entity);
             }
         } finally {
-            this.rsReportFileWriter.close();
+            this.rsReportSink.flush();
         }
     }
 
@@ -196,7 +192,7 @@ public class RSSplitWriter implements ItemWriter<SubmittedVariantOperationEntity
                         this.clusteredVariantAccessioningService.getOrCreate(
                                         Collections.singletonList(clusteredVariantEntity), jobExecution.getJobId().toString())
                                 .get(0).getAccession();
-                ClusteringWriter.writeRSReportEntry(this.rsReportFileWriter, newRSAccession, rsHash);
+                ClusteringWriter.writeRSReportEntry(this.rsReportSink, newRSAccession, rsHash);
                 metricCompute.addCount(ClusteringMetric.CLUSTERED_VARIANTS_CREATED, 1);
                 List<SubmittedVariantEntity> associatedSSEntries = rsHashAndAssociatedSS.get(rsHash);
                 for (SubmittedVariantEntity submittedVariantEntity : associatedSSEntries) {
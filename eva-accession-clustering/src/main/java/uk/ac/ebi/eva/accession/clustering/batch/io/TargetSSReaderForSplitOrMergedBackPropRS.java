@@ -15,11 +15,9 @@
  */
 package uk.ac.ebi.eva.accession.clustering.batch.io;
 
-import com.mongodb.BasicDBObject;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
-import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,13 +25,14 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.lang.NonNull;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+import uk.ac.ebi.eva.accession.core.model.codecs.VariantEntityCodecProvider;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantOperationEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantOperationEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.projections.ProjectionProfile;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.ClusteredVariantAccessioningService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.SubmittedVariantAccessioningService;
 
@@ -60,11 +59,9 @@ public class TargetSSReaderForSplitOrMergedBackPropRS implements ItemStreamReade
 
     SubmittedVariantAccessioningService submittedVariantAccessioningService;
 
-    MongoCursor<Document> evaCursor;
+    MongoCursor<ClusteredVariantOperationEntity> evaCursor;
 
-    MongoCursor<Document> dbsnpCursor;
-
-    MongoConverter converter;
+    MongoCursor<ClusteredVariantOperationEntity> dbsnpCursor;
 
     MongoTemplate mongoTemplate;
 
@@ -127,21 +124,13 @@ public class TargetSSReaderForSplitOrMergedBackPropRS implements ItemStreamReade
 
     public ClusteredVariantOperationEntity readCursor() {
         // Read from dbsnp collection first and subsequently EVA collection
-        Document nextElement;
         if (dbsnpCursor != null && dbsnpCursor.hasNext()) {
-            nextElement = dbsnpCursor.next();
-        } else {
-            if (evaCursor == null) {
-                evaCursor = initializeCursor(ClusteredVariantOperationEntity.class);
-            }
-            nextElement = evaCursor.tryNext();
+            return dbsnpCursor.next();
         }
-
-        return (nextElement != null) ? getClusteredVariantOperationEntity(nextElement) : null;
-    }
-
-    private ClusteredVariantOperationEntity getClusteredVariantOperationEntity(Document clusteredVariantOperation) {
-        return converter.read(ClusteredVariantOperationEntity.class, new BasicDBObject(clusteredVariantOperation));
+        if (evaCursor == null) {
+            evaCursor = initializeCursor(ClusteredVariantOperationEntity.class);
+        }
+        return evaCursor.tryNext();
     }
 
     @Override
@@ -152,24 +141,28 @@ public class TargetSSReaderForSplitOrMergedBackPropRS implements ItemStreamReade
     public void initializeReader() {
         dbsnpCursor = initializeCursor(DbsnpClusteredVariantOperationEntity.class);
         evaCursor = null;
-        converter = mongoTemplate.getConverter();
     }
 
-    private MongoCursor<Document> initializeCursor(Class<?> entityClass) {
+    private MongoCursor<ClusteredVariantOperationEntity> initializeCursor(Class<?> entityClass) {
         Bson query = Filters.and(Filters.eq(ASSEMBLY_FIELD, remappedAssembly),
                                  Filters.in(EVENT_TYPE_FIELD,
                                             Arrays.asList(EventType.RS_SPLIT.toString(), EventType.MERGED.toString())));
         logger.info("Issuing find: {}", query);
 
-        FindIterable<Document> clusteredVariantOperations = getClusteredVariantOperations(query, entityClass);
+        FindIterable<ClusteredVariantOperationEntity> clusteredVariantOperations =
+                getClusteredVariantOperations(query, entityClass);
         return clusteredVariantOperations.iterator();
     }
 
-    private FindIterable<Document> getClusteredVariantOperations(Bson query, Class<?> entityClass) {
-        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
-                            .find(query)
-                            .noCursorTimeout(true)
-                            .batchSize(chunkSize);
+    private FindIterable<ClusteredVariantOperationEntity> getClusteredVariantOperations(Bson query,
+                                                                                        Class<?> entityClass) {
+        // the operations of both collections are decoded as EVA entities, without their inactive objects
+        return VariantEntityCodecProvider.getCollection(mongoTemplate, entityClass,
+                                                        ClusteredVariantOperationEntity.class)
+                                         .find(query)
+                                         .projection(ProjectionProfile.OPERATION_ACCESSIONS.getProjection())
+                                         .noCursorTimeout(true)
+                                         .batchSize(chunkSize);
     }
 
     @Override
@@ -50,8 +50,19 @@ public class DuplicateRSAccQCProcessor implements ItemProcessor<List<Long>, List
                 .map(Map.Entry::getKey)
                 .collect(Collectors.toSet());
 
-        // get all the SVE documents belonging to the above CVE accessions and then group them
-        Map<Long, Map<String, Set<SubmittedVariantEntity>>> sveGroupedDocuments = getAllSubmittedVariantEntitiesForCVEAccs(cveAccessionsWithMultipleDocs)
+        // get all the SVE documents belonging to the above CVE accessions
+        return findDuplicateRSAccessions(cveAccessionToEntitiesMap,
+                                         getAllSubmittedVariantEntitiesForCVEAccs(cveAccessionsWithMultipleDocs));
+    }
+
+    /**
+     * Groups the SVEs of each RS accession and reports the accessions whose groups don't form a single chain. This
+     * doesn't query Mongo, so it can be used on its own (e.g. from the benchmarks).
+     */
+    public List<DuplicateRSAccQCResult> findDuplicateRSAccessions(
+            Map<Long, List<ClusteredVariantEntity>> cveAccessionToEntitiesMap,
+            List<SubmittedVariantEntity> submittedVariantEntities) {
+        Map<Long, Map<String, Set<SubmittedVariantEntity>>> sveGroupedDocuments = submittedVariantEntities
                 .stream()
                 .collect(Collectors.groupingBy(
                         // First level of grouping: by rsID
@@ -8,16 +8,16 @@ import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamWriter;
+import uk.ac.ebi.eva.accession.core.batch.io.ReportSink;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
+import java.io.File;
 import java.io.IOException;
 import java.util.List;
 
 public class DuplicateRSAccQCWriter implements ItemStreamWriter<List<DuplicateRSAccQCResult>> {
     private static final Logger logger = LoggerFactory.getLogger(DuplicateRSAccQCWriter.class);
     private String duplicateRSAccFile;
-    private BufferedWriter writer;
+    private ReportSink reportSink;
     private final Gson gson = new GsonBuilder().create();
 
     public DuplicateRSAccQCWriter(String duplicateRSAccFile) {
@@ -26,8 +26,9 @@ public class DuplicateRSAccQCWriter implements ItemStreamWriter<List<DuplicateRS
 
     @Override
     public void open(ExecutionContext executionContext) throws ItemStreamException {
+        reportSink = new ReportSink(new File(duplicateRSAccFile));
         try {
-            writer = new BufferedWriter(new FileWriter(duplicateRSAccFile, true));
+            reportSink.open();
         } catch (IOException e) {
             throw new ItemStreamException("Failed to open the file (" + duplicateRSAccFile + ") to write duplicate RS accessions", e);
         }
@@ -35,13 +36,21 @@ public class DuplicateRSAccQCWriter implements ItemStreamWriter<List<DuplicateRS
 
     @Override
     public void update(ExecutionContext executionContext) throws ItemStreamException {
+        // called before each chunk is committed
+        try {
+            if (reportSink != null) {
+                reportSink.flush();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to write duplicate RS accessions to file: " + duplicateRSAccFile, e);
+        }
     }
 
     @Override
     public void close() throws ItemStreamException {
         try {
-            if (writer != null) {
-                writer.close();
+            if (reportSink != null) {
+                reportSink.close();
             }
         } catch (IOException e) {
             throw new ItemStreamException("Failed to close file: " + duplicateRSAccFile, e);
@@ -60,10 +69,12 @@ public class DuplicateRSAccQCWriter implements ItemStreamWriter<List<DuplicateRS
     }
 
     private void appendToFile(List<DuplicateRSAccQCResult> duplicateRSAccQCResultsList) throws IOException {
+        StringBuilder lines = new StringBuilder();
         for (DuplicateRSAccQCResult duplicateRSAccQCResult : duplicateRSAccQCResultsList) {
-            writer.write(duplicateRSAccQCResult.getCveAccession().toString() + " " + gson.toJson(duplicateRSAccQCResult));
-            writer.newLine();
+            lines.append(duplicateRSAccQCResult.getCveAccession().toString()).append(" ")
+                 .append(gson.toJson(duplicateRSAccQCResult)).append(System.lineSeparator());
         }
+        reportSink.append(lines.toString());
         logger.warn("Appended {} duplicate RS IDs to the file", duplicateRSAccQCResultsList.size());
     }
 }
\ No newline at end of file
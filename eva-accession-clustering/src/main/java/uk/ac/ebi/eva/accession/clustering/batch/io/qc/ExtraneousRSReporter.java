@@ -26,7 +26,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
 import uk.ac.ebi.eva.accession.clustering.batch.io.qc.QCMongoCollections.qcRSIdInSS;
-import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.projections.AccessionView;
 
 import java.util.List;
 import java.util.Set;
@@ -34,7 +34,7 @@ import java.util.stream.Collectors;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
-public class ExtraneousRSReporter implements ItemWriter<ClusteredVariantEntity> {
+public class ExtraneousRSReporter implements ItemWriter<AccessionView> {
 
     private static final Logger logger = LoggerFactory.getLogger(ExtraneousRSReporter.class);
 
@@ -50,12 +50,12 @@ public class ExtraneousRSReporter implements ItemWriter<ClusteredVariantEntity>
     }
 
     @Override
-    public void write(@Nonnull Chunk<? extends ClusteredVariantEntity> clusteredVariantEntities)
+    public void write(@Nonnull Chunk<? extends AccessionView> clusteredVariantEntities)
             throws MongoBulkWriteException, AccessionCouldNotBeGeneratedException {
         reportExtraneousRS(clusteredVariantEntities);
     }
 
-    private void reportExtraneousRS(Chunk<? extends ClusteredVariantEntity> clusteredVariantEntities) {
+    private void reportExtraneousRS(Chunk<? extends AccessionView> clusteredVariantEntities) {
         String assemblyAccessionPrefix = QCMongoCollections.getAssemblyAccessionPrefix(this.assemblyAccession);
         List<String> idsFromRSIDCollection = clusteredVariantEntities.getItems().stream().map(
                 entity -> assemblyAccessionPrefix + entity.getAccession()).distinct().collect(Collectors.toList());
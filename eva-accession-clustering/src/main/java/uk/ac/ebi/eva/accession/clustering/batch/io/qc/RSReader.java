@@ -15,12 +15,10 @@
  */
 package uk.ac.ebi.eva.accession.clustering.batch.io.qc;
 
-import com.mongodb.BasicDBObject;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
 import jakarta.annotation.Nonnull;
-import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,12 +26,17 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
+import uk.ac.ebi.eva.accession.core.model.codecs.VariantEntityCodecProvider;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.projections.AccessionView;
+import uk.ac.ebi.eva.accession.core.model.projections.ProjectionProfile;
 
 
-public class RSReader implements ItemStreamReader<ClusteredVariantEntity> {
+/**
+ * Reads the accessions of the clustered variants in an assembly, which is all that the extraneous RS report needs.
+ */
+public class RSReader implements ItemStreamReader<AccessionView> {
 
     private static final Logger logger = LoggerFactory.getLogger(RSReader.class);
 
@@ -43,11 +46,9 @@ public class RSReader implements ItemStreamReader<ClusteredVariantEntity> {
 
     private final String assembly;
 
-    private MongoCursor<Document> evaCursor;
-
-    private MongoCursor<Document> dbsnpCursor;
+    private MongoCursor<AccessionView> evaCursor;
 
-    private MongoConverter converter;
+    private MongoCursor<AccessionView> dbsnpCursor;
 
     private final MongoTemplate mongoTemplate;
 
@@ -60,15 +61,9 @@ public class RSReader implements ItemStreamReader<ClusteredVariantEntity> {
     }
 
     @Override
-    public ClusteredVariantEntity read() {
+    public AccessionView read() {
         // Read from dbsnp collection first and subsequently EVA collection
-        Document nextElement = dbsnpCursor.hasNext() ? dbsnpCursor.next() :
-                (evaCursor.hasNext() ? evaCursor.next() : null);
-        return (nextElement != null) ? getClusteredVariantEntity(nextElement) : null;
-    }
-
-    private ClusteredVariantEntity getClusteredVariantEntity(Document clusteredVariants) {
-        return converter.read(ClusteredVariantEntity.class, new BasicDBObject(clusteredVariants));
+        return dbsnpCursor.hasNext() ? dbsnpCursor.next() : (evaCursor.hasNext() ? evaCursor.next() : null);
     }
 
     @Override
@@ -81,19 +76,18 @@ public class RSReader implements ItemStreamReader<ClusteredVariantEntity> {
                 Filters.not(Filters.exists(MAPPING_WEIGHT_FIELD)));
         logger.info("Issuing find: {}", query);
 
-        FindIterable<Document> clusteredVariantsDbsnp =
+        FindIterable<AccessionView> clusteredVariantsDbsnp =
                 getClusteredVariants(query, DbsnpClusteredVariantEntity.class);
         dbsnpCursor = clusteredVariantsDbsnp.iterator();
-        FindIterable<Document> clusteredVariantsEVA =
+        FindIterable<AccessionView> clusteredVariantsEVA =
                 getClusteredVariants(query, ClusteredVariantEntity.class);
         evaCursor = clusteredVariantsEVA.iterator();
-
-        converter = mongoTemplate.getConverter();
     }
 
-    private FindIterable<Document> getClusteredVariants(Bson query, Class<?> entityClass) {
-        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
+    private FindIterable<AccessionView> getClusteredVariants(Bson query, Class<?> entityClass) {
+        return VariantEntityCodecProvider.getCollection(mongoTemplate, entityClass, AccessionView.class)
                 .find(query)
+                .projection(ProjectionProfile.ACCESSION.getProjection())
                 .noCursorTimeout(true)
                 .batchSize(chunkSize);
     }
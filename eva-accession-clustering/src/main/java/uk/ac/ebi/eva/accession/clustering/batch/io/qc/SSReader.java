@@ -15,12 +15,10 @@
  */
 package uk.ac.ebi.eva.accession.clustering.batch.io.qc;
 
-import com.mongodb.BasicDBObject;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
 import jakarta.annotation.Nonnull;
-import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,11 +26,16 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
+import uk.ac.ebi.eva.accession.core.model.codecs.VariantEntityCodecProvider;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.projections.ProjectionProfile;
 
 
+/**
+ * Reads the submitted variants in an assembly with only the fields needed to report unclustered variants and to hash
+ * their clustered variants, see {@link ProjectionProfile#SUBMITTED_VARIANT_FOR_RS_HASH}.
+ */
 public class SSReader implements ItemStreamReader<SubmittedVariantEntity> {
 
     private static final Logger logger = LoggerFactory.getLogger(SSReader.class);
@@ -43,11 +46,9 @@ public class SSReader implements ItemStreamReader<SubmittedVariantEntity> {
 
     private final String assembly;
 
-    private MongoCursor<Document> evaCursor;
-
-    private MongoCursor<Document> dbsnpCursor;
+    private MongoCursor<SubmittedVariantEntity> evaCursor;
 
-    private MongoConverter converter;
+    private MongoCursor<SubmittedVariantEntity> dbsnpCursor;
 
     private final MongoTemplate mongoTemplate;
 
@@ -62,13 +63,7 @@ public class SSReader implements ItemStreamReader<SubmittedVariantEntity> {
     @Override
     public SubmittedVariantEntity read() {
         // Read from dbsnp collection first and subsequently EVA collection
-        Document nextElement = dbsnpCursor.hasNext() ? dbsnpCursor.next() :
-                (evaCursor.hasNext() ? evaCursor.next() : null);
-        return (nextElement != null) ? getSubmittedVariantEntity(nextElement) : null;
-    }
-
-    private SubmittedVariantEntity getSubmittedVariantEntity(Document submittedVariants) {
-        return converter.read(SubmittedVariantEntity.class, new BasicDBObject(submittedVariants));
+        return dbsnpCursor.hasNext() ? dbsnpCursor.next() : (evaCursor.hasNext() ? evaCursor.next() : null);
     }
 
     @Override
@@ -81,19 +76,19 @@ public class SSReader implements ItemStreamReader<SubmittedVariantEntity> {
                 Filters.not(Filters.exists(MAPPING_WEIGHT_FIELD)));
         logger.info("Issuing find: {}", query);
 
-        FindIterable<Document> submittedVariantsDbsnp =
+        FindIterable<SubmittedVariantEntity> submittedVariantsDbsnp =
                 getSubmittedVariants(query, DbsnpSubmittedVariantEntity.class);
         dbsnpCursor = submittedVariantsDbsnp.iterator();
-        FindIterable<Document> submittedVariantsEVA =
+        FindIterable<SubmittedVariantEntity> submittedVariantsEVA =
                 getSubmittedVariants(query, SubmittedVariantEntity.class);
         evaCursor = submittedVariantsEVA.iterator();
-
-        converter = mongoTemplate.getConverter();
     }
 
-    private FindIterable<Document> getSubmittedVariants(Bson query, Class<?> entityClass) {
-        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
+    private FindIterable<SubmittedVariantEntity> getSubmittedVariants(Bson query, Class<?> entityClass) {
+        // the documents of both collections are decoded as EVA entities
+        return VariantEntityCodecProvider.getCollection(mongoTemplate, entityClass, SubmittedVariantEntity.class)
                 .find(query)
+                .projection(ProjectionProfile.SUBMITTED_VARIANT_FOR_RS_HASH.getProjection())
                 .noCursorTimeout(true)
                 .batchSize(chunkSize);
     }
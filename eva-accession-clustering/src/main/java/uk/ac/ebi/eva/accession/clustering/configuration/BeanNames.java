@@ -25,6 +25,10 @@ public class BeanNames {
 
     public static final String STUDY_CLUSTERING_MONGO_READER = "STUDY_CLUSTERING_MONGO_READER";
 
+    public static final String CLUSTERED_VARIANTS_MONGO_PARTITIONER = "CLUSTERED_VARIANTS_MONGO_PARTITIONER";
+
+    public static final String NON_CLUSTERED_VARIANTS_MONGO_PARTITIONER = "NON_CLUSTERED_VARIANTS_MONGO_PARTITIONER";
+
     public static final String RS_MERGE_CANDIDATES_READER = "RS_MERGE_CANDIDATES_READER";
 
     public static final String RS_SPLIT_CANDIDATES_READER = "RS_SPLIT_CANDIDATES_READER";
@@ -35,6 +39,8 @@ public class BeanNames {
 
     public static final String RS_REPORT_FILE = "RS_REPORT_FILE";
 
+    public static final String RS_REPORT_SINK = "RS_REPORT_SINK";
+
     public static final String RS_SPLIT_WRITER = "RS_SPLIT_WRITER";
 
     public static final String SS_SPLIT_WRITER = "SS_SPLIT_WRITER";
@@ -53,6 +59,12 @@ public class BeanNames {
 
     public static final String CLUSTERED_CLUSTERING_WRITER = "CLUSTERED_CLUSTERING_WRITER";
 
+    public static final String NON_CLUSTERED_CLUSTERING_PARTITION_WRITER = "NON_CLUSTERED_CLUSTERING_PARTITION_WRITER";
+
+    public static final String CLUSTERED_CLUSTERING_PARTITION_WRITER = "CLUSTERED_CLUSTERING_PARTITION_WRITER";
+
+    public static final String MERGE_AND_SPLIT_CANDIDATES = "MERGE_AND_SPLIT_CANDIDATES";
+
     public static final String PROGRESS_LISTENER = "PROGRESS_LISTENER";
 
     public static final String JOB_EXECUTION_LISTENER = "JOB_EXECUTION_LISTENER";
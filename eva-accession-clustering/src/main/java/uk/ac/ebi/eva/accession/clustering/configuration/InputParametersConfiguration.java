@@ -22,10 +22,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import uk.ac.ebi.eva.accession.clustering.parameters.InputParameters;
+import uk.ac.ebi.eva.accession.core.batch.io.ReportSink;
 
 import java.io.File;
 
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_REPORT_FILE;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_REPORT_SINK;
 
 @Configuration
 public class InputParametersConfiguration {
@@ -47,4 +49,12 @@ public class InputParametersConfiguration {
         }
         return rsReportFile;
     }
+
+    /**
+     * Shared by all the writers that issue RS, and closed after each step that uses it
+     */
+    @Bean(name = RS_REPORT_SINK, destroyMethod = "close")
+    public ReportSink rsReportSink() {
+        return new ReportSink(rsReportFile());
+    }
 }
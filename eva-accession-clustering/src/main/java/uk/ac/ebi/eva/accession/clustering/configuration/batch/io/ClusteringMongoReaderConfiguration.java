@@ -15,11 +15,14 @@
  */
 package uk.ac.ebi.eva.accession.clustering.configuration.batch.io;
 
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import uk.ac.ebi.eva.accession.clustering.batch.io.ClusteringMongoPartitioner;
 import uk.ac.ebi.eva.accession.clustering.batch.io.ClusteringMongoReader;
 import uk.ac.ebi.eva.accession.clustering.batch.io.ClusteringMongoReaderRetryable;
 import uk.ac.ebi.eva.accession.clustering.batch.io.StudyClusteringMongoReader;
@@ -27,7 +30,9 @@ import uk.ac.ebi.eva.accession.clustering.configuration.InputParametersConfigura
 import uk.ac.ebi.eva.accession.clustering.parameters.InputParameters;
 import uk.ac.ebi.eva.accession.core.configuration.nonhuman.MongoConfiguration;
 
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_VARIANTS_MONGO_PARTITIONER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_VARIANTS_MONGO_READER;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.NON_CLUSTERED_VARIANTS_MONGO_PARTITIONER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.NON_CLUSTERED_VARIANTS_MONGO_READER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.STUDY_CLUSTERING_MONGO_READER;
 
@@ -37,35 +42,52 @@ public class ClusteringMongoReaderConfiguration {
 
     @Bean(CLUSTERED_VARIANTS_MONGO_READER)
     @StepScope
-    public ClusteringMongoReader clusteredVariantsMongoReader(MongoTemplate mongoTemplate, InputParameters parameters) {
-        if (parameters.getAssemblyAccession() == null || parameters.getAssemblyAccession().isEmpty()) {
-            throw new IllegalArgumentException("Please provide an assembly");
-        }
-
-        if (parameters.isAllowRetry()) {
-            return new ClusteringMongoReaderRetryable(mongoTemplate, parameters.getAssemblyAccession(),
-                                                      parameters.getChunkSize(), true);
-        } else {
-            return new ClusteringMongoReader(mongoTemplate, parameters.getAssemblyAccession(), parameters.getChunkSize(),
-                                             true);
-        }
+    public ClusteringMongoReader clusteredVariantsMongoReader(MongoTemplate mongoTemplate, InputParameters parameters,
+                                                              @Value("#{stepExecution}") StepExecution stepExecution) {
+        return clusteringMongoReader(mongoTemplate, parameters, stepExecution, true);
     }
 
     @Bean(NON_CLUSTERED_VARIANTS_MONGO_READER)
     @StepScope
     public ClusteringMongoReader nonClusteredVariantsMongoReader(MongoTemplate mongoTemplate,
-                                                                 InputParameters parameters) {
+                                                                 InputParameters parameters,
+                                                                 @Value("#{stepExecution}")
+                                                                 StepExecution stepExecution) {
+        return clusteringMongoReader(mongoTemplate, parameters, stepExecution, false);
+    }
+
+    private ClusteringMongoReader clusteringMongoReader(MongoTemplate mongoTemplate, InputParameters parameters,
+                                                       StepExecution stepExecution,
+                                                       boolean readOnlyClusteredVariants) {
         if (parameters.getAssemblyAccession() == null || parameters.getAssemblyAccession().isEmpty()) {
             throw new IllegalArgumentException("Please provide an assembly");
         }
 
+        ClusteringMongoReader reader;
         if (parameters.isAllowRetry()) {
-            return new ClusteringMongoReaderRetryable(mongoTemplate, parameters.getAssemblyAccession(),
-                                                      parameters.getChunkSize(), false);
+            reader = new ClusteringMongoReaderRetryable(mongoTemplate, parameters.getAssemblyAccession(),
+                                                        parameters.getChunkSize(), readOnlyClusteredVariants);
         } else {
-            return new ClusteringMongoReader(mongoTemplate, parameters.getAssemblyAccession(), parameters.getChunkSize(),
-                                             false);
+            reader = new ClusteringMongoReader(mongoTemplate, parameters.getAssemblyAccession(),
+                                               parameters.getChunkSize(), readOnlyClusteredVariants);
         }
+        // only the steps of a partitioned clustering have a partition in their context
+        reader.setPartitionFilter(ClusteringMongoPartitioner.getPartitionFilter(stepExecution.getExecutionContext()));
+        // the partitions of a step have different step names, and the reader also checks the query of the checkpoint
+        reader.setCheckpointId(parameters.getAssemblyAccession() + "_" + stepExecution.getStepName());
+        return reader;
+    }
+
+    @Bean(CLUSTERED_VARIANTS_MONGO_PARTITIONER)
+    public ClusteringMongoPartitioner clusteredVariantsMongoPartitioner(MongoTemplate mongoTemplate,
+                                                                        InputParameters parameters) {
+        return new ClusteringMongoPartitioner(mongoTemplate, parameters.getAssemblyAccession(), true);
+    }
+
+    @Bean(NON_CLUSTERED_VARIANTS_MONGO_PARTITIONER)
+    public ClusteringMongoPartitioner nonClusteredVariantsMongoPartitioner(MongoTemplate mongoTemplate,
+                                                                           InputParameters parameters) {
+        return new ClusteringMongoPartitioner(mongoTemplate, parameters.getAssemblyAccession(), false);
     }
 
     @Bean(STUDY_CLUSTERING_MONGO_READER)
@@ -15,29 +15,49 @@
  */
 package uk.ac.ebi.eva.accession.clustering.configuration.batch.io;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import uk.ac.ebi.eva.accession.clustering.batch.io.ClusteringWriter;
+import uk.ac.ebi.eva.accession.clustering.batch.io.MergeAndSplitCandidates;
 import uk.ac.ebi.eva.accession.clustering.parameters.InputParameters;
+import uk.ac.ebi.eva.accession.core.batch.io.ReportSink;
 import uk.ac.ebi.eva.accession.core.configuration.nonhuman.ClusteredVariantAccessioningConfiguration;
 import uk.ac.ebi.eva.accession.core.configuration.nonhuman.MongoConfiguration;
 import uk.ac.ebi.eva.accession.core.configuration.nonhuman.SubmittedVariantAccessioningConfiguration;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.ClusteredVariantAccessioningService;
 import uk.ac.ebi.eva.metrics.metric.MetricCompute;
 
-import java.io.File;
-import java.io.IOException;
-
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_CLUSTERING_PARTITION_WRITER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_CLUSTERING_WRITER;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.MERGE_AND_SPLIT_CANDIDATES;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.NON_CLUSTERED_CLUSTERING_PARTITION_WRITER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.NON_CLUSTERED_CLUSTERING_WRITER;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_REPORT_SINK;
 
 @Configuration
 @Import({ClusteredVariantAccessioningConfiguration.class, SubmittedVariantAccessioningConfiguration.class,
         MongoConfiguration.class})
 public class ClusteringWriterConfiguration {
 
+    @Bean(name = MERGE_AND_SPLIT_CANDIDATES, destroyMethod = "logStatistics")
+    public MergeAndSplitCandidates mergeAndSplitCandidates(MongoTemplate mongoTemplate,
+                                                           InputParameters inputParameters,
+                                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        MergeAndSplitCandidates mergeAndSplitCandidates = new MergeAndSplitCandidates(
+                mongoTemplate, inputParameters.getAssemblyAccession(),
+                inputParameters.getMergeAndSplitCandidatesCacheSize());
+        meterRegistry.ifAvailable(mergeAndSplitCandidates::registerMetrics);
+        return mergeAndSplitCandidates;
+    }
+
     @Bean(CLUSTERED_CLUSTERING_WRITER)
     public ClusteringWriter clusteredClusteringWriter(MongoTemplate mongoTemplate,
                                                       InputParameters inputParameters,
@@ -46,11 +66,13 @@ public class ClusteringWriterConfiguration {
                                                       Long accessioningMonotonicInitSs,
                                                       Long accessioningMonotonicInitRs,
                                                       MetricCompute metricCompute,
-                                                      File rsReportFile) throws IOException {
+                                                      @Qualifier(RS_REPORT_SINK) ReportSink rsReportSink,
+                                                      @Qualifier(MERGE_AND_SPLIT_CANDIDATES)
+                                                      MergeAndSplitCandidates mergeAndSplitCandidates) {
         return new ClusteringWriter(mongoTemplate, inputParameters.getAssemblyAccession(),
                                     clusteredVariantAccessioningService, accessioningMonotonicInitSs,
                                     accessioningMonotonicInitRs, metricCompute, true,
-                                    rsReportFile);
+                                    rsReportSink, mergeAndSplitCandidates);
     }
 
     @Bean(NON_CLUSTERED_CLUSTERING_WRITER)
@@ -61,10 +83,64 @@ public class ClusteringWriterConfiguration {
                                                          Long accessioningMonotonicInitSs,
                                                          Long accessioningMonotonicInitRs,
                                                          MetricCompute metricCompute,
-                                                         File rsReportFile) throws IOException {
+                                                         @Qualifier(RS_REPORT_SINK) ReportSink rsReportSink,
+                                                         @Qualifier(MERGE_AND_SPLIT_CANDIDATES)
+                                                         MergeAndSplitCandidates mergeAndSplitCandidates) {
         return new ClusteringWriter(mongoTemplate, inputParameters.getAssemblyAccession(),
                                     clusteredVariantAccessioningService, accessioningMonotonicInitSs,
                                     accessioningMonotonicInitRs, metricCompute, false,
-                                    rsReportFile);
+                                    rsReportSink, mergeAndSplitCandidates);
+    }
+
+    /**
+     * Writer of each partition of CLUSTERING_CLUSTERED_VARIANTS_FROM_MONGO_STEP when the clustering is partitioned
+     */
+    @Bean(CLUSTERED_CLUSTERING_PARTITION_WRITER)
+    @StepScope
+    public ClusteringWriter clusteredClusteringPartitionWriter(MongoTemplate mongoTemplate,
+                                                               InputParameters inputParameters,
+                                                               ClusteredVariantAccessioningService
+                                                                       clusteredVariantAccessioningService,
+                                                               Long accessioningMonotonicInitSs,
+                                                               Long accessioningMonotonicInitRs,
+                                                               MetricCompute metricCompute,
+                                                               @Qualifier(RS_REPORT_SINK) ReportSink rsReportSink,
+                                                               @Qualifier(MERGE_AND_SPLIT_CANDIDATES)
+                                                               MergeAndSplitCandidates mergeAndSplitCandidates,
+                                                               @Value("#{stepExecution}")
+                                                               StepExecution stepExecution) {
+        ClusteringWriter clusteringWriter = new ClusteringWriter(mongoTemplate, inputParameters.getAssemblyAccession(),
+                                                                 clusteredVariantAccessioningService,
+                                                                 accessioningMonotonicInitSs,
+                                                                 accessioningMonotonicInitRs, metricCompute, true,
+                                                                 rsReportSink, mergeAndSplitCandidates);
+        clusteringWriter.setJobExecution(stepExecution.getJobExecution());
+        return clusteringWriter;
+    }
+
+    /**
+     * Writer of each partition of CLUSTERING_NON_CLUSTERED_VARIANTS_FROM_MONGO_STEP when the clustering is partitioned
+     */
+    @Bean(NON_CLUSTERED_CLUSTERING_PARTITION_WRITER)
+    @StepScope
+    public ClusteringWriter nonClusteredClusteringPartitionWriter(MongoTemplate mongoTemplate,
+                                                                  InputParameters inputParameters,
+                                                                  ClusteredVariantAccessioningService
+                                                                          clusteredVariantAccessioningService,
+                                                                  Long accessioningMonotonicInitSs,
+                                                                  Long accessioningMonotonicInitRs,
+                                                                  MetricCompute metricCompute,
+                                                                  @Qualifier(RS_REPORT_SINK) ReportSink rsReportSink,
+                                                                  @Qualifier(MERGE_AND_SPLIT_CANDIDATES)
+                                                                  MergeAndSplitCandidates mergeAndSplitCandidates,
+                                                                  @Value("#{stepExecution}")
+                                                                  StepExecution stepExecution) {
+        ClusteringWriter clusteringWriter = new ClusteringWriter(mongoTemplate, inputParameters.getAssemblyAccession(),
+                                                                 clusteredVariantAccessioningService,
+                                                                 accessioningMonotonicInitSs,
+                                                                 accessioningMonotonicInitRs, metricCompute, false,
+                                                                 rsReportSink, mergeAndSplitCandidates);
+        clusteringWriter.setJobExecution(stepExecution.getJobExecution());
+        return clusteringWriter;
     }
 }
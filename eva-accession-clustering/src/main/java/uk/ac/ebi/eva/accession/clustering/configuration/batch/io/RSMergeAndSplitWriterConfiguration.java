@@ -27,6 +27,7 @@ import uk.ac.ebi.eva.accession.clustering.batch.io.ClusteringWriter;
 import uk.ac.ebi.eva.accession.clustering.batch.io.RSMergeWriter;
 import uk.ac.ebi.eva.accession.clustering.batch.io.RSSplitWriter;
 import uk.ac.ebi.eva.accession.clustering.parameters.InputParameters;
+import uk.ac.ebi.eva.accession.core.batch.io.ReportSink;
 import uk.ac.ebi.eva.accession.core.configuration.nonhuman.ClusteredVariantAccessioningConfiguration;
 import uk.ac.ebi.eva.accession.core.configuration.nonhuman.MongoConfiguration;
 import uk.ac.ebi.eva.accession.core.configuration.nonhuman.SubmittedVariantAccessioningConfiguration;
@@ -35,11 +36,9 @@ import uk.ac.ebi.eva.accession.core.service.nonhuman.ClusteredVariantAccessionin
 import uk.ac.ebi.eva.accession.core.service.nonhuman.SubmittedVariantAccessioningService;
 import uk.ac.ebi.eva.metrics.metric.MetricCompute;
 
-import java.io.File;
-import java.io.IOException;
-
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_CLUSTERING_WRITER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_MERGE_WRITER;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_REPORT_SINK;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_SPLIT_WRITER;
 
 @Configuration
@@ -67,9 +66,9 @@ public class RSMergeAndSplitWriterConfiguration {
             SubmittedVariantAccessioningService submittedVariantAccessioningService,
             MongoTemplate mongoTemplate,
             MetricCompute metricCompute,
-            File rsReportFile) throws IOException {
+            @Qualifier(RS_REPORT_SINK) ReportSink rsReportSink) {
         return new RSSplitWriter(clusteringWriter, clusteredVariantAccessioningService,
                                  submittedVariantAccessioningService, mongoTemplate, metricCompute,
-                                 rsReportFile);
+                                 rsReportSink);
     }
 }
@@ -16,6 +16,7 @@
 package uk.ac.ebi.eva.accession.clustering.configuration.batch.jobs;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -27,6 +28,7 @@ import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.BACK_PR
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.BACK_PROPAGATE_NEW_RS_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.BACK_PROPAGATE_SPLIT_OR_MERGED_RS_JOB;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.BACK_PROPAGATE_SPLIT_OR_MERGED_RS_STEP;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 
 @Configuration
 public class BackPropagateRSJobConfiguration {
@@ -35,8 +37,10 @@ public class BackPropagateRSJobConfiguration {
     public Job backPropagateNewRSJob(
             // Back-propagate RS that were newly created in the remapped assembly
             @Qualifier(BACK_PROPAGATE_NEW_RS_STEP) Step backPropagateNewRSStep,
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
             JobRepository jobRepository) {
         return new JobBuilder(BACK_PROPAGATE_NEW_RS_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(backPropagateNewRSStep)
                 .build();
     }
@@ -47,8 +51,10 @@ public class BackPropagateRSJobConfiguration {
     public Job backPropagateSplitOrMergedRSJob(
             // Back-propagate RS in the remapped assembly that were split or merged
             @Qualifier(BACK_PROPAGATE_SPLIT_OR_MERGED_RS_STEP) Step backPropagateSplitMergedRSStep,
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
             JobRepository jobRepository) {
         return new JobBuilder(BACK_PROPAGATE_SPLIT_OR_MERGED_RS_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(backPropagateSplitMergedRSStep)
                 .build();
     }
@@ -31,6 +31,7 @@ import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTER
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.JOB_EXECUTION_LISTENER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.PROCESS_RS_MERGE_CANDIDATES_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.PROCESS_RS_SPLIT_CANDIDATES_STEP;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 
 @Configuration
 public class ClusterUnclusteredVariantsJobConfiguration {
@@ -45,6 +46,7 @@ public class ClusterUnclusteredVariantsJobConfiguration {
             @Qualifier(CLUSTERING_NON_CLUSTERED_VARIANTS_FROM_MONGO_STEP) Step clusteringNonClusteredVariantsFromMongoStep,
             @Qualifier(ACCESSIONING_SHUTDOWN_STEP) Step accessioningShutdownStep,
             @Qualifier(JOB_EXECUTION_LISTENER) JobExecutionListener jobExecutionListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
             JobRepository jobRepository) {
         return new JobBuilder(CLUSTER_UNCLUSTERED_VARIANTS_JOB, jobRepository)
                 .start(processRSMergeCandidatesStep)
@@ -53,6 +55,7 @@ public class ClusterUnclusteredVariantsJobConfiguration {
                 .next(clusteringNonClusteredVariantsFromMongoStep)
                 .next(accessioningShutdownStep)
                 .listener(jobExecutionListener)
+                .listener(chunkTimingListener)
                 .build();
     }
 }
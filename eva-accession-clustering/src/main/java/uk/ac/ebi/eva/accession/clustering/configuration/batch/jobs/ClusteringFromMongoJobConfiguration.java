@@ -46,6 +46,7 @@ import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTER
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.JOB_EXECUTION_LISTENER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.PROCESS_RS_MERGE_CANDIDATES_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.PROCESS_RS_SPLIT_CANDIDATES_STEP;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 
 @Configuration
@@ -82,6 +83,7 @@ public class ClusteringFromMongoJobConfiguration {
                                       @Qualifier(BACK_PROPAGATE_SPLIT_OR_MERGED_RS_STEP)
                                       Step backPropagateSplitMergedRSStep,
                                       @Qualifier(JOB_EXECUTION_LISTENER) JobExecutionListener jobExecutionListener,
+                                      @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
                                       JobRepository jobRepository,
                                       @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
                                       InputParameters inputParameters) {
@@ -91,6 +93,7 @@ public class ClusteringFromMongoJobConfiguration {
                 //We need the dummy step here because Spring won't conditionally start the first step
                 .start(dummyStep)
                 .listener(jobExecutionListener)
+                .listener(chunkTimingListener)
                 .next(jobExecutionDecider)
                 .on("TRUE")
                 .to(new FlowBuilder<SimpleFlow>("remappedAssemblyClusteringFlow")
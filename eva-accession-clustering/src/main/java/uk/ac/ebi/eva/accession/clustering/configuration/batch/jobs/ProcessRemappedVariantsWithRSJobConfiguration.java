@@ -16,6 +16,7 @@
 package uk.ac.ebi.eva.accession.clustering.configuration.batch.jobs;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -25,6 +26,7 @@ import org.springframework.context.annotation.Configuration;
 
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERING_CLUSTERED_VARIANTS_FROM_MONGO_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.PROCESS_REMAPPED_VARIANTS_WITH_RS_JOB;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 
 @Configuration
 public class ProcessRemappedVariantsWithRSJobConfiguration {
@@ -33,8 +35,10 @@ public class ProcessRemappedVariantsWithRSJobConfiguration {
     @Bean(PROCESS_REMAPPED_VARIANTS_WITH_RS_JOB)
     public Job processRemappedVariantsWithRSJob(
             @Qualifier(CLUSTERING_CLUSTERED_VARIANTS_FROM_MONGO_STEP) Step clusteringClusteredVariantsFromMongoStep,
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
             JobRepository jobRepository) {
         return new JobBuilder(PROCESS_REMAPPED_VARIANTS_WITH_RS_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(clusteringClusteredVariantsFromMongoStep)
                 .build();
     }
@@ -13,6 +13,7 @@ import org.springframework.context.annotation.Configuration;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_ACCESSION_RECOVERY_JOB;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_ACCESSION_RECOVERY_JOB_LISTENER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_ACCESSION_RECOVERY_STEP;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 
 @Configuration
 public class RSAccessionRecoveryJobConfiguration {
@@ -26,10 +27,13 @@ public class RSAccessionRecoveryJobConfiguration {
     private JobExecutionListener monotonicAccessionRecoveryAgentCategoryRSJobListener;
 
     @Bean(RS_ACCESSION_RECOVERY_JOB)
-    public Job createMonotonicAccessionRecoveryAgentCategoryRSJob(JobRepository jobRepository) {
+    public Job createMonotonicAccessionRecoveryAgentCategoryRSJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(RS_ACCESSION_RECOVERY_JOB, jobRepository)
                 .start(monotonicAccessionRecoveryAgentCategoryRSStep)
                 .listener(monotonicAccessionRecoveryAgentCategoryRSJobListener)
+                .listener(chunkTimingListener)
                 .build();
     }
 
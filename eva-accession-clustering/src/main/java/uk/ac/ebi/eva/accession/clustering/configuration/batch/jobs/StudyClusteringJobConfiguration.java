@@ -28,6 +28,7 @@ import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.ACCESSI
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.JOB_EXECUTION_LISTENER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.STUDY_CLUSTERING_JOB;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.STUDY_CLUSTERING_STEP;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 
 @Configuration
 public class StudyClusteringJobConfiguration {
@@ -36,11 +37,13 @@ public class StudyClusteringJobConfiguration {
     public Job studyClusteringJob(@Qualifier(STUDY_CLUSTERING_STEP) Step clusteringStep,
                                   @Qualifier(ACCESSIONING_SHUTDOWN_STEP) Step accessioningShutdownStep,
                                   @Qualifier(JOB_EXECUTION_LISTENER) JobExecutionListener jobExecutionListener,
+                                  @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
                                   JobRepository jobRepository) {
         return new JobBuilder(STUDY_CLUSTERING_JOB, jobRepository)
                 .start(clusteringStep)
                 .next(accessioningShutdownStep)
                 .listener(jobExecutionListener)
+                .listener(chunkTimingListener)
                 .build();
     }
 }
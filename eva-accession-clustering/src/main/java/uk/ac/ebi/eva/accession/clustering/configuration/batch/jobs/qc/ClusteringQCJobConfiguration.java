@@ -16,6 +16,7 @@
 package uk.ac.ebi.eva.accession.clustering.configuration.batch.jobs.qc;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -37,11 +38,13 @@ import uk.ac.ebi.eva.accession.clustering.batch.io.qc.RSReader;
 import uk.ac.ebi.eva.accession.clustering.batch.io.qc.SSReader;
 import uk.ac.ebi.eva.accession.clustering.batch.processors.qc.ReportUnclusteredSSProcessor;
 import uk.ac.ebi.eva.accession.clustering.parameters.InputParameters;
-import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.projections.AccessionView;
 
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_CLUSTERING_WRITER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.PROGRESS_LISTENER;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 
 @Configuration
@@ -95,6 +98,7 @@ public class ClusteringQCJobConfiguration {
             @Qualifier(PENDING_MERGE_AND_SPLIT_REPORTER)
             ItemWriter<SubmittedVariantEntity> pendingMergeSplitReporter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
@@ -104,24 +108,27 @@ public class ClusteringQCJobConfiguration {
                 .processor(reportUnclusteredSSProcessor)
                 .writer(pendingMergeSplitReporter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .build();
     }
 
     // QC step that reports extraneous RS i.e., RS not assigned to any SS
     @Bean(REPORT_EXTRANEOUS_RS_STEP)
     public Step reportExtraneousRSStep(
-            @Qualifier(REMAPPED_RS_READER) ItemStreamReader<ClusteredVariantEntity> remappedRSReader,
+            @Qualifier(REMAPPED_RS_READER) ItemStreamReader<AccessionView> remappedRSReader,
             @Qualifier(EXTRANEOUS_RS_REPORTER)
-            ItemWriter<ClusteredVariantEntity> extraneousRSReporter,
+            ItemWriter<AccessionView> extraneousRSReporter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
         return new StepBuilder(REPORT_EXTRANEOUS_RS_STEP, jobRepository)
-                .<ClusteredVariantEntity, ClusteredVariantEntity>chunk(chunkSizeCompletionPolicy, transactionManager)
+                .<AccessionView, AccessionView>chunk(chunkSizeCompletionPolicy, transactionManager)
                 .reader(remappedRSReader)
                 .writer(extraneousRSReporter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .build();
     }
 
@@ -131,8 +138,10 @@ public class ClusteringQCJobConfiguration {
             Step reportUnclusteredSSAndPendingMergeSplitStep,
             @Qualifier(REPORT_EXTRANEOUS_RS_STEP)
             Step reportExtraneousRSStep,
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
             JobRepository jobRepository) {
         return new JobBuilder(CLUSTERING_QC_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(reportUnclusteredSSAndPendingMergeSplitStep)
                 .next(reportExtraneousRSStep)
                 .build();
@@ -1,6 +1,7 @@
 package uk.ac.ebi.eva.accession.clustering.configuration.batch.jobs.qc;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -11,6 +12,7 @@ import org.springframework.context.annotation.Configuration;
 
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.DUPLICATE_RS_ACC_QC_JOB;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.DUPLICATE_RS_ACC_QC_STEP;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 
 @Configuration
 public class DuplicateRSAccQCJobConfiguration {
@@ -20,8 +22,11 @@ public class DuplicateRSAccQCJobConfiguration {
     private Step duplicateRSAccQCStep;
 
     @Bean(DUPLICATE_RS_ACC_QC_JOB)
-    public Job duplicateRSAccQCJob(JobRepository jobRepository) {
+    public Job duplicateRSAccQCJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(DUPLICATE_RS_ACC_QC_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(duplicateRSAccQCStep)
                 .build();
     }
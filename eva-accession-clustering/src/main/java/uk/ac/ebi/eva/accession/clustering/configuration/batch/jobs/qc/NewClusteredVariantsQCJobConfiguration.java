@@ -16,7 +16,9 @@
 package uk.ac.ebi.eva.accession.clustering.configuration.batch.jobs.qc;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -33,9 +35,11 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 import uk.ac.ebi.eva.accession.clustering.batch.io.qc.MissingCveReporter;
 import uk.ac.ebi.eva.accession.clustering.batch.io.qc.RSHashPair;
+import uk.ac.ebi.eva.accession.core.batch.io.ReportSink;
 
 import java.io.File;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 
 @Configuration
@@ -66,6 +70,8 @@ public class NewClusteredVariantsQCJobConfiguration {
     public ItemStreamReader<RSHashPair> rsReportReader(File rsReportFile) {
         FlatFileItemReader<RSHashPair> reader = new FlatFileItemReader<>();
         reader.setResource(new FileSystemResource(rsReportFile));
+        reader.setBufferedReaderFactory((resource, encoding) -> ReportSink.newReader(rsReportFile,
+                                                                                     resource.getInputStream()));
         reader.setLineMapper(new RSReportLineMapper());
         return reader;
     }
@@ -79,6 +85,7 @@ public class NewClusteredVariantsQCJobConfiguration {
     public Step reportMissingCveStep(
             @Qualifier(RS_REPORT_READER) ItemStreamReader<RSHashPair> rsReportReader,
             @Qualifier(MISSING_CVE_REPORTER) ItemWriter<RSHashPair> missingCveReporter,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
@@ -86,13 +93,16 @@ public class NewClusteredVariantsQCJobConfiguration {
                 .<RSHashPair, RSHashPair>chunk(chunkSizeCompletionPolicy, transactionManager)
                 .reader(rsReportReader)
                 .writer(missingCveReporter)
+                .listener(chunkTimingListener)
                 .build();
     }
 
     @Bean(NEW_CLUSTERED_VARIANTS_QC_JOB)
     public Job ClusteringQCJob(@Qualifier(REPORT_MISSING_CVE_STEP) Step reportMissingCveStep,
+                               @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
                                JobRepository jobRepository) {
         return new JobBuilder(NEW_CLUSTERED_VARIANTS_QC_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(reportMissingCveStep)
                 .build();
     }
@@ -18,6 +18,7 @@ package uk.ac.ebi.eva.accession.clustering.configuration.batch.steps;
 
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.TaskletStep;
@@ -28,8 +29,11 @@ import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import uk.ac.ebi.eva.accession.clustering.batch.io.ListOfListItemWriter;
+import uk.ac.ebi.eva.accession.clustering.parameters.InputParameters;
+import uk.ac.ebi.eva.accession.core.batch.partition.InMemoryStepExecutionSplitter;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantOperationEntity;
 
@@ -40,19 +44,24 @@ import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.BACK_PR
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.BACK_PROPAGATE_SPLIT_OR_MERGED_RS_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLEAR_RS_MERGE_AND_SPLIT_CANDIDATES;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLEAR_RS_MERGE_AND_SPLIT_CANDIDATES_STEP;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_CLUSTERING_PARTITION_WRITER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_CLUSTERING_WRITER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_CLUSTERING_WRITER_JOB_EXECUTION_SETTER;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_VARIANTS_MONGO_PARTITIONER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERED_VARIANTS_MONGO_READER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERING_CLUSTERED_VARIANTS_FROM_MONGO_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERING_NON_CLUSTERED_VARIANTS_FROM_MONGO_STEP;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.NON_CLUSTERED_CLUSTERING_PARTITION_WRITER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.NON_CLUSTERED_CLUSTERING_WRITER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.NON_CLUSTERED_CLUSTERING_WRITER_JOB_EXECUTION_SETTER;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.NON_CLUSTERED_VARIANTS_MONGO_PARTITIONER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.NON_CLUSTERED_VARIANTS_MONGO_READER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.PROCESS_RS_MERGE_CANDIDATES_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.PROCESS_RS_SPLIT_CANDIDATES_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.PROGRESS_LISTENER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_MERGE_CANDIDATES_READER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_MERGE_WRITER;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_REPORT_SINK;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_SPLIT_CANDIDATES_READER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_SPLIT_WRITER;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.RS_SPLIT_WRITER_JOB_EXECUTION_SETTER;
@@ -60,26 +69,42 @@ import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.STUDY_C
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.STUDY_CLUSTERING_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.TARGET_SS_READER_FOR_NEW_BACKPROP_RS;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.TARGET_SS_READER_FOR_SPLIT_OR_MERGED_BACKPROP_RS;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 
 @Configuration
 public class ClusteringFromMongoStepConfiguration {
 
+    private static final String PARTITION_STEP_SUFFIX = "_PARTITION";
+
     @Bean(CLUSTERING_CLUSTERED_VARIANTS_FROM_MONGO_STEP)
     public Step clusteringClusteredVariantStepMongoReader(
             @Qualifier(CLUSTERED_VARIANTS_MONGO_READER) ItemStreamReader<SubmittedVariantEntity> mongoReader,
             @Qualifier(CLUSTERED_CLUSTERING_WRITER) ItemWriter<SubmittedVariantEntity> submittedVariantWriter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             @Qualifier(CLUSTERED_CLUSTERING_WRITER_JOB_EXECUTION_SETTER) StepExecutionListener clusteredClusteringWriterJobExecutionSetter,
+            @Qualifier(RS_REPORT_SINK) StepExecutionListener rsReportSink,
+            @Qualifier(CLUSTERED_VARIANTS_MONGO_PARTITIONER) Partitioner partitioner,
+            @Qualifier(CLUSTERED_CLUSTERING_PARTITION_WRITER) ItemWriter<SubmittedVariantEntity> partitionWriter,
+            InputParameters inputParameters,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
+        if (inputParameters.getPartitions() > 1) {
+            return partitionedClusteringStep(CLUSTERING_CLUSTERED_VARIANTS_FROM_MONGO_STEP, mongoReader,
+                                             partitionWriter, partitioner, inputParameters.getPartitions(),
+                                             progressListener, chunkTimingListener, rsReportSink, jobRepository,
+                                             transactionManager, chunkSizeCompletionPolicy);
+        }
         TaskletStep step = new StepBuilder(CLUSTERING_CLUSTERED_VARIANTS_FROM_MONGO_STEP, jobRepository)
                 .<SubmittedVariantEntity, SubmittedVariantEntity>chunk(chunkSizeCompletionPolicy, transactionManager)
                 .reader(mongoReader)
                 .writer(submittedVariantWriter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .listener(clusteredClusteringWriterJobExecutionSetter)
+                .listener(rsReportSink)
                 .build();
         return step;
     }
@@ -90,6 +115,7 @@ public class ClusteringFromMongoStepConfiguration {
             ItemReader<SubmittedVariantOperationEntity> rsMergeCandidatesReader,
             @Qualifier(RS_MERGE_WRITER) ItemWriter<SubmittedVariantOperationEntity> rsMergeWriter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
@@ -98,6 +124,7 @@ public class ClusteringFromMongoStepConfiguration {
                 .reader(rsMergeCandidatesReader)
                 .writer(rsMergeWriter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
@@ -108,7 +135,9 @@ public class ClusteringFromMongoStepConfiguration {
             ItemReader<SubmittedVariantOperationEntity> rsSplitCandidatesReader,
             @Qualifier(RS_SPLIT_WRITER) ItemWriter<SubmittedVariantOperationEntity> rsSplitWriter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             @Qualifier(RS_SPLIT_WRITER_JOB_EXECUTION_SETTER) StepExecutionListener rsSplitWriterJobExecutionSetter,
+            @Qualifier(RS_REPORT_SINK) StepExecutionListener rsReportSink,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
@@ -117,7 +146,9 @@ public class ClusteringFromMongoStepConfiguration {
                 .reader(rsSplitCandidatesReader)
                 .writer(rsSplitWriter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .listener(rsSplitWriterJobExecutionSetter)
+                .listener(rsReportSink)
                 .build();
         return step;
     }
@@ -157,26 +188,71 @@ public class ClusteringFromMongoStepConfiguration {
             @Qualifier(NON_CLUSTERED_VARIANTS_MONGO_READER) ItemStreamReader<SubmittedVariantEntity> mongoReader,
             @Qualifier(NON_CLUSTERED_CLUSTERING_WRITER) ItemWriter<SubmittedVariantEntity> submittedVariantWriter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             @Qualifier(NON_CLUSTERED_CLUSTERING_WRITER_JOB_EXECUTION_SETTER) StepExecutionListener nonClusteredClusteringWriterJobExecutionSetter,
+            @Qualifier(RS_REPORT_SINK) StepExecutionListener rsReportSink,
+            @Qualifier(NON_CLUSTERED_VARIANTS_MONGO_PARTITIONER) Partitioner partitioner,
+            @Qualifier(NON_CLUSTERED_CLUSTERING_PARTITION_WRITER) ItemWriter<SubmittedVariantEntity> partitionWriter,
+            InputParameters inputParameters,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
+        if (inputParameters.getPartitions() > 1) {
+            return partitionedClusteringStep(CLUSTERING_NON_CLUSTERED_VARIANTS_FROM_MONGO_STEP, mongoReader,
+                                             partitionWriter, partitioner, inputParameters.getPartitions(),
+                                             progressListener, chunkTimingListener, rsReportSink, jobRepository,
+                                             transactionManager, chunkSizeCompletionPolicy);
+        }
         TaskletStep step = new StepBuilder(CLUSTERING_NON_CLUSTERED_VARIANTS_FROM_MONGO_STEP, jobRepository)
                 .<SubmittedVariantEntity, SubmittedVariantEntity>chunk(chunkSizeCompletionPolicy, transactionManager)
                 .reader(mongoReader)
                 .writer(submittedVariantWriter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .listener(nonClusteredClusteringWriterJobExecutionSetter)
+                .listener(rsReportSink)
                 .build();
         return step;
     }
 
+    /**
+     * Clusters the partitions of the input in parallel, each one in a step with its own reader and writer (both are
+     * step scoped). The progress listener saves the metrics after the step, so it's only run once for all partitions,
+     * and the RS report is closed once all of them have finished.
+     */
+    private Step partitionedClusteringStep(String stepName, ItemStreamReader<SubmittedVariantEntity> mongoReader,
+                                           ItemWriter<SubmittedVariantEntity> partitionWriter, Partitioner partitioner,
+                                           int partitions, StepExecutionListener progressListener,
+                                           StepExecutionListener chunkTimingListener,
+                                           StepExecutionListener rsReportSink, JobRepository jobRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           SimpleCompletionPolicy chunkSizeCompletionPolicy) {
+        String partitionStepName = stepName + PARTITION_STEP_SUFFIX;
+        TaskletStep partitionStep = new StepBuilder(partitionStepName, jobRepository)
+                .<SubmittedVariantEntity, SubmittedVariantEntity>chunk(chunkSizeCompletionPolicy, transactionManager)
+                .reader(mongoReader)
+                .writer(partitionWriter)
+                .listener(chunkTimingListener)
+                .build();
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(partitionStepName + "-");
+        taskExecutor.setConcurrencyLimit(partitions);
+        return new StepBuilder(stepName, jobRepository)
+                .partitioner(partitionStep)
+                .splitter(new InMemoryStepExecutionSplitter(jobRepository, partitionStepName, partitioner))
+                .gridSize(partitions)
+                .taskExecutor(taskExecutor)
+                .listener(progressListener)
+                .listener(rsReportSink)
+                .build();
+    }
+
     @Bean(BACK_PROPAGATE_NEW_RS_STEP)
     public Step backPropagateNewRSStep(
             @Qualifier(TARGET_SS_READER_FOR_NEW_BACKPROP_RS)
             ItemStreamReader<SubmittedVariantEntity> backPropagatedNewRSTargetReader,
             @Qualifier(BACK_PROPAGATED_RS_WRITER) ItemWriter<SubmittedVariantEntity> backPropagatedRSWriter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
@@ -185,6 +261,7 @@ public class ClusteringFromMongoStepConfiguration {
                 .reader(backPropagatedNewRSTargetReader)
                 .writer(backPropagatedRSWriter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
@@ -195,6 +272,7 @@ public class ClusteringFromMongoStepConfiguration {
             ItemStreamReader<List<SubmittedVariantEntity>> splitOrMergedRSReader,
             @Qualifier(BACK_PROPAGATED_RS_WRITER) ItemWriter<SubmittedVariantEntity> backPropagatedRSWriter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
@@ -204,6 +282,7 @@ public class ClusteringFromMongoStepConfiguration {
                 // Spring needs this wrapping to flatten the List<List<SubmittedVariantEntity>> from the processor
                 .writer(new ListOfListItemWriter<>(backPropagatedRSWriter))
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
@@ -213,7 +292,9 @@ public class ClusteringFromMongoStepConfiguration {
             @Qualifier(STUDY_CLUSTERING_MONGO_READER) ItemStreamReader<SubmittedVariantEntity> mongoReader,
             @Qualifier(NON_CLUSTERED_CLUSTERING_WRITER) ItemWriter<SubmittedVariantEntity> submittedVariantWriter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             @Qualifier(NON_CLUSTERED_CLUSTERING_WRITER_JOB_EXECUTION_SETTER) StepExecutionListener nonClusteredClusteringWriterJobExecutionSetter,
+            @Qualifier(RS_REPORT_SINK) StepExecutionListener rsReportSink,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
@@ -222,7 +303,9 @@ public class ClusteringFromMongoStepConfiguration {
                 .reader(mongoReader)
                 .writer(submittedVariantWriter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .listener(nonClusteredClusteringWriterJobExecutionSetter)
+                .listener(rsReportSink)
                 .build();
         return step;
     }
@@ -1,6 +1,7 @@
 package uk.ac.ebi.eva.accession.clustering.configuration.batch.steps.qc;
 
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.TaskletStep;
@@ -20,6 +21,7 @@ import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.DUPLICA
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.DUPLICATE_RS_ACC_QC_PROCESSOR;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.DUPLICATE_RS_ACC_QC_STEP;
 import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.DUPLICATE_RS_ACC_QC_WRITER;
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 
 @Configuration
@@ -37,6 +39,10 @@ public class DuplicateRSAccQCStepConfiguration {
     @Qualifier(DUPLICATE_RS_ACC_QC_WRITER)
     private ItemWriter<List<DuplicateRSAccQCResult>> duplicateRSAccQCWriter;
 
+    @Autowired
+    @Qualifier(CHUNK_TIMING_LISTENER)
+    private StepExecutionListener chunkTimingListener;
+
     @Bean(DUPLICATE_RS_ACC_QC_STEP)
     public Step duplicateRSAccQCStep(JobRepository jobRepository,
                                      @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager) {
@@ -47,6 +53,7 @@ public class DuplicateRSAccQCStepConfiguration {
                 .reader(duplicateRSAccFileReader)
                 .processor(duplicateRSAccQCProcessor)
                 .writer(duplicateRSAccQCWriter)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
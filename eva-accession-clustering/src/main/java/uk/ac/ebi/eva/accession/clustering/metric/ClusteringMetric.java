@@ -2,6 +2,8 @@ package uk.ac.ebi.eva.accession.clustering.metric;
 
 import uk.ac.ebi.eva.metrics.metric.Metric;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public enum ClusteringMetric implements Metric {
 
     CLUSTERED_VARIANTS_CREATED("clustered_variants_created", "Number of new clustered variants created", 0),
@@ -19,12 +21,13 @@ public enum ClusteringMetric implements Metric {
 
     private String name;
     private String description;
-    private long count;
+    // the writers of the partitions of a step add to the same counts from several threads
+    private final AtomicLong count;
 
     ClusteringMetric(String name, String description, long count) {
         this.name = name;
         this.description = description;
-        this.count = count;
+        this.count = new AtomicLong(count);
     }
 
     public String getName() {
@@ -36,15 +39,15 @@ public enum ClusteringMetric implements Metric {
     }
 
     public long getCount() {
-        return this.count;
+        return this.count.get();
     }
 
     public void addCount(long count) {
-        this.count += count;
+        this.count.addAndGet(count);
     }
 
     public void clearCount() {
-        this.count = 0;
+        this.count.set(0);
     }
 
     @Override
@@ -18,6 +18,7 @@ package uk.ac.ebi.eva.accession.clustering.parameters;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
+import uk.ac.ebi.eva.accession.clustering.batch.io.MergeAndSplitCandidates;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -35,6 +36,10 @@ public class InputParameters {
 
     private boolean allowRetry;
 
+    private int partitions;
+
+    private int mergeAndSplitCandidatesCacheSize = MergeAndSplitCandidates.DEFAULT_MAX_SUBMITTED_VARIANTS;
+
     private String rsAccFile;
 
     private String duplicateRSAccFile;
@@ -79,6 +84,22 @@ public class InputParameters {
         this.allowRetry = allowRetry;
     }
 
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public int getMergeAndSplitCandidatesCacheSize() {
+        return mergeAndSplitCandidatesCacheSize;
+    }
+
+    public void setMergeAndSplitCandidatesCacheSize(int mergeAndSplitCandidatesCacheSize) {
+        this.mergeAndSplitCandidatesCacheSize = mergeAndSplitCandidatesCacheSize;
+    }
+
     public JobParameters toJobParameters() throws JobParametersInvalidException {
         projects = projects.stream().map(String::trim).collect(Collectors.toList());
         if (projects.stream().anyMatch(s -> s.contains(","))) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.clustering.batch.io;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import uk.ac.ebi.eva.accession.clustering.batch.io.ClusteringMongoPartitioner.ContigSummary;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.ac.ebi.eva.accession.clustering.batch.io.ClusteringMongoPartitioner.CONTIGS_KEY;
+import static uk.ac.ebi.eva.accession.clustering.batch.io.ClusteringMongoPartitioner.FROM_START_KEY;
+import static uk.ac.ebi.eva.accession.clustering.batch.io.ClusteringMongoPartitioner.TO_START_KEY;
+
+public class ClusteringMongoPartitionerTest {
+
+    @Test
+    public void noVariants() {
+        Map<String, ExecutionContext> partitions = ClusteringMongoPartitioner.plan(Collections.emptyList(), 4);
+
+        assertEquals(1, partitions.size());
+        assertNull(ClusteringMongoPartitioner.getPartitionFilter(partitions.get("partition0")));
+    }
+
+    @Test
+    public void smallContigsAreGroupedByNumberOfVariants() {
+        List<ContigSummary> contigs = Arrays.asList(new ContigSummary("chr1", 40, 1, 100),
+                                                    new ContigSummary("chr2", 30, 1, 100),
+                                                    new ContigSummary("chr3", 20, 1, 100),
+                                                    new ContigSummary("chr4", 10, 1, 100));
+
+        Map<String, ExecutionContext> partitions = ClusteringMongoPartitioner.plan(contigs, 2);
+
+        assertEquals(2, partitions.size());
+        assertEquals(Arrays.asList("chr1", "chr4"), partitions.get("partition0").get(CONTIGS_KEY));
+        assertEquals(Arrays.asList("chr2", "chr3"), partitions.get("partition1").get(CONTIGS_KEY));
+        assertFalse(partitions.get("partition0").containsKey(FROM_START_KEY));
+    }
+
+    @Test
+    public void bigContigIsSplitIntoRangesOfStart() {
+        List<ContigSummary> contigs = Arrays.asList(new ContigSummary("chr1", 90, 1000, 2999),
+                                                    new ContigSummary("chr2", 5, 1, 100),
+                                                    new ContigSummary("chr3", 5, 1, 100));
+
+        Map<String, ExecutionContext> partitions = ClusteringMongoPartitioner.plan(contigs, 2);
+
+        assertEquals(3, partitions.size());
+        ExecutionContext firstRange = partitions.get("partition0");
+        assertEquals(Collections.singletonList("chr1"), firstRange.get(CONTIGS_KEY));
+        assertEquals(1000, firstRange.getLong(FROM_START_KEY));
+        assertEquals(2000, firstRange.getLong(TO_START_KEY));
+        ExecutionContext secondRange = partitions.get("partition1");
+        assertEquals(2000, secondRange.getLong(FROM_START_KEY));
+        assertTrue(secondRange.getLong(TO_START_KEY) > 2999);
+        assertEquals(Arrays.asList("chr2", "chr3"), partitions.get("partition2").get(CONTIGS_KEY));
+    }
+
+    @Test
+    public void partitionFilter() {
+        ExecutionContext context = new ExecutionContext();
+        context.put(CONTIGS_KEY, Collections.singletonList("chr1"));
+        context.putLong(FROM_START_KEY, 1000);
+        context.putLong(TO_START_KEY, 2000);
+
+        Bson filter = ClusteringMongoPartitioner.getPartitionFilter(context);
+
+        assertEquals(BsonDocument.parse("{$and: [{contig: {$in: ['chr1']}}, {start: {$gte: {$numberLong: '1000'}}}, "
+                                                + "{start: {$lt: {$numberLong: '2000'}}}]}"),
+                     filter.toBsonDocument());
+    }
+}
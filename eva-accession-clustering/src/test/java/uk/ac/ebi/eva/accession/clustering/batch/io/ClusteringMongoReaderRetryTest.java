@@ -15,11 +15,11 @@
  */
 package uk.ac.ebi.eva.accession.clustering.batch.io;
 
-import com.mongodb.BasicDBObject;
 import com.mongodb.MongoCursorNotFoundException;
 import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
-import org.bson.Document;
+import com.mongodb.client.model.Filters;
 import org.bson.conversions.Bson;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,7 +29,6 @@ import org.mockito.Answers;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
@@ -42,9 +41,7 @@ import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -57,14 +54,18 @@ public class ClusteringMongoReaderRetryTest {
 
     private static final int CHUNK_SIZE = 5;
 
+    private static final Bson QUERY = ClusteringMongoReader.getQuery(ASSEMBLY, false);
+
     private ClusteringMongoReader nonClusteredVariantReader;
 
+    private MongoCollection<SubmittedVariantEntity> collection;
+
     @MockBean(answer = Answers.RETURNS_DEEP_STUBS)
     private MongoTemplate mongoTemplate;
 
     @BeforeEach
     public void setUp(){
-        nonClusteredVariantReader = spy(new ClusteringMongoReaderRetryable(mongoTemplate, ASSEMBLY, CHUNK_SIZE, false));
+        nonClusteredVariantReader = new ClusteringMongoReaderRetryable(mongoTemplate, ASSEMBLY, CHUNK_SIZE, false);
     }
 
     @AfterEach
@@ -76,12 +77,9 @@ public class ClusteringMongoReaderRetryTest {
     public void readSucceedsWhenCursorExceptionThrownOnce() {
         MongoCursor mockCursor = mock(MongoCursor.class);
         when(mockCursor.hasNext()).thenReturn(true, true, true, true, false);
-        Document doc1 = new Document("_id", "1");
-        Document doc2 = new Document("_id", "2");
-        Document doc3 = new Document("_id", "3");
-        when(mockCursor.next()).thenReturn(doc1)
+        when(mockCursor.next()).thenReturn(createSSWithId("1"))
                                .thenThrow(MongoCursorNotFoundException.class)
-                               .thenReturn(doc2, doc3);
+                               .thenReturn(createSSWithId("2"), createSSWithId("3"));
         openReaderWithMockCursor(mockCursor);
 
         List<SubmittedVariantEntity> variants = readIntoList(nonClusteredVariantReader);
@@ -89,27 +87,25 @@ public class ClusteringMongoReaderRetryTest {
                      Arrays.asList("1", "2", "3"));
         // next() called once per document, plus 1 with a failure
         verify(mockCursor, times(4)).next();
-        // initializeReader() called once at the start and once during the retry
-        verify(nonClusteredVariantReader, times(2)).initializeReader();
+        // the cursor is opened once at the start and reopened after the first variant
+        verify(collection, times(1)).find(QUERY);
+        verify(collection, times(1)).find(Filters.and(QUERY, Filters.gt("_id", "1")));
     }
 
     @Test
     public void readFailsWhenOtherExceptionThrownOnce() {
         MongoCursor mockCursor = mock(MongoCursor.class);
         when(mockCursor.hasNext()).thenReturn(true, true, true, true, false);
-        Document doc1 = new Document("_id", "1");
-        Document doc2 = new Document("_id", "2");
-        Document doc3 = new Document("_id", "3");
-        when(mockCursor.next()).thenReturn(doc1)
+        when(mockCursor.next()).thenReturn(createSSWithId("1"))
                                .thenThrow(MongoException.class)
-                               .thenReturn(doc2, doc3);
+                               .thenReturn(createSSWithId("2"), createSSWithId("3"));
         openReaderWithMockCursor(mockCursor);
 
         assertThrows(MongoException.class, () -> readIntoList(nonClusteredVariantReader));
         // next() called twice and fails
         verify(mockCursor, times(2)).next();
-        // initializeReader() called only at start (no retry)
-        verify(nonClusteredVariantReader, times(1)).initializeReader();
+        // the cursor is only opened at the start (no retry)
+        verify(collection, times(1)).find(any(Bson.class));
     }
 
     @Test
@@ -120,24 +116,37 @@ public class ClusteringMongoReaderRetryTest {
         openReaderWithMockCursor(mockCursor);
 
         assertThrows(MongoCursorNotFoundException.class, () -> readIntoList(nonClusteredVariantReader));
-        // next() and initializeReader() called as many times as retry attempts allowed
+        // the cursor is opened and next() called as many times as retry attempts allowed
         verify(mockCursor, times(MAX_RETRIES)).next();
-        verify(nonClusteredVariantReader, times(MAX_RETRIES)).initializeReader();
+        verify(collection, times(MAX_RETRIES)).find(QUERY);
+        verify(mockCursor, times(MAX_RETRIES)).close();
+    }
+
+    @Test
+    public void readerWithoutRetriesFailsWhenCursorExceptionThrownOnce() {
+        nonClusteredVariantReader = new ClusteringMongoReader(mongoTemplate, ASSEMBLY, CHUNK_SIZE, false);
+        MongoCursor mockCursor = mock(MongoCursor.class);
+        when(mockCursor.hasNext()).thenReturn(true);
+        when(mockCursor.next()).thenReturn(createSSWithId("1")).thenThrow(MongoCursorNotFoundException.class);
+        openReaderWithMockCursor(mockCursor);
+
+        assertThrows(MongoCursorNotFoundException.class, () -> readIntoList(nonClusteredVariantReader));
+        verify(collection, times(1)).find(any(Bson.class));
     }
 
     private void openReaderWithMockCursor(MongoCursor mockCursor) {
         ExecutionContext executionContext = new ExecutionContext();
 
-        MongoConverter mockConverter = mock(MongoConverter.class);
-        when(mockConverter.read(eq(SubmittedVariantEntity.class), any(BasicDBObject.class)))
-                .thenAnswer(invocation -> createSSWithId(((BasicDBObject)invocation.getArgument(1)).getString("_id")));
-        when(mongoTemplate.getConverter()).thenReturn(mockConverter);
-        when(mongoTemplate.getCollection(any())
-                          .find(any(Bson.class))
-                          .sort(any(Bson.class))
-                          .noCursorTimeout(true)
-                          .batchSize(any(Integer.class))
-                          .iterator())
+        // the reader decodes the documents straight into entities, see VariantEntityCodecProvider
+        collection = mock(MongoCollection.class, Answers.RETURNS_DEEP_STUBS);
+        when(mongoTemplate.getCollection(any()).withDocumentClass(SubmittedVariantEntity.class))
+                .thenReturn(collection);
+        when(collection.find(any(Bson.class))
+                       .sort(any(Bson.class))
+                       .projection(any())
+                       .noCursorTimeout(true)
+                       .batchSize(any(Integer.class))
+                       .iterator())
                 .thenReturn(mockCursor);
 
         nonClusteredVariantReader.open(executionContext);
@@ -35,9 +35,12 @@ import uk.ac.ebi.eva.accession.core.utils.MongoTestDataLoader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @ExtendWith(SpringExtension.class)
 @TestPropertySource("classpath:clustering-pipeline-test.properties")
@@ -115,6 +118,82 @@ public class ClusteringMongoReaderTest extends MongoTestContainerHelper {
                 NOT_CLUSTERED_SUBMITTED_VARIANT_ID_DBSNP)));
     }
 
+    @Test
+    public void readSubmittedVariantsSortedById() {
+        List<String> ids = readIntoList(nonClusteredVariantReader).stream()
+                                                                  .map(SubmittedVariantEntity::getId)
+                                                                  .collect(Collectors.toList());
+        assertEquals(ids.stream().sorted().collect(Collectors.toList()), ids);
+    }
+
+    @Test
+    public void resumeFromCheckpointInExecutionContext() {
+        // the dbSNP submitted variants are read first
+        assertEquals(CLUSTERED_SUBMITTED_VARIANT_ID_DBSNP, clusteredVariantReader.read().getId());
+        ExecutionContext executionContext = new ExecutionContext();
+        clusteredVariantReader.update(executionContext);
+        clusteredVariantReader.close();
+
+        clusteredVariantReader = new ClusteringMongoReader(mongoTemplate, ASSEMBLY, CHUNK_SIZE, true);
+        clusteredVariantReader.open(executionContext);
+        List<SubmittedVariantEntity> variants = readIntoList(clusteredVariantReader);
+        assertEquals(1, variants.size());
+        assertEquals(CLUSTERED_SUBMITTED_VARIANT_ID_EVA, variants.get(0).getId());
+    }
+
+    @Test
+    public void resumeFromCheckpointInMongo() {
+        assertResumesFromCheckpointInMongo(() -> new ClusteringMongoReader(mongoTemplate, ASSEMBLY, CHUNK_SIZE, false));
+    }
+
+    @Test
+    public void resumeRetryableReaderFromCheckpointInMongo() {
+        assertResumesFromCheckpointInMongo(
+                () -> new ClusteringMongoReaderRetryable(mongoTemplate, ASSEMBLY, CHUNK_SIZE, false));
+    }
+
+    private void assertResumesFromCheckpointInMongo(Supplier<ClusteringMongoReader> readerFactory) {
+        String checkpointId = ASSEMBLY + "_step";
+        nonClusteredVariantReader.close();
+        nonClusteredVariantReader = readerFactory.get();
+        nonClusteredVariantReader.setCheckpointId(checkpointId);
+        nonClusteredVariantReader.open(new ExecutionContext());
+        List<String> firstIds = new ArrayList<>();
+        firstIds.add(nonClusteredVariantReader.read().getId());
+        firstIds.add(nonClusteredVariantReader.read().getId());
+        nonClusteredVariantReader.update(new ExecutionContext());
+        nonClusteredVariantReader.close();
+        assertEquals(1, mongoTemplate.getCollection(ClusteringMongoReader.CHECKPOINT_COLLECTION).countDocuments());
+
+        // the execution context is not persisted when the job is run again
+        nonClusteredVariantReader = readerFactory.get();
+        nonClusteredVariantReader.setCheckpointId(checkpointId);
+        nonClusteredVariantReader.open(new ExecutionContext());
+        List<SubmittedVariantEntity> remainingVariants = readIntoList(nonClusteredVariantReader);
+        assertEquals(3, remainingVariants.size());
+        assertTrue(remainingVariants.stream().noneMatch(x -> firstIds.contains(x.getId())));
+
+        nonClusteredVariantReader.update(new ExecutionContext());
+        assertNull(mongoTemplate.getCollection(ClusteringMongoReader.CHECKPOINT_COLLECTION).find().first());
+    }
+
+    @Test
+    public void ignoreCheckpointOfDifferentQuery() {
+        String checkpointId = ASSEMBLY + "_step";
+        clusteredVariantReader.close();
+        clusteredVariantReader = new ClusteringMongoReader(mongoTemplate, ASSEMBLY, CHUNK_SIZE, true);
+        clusteredVariantReader.setCheckpointId(checkpointId);
+        clusteredVariantReader.open(new ExecutionContext());
+        clusteredVariantReader.read();
+        clusteredVariantReader.update(new ExecutionContext());
+
+        nonClusteredVariantReader.close();
+        nonClusteredVariantReader = new ClusteringMongoReader(mongoTemplate, ASSEMBLY, CHUNK_SIZE, false);
+        nonClusteredVariantReader.setCheckpointId(checkpointId);
+        nonClusteredVariantReader.open(new ExecutionContext());
+        assertEquals(5, readIntoList(nonClusteredVariantReader).size());
+    }
+
     private List<SubmittedVariantEntity> readIntoList(ClusteringMongoReader reader) {
         SubmittedVariantEntity variant;
         List<SubmittedVariantEntity> variants = new ArrayList<>();
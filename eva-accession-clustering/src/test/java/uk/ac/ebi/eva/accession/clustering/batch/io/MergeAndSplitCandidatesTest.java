@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.clustering.batch.io;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+import uk.ac.ebi.eva.accession.core.metrics.CacheMetrics;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantInactiveEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantOperationEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MergeAndSplitCandidatesTest {
+
+    private static final String ASSEMBLY = "GCA_000000001.1";
+
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+    }
+
+    @Test
+    public void loadCandidatesInOneQuery() {
+        SubmittedVariantOperationEntity mergeCandidate = createCandidate(
+                MergeAndSplitCandidates.getMergeCandidateId(ASSEMBLY, "hash1"), EventType.RS_MERGE_CANDIDATES, 2);
+        SubmittedVariantOperationEntity splitCandidate = createCandidate(
+                MergeAndSplitCandidates.getSplitCandidateId(ASSEMBLY, 3000000000L), EventType.RS_SPLIT_CANDIDATES, 3);
+        when(mongoTemplate.find(any(Query.class), eq(SubmittedVariantOperationEntity.class)))
+                .thenReturn(Arrays.asList(mergeCandidate, splitCandidate));
+        MergeAndSplitCandidates candidates = new MergeAndSplitCandidates(mongoTemplate, ASSEMBLY, 100);
+
+        candidates.load(Arrays.asList("hash1", "hash2"), Arrays.asList(3000000000L, 3000000001L));
+
+        assertSame(mergeCandidate, candidates.getMergeCandidate("hash1"));
+        assertNull(candidates.getMergeCandidate("hash2"));
+        assertSame(splitCandidate, candidates.getSplitCandidate(3000000000L));
+        assertNull(candidates.getSplitCandidate(3000000001L));
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(SubmittedVariantOperationEntity.class));
+        verify(mongoTemplate, never()).findById(anyString(), eq(SubmittedVariantOperationEntity.class));
+        assertEquals(4, candidates.size());
+        // the IDs are counted when the chunk is loaded, not again when their candidates are used
+        assertEquals(4, candidates.getMisses());
+        assertEquals(0, candidates.getHits());
+
+        candidates.load(Collections.singletonList("hash1"), Collections.emptyList());
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(SubmittedVariantOperationEntity.class));
+        assertEquals(1, candidates.getHits());
+    }
+
+    @Test
+    public void leastRecentlyUsedCandidatesAreEvicted() {
+        MergeAndSplitCandidates candidates = new MergeAndSplitCandidates(mongoTemplate, ASSEMBLY, 5);
+        SubmittedVariantOperationEntity candidate1 = createCandidate(null, EventType.RS_MERGE_CANDIDATES, 2);
+        SubmittedVariantOperationEntity candidate2 = createCandidate(null, EventType.RS_MERGE_CANDIDATES, 2);
+        SubmittedVariantOperationEntity candidate3 = createCandidate(null, EventType.RS_MERGE_CANDIDATES, 2);
+
+        candidates.putMergeCandidate("hash1", candidate1);
+        candidates.putMergeCandidate("hash2", candidate2);
+        assertSame(candidate1, candidates.getMergeCandidate("hash1"));
+        candidates.putMergeCandidate("hash3", candidate3);
+
+        assertEquals(1, candidates.getEvictions());
+        assertEquals(4, candidates.getSubmittedVariants());
+        assertEquals(6, candidates.getPeakSubmittedVariants());
+        assertSame(candidate1, candidates.getMergeCandidate("hash1"));
+        assertSame(candidate3, candidates.getMergeCandidate("hash3"));
+        verify(mongoTemplate, never()).findById(anyString(), eq(SubmittedVariantOperationEntity.class));
+
+        // the evicted candidate is looked up again
+        assertNull(candidates.getMergeCandidate("hash2"));
+        verify(mongoTemplate).findById(MergeAndSplitCandidates.getMergeCandidateId(ASSEMBLY, "hash2"),
+                                       SubmittedVariantOperationEntity.class);
+        assertEquals(1, candidates.getMisses());
+    }
+
+    @Test
+    public void statisticsArePublishedInTheRegistry() {
+        MergeAndSplitCandidates candidates = new MergeAndSplitCandidates(mongoTemplate, ASSEMBLY, 5);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        candidates.registerMetrics(meterRegistry);
+
+        candidates.putMergeCandidate("hash1", createCandidate(null, EventType.RS_MERGE_CANDIDATES, 2));
+        candidates.putMergeCandidate("hash2", createCandidate(null, EventType.RS_MERGE_CANDIDATES, 2));
+        candidates.putMergeCandidate("hash3", createCandidate(null, EventType.RS_MERGE_CANDIDATES, 2));
+        candidates.load(Arrays.asList("hash1", "hash3"), Collections.emptyList());
+
+        assertEquals(1, meterRegistry.get(CacheMetrics.GETS_COUNTER).tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get(CacheMetrics.GETS_COUNTER).tag("result", "miss").functionCounter().count());
+        assertEquals(1, meterRegistry.get(CacheMetrics.EVICTIONS_COUNTER).functionCounter().count());
+        assertEquals(candidates.getSubmittedVariants(),
+                     meterRegistry.get(CacheMetrics.WEIGHT_GAUGE).gauge().value());
+        assertEquals(6, meterRegistry.get(CacheMetrics.PEAK_WEIGHT_GAUGE).gauge().value());
+    }
+
+    @Test
+    public void modifiedCandidatesAreWeighedAgainWhenPut() {
+        MergeAndSplitCandidates candidates = new MergeAndSplitCandidates(mongoTemplate, ASSEMBLY, 5);
+        SubmittedVariantOperationEntity candidate = createCandidate(null, EventType.RS_SPLIT_CANDIDATES, 2);
+        candidates.putSplitCandidate(3000000000L, candidate);
+
+        candidate.getInactiveObjects().add(mock(SubmittedVariantInactiveEntity.class));
+        candidates.putSplitCandidate(3000000000L, candidate);
+
+        assertEquals(1, candidates.size());
+        assertEquals(3, candidates.getSubmittedVariants());
+    }
+
+    @Test
+    public void maximumMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new MergeAndSplitCandidates(mongoTemplate, ASSEMBLY, 0));
+    }
+
+    private SubmittedVariantOperationEntity createCandidate(String id, EventType eventType, int submittedVariants) {
+        List<SubmittedVariantInactiveEntity> inactiveObjects = new ArrayList<>();
+        for (int i = 0; i < submittedVariants; i++) {
+            inactiveObjects.add(mock(SubmittedVariantInactiveEntity.class));
+        }
+        SubmittedVariantOperationEntity operation = new SubmittedVariantOperationEntity();
+        operation.fill(eventType, 3000000000L, "reason", inactiveObjects);
+        operation.setId(id);
+        return operation;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.clustering.configuration.batch.steps;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import uk.ac.ebi.eva.accession.clustering.test.configuration.BatchTestConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.ContiguousIdBlocksDataSourceConfiguration;
+import uk.ac.ebi.eva.accession.core.test.configuration.nonhuman.MongoTestConfiguration;
+import uk.ac.ebi.eva.accession.core.utils.MongoTestContainerHelper;
+import uk.ac.ebi.eva.accession.core.utils.MongoTestDataLoader;
+import uk.ac.ebi.eva.metrics.count.CountServiceParameters;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static uk.ac.ebi.eva.accession.clustering.configuration.BeanNames.CLUSTERING_NON_CLUSTERED_VARIANTS_FROM_MONGO_STEP;
+import static uk.ac.ebi.eva.accession.clustering.test.configuration.BatchTestConfiguration.JOB_LAUNCHER_FROM_MONGO;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {BatchTestConfiguration.class, MongoTestConfiguration.class,
+        ContiguousIdBlocksDataSourceConfiguration.class})
+@TestPropertySource(locations = "classpath:clustering-issuance-test.properties",
+        properties = "parameters.partitions=2")
+public class ClusteringPartitionedStepConfigurationTest extends MongoTestContainerHelper {
+
+    private static final String CLUSTERED_VARIANT_COLLECTION = "clusteredVariantEntity";
+
+    private static final String SUBMITTED_VARIANT_COLLECTION = "submittedVariantEntity";
+
+    @Autowired
+    @Qualifier(JOB_LAUNCHER_FROM_MONGO)
+    private JobLauncherTestUtils jobLauncherTestUtilsFromMongo;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    @Autowired
+    private CountServiceParameters countServiceParameters;
+
+    @Autowired
+    @Qualifier("COUNT_STATS_REST_TEMPLATE")
+    private RestTemplate restTemplate;
+
+    private final String URL_PATH_SAVE_COUNT = "/v1/bulk/count";
+
+    @BeforeEach
+    public void init() throws Exception {
+        mongoTemplate.getDb().drop();
+
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.manyTimes(), requestTo(new URI(countServiceParameters.getUrl() + URL_PATH_SAVE_COUNT)))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.OK));
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS contiguous_id_blocks");
+        }
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        populator.addScript(new ClassPathResource("test-data/contiguous_id_blocks_schema.sql"));
+        populator.execute(dataSource);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Test
+    @DirtiesContext
+    public void nonClusteredVariantStepFromMongoInPartitions() {
+        new MongoTestDataLoader(mongoTemplate, resourceLoader).load("/test-data/submittedVariantEntity.json");
+
+        JobExecution jobExecution = jobLauncherTestUtilsFromMongo.launchStep(
+                CLUSTERING_NON_CLUSTERED_VARIANTS_FROM_MONGO_STEP);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
+
+        // the 4 variants in position 1000 and the one in position 3000 are clustered in different partitions
+        List<StepExecution> partitionExecutions = jobExecution.getStepExecutions().stream()
+                .filter(stepExecution -> !stepExecution.getStepName().equals(
+                        CLUSTERING_NON_CLUSTERED_VARIANTS_FROM_MONGO_STEP))
+                .collect(Collectors.toList());
+        assertEquals(2, partitionExecutions.size());
+        assertEquals(5, partitionExecutions.stream().mapToLong(StepExecution::getReadCount).sum());
+
+        List<Long> clusteredVariantAccessions = new ArrayList<>();
+        for (Document document : mongoTemplate.getCollection(CLUSTERED_VARIANT_COLLECTION).find()) {
+            clusteredVariantAccessions.add(document.getLong("accession"));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(3000000000L, 3000000001L, 3000000002L, 3000000003L)),
+                     new HashSet<>(clusteredVariantAccessions));
+
+        Map<String, Long> rsByAlleles = new HashMap<>();
+        for (Document document : mongoTemplate.getCollection(SUBMITTED_VARIANT_COLLECTION).find()) {
+            assertNotNull(document.getLong("rs"));
+            rsByAlleles.put(document.getLong("start") + document.getString("ref") + ">" + document.getString("alt"),
+                            document.getLong("rs"));
+        }
+        assertEquals(rsByAlleles.get("1000T>A"), rsByAlleles.get("1000T>G"));
+        assertEquals(4, new HashSet<>(rsByAlleles.values()).size());
+    }
+}
@@ -15,14 +15,13 @@
  */
 package uk.ac.ebi.eva.accession.core;
 
-import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
 import uk.ac.ebi.eva.accession.core.model.ClusteredVariant;
 import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
 import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
-import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantSummaryFunction;
-import uk.ac.ebi.eva.accession.core.summary.SubmittedVariantSummaryFunction;
+import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantHashingFunction;
+import uk.ac.ebi.eva.accession.core.summary.SubmittedVariantHashingFunction;
 import uk.ac.ebi.eva.commons.core.models.VariantClassifier;
 
 import java.util.Objects;
@@ -32,10 +31,15 @@ import java.util.function.Function;
  * Utilities to obtain/transform objects in the EVA model
  */
 public class EVAObjectModelUtils {
+
+    private static final Function<IClusteredVariant, String> clusteredHashingFunction =
+            new ClusteredVariantHashingFunction();
+
+    private static final Function<ISubmittedVariant, String> submittedHashingFunction =
+            new SubmittedVariantHashingFunction();
+
     public static String getClusteredVariantHash(ISubmittedVariant submittedVariant) {
         ClusteredVariant clusteredVariant = toClusteredVariant(submittedVariant);
-        Function<IClusteredVariant, String>  clusteredHashingFunction = (new ClusteredVariantSummaryFunction())
-                .andThen(new SHA1HashingFunction());
         return clusteredHashingFunction.apply(clusteredVariant);
     }
 
@@ -57,16 +61,12 @@ public class EVAObjectModelUtils {
 
     public static ClusteredVariantEntity toClusteredVariantEntity(Long clusteredVariantAccession,
                                                            IClusteredVariant clusteredVariant) {
-        Function<IClusteredVariant, String> clusteredHashingFunction = (new ClusteredVariantSummaryFunction())
-                .andThen(new SHA1HashingFunction());
         return new ClusteredVariantEntity(clusteredVariantAccession, clusteredHashingFunction.apply(clusteredVariant),
                 clusteredVariant);
     }
 
     public static SubmittedVariantEntity toSubmittedVariantEntity(Long submittedVariantAccession,
                                                            ISubmittedVariant submittedVariant) {
-        Function<ISubmittedVariant, String> submittedHashingFunction = (new SubmittedVariantSummaryFunction())
-                .andThen(new SHA1HashingFunction());
         return new SubmittedVariantEntity(submittedVariantAccession, submittedHashingFunction.apply(submittedVariant),
                 submittedVariant, 1);
     }
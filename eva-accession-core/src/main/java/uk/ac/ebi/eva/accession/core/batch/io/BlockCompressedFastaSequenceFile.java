@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.io;
+
+import htsjdk.samtools.reference.FastaSequenceIndex;
+import htsjdk.samtools.reference.ReferenceSequenceFileFactory;
+import htsjdk.samtools.util.GZIIndex;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Indexed FASTA file compressed with bgzip, which must have a .fai index (with offsets in the uncompressed file) and a
+ * .gzi index (compressed and uncompressed offset of every BGZF block), as created by "samtools faidx".
+ *
+ * Only the BGZF blocks that contain the requested bases are read and inflated, and the last {@link #DEFAULT_MAX_BLOCKS}
+ * inflated blocks are kept in an LRU cache. Reads are synchronized, so this class can be shared among threads.
+ */
+public class BlockCompressedFastaSequenceFile extends WindowedFastaSequenceFile {
+
+    /**
+     * A BGZF block holds at most 64 KB of uncompressed data, so this is a cache of up to 4 MB.
+     */
+    public static final int DEFAULT_MAX_BLOCKS = 64;
+
+    private static final int BLOCK_HEADER_LENGTH = 18;
+
+    private static final int BLOCK_SIZE_OFFSET = 16;
+
+    private static final int BLOCK_FOOTER_LENGTH = 8;
+
+    private final FileChannel channel;
+
+    /**
+     * Compressed offset of every block, sorted, including the first block at offset 0.
+     */
+    private final long[] compressedOffsets;
+
+    /**
+     * Uncompressed offset of the first byte of every block, in the same order as {@link #compressedOffsets}.
+     */
+    private final long[] uncompressedOffsets;
+
+    private final Map<Long, byte[]> inflatedBlocks;
+
+    private final Inflater inflater;
+
+    private long blockReads;
+
+    public BlockCompressedFastaSequenceFile(Path fastaPath) throws IOException {
+        this(fastaPath, new FastaSequenceIndex(ReferenceSequenceFileFactory.getFastaIndexFileName(fastaPath)),
+             GZIIndex.loadIndex(GZIIndex.resolveIndexNameForBgzipFile(fastaPath)), DEFAULT_MAX_BLOCKS);
+    }
+
+    public BlockCompressedFastaSequenceFile(Path fastaPath, FastaSequenceIndex index, GZIIndex gziIndex,
+                                            int maxBlocks) throws IOException {
+        super(fastaPath, index);
+        List<GZIIndex.IndexEntry> entries = gziIndex.getIndexEntries();
+        int firstBlockIsIndexed = !entries.isEmpty() && entries.get(0).getCompressedOffset() == 0 ? 1 : 0;
+        compressedOffsets = new long[entries.size() + 1 - firstBlockIsIndexed];
+        uncompressedOffsets = new long[compressedOffsets.length];
+        for (int i = firstBlockIsIndexed; i < entries.size(); i++) {
+            compressedOffsets[i + 1 - firstBlockIsIndexed] = entries.get(i).getCompressedOffset();
+            uncompressedOffsets[i + 1 - firstBlockIsIndexed] = entries.get(i).getUncompressedOffset();
+        }
+        inflatedBlocks = new LinkedHashMap<Long, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+                return size() > maxBlocks;
+            }
+        };
+        inflater = new Inflater(true);
+        channel = FileChannel.open(fastaPath, StandardOpenOption.READ);
+    }
+
+    @Override
+    protected synchronized void read(long fileOffset, byte[] destination, int offset, int length)
+            throws IOException {
+        while (length > 0) {
+            int block = findBlock(fileOffset);
+            byte[] inflatedBlock = getInflatedBlock(compressedOffsets[block]);
+            int offsetInBlock = (int) (fileOffset - uncompressedOffsets[block]);
+            int bytesInBlock = Math.min(inflatedBlock.length - offsetInBlock, length);
+            if (bytesInBlock <= 0) {
+                throw new EOFException("Offset " + fileOffset + " is beyond the end of " + fastaPath);
+            }
+            System.arraycopy(inflatedBlock, offsetInBlock, destination, offset, bytesInBlock);
+            fileOffset += bytesInBlock;
+            offset += bytesInBlock;
+            length -= bytesInBlock;
+        }
+    }
+
+    private int findBlock(long uncompressedOffset) {
+        int block = Arrays.binarySearch(uncompressedOffsets, uncompressedOffset);
+        block = block >= 0 ? block : -block - 2;
+        // skip empty blocks, which have the same uncompressed offset as the next one
+        while (block + 1 < uncompressedOffsets.length && uncompressedOffsets[block + 1] <= uncompressedOffset) {
+            block++;
+        }
+        return block;
+    }
+
+    private byte[] getInflatedBlock(long compressedOffset) throws IOException {
+        byte[] inflatedBlock = inflatedBlocks.get(compressedOffset);
+        if (inflatedBlock == null) {
+            inflatedBlock = inflateBlock(compressedOffset);
+            inflatedBlocks.put(compressedOffset, inflatedBlock);
+        }
+        return inflatedBlock;
+    }
+
+    private byte[] inflateBlock(long compressedOffset) throws IOException {
+        blockReads++;
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(header, compressedOffset);
+        int blockSize = (header.getShort(BLOCK_SIZE_OFFSET) & 0xFFFF) + 1;
+
+        ByteBuffer block = ByteBuffer.allocate(blockSize - BLOCK_HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(block, compressedOffset + BLOCK_HEADER_LENGTH);
+        int deflatedLength = block.capacity() - BLOCK_FOOTER_LENGTH;
+        byte[] inflatedBlock = new byte[block.getInt(block.capacity() - 4)];
+        inflater.reset();
+        inflater.setInput(block.array(), 0, deflatedLength);
+        try {
+            int inflatedLength = inflater.inflate(inflatedBlock);
+            if (inflatedLength != inflatedBlock.length) {
+                throw new IOException("Corrupted BGZF block at offset " + compressedOffset + " of " + fastaPath);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted BGZF block at offset " + compressedOffset + " of " + fastaPath, e);
+        }
+        return inflatedBlock;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int bytesRead = channel.read(buffer, position + buffer.position());
+            if (bytesRead < 0) {
+                throw new EOFException("Truncated BGZF block at offset " + position + " of " + fastaPath);
+            }
+        }
+    }
+
+    /**
+     * @return how many BGZF blocks were read and inflated, i.e. not found in the cache
+     */
+    public synchronized long getBlockReads() {
+        return blockReads;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        super.close();
+        inflatedBlocks.clear();
+        inflater.end();
+        channel.close();
+    }
+}
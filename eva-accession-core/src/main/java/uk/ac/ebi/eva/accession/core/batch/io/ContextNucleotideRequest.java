@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.io;
+
+import java.util.Objects;
+
+/**
+ * Arguments of {@link FastaSequenceReader#getContextNucleotideAndNewStart(String, long, String, String)}, so that
+ * the context bases of many variants can be requested at once with
+ * {@link FastaSequenceReader#getContextNucleotidesAndNewStarts(java.util.List)}.
+ */
+public class ContextNucleotideRequest {
+
+    private final String contig;
+
+    private final long start;
+
+    private final String reference;
+
+    private final String alternate;
+
+    public ContextNucleotideRequest(String contig, long start, String reference, String alternate) {
+        this.contig = contig;
+        this.start = start;
+        this.reference = reference;
+        this.alternate = alternate;
+    }
+
+    public String getContig() {
+        return contig;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public String getAlternate() {
+        return alternate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ContextNucleotideRequest that = (ContextNucleotideRequest) o;
+        return start == that.start &&
+                Objects.equals(contig, that.contig) &&
+                Objects.equals(reference, that.reference) &&
+                Objects.equals(alternate, that.alternate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contig, start, reference, alternate);
+    }
+
+    @Override
+    public String toString() {
+        return "ContextNucleotideRequest{" +
+                "contig='" + contig + '\'' +
+                ", start=" + start +
+                ", reference='" + reference + '\'' +
+                ", alternate='" + alternate + '\'' +
+                '}';
+    }
+}
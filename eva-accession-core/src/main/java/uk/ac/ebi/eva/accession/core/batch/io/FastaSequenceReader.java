@@ -21,6 +21,8 @@ import htsjdk.samtools.reference.FastaSequenceIndexCreator;
 import htsjdk.samtools.reference.ReferenceSequence;
 import htsjdk.samtools.reference.ReferenceSequenceFile;
 import htsjdk.samtools.reference.ReferenceSequenceFileFactory;
+import htsjdk.samtools.util.GZIIndex;
+import htsjdk.samtools.util.IOUtil;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,8 +31,11 @@ import uk.ac.ebi.eva.accession.core.exceptions.PositionOutsideOfContigException;
 import uk.ac.ebi.eva.commons.core.utils.FileUtils;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -43,13 +48,36 @@ public class FastaSequenceReader {
 
     private static final Logger logger = LoggerFactory.getLogger(FastaSequenceReader.class);
 
+    /**
+     * Maximum length of the region read at once to get the context bases of several variants
+     */
+    public static final int MAX_CONTEXT_REGION_LENGTH = 100_000;
+
     private ReferenceSequenceFile fastaSequenceFile;
 
     protected SAMSequenceDictionary sequenceDictionary;
 
     public FastaSequenceReader(Path fastaPath) throws IOException {
-        checkFastaIsUncompressed(fastaPath);
-        fastaSequenceFile = ReferenceSequenceFileFactory.getReferenceSequenceFile(fastaPath, true);
+        this(fastaPath, false);
+    }
+
+    /**
+     * The FASTA can be uncompressed or compressed with bgzip. In the latter case it is read through a
+     * {@link BlockCompressedFastaSequenceFile}, and the memoryMapped flag is ignored.
+     *
+     * @param memoryMapped if true, the FASTA is read through a {@link MemoryMappedFastaSequenceFile}, which is much
+     *                     faster when requesting many short sequences, such as context bases of sorted variants
+     */
+    public FastaSequenceReader(Path fastaPath, boolean memoryMapped) throws IOException {
+        if (IOUtil.isBlockCompressed(fastaPath)) {
+            fastaSequenceFile = openBlockCompressed(fastaPath);
+        } else if (memoryMapped) {
+            checkFastaIsUncompressed(fastaPath);
+            fastaSequenceFile = openMemoryMapped(fastaPath);
+        } else {
+            checkFastaIsUncompressed(fastaPath);
+            fastaSequenceFile = ReferenceSequenceFileFactory.getReferenceSequenceFile(fastaPath, true);
+        }
         sequenceDictionary = fastaSequenceFile.getSequenceDictionary();
 
         if (sequenceDictionary == null) {
@@ -63,8 +91,29 @@ public class FastaSequenceReader {
         }
     }
 
+    private ReferenceSequenceFile openMemoryMapped(Path fastaPath) throws IOException {
+        if (!Files.exists(ReferenceSequenceFileFactory.getFastaIndexFileName(fastaPath))) {
+            logger.info("Sequence index file not found - creating one...");
+            FastaSequenceIndexCreator.create(fastaPath, true);
+        }
+        return new MemoryMappedFastaSequenceFile(fastaPath);
+    }
+
+    private ReferenceSequenceFile openBlockCompressed(Path fastaPath) throws IOException {
+        if (!Files.exists(ReferenceSequenceFileFactory.getFastaIndexFileName(fastaPath))) {
+            logger.info("Sequence index file not found - creating one...");
+            FastaSequenceIndexCreator.create(fastaPath, true);
+        }
+        Path gziPath = GZIIndex.resolveIndexNameForBgzipFile(fastaPath);
+        if (!Files.exists(gziPath)) {
+            logger.info("BGZF block index file not found - creating one...");
+            GZIIndex.buildIndex(fastaPath).writeIndex(gziPath);
+        }
+        return new BlockCompressedFastaSequenceFile(fastaPath);
+    }
+
     /**
-     * Require the fasta to be uncompressed. Htsjdk seems to support reading and indexing compressed fastas, but for
+     * Require the fasta to be uncompressed if it's not block-compressed (bgzip). Htsjdk seems to support reading and indexing compressed fastas, but for
      * some reason, when asked for a reference, it returns \0 at every position. this test shows the error:
      * uk.ac.ebi.eva.accession.pipeline.batch.io.FastaSequenceReaderTest#htsDoesNotSupportCompressedFastas()
      */
@@ -182,6 +231,96 @@ public class FastaSequenceReader {
         return new ImmutableTriple<>(newStart, newReference, newAlternate);
     }
 
+    /**
+     * Same as {@link #getContextNucleotideAndNewStart(String, long, String, String)} for many variants at once.
+     *
+     * The context bases are looked up sorted by contig and position, and the bases of nearby variants (up to
+     * {@link #MAX_CONTEXT_REGION_LENGTH} bases apart) are read with a single request to the FASTA file.
+     *
+     * @return the new start, reference and alternate of every request, in the same order as the requests. A result is
+     * null if its context base couldn't be read in bulk (e.g. the contig is missing or the position is outside of the
+     * contig): calling {@link #getContextNucleotideAndNewStart(String, long, String, String)} for that request will
+     * throw the appropriate exception.
+     */
+    public List<ImmutableTriple<Long, String, String>> getContextNucleotidesAndNewStarts(
+            List<ContextNucleotideRequest> requests) {
+        List<ImmutableTriple<Long, String, String>> results = new ArrayList<>(
+                Collections.nCopies(requests.size(), null));
+        long[] contextBasePositions = new long[requests.size()];
+        List<Integer> sortedIndexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            contextBasePositions[i] = getContextBasePosition(requests.get(i));
+            if (contextBasePositions[i] > 0 && requests.get(i).getContig() != null) {
+                sortedIndexes.add(i);
+            }
+        }
+        sortedIndexes.sort(Comparator.<Integer, String>comparing(i -> requests.get(i).getContig())
+                                     .thenComparingLong(i -> contextBasePositions[i]));
+
+        int regionFirstIndex = 0;
+        while (regionFirstIndex < sortedIndexes.size()) {
+            String contig = requests.get(sortedIndexes.get(regionFirstIndex)).getContig();
+            long regionStart = contextBasePositions[sortedIndexes.get(regionFirstIndex)];
+            int regionEndIndex = regionFirstIndex + 1;
+            while (regionEndIndex < sortedIndexes.size()
+                    && contig.equals(requests.get(sortedIndexes.get(regionEndIndex)).getContig())
+                    && contextBasePositions[sortedIndexes.get(regionEndIndex)] - regionStart
+                    < MAX_CONTEXT_REGION_LENGTH) {
+                regionEndIndex++;
+            }
+            long regionEnd = contextBasePositions[sortedIndexes.get(regionEndIndex - 1)];
+            String region = getRegionIgnoringErrors(contig, regionStart, regionEnd);
+            if (region != null) {
+                for (int i = regionFirstIndex; i < regionEndIndex; i++) {
+                    int requestIndex = sortedIndexes.get(i);
+                    int offset = (int) (contextBasePositions[requestIndex] - regionStart);
+                    results.set(requestIndex, addContextBase(requests.get(requestIndex),
+                                                             region.substring(offset, offset + 1)));
+                }
+            }
+            regionFirstIndex = regionEndIndex;
+        }
+        return results;
+    }
+
+    /**
+     * @return the position of the context base, as explained in
+     * {@link #getContextNucleotideAndNewStart(String, long, String, String)}, or -1 if no base would be added
+     */
+    private static long getContextBasePosition(ContextNucleotideRequest request) {
+        if (request.getStart() == 1) {
+            if (request.getReference().isEmpty()) {
+                return 1;
+            } else if (request.getAlternate().isEmpty()) {
+                return 1 + request.getReference().length();
+            } else {
+                return -1;
+            }
+        } else {
+            return request.getStart() - 1;
+        }
+    }
+
+    private String getRegionIgnoringErrors(String contig, long start, long end) {
+        try {
+            return getSequence(contig, start, end);
+        } catch (RuntimeException e) {
+            // the requests of this region will be retried one by one to report the error of each one
+            return null;
+        }
+    }
+
+    private static ImmutableTriple<Long, String, String> addContextBase(ContextNucleotideRequest request,
+                                                                        String contextBase) {
+        if (request.getStart() == 1) {
+            return new ImmutableTriple<>(request.getStart(), request.getReference() + contextBase,
+                                         request.getAlternate() + contextBase);
+        } else {
+            return new ImmutableTriple<>(request.getStart() - 1, contextBase + request.getReference(),
+                                         contextBase + request.getAlternate());
+        }
+    }
+
     /**
      * Close the underlying FASTA file
      * @throws Exception If the file cannot be closed
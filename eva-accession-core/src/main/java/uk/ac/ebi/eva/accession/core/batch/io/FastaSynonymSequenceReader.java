@@ -26,7 +26,12 @@ public class FastaSynonymSequenceReader extends FastaSequenceReader {
     private ContigMapping contigMapping;
 
     public FastaSynonymSequenceReader(ContigMapping contigMapping, Path fastaPath) throws IOException {
-        super(fastaPath);
+        this(contigMapping, fastaPath, false);
+    }
+
+    public FastaSynonymSequenceReader(ContigMapping contigMapping, Path fastaPath, boolean memoryMapped)
+            throws IOException {
+        super(fastaPath, memoryMapped);
         this.contigMapping = contigMapping;
     }
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.io;
+
+import htsjdk.samtools.reference.FastaSequenceIndex;
+import htsjdk.samtools.reference.ReferenceSequenceFileFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Indexed FASTA file that is memory-mapped instead of read through a stream.
+ *
+ * The file is mapped in segments of at most {@link #SEGMENT_SIZE} bytes, so files and contigs larger than 2 GB are
+ * supported. Reads use absolute positions on the mapped buffers, so this class can be shared among threads.
+ */
+public class MemoryMappedFastaSequenceFile extends WindowedFastaSequenceFile {
+
+    static final int SEGMENT_SIZE = 1 << 30;
+
+    private final int segmentSize;
+
+    private final MappedByteBuffer[] segments;
+
+    public MemoryMappedFastaSequenceFile(Path fastaPath) throws IOException {
+        this(fastaPath, new FastaSequenceIndex(ReferenceSequenceFileFactory.getFastaIndexFileName(fastaPath)));
+    }
+
+    public MemoryMappedFastaSequenceFile(Path fastaPath, FastaSequenceIndex index) throws IOException {
+        this(fastaPath, index, SEGMENT_SIZE);
+    }
+
+    MemoryMappedFastaSequenceFile(Path fastaPath, FastaSequenceIndex index, int segmentSize) throws IOException {
+        super(fastaPath, index);
+        this.segmentSize = segmentSize;
+        this.segments = mapSegments(fastaPath, segmentSize);
+    }
+
+    private static MappedByteBuffer[] mapSegments(Path fastaPath, int segmentSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(fastaPath, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            int segmentCount = (int) ((fileSize + segmentSize - 1) / segmentSize);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long segmentStart = (long) i * segmentSize;
+                long segmentLength = Math.min(segmentSize, fileSize - segmentStart);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentLength);
+            }
+            return segments;
+        }
+    }
+
+    @Override
+    protected void read(long fileOffset, byte[] destination, int offset, int length) {
+        while (length > 0) {
+            MappedByteBuffer segment = segments[(int) (fileOffset / segmentSize)];
+            int segmentOffset = (int) (fileOffset % segmentSize);
+            int bytesInSegment = Math.min(segment.limit() - segmentOffset, length);
+            segment.get(segmentOffset, destination, offset, bytesInSegment);
+            fileOffset += bytesInSegment;
+            offset += bytesInSegment;
+            length -= bytesInSegment;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.io;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Appends the lines of a text report to a file, e.g. the RS accessions issued by a job. The file is opened in append
+ * mode when the first text is appended (or {@link #open()} is called), and kept open until the sink is closed, which it
+ * is after each step it's registered in as a listener.
+ *
+ * The writer threads only put the text in a bounded queue, which a background thread drains into the file, so they
+ * don't wait for the disk unless the queue is full. Each {@link #flush()} waits until all the text appended before is
+ * written and synced to disk, so a writer that flushes at the end of every chunk leaves all the lines of the chunk in
+ * the file before it's committed, and a restarted job doesn't have to write them again.
+ *
+ * A report that is not restartable is compressed with gzip if its name ends with ".gz", in a new gzip member every time
+ * the file is opened. A member is only complete once the sink is closed: if the process dies before, the member has no
+ * trailer, and {@link GZIPInputStream} fails at its end, so the members appended by a restarted job could not be read.
+ * That's why restartable reports, the default, can't be compressed.
+ *
+ * The same instance can be used by several threads, e.g. the writers of all the partitions of a step. The text of each
+ * call to {@link #append(String)} is written at once, so it should contain whole lines.
+ */
+public class ReportSink implements StepExecutionListener, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportSink.class);
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final String COMPRESSED_EXTENSION = ".gz";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+
+    private final int queueCapacity;
+
+    private BlockingQueue<Object> queue;
+
+    private Thread drainingThread;
+
+    /**
+     * First error writing to the file since it was opened. Once there is one, nothing else is written.
+     */
+    private volatile IOException failure;
+
+    public ReportSink(File file) {
+        this(file, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param queueCapacity maximum number of appended texts waiting to be written before the writers have to wait
+     */
+    public ReportSink(File file, int queueCapacity) {
+        this(file, queueCapacity, true);
+    }
+
+    /**
+     * @param restartable whether a job can append to the report after a previous run stopped writing to it, in which
+     *                    case it can't be compressed
+     */
+    public ReportSink(File file, int queueCapacity, boolean restartable) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("The capacity of the queue of the report sink must be positive");
+        }
+        if (restartable && isCompressed(file)) {
+            throw new IllegalArgumentException("The report " + file + " can't be compressed, because a restarted job "
+                                               + "would append to it after an incomplete gzip member");
+        }
+        this.file = file;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public static boolean isCompressed(File file) {
+        return file.getName().endsWith(COMPRESSED_EXTENSION);
+    }
+
+    /**
+     * Opens a report written by a sink, decompressing it if needed
+     */
+    public static BufferedReader newReader(File file, InputStream inputStream) throws IOException {
+        if (isCompressed(file)) {
+            inputStream = new GZIPInputStream(inputStream, BUFFER_SIZE);
+        }
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Queues the text to be appended to the report, opening the file if it's not open yet. Waits while the queue is
+     * full.
+     *
+     * @throws IOException if the file can't be opened, or a previous text could not be written
+     */
+    public synchronized void append(String text) throws IOException {
+        if (text.isEmpty()) {
+            return;
+        }
+        open();
+        checkFailure();
+        put(text);
+    }
+
+    /**
+     * Waits until all the text appended before is written to the file and synced to disk.
+     *
+     * @throws IOException if any text could not be written
+     */
+    public void flush() throws IOException {
+        CompletableFuture<Void> flushed = new CompletableFuture<>();
+        synchronized (this) {
+            if (drainingThread == null) {
+                return;
+            }
+            put(flushed);
+        }
+        await(flushed);
+    }
+
+    /**
+     * Flushes the text appended so far and closes the file. The sink can still be used, and the file will be opened
+     * again the next time some text is appended.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (drainingThread == null) {
+            return;
+        }
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        put(new CloseRequest(closed));
+        try {
+            await(closed);
+        } finally {
+            drainingThread = null;
+            queue = null;
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        try {
+            close();
+            return null;
+        } catch (IOException e) {
+            logger.error("Could not write the report {}", file.getAbsolutePath(), e);
+            return ExitStatus.FAILED.addExitDescription(e);
+        }
+    }
+
+    /**
+     * Opens the file if it's not open yet, creating it if it doesn't exist. It's not needed before appending, only to
+     * have an empty report when there is nothing to append.
+     */
+    public synchronized void open() throws IOException {
+        if (drainingThread != null) {
+            return;
+        }
+        FileOutputStream fileOutputStream = new FileOutputStream(file, true);
+        ReportFile reportFile;
+        try {
+            OutputStream outputStream = new BufferedOutputStream(fileOutputStream, BUFFER_SIZE);
+            GZIPOutputStream gzipOutputStream = null;
+            if (isCompressed(file)) {
+                // sync flush, so that a flush writes all the text appended before, not only whole deflate blocks
+                gzipOutputStream = new GZIPOutputStream(outputStream, BUFFER_SIZE, true);
+                outputStream = gzipOutputStream;
+            }
+            reportFile = new ReportFile(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                                        gzipOutputStream, fileOutputStream.getChannel());
+        } catch (IOException e) {
+            fileOutputStream.close();
+            throw e;
+        }
+        failure = null;
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Object> drainedQueue = queue;
+        drainingThread = new Thread(() -> drain(drainedQueue, reportFile), "report-sink-" + file.getName());
+        drainingThread.setDaemon(true);
+        drainingThread.start();
+    }
+
+    private void drain(BlockingQueue<Object> queue, ReportFile reportFile) {
+        while (true) {
+            Object entry;
+            try {
+                entry = queue.take();
+            } catch (InterruptedException e) {
+                // keep draining, so that the threads waiting for a flush or close are notified of the failure
+                failure = new InterruptedIOException("Interrupted while writing the report " + file);
+                reportFile.closeQuietly();
+                continue;
+            }
+            try {
+                if (failure == null) {
+                    if (entry instanceof String) {
+                        reportFile.write((String) entry);
+                    } else if (entry instanceof CloseRequest) {
+                        reportFile.close();
+                    } else {
+                        reportFile.sync();
+                    }
+                }
+            } catch (IOException e) {
+                logger.error("Could not write the report {}", file.getAbsolutePath(), e);
+                failure = e;
+            }
+            if (entry instanceof CloseRequest) {
+                if (failure != null) {
+                    reportFile.closeQuietly();
+                }
+                complete(((CloseRequest) entry).closed);
+                return;
+            } else if (entry instanceof CompletableFuture) {
+                complete((CompletableFuture<?>) entry);
+            }
+        }
+    }
+
+    private void complete(CompletableFuture<?> request) {
+        if (failure == null) {
+            request.complete(null);
+        } else {
+            request.completeExceptionally(failure);
+        }
+    }
+
+    private void put(Object entry) throws InterruptedIOException {
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to append to the report " + file);
+        }
+    }
+
+    private void await(CompletableFuture<Void> request) throws IOException {
+        try {
+            request.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the report " + file + " to be written");
+        } catch (ExecutionException e) {
+            throw (IOException) e.getCause();
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        IOException currentFailure = failure;
+        if (currentFailure != null) {
+            throw new IOException("Could not write the report " + file.getAbsolutePath(), currentFailure);
+        }
+    }
+
+    private static class CloseRequest {
+
+        private final CompletableFuture<Void> closed;
+
+        CloseRequest(CompletableFuture<Void> closed) {
+            this.closed = closed;
+        }
+    }
+
+    /**
+     * Open report file, only used by the draining thread
+     */
+    private static class ReportFile {
+
+        private final Writer writer;
+
+        private final GZIPOutputStream gzipOutputStream;
+
+        private final FileChannel channel;
+
+        ReportFile(Writer writer, GZIPOutputStream gzipOutputStream, FileChannel channel) {
+            this.writer = writer;
+            this.gzipOutputStream = gzipOutputStream;
+            this.channel = channel;
+        }
+
+        void write(String text) throws IOException {
+            writer.write(text);
+        }
+
+        void sync() throws IOException {
+            writer.flush();
+            channel.force(false);
+        }
+
+        void close() throws IOException {
+            writer.flush();
+            if (gzipOutputStream != null) {
+                gzipOutputStream.finish();
+            }
+            sync();
+            writer.close();
+        }
+
+        void closeQuietly() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("Could not close a report file", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.io;
+
+import htsjdk.samtools.SAMException;
+import htsjdk.samtools.SAMSequenceDictionary;
+import htsjdk.samtools.reference.FastaSequenceIndex;
+import htsjdk.samtools.reference.FastaSequenceIndexEntry;
+import htsjdk.samtools.reference.ReferenceSequence;
+import htsjdk.samtools.reference.ReferenceSequenceFile;
+import htsjdk.samtools.reference.ReferenceSequenceFileFactory;
+import htsjdk.samtools.util.RuntimeIOException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indexed FASTA file that translates contig coordinates into (uncompressed) file offsets using the .fai entry of each
+ * contig (offset of the first base, bases and bytes per line), so no seeking nor line parsing is needed.
+ *
+ * For each contig, the last window of {@link #WINDOW_SIZE} decoded bases is cached: consecutive requests for nearby
+ * positions, such as the context base of position-sorted variants, are served without reading the file again. The
+ * windows are immutable and replaced atomically, so subclasses that read the file in a thread-safe way can be shared
+ * among threads.
+ */
+public abstract class WindowedFastaSequenceFile implements ReferenceSequenceFile {
+
+    static final int WINDOW_SIZE = 64 * 1024;
+
+    /**
+     * How many bases before the requested start are also decoded into a new window, so that requests that move slightly
+     * backwards (e.g. context base of an unsorted chunk) can still be served from the window.
+     */
+    private static final int WINDOW_LOOK_BEHIND = 1024;
+
+    protected final Path fastaPath;
+
+    private final FastaSequenceIndex index;
+
+    private final SAMSequenceDictionary sequenceDictionary;
+
+    private final Map<String, Window> windows;
+
+    private Iterator<FastaSequenceIndexEntry> sequenceIterator;
+
+    protected WindowedFastaSequenceFile(Path fastaPath, FastaSequenceIndex index) throws IOException {
+        this.fastaPath = fastaPath;
+        this.index = index;
+        this.sequenceDictionary = loadSequenceDictionary(fastaPath);
+        this.windows = new ConcurrentHashMap<>();
+        reset();
+    }
+
+    private static SAMSequenceDictionary loadSequenceDictionary(Path fastaPath) throws IOException {
+        Path dictionaryPath = ReferenceSequenceFileFactory.getDefaultDictionaryForReferenceSequence(fastaPath);
+        if (!Files.exists(dictionaryPath)) {
+            return null;
+        }
+        try (InputStream dictionary = Files.newInputStream(dictionaryPath)) {
+            return ReferenceSequenceFileFactory.loadDictionary(dictionary);
+        }
+    }
+
+    /**
+     * Copies bytes of the uncompressed FASTA file into the destination array.
+     *
+     * @param fileOffset offset in the uncompressed FASTA of the first byte to copy
+     */
+    protected abstract void read(long fileOffset, byte[] destination, int offset, int length) throws IOException;
+
+    @Override
+    public SAMSequenceDictionary getSequenceDictionary() {
+        return sequenceDictionary;
+    }
+
+    @Override
+    public ReferenceSequence nextSequence() {
+        if (!sequenceIterator.hasNext()) {
+            return null;
+        }
+        return getSequence(sequenceIterator.next().getContig());
+    }
+
+    @Override
+    public void reset() {
+        sequenceIterator = index.iterator();
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public ReferenceSequence getSequence(String contig) {
+        FastaSequenceIndexEntry entry = getIndexEntry(contig);
+        return getSubsequenceAt(contig, 1, entry.getSize());
+    }
+
+    /**
+     * @param contig Sequence contig or chromosome
+     * @param start  Sequence start coordinate in the contig. inclusive, 1-based.
+     * @param stop   Sequence end coordinate in the contig. inclusive, 1-based
+     */
+    @Override
+    public ReferenceSequence getSubsequenceAt(String contig, long start, long stop) {
+        FastaSequenceIndexEntry entry = getIndexEntry(contig);
+        if (start < 1 || stop < start - 1 || stop > entry.getSize()) {
+            throw new SAMException("Malformed query " + contig + ":" + start + "-" + stop + "; contig length is "
+                                           + entry.getSize());
+        }
+        long length = stop - start + 1;
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new SAMException("Query " + contig + ":" + start + "-" + stop + " is too long to fit in memory");
+        }
+        byte[] bases = new byte[(int) length];
+        if (length <= WINDOW_SIZE) {
+            Window window = getWindow(entry, start, stop);
+            System.arraycopy(window.bases, (int) (start - window.start), bases, 0, bases.length);
+        } else {
+            decode(entry, start - 1, bases, 0, bases.length);
+        }
+        return new ReferenceSequence(contig, entry.getSequenceIndex(), bases);
+    }
+
+    private FastaSequenceIndexEntry getIndexEntry(String contig) {
+        if (!index.hasIndexEntry(contig)) {
+            throw new SAMException("Unable to find entry for contig: " + contig);
+        }
+        return index.getIndexEntry(contig);
+    }
+
+    private Window getWindow(FastaSequenceIndexEntry entry, long start, long stop) {
+        Window window = windows.get(entry.getContig());
+        if (window != null && window.contains(start, stop)) {
+            return window;
+        }
+        long windowStart = Math.max(1, start - WINDOW_LOOK_BEHIND);
+        long windowEnd = Math.min(entry.getSize(), windowStart + WINDOW_SIZE - 1);
+        if (windowEnd < stop) {
+            windowStart = Math.max(1, stop - WINDOW_SIZE + 1);
+            windowEnd = stop;
+        }
+        byte[] bases = new byte[(int) (windowEnd - windowStart + 1)];
+        decode(entry, windowStart - 1, bases, 0, bases.length);
+        window = new Window(windowStart, bases);
+        windows.put(entry.getContig(), window);
+        return window;
+    }
+
+    /**
+     * Copies bases into the destination array, skipping the line terminators.
+     *
+     * @param position 0-based position in the contig of the first base to copy
+     */
+    private void decode(FastaSequenceIndexEntry entry, long position, byte[] destination, int offset, int length) {
+        int basesPerLine = entry.getBasesPerLine();
+        int bytesPerLine = entry.getBytesPerLine();
+        try {
+            while (length > 0) {
+                long line = position / basesPerLine;
+                int column = (int) (position % basesPerLine);
+                int basesInLine = Math.min(basesPerLine - column, length);
+                long fileOffset = entry.getLocation() + line * bytesPerLine + column;
+                read(fileOffset, destination, offset, basesInLine);
+                position += basesInLine;
+                offset += basesInLine;
+                length -= basesInLine;
+            }
+        } catch (IOException e) {
+            throw new RuntimeIOException("Could not read contig " + entry.getContig() + " from " + fastaPath, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        windows.clear();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + fastaPath + '}';
+    }
+
+    private static class Window {
+
+        /**
+         * 1-based position in the contig of the first base in the window
+         */
+        private final long start;
+
+        private final byte[] bases;
+
+        Window(long start, byte[] bases) {
+            this.start = start;
+            this.bases = bases;
+        }
+
+        boolean contains(long start, long stop) {
+            return start >= this.start && stop < this.start + bases.length;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.listeners;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.listener.StepListenerSupport;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time spent reading, processing and writing each chunk, the number of items written per second, and
+ * the reads that take longer than a threshold (e.g. while the reader waits for the next batch of a cursor), and
+ * publishes them as Micrometer meters tagged with the step name.
+ *
+ * The same instance can be registered in all the steps of a job, including multi-threaded and partitioned steps,
+ * because the timings are kept per thread. Registered as a job listener, it also logs a breakdown of every step
+ * when the job finishes, so the throughput of a job can be compared across releases.
+ */
+public class ChunkTimingListener<I, O> extends StepListenerSupport<I, O> implements JobExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkTimingListener.class);
+
+    public static final String CHUNK_TIMER = "eva.batch.chunk";
+
+    public static final String ITEMS_COUNTER = "eva.batch.items";
+
+    public static final String THROUGHPUT_SUMMARY = "eva.batch.chunk.throughput";
+
+    public static final String READ_STALLS_COUNTER = "eva.batch.read.stalls";
+
+    static final String READ = "read";
+
+    static final String PROCESS = "process";
+
+    static final String WRITE = "write";
+
+    static final String CHUNK = "chunk";
+
+    private final MeterRegistry meterRegistry;
+
+    private final long readStallThresholdNanos;
+
+    private final ConcurrentMap<String, StepMeters> stepMeters;
+
+    private final ThreadLocal<ChunkTimes> chunkTimes;
+
+    /**
+     * @param readStallThreshold reads that take at least this long are counted as stalls, zero to not count them
+     */
+    public ChunkTimingListener(MeterRegistry meterRegistry, Duration readStallThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.readStallThresholdNanos = readStallThreshold.toNanos();
+        this.stepMeters = new ConcurrentHashMap<>();
+        this.chunkTimes = new ThreadLocal<>();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        String stepName = context.getStepContext().getStepName();
+        chunkTimes.set(new ChunkTimes(stepMeters.computeIfAbsent(stepName, StepMeters::new), System.nanoTime()));
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        ChunkTimes times = chunkTimes.get();
+        if (times == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        // the reader returns null at the end of the step, which doesn't call afterRead
+        times.stopRead(now);
+        long chunkNanos = now - times.chunkStart;
+        times.meters.chunk.record(chunkNanos, TimeUnit.NANOSECONDS);
+        if (chunkNanos > 0) {
+            times.meters.throughput.record(times.itemsWritten * (double) TimeUnit.SECONDS.toNanos(1) / chunkNanos);
+        }
+        chunkTimes.remove();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        chunkTimes.remove();
+    }
+
+    @Override
+    public void beforeRead() {
+        ChunkTimes times = chunkTimes.get();
+        if (times != null) {
+            times.readStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterRead(I item) {
+        stopRead();
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        stopRead();
+    }
+
+    private void stopRead() {
+        ChunkTimes times = chunkTimes.get();
+        if (times != null) {
+            times.stopRead(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void beforeProcess(I item) {
+        ChunkTimes times = chunkTimes.get();
+        if (times != null) {
+            times.processStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterProcess(I item, O result) {
+        stopProcess();
+    }
+
+    @Override
+    public void onProcessError(I item, Exception e) {
+        stopProcess();
+    }
+
+    private void stopProcess() {
+        ChunkTimes times = chunkTimes.get();
+        if (times != null) {
+            times.meters.process.record(System.nanoTime() - times.processStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void beforeWrite(Chunk<? extends O> items) {
+        ChunkTimes times = chunkTimes.get();
+        if (times != null) {
+            times.writeStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends O> items) {
+        ChunkTimes times = chunkTimes.get();
+        if (times != null) {
+            times.meters.write.record(System.nanoTime() - times.writeStart, TimeUnit.NANOSECONDS);
+            times.meters.items.increment(items.size());
+            times.itemsWritten += items.size();
+        }
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<? extends O> items) {
+        ChunkTimes times = chunkTimes.get();
+        if (times != null) {
+            times.meters.write.record(System.nanoTime() - times.writeStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Logs the duration and throughput of every step of the job, with the time spent in each phase of the chunks
+     * when they were recorded by this listener.
+     */
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        logger.info("Steps of job {} (step: status, seconds, read, written, items/s, read ms, process ms, " +
+                            "write ms, read stalls):", jobExecution.getJobInstance().getJobName());
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            double seconds = getDurationInSeconds(stepExecution.getStartTime(), stepExecution.getEndTime());
+            double itemsPerSecond = seconds > 0 ? stepExecution.getWriteCount() / seconds : 0;
+            StepMeters meters = stepMeters.get(stepExecution.getStepName());
+            if (meters == null) {
+                logger.info("{}: {}, {}, {}, {}, {}", stepExecution.getStepName(), stepExecution.getStatus(),
+                            String.format("%.1f", seconds), stepExecution.getReadCount(),
+                            stepExecution.getWriteCount(), String.format("%.1f", itemsPerSecond));
+            } else {
+                logger.info("{}: {}, {}, {}, {}, {}, {}, {}, {}, {}", stepExecution.getStepName(),
+                            stepExecution.getStatus(), String.format("%.1f", seconds), stepExecution.getReadCount(),
+                            stepExecution.getWriteCount(), String.format("%.1f", itemsPerSecond),
+                            (long) meters.read.totalTime(TimeUnit.MILLISECONDS),
+                            (long) meters.process.totalTime(TimeUnit.MILLISECONDS),
+                            (long) meters.write.totalTime(TimeUnit.MILLISECONDS), (long) meters.readStalls.count());
+            }
+        }
+    }
+
+    private static double getDurationInSeconds(LocalDateTime start, LocalDateTime end) {
+        if (start == null) {
+            return 0;
+        }
+        return Duration.between(start, end != null ? end : LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private class StepMeters {
+
+        private final Timer read;
+
+        private final Timer process;
+
+        private final Timer write;
+
+        private final Timer chunk;
+
+        private final Counter items;
+
+        private final DistributionSummary throughput;
+
+        private final Counter readStalls;
+
+        StepMeters(String stepName) {
+            this.read = timer(stepName, READ);
+            this.process = timer(stepName, PROCESS);
+            this.write = timer(stepName, WRITE);
+            this.chunk = timer(stepName, CHUNK);
+            this.items = Counter.builder(ITEMS_COUNTER)
+                                .description("Items written by the steps")
+                                .tags("step", stepName)
+                                .register(meterRegistry);
+            this.throughput = DistributionSummary.builder(THROUGHPUT_SUMMARY)
+                                                 .description("Items written per second in each chunk")
+                                                 .baseUnit("items/s")
+                                                 .tags("step", stepName)
+                                                 .register(meterRegistry);
+            this.readStalls = Counter.builder(READ_STALLS_COUNTER)
+                                     .description("Reads slower than the threshold")
+                                     .tags("step", stepName)
+                                     .register(meterRegistry);
+        }
+
+        private Timer timer(String stepName, String phase) {
+            return Timer.builder(CHUNK_TIMER)
+                        .description("Time spent in each phase of the chunks")
+                        .tags("step", stepName, "phase", phase)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        }
+    }
+
+    private class ChunkTimes {
+
+        private final StepMeters meters;
+
+        private final long chunkStart;
+
+        private long readStart = -1;
+
+        private long processStart;
+
+        private long writeStart;
+
+        private long itemsWritten;
+
+        ChunkTimes(StepMeters meters, long chunkStart) {
+            this.meters = meters;
+            this.chunkStart = chunkStart;
+        }
+
+        void stopRead(long now) {
+            if (readStart < 0) {
+                return;
+            }
+            long readNanos = now - readStart;
+            readStart = -1;
+            meters.read.record(readNanos, TimeUnit.NANOSECONDS);
+            if (readStallThresholdNanos > 0 && readNanos >= readStallThresholdNanos) {
+                meters.readStalls.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.listeners;
+
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.springframework.batch.core.listener.StepListenerSupport;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+import uk.ac.ebi.eva.accession.core.batch.io.ContextNucleotideRequest;
+import uk.ac.ebi.eva.accession.core.batch.io.FastaSequenceReader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Allows item processors to add context bases for a whole chunk at once.
+ *
+ * In a chunk-oriented step, all the items of a chunk are read before any of them is processed. This listener collects
+ * the context base request of every item read, and when the processor asks for the first context base of the chunk,
+ * it gets all of them with a single, position-sorted {@link FastaSequenceReader#getContextNucleotidesAndNewStarts}
+ * call. Requests that were not prefetched, or whose prefetch failed, are sent to the FASTA reader one by one, so the
+ * results and exceptions are the same as calling
+ * {@link FastaSequenceReader#getContextNucleotideAndNewStart(String, long, String, String)} directly.
+ *
+ * The listener must be registered in the step. If it isn't, every request is sent one by one.
+ *
+ * @param <T> type of the items read
+ */
+public class ContextNucleotidePrefetchListener<T> extends StepListenerSupport<T, Object> {
+
+    private final FastaSequenceReader fastaSequenceReader;
+
+    private final Function<T, ContextNucleotideRequest> requestExtractor;
+
+    private final List<ContextNucleotideRequest> pendingRequests;
+
+    private final Map<ContextNucleotideRequest, ImmutableTriple<Long, String, String>> prefetchedResults;
+
+    /**
+     * @param requestExtractor returns the context base that will be requested for an item, or null if it doesn't
+     *                         need one
+     */
+    public ContextNucleotidePrefetchListener(FastaSequenceReader fastaSequenceReader,
+                                             Function<T, ContextNucleotideRequest> requestExtractor) {
+        this.fastaSequenceReader = fastaSequenceReader;
+        this.requestExtractor = requestExtractor;
+        this.pendingRequests = new ArrayList<>();
+        this.prefetchedResults = new HashMap<>();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        pendingRequests.clear();
+        prefetchedResults.clear();
+    }
+
+    @Override
+    public void afterRead(T item) {
+        ContextNucleotideRequest request = requestExtractor.apply(item);
+        if (request != null) {
+            pendingRequests.add(request);
+        }
+    }
+
+    public ImmutableTriple<Long, String, String> getContextNucleotideAndNewStart(String contig, long oldStart,
+                                                                                 String oldReference,
+                                                                                 String oldAlternate) {
+        prefetchPendingRequests();
+        ImmutableTriple<Long, String, String> result = prefetchedResults.get(
+                new ContextNucleotideRequest(contig, oldStart, oldReference, oldAlternate));
+        if (result != null) {
+            return result;
+        }
+        return fastaSequenceReader.getContextNucleotideAndNewStart(contig, oldStart, oldReference, oldAlternate);
+    }
+
+    private void prefetchPendingRequests() {
+        if (pendingRequests.isEmpty()) {
+            return;
+        }
+        List<ImmutableTriple<Long, String, String>> results = fastaSequenceReader.getContextNucleotidesAndNewStarts(
+                pendingRequests);
+        for (int i = 0; i < pendingRequests.size(); i++) {
+            if (results.get(i) != null) {
+                prefetchedResults.put(pendingRequests.get(i), results.get(i));
+            }
+        }
+        pendingRequests.clear();
+    }
+}
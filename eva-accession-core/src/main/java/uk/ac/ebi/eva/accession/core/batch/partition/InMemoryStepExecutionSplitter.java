@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.partition;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.partition.support.SimpleStepExecutionSplitter;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates the step executions of the partitions of a step with the execution contexts given by the partitioner.
+ *
+ * {@link SimpleStepExecutionSplitter} considers a partition restarted when the repository returns an uncompleted
+ * execution of it, and then uses the context of that execution instead. The {@link ResourcelessJobRepository} of
+ * {@link uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration} returns the execution that has just
+ * been created for the partition, so all the partitions would run with an empty context. Jobs are never restarted from
+ * that repository, so this splitter doesn't look for previous executions.
+ */
+public class InMemoryStepExecutionSplitter implements StepExecutionSplitter {
+
+    private static final String STEP_NAME_SEPARATOR = ":";
+
+    private final JobRepository jobRepository;
+
+    private final String stepName;
+
+    private final Partitioner partitioner;
+
+    public InMemoryStepExecutionSplitter(JobRepository jobRepository, String stepName, Partitioner partitioner) {
+        this.jobRepository = jobRepository;
+        this.stepName = stepName;
+        this.partitioner = partitioner;
+    }
+
+    @Override
+    public String getStepName() {
+        return stepName;
+    }
+
+    @Override
+    public Set<StepExecution> split(StepExecution stepExecution, int gridSize) {
+        JobExecution jobExecution = stepExecution.getJobExecution();
+        Map<String, ExecutionContext> contexts = partitioner.partition(gridSize);
+        Set<StepExecution> partitionExecutions = new HashSet<>(contexts.size());
+        for (Map.Entry<String, ExecutionContext> context : contexts.entrySet()) {
+            StepExecution partitionExecution = jobExecution.createStepExecution(
+                    stepName + STEP_NAME_SEPARATOR + context.getKey());
+            partitionExecution.setExecutionContext(context.getValue());
+            partitionExecutions.add(partitionExecution);
+        }
+        jobRepository.addAll(partitionExecutions);
+        return partitionExecutions;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import uk.ac.ebi.eva.accession.core.service.nonhuman.VariantLookupCaches;
+
+import java.time.Duration;
+
+/**
+ * Caches of the accession lookups of the variant accessioning services. Set accessioning.lookupCache.maxEntries to
+ * enable them; they are disabled by default because they only see the modifications done through the services in the
+ * same application. The modifications done by other applications are seen once the entries expire, after
+ * accessioning.lookupCache.timeToLiveSeconds.
+ *
+ * Their hits, misses, evictions and number of entries are published in the application's MeterRegistry when there is
+ * one (the web service exports them through the actuator).
+ */
+@Configuration
+public class AccessionLookupCacheConfiguration {
+
+    @Value("${accessioning.lookupCache.maxEntries:0}")
+    private int maxEntries;
+
+    @Value("${accessioning.lookupCache.timeToLiveSeconds:300}")
+    private long timeToLiveSeconds;
+
+    @Bean(destroyMethod = "logStatistics")
+    public VariantLookupCaches variantLookupCaches(ObjectProvider<MeterRegistry> meterRegistry) {
+        VariantLookupCaches variantLookupCaches = new VariantLookupCaches(maxEntries,
+                                                                          Duration.ofSeconds(timeToLiveSeconds));
+        meterRegistry.ifAvailable(variantLookupCaches::registerMetrics);
+        return variantLookupCaches;
+    }
+}
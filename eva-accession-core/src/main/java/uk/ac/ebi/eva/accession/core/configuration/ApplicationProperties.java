@@ -23,6 +23,13 @@ public class ApplicationProperties {
 
     private VariantAccessioningProperties clustered;
 
+    private BlockLookAheadProperties blockLookAhead = new BlockLookAheadProperties();
+
+    /**
+     * Number of accessions each thread takes from the generator at once, 0 to use the generator without stripes
+     */
+    private int stripeSize;
+
     public VariantAccessioningProperties getSubmitted() {
         return submitted;
     }
@@ -31,6 +38,14 @@ public class ApplicationProperties {
         return clustered;
     }
 
+    public BlockLookAheadProperties getBlockLookAhead() {
+        return blockLookAhead;
+    }
+
+    public int getStripeSize() {
+        return stripeSize;
+    }
+
     public void setSubmitted(VariantAccessioningProperties submitted) {
         this.submitted = submitted;
     }
@@ -39,11 +54,21 @@ public class ApplicationProperties {
         this.clustered = clustered;
     }
 
+    public void setBlockLookAhead(BlockLookAheadProperties blockLookAhead) {
+        this.blockLookAhead = blockLookAhead;
+    }
+
+    public void setStripeSize(int stripeSize) {
+        this.stripeSize = stripeSize;
+    }
+
     @Override
     public String toString() {
         return "ApplicationProperties{" +
                 "submitted=" + submitted +
                 ", clustered=" + clustered +
+                ", blockLookAhead=" + blockLookAhead +
+                ", stripeSize=" + stripeSize +
                 '}';
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.configuration;
+
+/**
+ * Reservation of contiguous id blocks in advance, see {@link uk.ac.ebi.eva.accession.core.generators.BlockLookAhead}
+ */
+public class BlockLookAheadProperties {
+
+    private boolean enabled = false;
+
+    private double threshold = 0.5;
+
+    private int maxBlocks = 4;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public int getMaxBlocks() {
+        return maxBlocks;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setThreshold(double threshold) {
+        this.threshold = threshold;
+    }
+
+    public void setMaxBlocks(int maxBlocks) {
+        this.maxBlocks = maxBlocks;
+    }
+
+    @Override
+    public String toString() {
+        return "BlockLookAheadProperties{" +
+                "enabled=" + enabled +
+                ", threshold=" + threshold +
+                ", maxBlocks=" + maxBlocks +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import uk.ac.ebi.eva.accession.core.batch.listeners.ChunkTimingListener;
+
+import java.time.Duration;
+
+/**
+ * Listener that times the chunks of the steps and logs the throughput of each step when a job finishes. It has to be
+ * registered both in the chunk-oriented steps and in the jobs.
+ */
+@Configuration
+public class ChunkTimingListenerConfiguration {
+
+    public static final String CHUNK_TIMING_LISTENER = "chunkTimingListener";
+
+    @Value("${batch.metrics.readStallThresholdMillis:100}")
+    private long readStallThresholdMillis;
+
+    @Bean(CHUNK_TIMING_LISTENER)
+    public ChunkTimingListener<Object, Object> chunkTimingListener(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ChunkTimingListener<>(meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                                         Duration.ofMillis(readStallThresholdMillis));
+    }
+}
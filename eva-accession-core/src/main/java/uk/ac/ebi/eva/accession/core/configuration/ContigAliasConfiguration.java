@@ -23,8 +23,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import uk.ac.ebi.eva.accession.core.contigalias.ContigAliasCache;
 import uk.ac.ebi.eva.accession.core.contigalias.ContigAliasInputParameters;
 import uk.ac.ebi.eva.accession.core.contigalias.ContigAliasService;
+import uk.ac.ebi.eva.accession.core.contigalias.ContigTranslator;
+import uk.ac.ebi.eva.accession.core.contigalias.LayeredContigTranslator;
+import uk.ac.ebi.eva.accession.core.contigalias.LocalContigTranslator;
+import uk.ac.ebi.eva.accession.core.contigalias.RemoteContigTranslator;
+
+import java.time.Duration;
 
 @Configuration
 public class ContigAliasConfiguration {
@@ -40,9 +47,33 @@ public class ContigAliasConfiguration {
         return new ContigAliasInputParameters();
     }
 
+    @Bean
+    public ContigAliasCache contigAliasCache(ContigAliasInputParameters contigAliasInputParameters) {
+        return new ContigAliasCache(contigAliasInputParameters.getCacheMaxSize(),
+                                    Duration.ofSeconds(contigAliasInputParameters.getCacheTimeToLiveSeconds()));
+    }
+
     @Bean
     public ContigAliasService contigAliasService(@Qualifier("CONTIG_ALIAS_REST_TEMPLATE") RestTemplate restTemplate,
-                                                 ContigAliasInputParameters contigAliasInputParameters) {
-        return new ContigAliasService(restTemplate, contigAliasInputParameters.getUrl());
+                                                 ContigAliasInputParameters contigAliasInputParameters,
+                                                 ContigAliasCache contigAliasCache) throws Exception {
+        return new ContigAliasService(contigTranslator(restTemplate, contigAliasInputParameters), contigAliasCache);
+    }
+
+    private ContigTranslator contigTranslator(RestTemplate restTemplate,
+                                              ContigAliasInputParameters contigAliasInputParameters) throws Exception {
+        switch (contigAliasInputParameters.getBackend()) {
+            case REMOTE:
+                return new RemoteContigTranslator(restTemplate, contigAliasInputParameters.getUrl());
+            case LOCAL:
+                return LocalContigTranslator.load(contigAliasInputParameters.getAssemblyReports());
+            case LOCAL_THEN_REMOTE:
+                return new LayeredContigTranslator(
+                        LocalContigTranslator.load(contigAliasInputParameters.getAssemblyReports()),
+                        new RemoteContigTranslator(restTemplate, contigAliasInputParameters.getUrl()));
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown contig translation backend: " + contigAliasInputParameters.getBackend());
+        }
     }
 }
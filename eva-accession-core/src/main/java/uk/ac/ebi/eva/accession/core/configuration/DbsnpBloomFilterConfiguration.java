@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.util.StringUtils;
+
+import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpNegativeCache;
+
+import java.nio.file.Paths;
+import java.util.function.Function;
+
+/**
+ * Bloom filters of the dbSNP collections, to avoid looking up variants that are not there. Set
+ * accessioning.dbsnp.bloomFilters.directory to the folder where BUILD_DBSNP_BLOOM_FILTERS_JOB of
+ * eva-accession-import-dbsnp2 wrote them; if it's empty, every variant is looked up.
+ *
+ * The filters don't know about the variants added to the collections after they were built, so they are only used by
+ * applications that set accessioning.dbsnp.readOnly, which must never write to the dbSNP collections, e.g. the
+ * accessioning pipeline. Clustering and remapping ingestion do write to them, so they always look up every variant.
+ */
+@Configuration
+public class DbsnpBloomFilterConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(DbsnpBloomFilterConfiguration.class);
+
+    @Value("${accessioning.dbsnp.bloomFilters.directory:}")
+    private String directory;
+
+    @Value("${accessioning.dbsnp.readOnly:false}")
+    private boolean dbsnpReadOnly;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Bean(destroyMethod = "logStatistics")
+    public DbsnpNegativeCache<ISubmittedVariant> dbsnpSubmittedVariantNegativeCache() {
+        return negativeCache(DbsnpSubmittedVariantEntity.class, ISubmittedVariant::getReferenceSequenceAccession);
+    }
+
+    @Bean(destroyMethod = "logStatistics")
+    public DbsnpNegativeCache<IClusteredVariant> dbsnpClusteredVariantNegativeCache() {
+        return negativeCache(DbsnpClusteredVariantEntity.class, IClusteredVariant::getAssemblyAccession);
+    }
+
+    private <MODEL> DbsnpNegativeCache<MODEL> negativeCache(Class<?> entityClass,
+                                                            Function<MODEL, String> assemblyFunction) {
+        if (!StringUtils.hasText(directory)) {
+            return DbsnpNegativeCache.disabled();
+        }
+        if (!dbsnpReadOnly) {
+            logger.warn("The Bloom filters in {} will be ignored, because this application can write to the dbSNP "
+                        + "collections (accessioning.dbsnp.readOnly is not set)", directory);
+            return DbsnpNegativeCache.disabled();
+        }
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        logger.info("Lookups in {} will be skipped using the Bloom filters in {}", collection, directory);
+        return new DbsnpNegativeCache<>(Paths.get(directory), collection,
+                                        () -> mongoTemplate.getCollection(collection).estimatedDocumentCount(),
+                                        assemblyFunction);
+    }
+}
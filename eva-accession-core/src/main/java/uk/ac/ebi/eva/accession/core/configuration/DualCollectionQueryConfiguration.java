@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import uk.ac.ebi.eva.accession.core.service.nonhuman.DualCollectionQueryExecutor;
+
+/**
+ * Whether the accessioning services query the EVA and dbSNP collections at the same time. The queries run one after
+ * the other unless accessioning.parallelQueries.enabled=true, so each application opts in to the extra threads and
+ * Mongo connections.
+ */
+@Configuration
+public class DualCollectionQueryConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(DualCollectionQueryConfiguration.class);
+
+    @Value("${accessioning.parallelQueries.enabled:false}")
+    private boolean parallelQueries;
+
+    @Value("${accessioning.parallelQueries.threads:8}")
+    private int threads;
+
+    @Bean(destroyMethod = "shutdown")
+    public DualCollectionQueryExecutor dualCollectionQueryExecutor() {
+        if (parallelQueries) {
+            logger.info("EVA and dbSNP collections will be queried in parallel using up to {} threads", threads);
+            return DualCollectionQueryExecutor.parallel(threads);
+        }
+        return DualCollectionQueryExecutor.sequential();
+    }
+}
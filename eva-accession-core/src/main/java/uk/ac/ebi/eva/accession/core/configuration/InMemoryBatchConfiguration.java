@@ -15,7 +15,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
-@Import(ScopeConfiguration.class)
+@Import({ScopeConfiguration.class, ChunkTimingListenerConfiguration.class})
 public class InMemoryBatchConfiguration {
 
     public static final String BATCH_TRANSACTION_MANAGER = "batchTransactionManager";
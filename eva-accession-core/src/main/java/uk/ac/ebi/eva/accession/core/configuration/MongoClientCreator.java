@@ -7,6 +7,9 @@ import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.mongo.MongoProperties;
 import uk.ac.ebi.eva.commons.mongodb.utils.MongoUtils;
@@ -16,6 +19,24 @@ import java.util.Objects;
 public class MongoClientCreator {
     public static MongoClient getMongoClient(MongoProperties properties, ObjectProvider<MongoClientSettings> settings,
                                              String readPreference) {
+        return getMongoClient(properties, settings, readPreference, null);
+    }
+
+    /**
+     * @param codecProvider codecs to use before the ones of the settings, if not null
+     */
+    public static MongoClient getMongoClient(MongoProperties properties, ObjectProvider<MongoClientSettings> settings,
+                                             String readPreference, CodecProvider codecProvider) {
+        return getMongoClient(properties, settings, readPreference, codecProvider, null);
+    }
+
+    /**
+     * @param codecProvider codecs to use before the ones of the settings, if not null
+     * @param commandListener listener of the commands sent by the client, e.g. to record their latency, if not null
+     */
+    public static MongoClient getMongoClient(MongoProperties properties, ObjectProvider<MongoClientSettings> settings,
+                                             String readPreference, CodecProvider codecProvider,
+                                             CommandListener commandListener) {
         MongoClientSettings mongoClientSettings = settings.getIfAvailable();
         // Only set the URI if it isn't already set
         if (Objects.isNull(properties.getUri())) {
@@ -36,6 +57,15 @@ public class MongoClientCreator {
         } else {
             mongoClientSettingsBuilder = MongoClientSettings.builder();
         }
+        if (codecProvider != null) {
+            mongoClientSettingsBuilder.codecRegistry(CodecRegistries.fromRegistries(
+                    CodecRegistries.fromProviders(codecProvider),
+                    mongoClientSettings != null ? mongoClientSettings.getCodecRegistry()
+                                                : MongoClientSettings.getDefaultCodecRegistry()));
+        }
+        if (commandListener != null) {
+            mongoClientSettingsBuilder.addCommandListener(commandListener);
+        }
         mongoClientSettings = mongoClientSettingsBuilder.readPreference(ReadPreference.valueOf(readPreference))
                 .writeConcern(WriteConcern.MAJORITY).readConcern(ReadConcern.MAJORITY)
                 .applyConnectionString(new ConnectionString(properties.getUri())).build();
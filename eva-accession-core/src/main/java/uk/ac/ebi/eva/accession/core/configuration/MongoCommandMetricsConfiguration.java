@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import uk.ac.ebi.eva.accession.core.metrics.MongoCommandMetricsListener;
+
+import java.time.Duration;
+
+/**
+ * Metrics of the commands sent by the Mongo clients. They are registered in the application's MeterRegistry when there
+ * is one (the web service exports them through the actuator), and otherwise kept in memory and summarised in the log
+ * when the application finishes.
+ */
+@Configuration
+public class MongoCommandMetricsConfiguration {
+
+    @Value("${mongodb.metrics.slowCommandThresholdMillis:1000}")
+    private long slowCommandThresholdMillis;
+
+    @Bean(destroyMethod = "logSummary")
+    public MongoCommandMetricsListener mongoCommandMetricsListener(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MongoCommandMetricsListener(meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                                               Duration.ofMillis(slowCommandThresholdMillis));
+    }
+}
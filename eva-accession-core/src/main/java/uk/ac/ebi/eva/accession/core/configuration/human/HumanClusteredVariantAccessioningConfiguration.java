@@ -22,7 +22,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import uk.ac.ebi.ampt2d.commons.accession.autoconfigure.EnableSpringDataContiguousIdService;
 import uk.ac.ebi.ampt2d.commons.accession.core.AccessionSaveMode;
-import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.service.ContiguousIdBlockService;
 
 import uk.ac.ebi.eva.accession.core.configuration.ApplicationProperties;
@@ -39,7 +38,9 @@ import uk.ac.ebi.eva.accession.core.service.human.dbsnp.HumanDbsnpClusteredVaria
 import uk.ac.ebi.eva.accession.core.service.human.dbsnp.HumanDbsnpClusteredVariantMonotonicAccessioningService;
 import uk.ac.ebi.eva.accession.core.service.human.dbsnp.HumanDbsnpClusteredVariantOperationAccessioningService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpClusteredVariantInactiveService;
-import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantSummaryFunction;
+import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantHashingFunction;
+
+import java.util.function.Function;
 
 @Configuration
 @EnableSpringDataContiguousIdService
@@ -69,8 +70,8 @@ public class HumanClusteredVariantAccessioningConfiguration {
         return new HumanDbsnpClusteredVariantMonotonicAccessioningService(
                 dbsnpClusteredVariantAccessionGenerator(),
                 humanDbsnpClusteredVariantAccessioningDatabaseService(),
-                new ClusteredVariantSummaryFunction(),
-                new SHA1HashingFunction(),
+                new ClusteredVariantHashingFunction(),
+                Function.identity(),
                 accessionSaveMode);
     }
 
@@ -18,6 +18,7 @@ package uk.ac.ebi.eva.accession.core.configuration.human;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -25,6 +26,7 @@ import org.springframework.boot.autoconfigure.mongo.MongoProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
@@ -38,6 +40,8 @@ import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 import uk.ac.ebi.eva.accession.core.configuration.MongoClientCreator;
+import uk.ac.ebi.eva.accession.core.configuration.MongoCommandMetricsConfiguration;
+import uk.ac.ebi.eva.accession.core.metrics.MongoCommandMetricsListener;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantOperationEntity;
 
 import java.io.UnsupportedEncodingException;
@@ -47,6 +51,7 @@ import java.net.UnknownHostException;
 @EnableMongoRepositories(basePackages = "uk.ac.ebi.eva.accession.core.repository.human.dbsnp", mongoTemplateRef = "humanMongoTemplate")
 @EntityScan(basePackages = {"uk.ac.ebi.eva.accession.core.repositoryHuman"})
 @EnableMongoAuditing
+@Import({MongoCommandMetricsConfiguration.class})
 public class HumanMongoConfiguration {
 
     private static final String INACTIVE_OBJECTS_HASHED_MESSAGE = "inactiveObjects.hashedMessage";
@@ -54,6 +59,9 @@ public class HumanMongoConfiguration {
     @Value("${mongodb.read-preference}")
     private String readPreference;
 
+    @Autowired
+    private MongoCommandMetricsListener mongoCommandMetricsListener;
+
     @Bean(name = "humanMongoProperties")
     @ConfigurationProperties(prefix = "human.mongodb")
     public MongoProperties mongoProperties() {
@@ -64,7 +72,8 @@ public class HumanMongoConfiguration {
     public MongoClient mongoClient(@Qualifier("humanMongoProperties") MongoProperties properties,
                                    ObjectProvider<MongoClientSettings> settings)
             throws UnknownHostException, UnsupportedEncodingException {
-        return MongoClientCreator.getMongoClient(properties, settings, readPreference);
+        return MongoClientCreator.getMongoClient(properties, settings, readPreference, null,
+                                                 mongoCommandMetricsListener);
     }
 
     @Bean("humanFactory")
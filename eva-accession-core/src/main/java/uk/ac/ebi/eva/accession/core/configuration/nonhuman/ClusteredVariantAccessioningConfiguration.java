@@ -27,13 +27,19 @@ import org.springframework.context.annotation.Import;
 import uk.ac.ebi.ampt2d.commons.accession.autoconfigure.EnableSpringDataContiguousIdService;
 import uk.ac.ebi.ampt2d.commons.accession.core.AccessionSaveMode;
 import uk.ac.ebi.ampt2d.commons.accession.generators.monotonic.MonotonicAccessionGenerator;
-import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.service.ContiguousIdBlockService;
 import uk.ac.ebi.eva.accession.core.configuration.ApplicationProperties;
 import uk.ac.ebi.eva.accession.core.configuration.ApplicationPropertiesConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.BlockLookAheadProperties;
 import uk.ac.ebi.eva.accession.core.configuration.ContigAliasConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.AccessionLookupCacheConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.DbsnpBloomFilterConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.DualCollectionQueryConfiguration;
 import uk.ac.ebi.eva.accession.core.contigalias.ContigAliasService;
+import uk.ac.ebi.eva.accession.core.generators.BlockLookAhead;
 import uk.ac.ebi.eva.accession.core.generators.DbsnpMonotonicAccessionGenerator;
+import uk.ac.ebi.eva.accession.core.generators.LookAheadMonotonicAccessionGenerator;
+import uk.ac.ebi.eva.accession.core.generators.StripedMonotonicAccessionGenerator;
 import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantInactiveEntity;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantOperationEntity;
@@ -43,19 +49,26 @@ import uk.ac.ebi.eva.accession.core.repository.nonhuman.dbsnp.DbsnpClusteredVari
 import uk.ac.ebi.eva.accession.core.repository.nonhuman.dbsnp.DbsnpClusteredVariantOperationRepository;
 import uk.ac.ebi.eva.accession.core.repository.nonhuman.eva.ClusteredVariantAccessioningRepository;
 import uk.ac.ebi.eva.accession.core.repository.nonhuman.eva.ClusteredVariantOperationRepository;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.DualCollectionQueryExecutor;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.ClusteredVariantAccessioningService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.ClusteredVariantOperationService;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.VariantLookupCaches;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpClusteredVariantAccessioningDatabaseService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpClusteredVariantInactiveService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpClusteredVariantMonotonicAccessioningService;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpNegativeCache;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.eva.ClusteredVariantAccessioningDatabaseService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.eva.ClusteredVariantInactiveService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.eva.ClusteredVariantMonotonicAccessioningService;
-import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantSummaryFunction;
+import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantHashingFunction;
+
+import java.util.function.Function;
 
 @Configuration
 @EnableSpringDataContiguousIdService
-@Import({ApplicationPropertiesConfiguration.class, MongoConfiguration.class, ContigAliasConfiguration.class})
+@Import({ApplicationPropertiesConfiguration.class, MongoConfiguration.class, ContigAliasConfiguration.class,
+        DualCollectionQueryConfiguration.class, DbsnpBloomFilterConfiguration.class,
+        AccessionLookupCacheConfiguration.class})
 /**
  * Configuration required to accession and query clustered variants.
  *
@@ -86,6 +99,15 @@ public class ClusteredVariantAccessioningConfiguration {
     @Autowired
     private ContigAliasService contigAliasService;
 
+    @Autowired
+    private DualCollectionQueryExecutor dualCollectionQueryExecutor;
+
+    @Autowired
+    private DbsnpNegativeCache<IClusteredVariant> dbsnpClusteredVariantNegativeCache;
+
+    @Autowired
+    private VariantLookupCaches variantLookupCaches;
+
     @Value("${accessioning.clustered.categoryId}")
     private String categoryId;
 
@@ -101,15 +123,16 @@ public class ClusteredVariantAccessioningConfiguration {
     public ClusteredVariantAccessioningService clusteredVariantAccessioningService() {
         return new ClusteredVariantAccessioningService(clusteredVariantMonotonicAccessioningService(),
                                                        dbsnpClusteredVariantMonotonicAccessioningService(),
-                                                       accessioningMonotonicInitRs(), contigAliasService);
+                                                       accessioningMonotonicInitRs(), contigAliasService,
+                                                       dualCollectionQueryExecutor, variantLookupCaches);
     }
 
     @Bean
     public ClusteredVariantMonotonicAccessioningService clusteredVariantMonotonicAccessioningService() {
         return new ClusteredVariantMonotonicAccessioningService(clusteredVariantAccessionGenerator(),
                                                                 clusteredVariantAccessioningDatabaseService(),
-                                                                new ClusteredVariantSummaryFunction(),
-                                                                new SHA1HashingFunction(),
+                                                                new ClusteredVariantHashingFunction(),
+                                                                Function.identity(),
                                                                 accessionSaveMode);
     }
 
@@ -117,21 +140,43 @@ public class ClusteredVariantAccessioningConfiguration {
     public DbsnpClusteredVariantMonotonicAccessioningService dbsnpClusteredVariantMonotonicAccessioningService() {
         return new DbsnpClusteredVariantMonotonicAccessioningService(dbsnpClusteredVariantAccessionGenerator(),
                                                                      dbsnpClusteredVariantAccessioningDatabaseService(),
-                                                                     new ClusteredVariantSummaryFunction(),
-                                                                     new SHA1HashingFunction(),
-                                                                     accessionSaveMode);
+                                                                     new ClusteredVariantHashingFunction(),
+                                                                     Function.identity(),
+                                                                     accessionSaveMode,
+                                                                     dbsnpClusteredVariantNegativeCache);
     }
 
     @Bean
     public MonotonicAccessionGenerator<IClusteredVariant> clusteredVariantAccessionGenerator() {
         ApplicationProperties properties = applicationProperties;
         logger.debug("Using application properties: " + properties.toString());
+        BlockLookAhead blockLookAhead = clusteredVariantBlockLookAhead();
+        if (properties.getStripeSize() > 0) {
+            return new StripedMonotonicAccessionGenerator<>(properties.getClustered().getCategoryId(), blockService,
+                                                            blockLookAhead,
+                                                            clusteredVariantAccessioningDatabaseService(),
+                                                            properties.getStripeSize());
+        }
+        if (blockLookAhead.isEnabled()) {
+            return new LookAheadMonotonicAccessionGenerator<>(properties.getClustered().getCategoryId(), blockLookAhead,
+                                                              clusteredVariantAccessioningDatabaseService());
+        }
         return new MonotonicAccessionGenerator<>(
                 properties.getClustered().getCategoryId(),
                 blockService,
                 clusteredVariantAccessioningDatabaseService());
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public BlockLookAhead clusteredVariantBlockLookAhead() {
+        BlockLookAheadProperties properties = applicationProperties.getBlockLookAhead();
+        if (!properties.isEnabled()) {
+            return BlockLookAhead.disabled();
+        }
+        return new BlockLookAhead(blockService, applicationProperties.getClustered().getCategoryId(),
+                                  properties.getThreshold(), properties.getMaxBlocks());
+    }
+
     @Bean
     public DbsnpMonotonicAccessionGenerator<IClusteredVariant> dbsnpClusteredVariantAccessionGenerator() {
         ApplicationProperties properties = applicationProperties;
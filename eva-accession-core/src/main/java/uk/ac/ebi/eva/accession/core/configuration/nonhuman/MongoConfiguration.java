@@ -20,6 +20,7 @@ import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoClient;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -27,6 +28,7 @@ import org.springframework.boot.autoconfigure.mongo.MongoProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
@@ -40,6 +42,9 @@ import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 import uk.ac.ebi.eva.accession.core.configuration.MongoClientCreator;
+import uk.ac.ebi.eva.accession.core.configuration.MongoCommandMetricsConfiguration;
+import uk.ac.ebi.eva.accession.core.metrics.MongoCommandMetricsListener;
+import uk.ac.ebi.eva.accession.core.model.codecs.VariantEntityCodecProvider;
 
 import java.io.UnsupportedEncodingException;
 import java.net.UnknownHostException;
@@ -49,6 +54,7 @@ import java.util.Collections;
 @EnableMongoRepositories(basePackages = {"uk.ac.ebi.eva.accession.core.repository"})
 @EntityScan(basePackages = {"uk.ac.ebi.eva.accession.core.persistence"})
 @EnableMongoAuditing
+@Import({MongoCommandMetricsConfiguration.class})
 public class MongoConfiguration {
 
     @Value("${mongodb.read-preference}")
@@ -57,6 +63,9 @@ public class MongoConfiguration {
     @Value("${parameters.mongodb.writeConcern:#{null}}")
     private String writeConcern;
 
+    @Autowired
+    private MongoCommandMetricsListener mongoCommandMetricsListener;
+
     @Primary
     @Bean
     @ConfigurationProperties(prefix = "spring.data.mongodb")
@@ -68,7 +77,8 @@ public class MongoConfiguration {
     @Primary
     public MongoClient mongoClient(MongoProperties properties, ObjectProvider<MongoClientSettings> settings)
             throws UnknownHostException, UnsupportedEncodingException {
-        return MongoClientCreator.getMongoClient(properties, settings, readPreference);
+        return MongoClientCreator.getMongoClient(properties, settings, readPreference,
+                                                 new VariantEntityCodecProvider(), mongoCommandMetricsListener);
     }
 
     @Bean("primaryFactory")
@@ -28,13 +28,19 @@ import org.springframework.context.annotation.Lazy;
 import uk.ac.ebi.ampt2d.commons.accession.autoconfigure.EnableSpringDataContiguousIdService;
 import uk.ac.ebi.ampt2d.commons.accession.core.AccessionSaveMode;
 import uk.ac.ebi.ampt2d.commons.accession.generators.monotonic.MonotonicAccessionGenerator;
-import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.service.ContiguousIdBlockService;
 import uk.ac.ebi.eva.accession.core.configuration.ApplicationProperties;
 import uk.ac.ebi.eva.accession.core.configuration.ApplicationPropertiesConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.BlockLookAheadProperties;
 import uk.ac.ebi.eva.accession.core.configuration.ContigAliasConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.AccessionLookupCacheConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.DbsnpBloomFilterConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.DualCollectionQueryConfiguration;
 import uk.ac.ebi.eva.accession.core.contigalias.ContigAliasService;
+import uk.ac.ebi.eva.accession.core.generators.BlockLookAhead;
 import uk.ac.ebi.eva.accession.core.generators.DbsnpMonotonicAccessionGenerator;
+import uk.ac.ebi.eva.accession.core.generators.LookAheadMonotonicAccessionGenerator;
+import uk.ac.ebi.eva.accession.core.generators.StripedMonotonicAccessionGenerator;
 import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantInactiveEntity;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantOperationEntity;
@@ -44,18 +50,25 @@ import uk.ac.ebi.eva.accession.core.repository.nonhuman.dbsnp.DbsnpSubmittedVari
 import uk.ac.ebi.eva.accession.core.repository.nonhuman.dbsnp.DbsnpSubmittedVariantOperationRepository;
 import uk.ac.ebi.eva.accession.core.repository.nonhuman.eva.SubmittedVariantAccessioningRepository;
 import uk.ac.ebi.eva.accession.core.repository.nonhuman.eva.SubmittedVariantOperationRepository;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.DualCollectionQueryExecutor;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.SubmittedVariantAccessioningService;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.VariantLookupCaches;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpSubmittedVariantAccessioningDatabaseService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpSubmittedVariantInactiveService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpSubmittedVariantMonotonicAccessioningService;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpNegativeCache;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.eva.SubmittedVariantAccessioningDatabaseService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.eva.SubmittedVariantInactiveService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.eva.SubmittedVariantMonotonicAccessioningService;
-import uk.ac.ebi.eva.accession.core.summary.SubmittedVariantSummaryFunction;
+import uk.ac.ebi.eva.accession.core.summary.SubmittedVariantHashingFunction;
+
+import java.util.function.Function;
 
 @Configuration
 @EnableSpringDataContiguousIdService
-@Import({ApplicationPropertiesConfiguration.class, MongoConfiguration.class, ContigAliasConfiguration.class})
+@Import({ApplicationPropertiesConfiguration.class, MongoConfiguration.class, ContigAliasConfiguration.class,
+        DualCollectionQueryConfiguration.class, DbsnpBloomFilterConfiguration.class,
+        AccessionLookupCacheConfiguration.class})
 public class SubmittedVariantAccessioningConfiguration {
 
     private static final Logger logger = LoggerFactory.getLogger(SubmittedVariantAccessioningConfiguration.class);
@@ -89,6 +102,15 @@ public class SubmittedVariantAccessioningConfiguration {
     @Autowired
     private ContigAliasService contigAliasService;
 
+    @Autowired
+    private DualCollectionQueryExecutor dualCollectionQueryExecutor;
+
+    @Autowired
+    private DbsnpNegativeCache<ISubmittedVariant> dbsnpSubmittedVariantNegativeCache;
+
+    @Autowired
+    private VariantLookupCaches variantLookupCaches;
+
     @Value("${accessioning.submitted.categoryId}")
     private String categoryId;
 
@@ -104,35 +126,58 @@ public class SubmittedVariantAccessioningConfiguration {
     public SubmittedVariantAccessioningService submittedVariantAccessioningService() {
         return new SubmittedVariantAccessioningService(submittedVariantMonotonicAccessioningService(),
                                                        dbsnpSubmittedVariantMonotonicAccessioningService(),
-                                                       accessioningMonotonicInitSs(), contigAliasService);
+                                                       accessioningMonotonicInitSs(), contigAliasService,
+                                                       dualCollectionQueryExecutor, variantLookupCaches);
     }
 
     private SubmittedVariantMonotonicAccessioningService submittedVariantMonotonicAccessioningService() {
         return new SubmittedVariantMonotonicAccessioningService(submittedVariantAccessionGenerator(),
                                                                 submittedVariantAccessioningDatabaseService(),
-                                                                new SubmittedVariantSummaryFunction(),
-                                                                new SHA1HashingFunction(),
+                                                                new SubmittedVariantHashingFunction(),
+                                                                Function.identity(),
                                                                 accessionSaveMode);
     }
 
     private DbsnpSubmittedVariantMonotonicAccessioningService dbsnpSubmittedVariantMonotonicAccessioningService() {
         return new DbsnpSubmittedVariantMonotonicAccessioningService(dbsnpSubmittedVariantAccessionGenerator(),
                                                                      dbsnpSubmittedVariantAccessioningDatabaseService(),
-                                                                     new SubmittedVariantSummaryFunction(),
-                                                                     new SHA1HashingFunction(),
-                                                                     accessionSaveMode);
+                                                                     new SubmittedVariantHashingFunction(),
+                                                                     Function.identity(),
+                                                                     accessionSaveMode,
+                                                                     dbsnpSubmittedVariantNegativeCache);
     }
 
     @Bean
     public MonotonicAccessionGenerator<ISubmittedVariant> submittedVariantAccessionGenerator() {
         ApplicationProperties properties = applicationProperties;
         logger.debug("Using application properties: " + properties.toString());
+        BlockLookAhead blockLookAhead = submittedVariantBlockLookAhead();
+        if (properties.getStripeSize() > 0) {
+            return new StripedMonotonicAccessionGenerator<>(properties.getSubmitted().getCategoryId(), blockService,
+                                                            blockLookAhead,
+                                                            submittedVariantAccessioningDatabaseService(),
+                                                            properties.getStripeSize());
+        }
+        if (blockLookAhead.isEnabled()) {
+            return new LookAheadMonotonicAccessionGenerator<>(properties.getSubmitted().getCategoryId(), blockLookAhead,
+                                                              submittedVariantAccessioningDatabaseService());
+        }
         return new MonotonicAccessionGenerator<>(
                 properties.getSubmitted().getCategoryId(),
                 blockService,
                 submittedVariantAccessioningDatabaseService());
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public BlockLookAhead submittedVariantBlockLookAhead() {
+        BlockLookAheadProperties properties = applicationProperties.getBlockLookAhead();
+        if (!properties.isEnabled()) {
+            return BlockLookAhead.disabled();
+        }
+        return new BlockLookAhead(blockService, applicationProperties.getSubmitted().getCategoryId(),
+                                  properties.getThreshold(), properties.getMaxBlocks());
+    }
+
     @Bean
     public DbsnpMonotonicAccessionGenerator<ISubmittedVariant> dbsnpSubmittedVariantAccessionGenerator() {
         ApplicationProperties properties = applicationProperties;
@@ -17,122 +17,104 @@
  */
 package uk.ac.ebi.eva.accession.core.contig;
 
+import org.springframework.core.io.UrlResource;
+import org.springframework.util.DigestUtils;
+
 import uk.ac.ebi.eva.accession.core.batch.io.AssemblyReportReader;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import static org.springframework.util.StringUtils.hasText;
 
+/**
+ * Finds the synonyms of a contig in an assembly report. The rows are kept in a compact {@link ContigSynonymsIndex},
+ * which can also be loaded from a binary snapshot to skip downloading and parsing the report.
+ */
 public class ContigMapping {
 
-    private static final String ASSEMBLED_MOLECULE = "assembled-molecule";
-
-    private static final String NOT_AVAILABLE = "na";
+    private final ContigSynonymsIndex index;
 
-    Map<String, ContigSynonyms> sequenceNameToSynonyms = new HashMap<>();
-
-    Map<String, ContigSynonyms> assignedMoleculeToSynonyms = new HashMap<>();
+    public ContigMapping(String assemblyReportUrl) throws Exception {
+        this(assemblyReportUrl, null);
+    }
 
-    Map<String, ContigSynonyms> genBankToSynonyms = new HashMap<>();
+    /**
+     * Memory-maps the snapshot of the assembly report if it exists and was built from the same URL, when the report had
+     * the same size and modification time (or the same checksum if the server doesn't tell when it was modified).
+     * Otherwise, the report is read and the snapshot is written for the next run.
+     *
+     * @param snapshotPath path of the binary snapshot, or null or empty to always read the assembly report
+     */
+    public ContigMapping(String assemblyReportUrl, String snapshotPath) throws Exception {
+        this(hasText(snapshotPath) ? loadOrBuild(assemblyReportUrl, Paths.get(snapshotPath))
+                                   : ContigSynonymsIndex.build(assemblyReportUrl,
+                                                               readAll(new AssemblyReportReader(assemblyReportUrl))));
+    }
 
-    Map<String, ContigSynonyms> refSeqToSynonyms = new HashMap<>();
+    public ContigMapping(AssemblyReportReader assemblyReportReader) throws Exception {
+        this(ContigSynonymsIndex.build(null, readAll(assemblyReportReader)));
+    }
 
-    Map<String, ContigSynonyms> ucscToSynonyms = new HashMap<>();
+    public ContigMapping(List<ContigSynonyms> contigSynonyms) {
+        this(ContigSynonymsIndex.build(null, contigSynonyms));
+    }
 
-    public ContigMapping(String assemblyReportUrl) throws Exception {
-        this(new AssemblyReportReader(assemblyReportUrl));
+    public ContigMapping(ContigSynonymsIndex index) {
+        this.index = index;
     }
 
-    public ContigMapping(AssemblyReportReader assemblyReportReader) throws Exception {
+    private static List<ContigSynonyms> readAll(AssemblyReportReader assemblyReportReader) throws Exception {
+        List<ContigSynonyms> rows = new ArrayList<>();
         ContigSynonyms contigSynonyms;
         while ((contigSynonyms = assemblyReportReader.read()) != null) {
-            fillContigConventionMaps(contigSynonyms);
+            rows.add(contigSynonyms);
         }
+        return rows;
     }
 
-    public ContigMapping(List<ContigSynonyms> contigSynonyms) {
-        contigSynonyms.forEach(this::fillContigConventionMaps);
+    private static ContigSynonymsIndex loadOrBuild(String assemblyReportUrl, Path snapshotPath) throws IOException {
+        String assemblyReportVersion = getAssemblyReportVersion(assemblyReportUrl);
+        return ContigSynonymsIndex.loadOrBuild(snapshotPath, assemblyReportUrl, assemblyReportVersion, () -> {
+            try {
+                return readAll(new AssemblyReportReader(assemblyReportUrl)).iterator();
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not read assembly report " + assemblyReportUrl, e);
+            }
+        });
     }
 
-    /**
-     * Adds an entry to every map, where the key is a name, and the value is the row where it appears.
-     *
-     * Take into account:
-     * - UCSC and assignedMolecule columns may appear as "na" (not available).
-     * - assignedMolecule values may not be unique across rows. Keep only those that have "assembled-molecule" in the
-     * Sequence-Role column.
-     * - with our custom assembly reports, sometimes the Genbank column is also not unique. Keep all the duplicated
-     * entries but when asked for a genbank, return the mapping where it's an "assembled-molecule".
-     */
-    private void fillContigConventionMaps(ContigSynonyms contigSynonyms) {
-        normalizeNames(contigSynonyms);
-
-        if (contigSynonyms.getSequenceName() != null) {
-            ContigSynonyms previousValue = sequenceNameToSynonyms.put(contigSynonyms.getSequenceName(), contigSynonyms);
-            if (previousValue != null) {
-                throw new IllegalArgumentException(
-                        "Can't build a contig mapping because the sequence names (chromosome names) such as '"
-                        + contigSynonyms.getSequenceName() + "' are not unique.");
-            }
-        }
-        if (contigSynonyms.getAssignedMolecule() != null) {
-            assignedMoleculeToSynonyms.put(contigSynonyms.getAssignedMolecule(), contigSynonyms);
-        }
-        if (contigSynonyms.getGenBank() != null) {
-            if (ASSEMBLED_MOLECULE.equals(contigSynonyms.getSequenceRole())) {
-                genBankToSynonyms.put(contigSynonyms.getGenBank(), contigSynonyms);
-            } else {
-                genBankToSynonyms.putIfAbsent(contigSynonyms.getGenBank(), contigSynonyms);
-            }
-        }
-        if (contigSynonyms.getRefSeq() != null) {
-            refSeqToSynonyms.put(contigSynonyms.getRefSeq(), contigSynonyms);
+    static String getAssemblyReportVersion(String assemblyReportUrl) throws IOException {
+        UrlResource assemblyReport = new UrlResource(assemblyReportUrl);
+        long lastModified = assemblyReport.lastModified();
+        if (lastModified > 0) {
+            return "size=" + assemblyReport.contentLength() + ",lastModified=" + lastModified;
         }
-        if (contigSynonyms.getUcsc() != null) {
-            ucscToSynonyms.put(contigSynonyms.getUcsc(), contigSynonyms);
+        try (InputStream inputStream = assemblyReport.getInputStream()) {
+            return "md5=" + DigestUtils.md5DigestAsHex(inputStream);
         }
-
     }
 
-    private void normalizeNames(ContigSynonyms contigSynonyms) {
-        if (NOT_AVAILABLE.equals(contigSynonyms.getSequenceName())) {
-            contigSynonyms.setSequenceName(null);
-        }
-        if (NOT_AVAILABLE.equals(contigSynonyms.getAssignedMolecule())
-                || !ASSEMBLED_MOLECULE.equals(contigSynonyms.getSequenceRole())) {
-            contigSynonyms.setAssignedMolecule(null);
-        }
-        if (NOT_AVAILABLE.equals(contigSynonyms.getGenBank())) {
-            contigSynonyms.setGenBank(null);
-        }
-        if (NOT_AVAILABLE.equals(contigSynonyms.getRefSeq())) {
-            contigSynonyms.setRefSeq(null);
-        }
-        if (NOT_AVAILABLE.equals(contigSynonyms.getUcsc())) {
-            contigSynonyms.setUcsc(null);
-        }
+    int getNameCount(ContigNaming contigNaming) {
+        return index.getNameCount(contigNaming);
     }
 
+    /**
+     * Looks for the contig in the RefSeq, GenBank, assigned molecule, sequence name and UCSC columns, in that order.
+     *
+     * Take into account:
+     * - "na" (not available) names are returned as null.
+     * - assignedMolecule values may not be unique across rows. Only those that have "assembled-molecule" in the
+     * Sequence-Role column are kept.
+     * - with our custom assembly reports, sometimes the Genbank column is also not unique. When asked for a duplicated
+     * genbank, the row where it's an "assembled-molecule" is returned.
+     */
     public ContigSynonyms getContigSynonyms(String contig) {
-        ContigSynonyms contigSynonyms;
-        if ((contigSynonyms = refSeqToSynonyms.get(contig)) != null) {
-            return contigSynonyms;
-        }
-        if ((contigSynonyms = genBankToSynonyms.get(contig)) != null) {
-            return contigSynonyms;
-        }
-        if ((contigSynonyms = assignedMoleculeToSynonyms.get(contig)) != null) {
-            return contigSynonyms;
-        }
-        if ((contigSynonyms = sequenceNameToSynonyms.get(contig)) != null) {
-            return contigSynonyms;
-        }
-        if ((contigSynonyms = ucscToSynonyms.get(contig)) != null) {
-            return contigSynonyms;
-        }
-        return null;
+        return index.getContigSynonyms(contig);
     }
 
     public String getContigSynonym(String contig, ContigSynonyms contigSynonyms, ContigNaming contigNaming) {
@@ -0,0 +1,510 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contig;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable index of the rows of an assembly report, to find the synonyms of a contig given any of its names.
+ *
+ * Every distinct name (and sequence role) is stored once in a string table, every row is a fixed number of ints that
+ * point to that table, and a single open-addressing hash table maps each name to the row that
+ * {@link #getContigSynonyms(String)} returns for it. The same layout is used in memory and in the binary snapshot
+ * written by {@link #write(Path)}, so {@link #load(Path)} only has to memory-map the file: rows and hash table are read
+ * in place, and names and rows are decoded the first time they are needed.
+ */
+public class ContigSynonymsIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContigSynonymsIndex.class);
+
+    static final int MAGIC = 0x45564143;
+
+    static final int VERSION = 2;
+
+    private static final String ASSEMBLED_MOLECULE = "assembled-molecule";
+
+    private static final String NOT_AVAILABLE = "na";
+
+    private static final int NO_NAME = -1;
+
+    private static final int SEQUENCE_NAME_COLUMN = 0;
+
+    private static final int SEQUENCE_ROLE_COLUMN = 1;
+
+    private static final int ASSIGNED_MOLECULE_COLUMN = 2;
+
+    private static final int GENBANK_COLUMN = 3;
+
+    private static final int REFSEQ_COLUMN = 4;
+
+    private static final int UCSC_COLUMN = 5;
+
+    private static final int IDENTICAL_GENBANK_AND_REFSEQ_COLUMN = 6;
+
+    private static final int ROW_WIDTH = 7;
+
+    /**
+     * Columns looked up by {@link #getContigSynonyms(String)}, in order of precedence when a name appears in several.
+     */
+    private static final int[] LOOKUP_COLUMNS = {REFSEQ_COLUMN, GENBANK_COLUMN, ASSIGNED_MOLECULE_COLUMN,
+            SEQUENCE_NAME_COLUMN, UCSC_COLUMN};
+
+    /**
+     * Every slot of the hash table has the hash of the name, the position of the name in the string table plus one
+     * (zero means empty) and the row.
+     */
+    private static final int SLOT_WIDTH = 3;
+
+    private static final int HEADER_INTS = 5 + LOOKUP_COLUMNS.length;
+
+    private static final int LENGTH_INTS = 3;
+
+    private final String source;
+
+    private final String sourceVersion;
+
+    private final String[] names;
+
+    private final IntBuffer nameOffsets;
+
+    private final ByteBuffer nameBytes;
+
+    private final IntBuffer rows;
+
+    private final IntBuffer table;
+
+    private final int tableMask;
+
+    private final int[] nameCounts;
+
+    private final AtomicReferenceArray<ContigSynonyms> decodedRows;
+
+    private ContigSynonymsIndex(String source, String sourceVersion, String[] names, IntBuffer nameOffsets,
+                                ByteBuffer nameBytes, IntBuffer rows, IntBuffer table, int[] nameCounts) {
+        this.source = source == null ? "" : source;
+        this.sourceVersion = sourceVersion == null ? "" : sourceVersion;
+        this.names = names;
+        this.nameOffsets = nameOffsets;
+        this.nameBytes = nameBytes;
+        this.rows = rows;
+        this.table = table;
+        this.tableMask = table.capacity() / SLOT_WIDTH - 1;
+        this.nameCounts = nameCounts;
+        this.decodedRows = new AtomicReferenceArray<>(rows.capacity() / ROW_WIDTH);
+    }
+
+    /**
+     * Takes into account:
+     * - UCSC and assignedMolecule columns may appear as "na" (not available).
+     * - assignedMolecule values may not be unique across rows. Keep only those that have "assembled-molecule" in the
+     * Sequence-Role column.
+     * - with our custom assembly reports, sometimes the Genbank column is also not unique. Keep all the duplicated
+     * entries but when asked for a genbank, return the mapping where it's an "assembled-molecule".
+     *
+     * @param source where the rows come from, e.g. the assembly report URL, stored in the snapshot
+     * @throws IllegalArgumentException if the sequence names are not unique
+     */
+    public static ContigSynonymsIndex build(String source, Iterable<ContigSynonyms> contigSynonymsRows) {
+        return build(source, null, contigSynonymsRows);
+    }
+
+    /**
+     * @param sourceVersion identifies the content of the source when the index is built, e.g. its size and
+     *                      modification time, so a snapshot is not used after the source changes
+     * @see #build(String, Iterable)
+     */
+    public static ContigSynonymsIndex build(String source, String sourceVersion,
+                                            Iterable<ContigSynonyms> contigSynonymsRows) {
+        Map<String, Integer> nameIds = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        List<int[]> rows = new ArrayList<>();
+        List<Map<String, Integer>> nameToRowByColumn = new ArrayList<>();
+        for (int i = 0; i < LOOKUP_COLUMNS.length; i++) {
+            nameToRowByColumn.add(new HashMap<>());
+        }
+
+        for (ContigSynonyms contigSynonyms : contigSynonymsRows) {
+            int[] row = new int[ROW_WIDTH];
+            String sequenceRole = contigSynonyms.getSequenceRole();
+            boolean assembledMolecule = ASSEMBLED_MOLECULE.equals(sequenceRole);
+            row[SEQUENCE_NAME_COLUMN] = intern(normalize(contigSynonyms.getSequenceName()), nameIds, names);
+            row[SEQUENCE_ROLE_COLUMN] = intern(sequenceRole, nameIds, names);
+            row[ASSIGNED_MOLECULE_COLUMN] = intern(
+                    assembledMolecule ? normalize(contigSynonyms.getAssignedMolecule()) : null, nameIds, names);
+            row[GENBANK_COLUMN] = intern(normalize(contigSynonyms.getGenBank()), nameIds, names);
+            row[REFSEQ_COLUMN] = intern(normalize(contigSynonyms.getRefSeq()), nameIds, names);
+            row[UCSC_COLUMN] = intern(normalize(contigSynonyms.getUcsc()), nameIds, names);
+            row[IDENTICAL_GENBANK_AND_REFSEQ_COLUMN] = contigSynonyms.isIdenticalGenBankAndRefSeq() ? 1 : 0;
+
+            int rowIndex = rows.size();
+            rows.add(row);
+            for (int i = 0; i < LOOKUP_COLUMNS.length; i++) {
+                int column = LOOKUP_COLUMNS[i];
+                if (row[column] == NO_NAME) {
+                    continue;
+                }
+                String name = names.get(row[column]);
+                Map<String, Integer> nameToRow = nameToRowByColumn.get(i);
+                if (column == SEQUENCE_NAME_COLUMN && nameToRow.containsKey(name)) {
+                    throw new IllegalArgumentException(
+                            "Can't build a contig mapping because the sequence names (chromosome names) such as '"
+                            + name + "' are not unique.");
+                }
+                if (column == GENBANK_COLUMN && !assembledMolecule) {
+                    nameToRow.putIfAbsent(name, rowIndex);
+                } else {
+                    nameToRow.put(name, rowIndex);
+                }
+            }
+        }
+        return compile(source, sourceVersion, names, rows, nameToRowByColumn);
+    }
+
+    private static String normalize(String name) {
+        return NOT_AVAILABLE.equals(name) ? null : name;
+    }
+
+    private static int intern(String name, Map<String, Integer> nameIds, List<String> names) {
+        if (name == null) {
+            return NO_NAME;
+        }
+        return nameIds.computeIfAbsent(name, key -> {
+            names.add(key);
+            return names.size() - 1;
+        });
+    }
+
+    private static ContigSynonymsIndex compile(String source, String sourceVersion, List<String> names,
+                                               List<int[]> rows, List<Map<String, Integer>> nameToRowByColumn) {
+        int[] nameCounts = new int[LOOKUP_COLUMNS.length];
+        int distinctNames = 0;
+        for (int i = 0; i < LOOKUP_COLUMNS.length; i++) {
+            nameCounts[i] = nameToRowByColumn.get(i).size();
+            distinctNames += nameCounts[i];
+        }
+        int slots = Integer.highestOneBit(Math.max(2 * distinctNames, 2) - 1) << 1;
+        IntBuffer table = IntBuffer.allocate(slots * SLOT_WIDTH);
+        ContigSynonymsIndex index = new ContigSynonymsIndex(source, sourceVersion, names.toArray(new String[0]), null,
+                                                            null, flatten(rows), table, nameCounts);
+
+        Map<String, Integer> nameIds = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            nameIds.put(names.get(i), i);
+        }
+        // the columns are visited by precedence, so a name keeps the row of the first column where it appears
+        for (Map<String, Integer> nameToRow : nameToRowByColumn) {
+            for (Map.Entry<String, Integer> entry : nameToRow.entrySet()) {
+                index.putIfAbsent(nameIds.get(entry.getKey()), entry.getValue());
+            }
+        }
+        return index;
+    }
+
+    private static IntBuffer flatten(List<int[]> rows) {
+        IntBuffer flattened = IntBuffer.allocate(rows.size() * ROW_WIDTH);
+        rows.forEach(flattened::put);
+        return flattened.clear();
+    }
+
+    private void putIfAbsent(int nameId, int row) {
+        String name = names[nameId];
+        int hash = name.hashCode();
+        for (int slot = mix(hash) & tableMask; ; slot = (slot + 1) & tableMask) {
+            int position = slot * SLOT_WIDTH;
+            int storedName = table.get(position + 1);
+            if (storedName == 0) {
+                table.put(position, hash);
+                table.put(position + 1, nameId + 1);
+                table.put(position + 2, row);
+                return;
+            }
+            if (storedName == nameId + 1) {
+                return;
+            }
+        }
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the synonyms of a contig, looking for its name in the RefSeq, GenBank, assigned molecule, sequence name
+     * and UCSC columns, in that order. The same ContigSynonyms is returned for every name of a row, so it must not be
+     * modified.
+     */
+    public ContigSynonyms getContigSynonyms(String contig) {
+        if (contig == null) {
+            return null;
+        }
+        int hash = contig.hashCode();
+        for (int slot = mix(hash) & tableMask; ; slot = (slot + 1) & tableMask) {
+            int position = slot * SLOT_WIDTH;
+            int storedName = table.get(position + 1);
+            if (storedName == 0) {
+                return null;
+            }
+            if (table.get(position) == hash && getName(storedName - 1).equals(contig)) {
+                return getRow(table.get(position + 2));
+            }
+        }
+    }
+
+    /**
+     * Rows are decoded once and kept. The array publishes them safely to other threads, and a race between threads
+     * decoding the same row only creates an equal ContigSynonyms that is discarded.
+     */
+    private ContigSynonyms getRow(int row) {
+        ContigSynonyms contigSynonyms = decodedRows.get(row);
+        if (contigSynonyms == null) {
+            decodedRows.compareAndSet(row, null, decodeRow(row));
+            contigSynonyms = decodedRows.get(row);
+        }
+        return contigSynonyms;
+    }
+
+    private ContigSynonyms decodeRow(int row) {
+        int position = row * ROW_WIDTH;
+        return new ContigSynonyms(getName(rows.get(position + SEQUENCE_NAME_COLUMN)),
+                                  getName(rows.get(position + SEQUENCE_ROLE_COLUMN)),
+                                  getName(rows.get(position + ASSIGNED_MOLECULE_COLUMN)),
+                                  getName(rows.get(position + GENBANK_COLUMN)),
+                                  getName(rows.get(position + REFSEQ_COLUMN)),
+                                  getName(rows.get(position + UCSC_COLUMN)),
+                                  rows.get(position + IDENTICAL_GENBANK_AND_REFSEQ_COLUMN) != 0);
+    }
+
+    /**
+     * Names of a memory-mapped index are decoded once and kept. Strings are immutable, so a race between threads
+     * decoding the same name is harmless.
+     */
+    private String getName(int nameId) {
+        if (nameId == NO_NAME) {
+            return null;
+        }
+        String name = names[nameId];
+        if (name == null) {
+            int start = nameOffsets.get(nameId);
+            byte[] bytes = new byte[nameOffsets.get(nameId + 1) - start];
+            nameBytes.get(start, bytes);
+            name = new String(bytes, StandardCharsets.UTF_8);
+            names[nameId] = name;
+        }
+        return name;
+    }
+
+    /**
+     * @return how many different names of a naming convention can be looked up
+     */
+    public int getNameCount(ContigNaming contigNaming) {
+        switch (contigNaming) {
+            case REFSEQ:
+                return nameCounts[0];
+            case INSDC:
+                return nameCounts[1];
+            case ASSIGNED_MOLECULE:
+                return nameCounts[2];
+            case SEQUENCE_NAME:
+                return nameCounts[3];
+            case UCSC:
+                return nameCounts[4];
+            default:
+                throw new IllegalArgumentException(contigNaming + " is not a naming stored in the index");
+        }
+    }
+
+    public int getRowCount() {
+        return rows.capacity() / ROW_WIDTH;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getSourceVersion() {
+        return sourceVersion;
+    }
+
+    /**
+     * Writes a binary snapshot of this index that can be memory-mapped with {@link #load(Path)}. The snapshot is
+     * written to a temporary file that is then moved to the destination, so a concurrent or failed write never leaves
+     * a truncated snapshot behind.
+     */
+    public void write(Path snapshotPath) throws IOException {
+        Path absolutePath = snapshotPath.toAbsolutePath();
+        Path temporaryPath = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(),
+                                                  ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+                writeTo(output);
+            }
+            try {
+                Files.move(temporaryPath, absolutePath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    private void writeTo(DataOutputStream output) throws IOException {
+        byte[] sourceBytes = source.getBytes(StandardCharsets.UTF_8);
+        byte[] sourceVersionBytes = sourceVersion.getBytes(StandardCharsets.UTF_8);
+        byte[][] encodedNames = new byte[names.length][];
+        int nameBytesLength = 0;
+        for (int i = 0; i < names.length; i++) {
+            encodedNames[i] = getName(i).getBytes(StandardCharsets.UTF_8);
+            nameBytesLength += encodedNames[i].length;
+        }
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(names.length);
+        output.writeInt(getRowCount());
+        output.writeInt(table.capacity() / SLOT_WIDTH);
+        for (int nameCount : nameCounts) {
+            output.writeInt(nameCount);
+        }
+        output.writeInt(sourceBytes.length);
+        output.writeInt(sourceVersionBytes.length);
+        output.writeInt(nameBytesLength);
+
+        int offset = 0;
+        for (byte[] encodedName : encodedNames) {
+            output.writeInt(offset);
+            offset += encodedName.length;
+        }
+        output.writeInt(offset);
+        for (int i = 0; i < rows.capacity(); i++) {
+            output.writeInt(rows.get(i));
+        }
+        for (int i = 0; i < table.capacity(); i++) {
+            output.writeInt(table.get(i));
+        }
+        output.write(sourceBytes);
+        output.write(sourceVersionBytes);
+        for (byte[] encodedName : encodedNames) {
+            output.write(encodedName);
+        }
+    }
+
+    /**
+     * Memory-maps a snapshot written by {@link #write(Path)}.
+     *
+     * @throws IOException if the file can't be read, is not a snapshot, or was written by another version
+     */
+    public static ContigSynonymsIndex load(Path snapshotPath) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int headerBytes = (HEADER_INTS + LENGTH_INTS) * Integer.BYTES;
+        if (buffer.capacity() < headerBytes || buffer.getInt(0) != MAGIC) {
+            throw new IOException(snapshotPath + " is not a contig mapping snapshot");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Contig mapping snapshot " + snapshotPath + " has version "
+                                  + buffer.getInt(Integer.BYTES) + " but version " + VERSION + " is required");
+        }
+        IntBuffer header = buffer.asIntBuffer();
+        int nameCount = header.get(2);
+        int rowCount = header.get(3);
+        int slots = header.get(4);
+        int[] nameCounts = new int[LOOKUP_COLUMNS.length];
+        for (int i = 0; i < nameCounts.length; i++) {
+            nameCounts[i] = header.get(5 + i);
+        }
+        int sourceLength = header.get(HEADER_INTS);
+        int sourceVersionLength = header.get(HEADER_INTS + 1);
+        int nameBytesLength = header.get(HEADER_INTS + 2);
+
+        int nameOffsetsStart = headerBytes;
+        int rowsStart = nameOffsetsStart + (nameCount + 1) * Integer.BYTES;
+        int tableStart = rowsStart + rowCount * ROW_WIDTH * Integer.BYTES;
+        int sourceStart = tableStart + slots * SLOT_WIDTH * Integer.BYTES;
+        int sourceVersionStart = sourceStart + sourceLength;
+        int nameBytesStart = sourceVersionStart + sourceVersionLength;
+        if (Integer.bitCount(slots) != 1 || buffer.capacity() != (long) nameBytesStart + nameBytesLength) {
+            throw new IOException("Contig mapping snapshot " + snapshotPath + " is truncated or corrupted");
+        }
+
+        return new ContigSynonymsIndex(decode(buffer, sourceStart, sourceLength),
+                                       decode(buffer, sourceVersionStart, sourceVersionLength), new String[nameCount],
+                                       slice(buffer, nameOffsetsStart, nameCount + 1),
+                                       buffer.slice(nameBytesStart, nameBytesLength),
+                                       slice(buffer, rowsStart, rowCount * ROW_WIDTH),
+                                       slice(buffer, tableStart, slots * SLOT_WIDTH), nameCounts);
+    }
+
+    private static String decode(ByteBuffer buffer, int start, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static IntBuffer slice(ByteBuffer buffer, int start, int ints) {
+        return buffer.slice(start, ints * Integer.BYTES).asIntBuffer();
+    }
+
+    /**
+     * Loads the snapshot if it exists and was built from the same version of the same source. Otherwise, the index is
+     * built with the provided rows and the snapshot is (re)written, so the next run can use it.
+     *
+     * @param sourceVersion see {@link #build(String, String, Iterable)}
+     */
+    public static ContigSynonymsIndex loadOrBuild(Path snapshotPath, String source, String sourceVersion,
+                                                  Iterable<ContigSynonyms> contigSynonymsRows) throws IOException {
+        if (Files.exists(snapshotPath)) {
+            try {
+                ContigSynonymsIndex index = load(snapshotPath);
+                if (Objects.equals(index.getSource(), source)
+                        && index.getSourceVersion().equals(sourceVersion == null ? "" : sourceVersion)) {
+                    return index;
+                }
+                logger.info("Contig mapping snapshot {} was built from {} ({}), rebuilding it from {} ({})",
+                            snapshotPath, index.getSource(), index.getSourceVersion(), source, sourceVersion);
+            } catch (IOException e) {
+                logger.warn("Contig mapping snapshot {} can't be used, rebuilding it: {}", snapshotPath,
+                            e.getMessage());
+            }
+        }
+        ContigSynonymsIndex index = build(source, sourceVersion, contigSynonymsRows);
+        index.write(snapshotPath);
+        return index;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contigalias;
+
+import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of contig translations, evicting the least recently used entry when full and any entry older than
+ * the configured time to live.
+ *
+ * Translations are keyed by direction (from or to INSDC), contig, naming convention and assembly. Failed translations
+ * are not cached. The cache is thread-safe, but two threads missing the same key at the same time may both query the
+ * contig alias service.
+ */
+public class ContigAliasCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+    public enum Direction {
+        FROM_INSDC,
+        TO_INSDC
+    }
+
+    private final int maxSize;
+
+    private final long timeToLiveMillis;
+
+    private final Clock clock;
+
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private final AtomicLong hits;
+
+    private final AtomicLong misses;
+
+    private final AtomicLong evictions;
+
+    public ContigAliasCache(int maxSize, Duration timeToLive) {
+        this(maxSize, timeToLive, Clock.systemUTC());
+    }
+
+    ContigAliasCache(int maxSize, Duration timeToLive, Clock clock) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Contig alias cache size can't be negative");
+        }
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+    }
+
+    /**
+     * A cache that never stores anything, so that every translation is requested to the contig alias service.
+     */
+    public static ContigAliasCache disabled() {
+        return new ContigAliasCache(0, Duration.ZERO);
+    }
+
+    /**
+     * Returns the cached translation if present and not expired, otherwise computes it with the given supplier and
+     * caches the result. Exceptions thrown by the supplier are propagated and nothing is cached.
+     */
+    public String get(Direction direction, String contig, ContigNamingConvention contigNamingConvention,
+                      String assembly, Supplier<String> translation) {
+        if (maxSize == 0) {
+            misses.incrementAndGet();
+            return translation.get();
+        }
+        Key key = new Key(direction, contig, contigNamingConvention, assembly);
+        String cached = getIfPresent(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        String translatedContig = translation.get();
+        if (translatedContig != null) {
+            put(key, translatedContig);
+        }
+        return translatedContig;
+    }
+
+    private synchronized String getIfPresent(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            return null;
+        }
+        return entry.translatedContig;
+    }
+
+    private synchronized void put(Key key, String translatedContig) {
+        entries.put(key, new Entry(translatedContig, clock.millis()));
+        while (entries.size() > maxSize) {
+            Key eldest = entries.keySet().iterator().next();
+            entries.remove(eldest);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return clock.millis() - entry.creationTimeMillis >= timeToLiveMillis;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "ContigAliasCache{" +
+                "size=" + size() +
+                ", maxSize=" + maxSize +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() +
+                '}';
+    }
+
+    private static class Key {
+
+        private final Direction direction;
+
+        private final String contig;
+
+        private final ContigNamingConvention contigNamingConvention;
+
+        private final String assembly;
+
+        Key(Direction direction, String contig, ContigNamingConvention contigNamingConvention, String assembly) {
+            this.direction = direction;
+            this.contig = contig;
+            this.contigNamingConvention = contigNamingConvention;
+            this.assembly = assembly;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return direction == key.direction &&
+                    Objects.equals(contig, key.contig) &&
+                    contigNamingConvention == key.contigNamingConvention &&
+                    Objects.equals(assembly, key.assembly);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(direction, contig, contigNamingConvention, assembly);
+        }
+    }
+
+    private static class Entry {
+
+        private final String translatedContig;
+
+        private final long creationTimeMillis;
+
+        Entry(String translatedContig, long creationTimeMillis) {
+            this.translatedContig = translatedContig;
+            this.creationTimeMillis = creationTimeMillis;
+        }
+    }
+}
@@ -17,10 +17,27 @@
  */
 package uk.ac.ebi.eva.accession.core.contigalias;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class ContigAliasInputParameters {
 
     private String url;
 
+    /**
+     * Maximum number of contig translations kept in memory. Use 0 to disable the cache.
+     */
+    private int cacheMaxSize = ContigAliasCache.DEFAULT_MAX_SIZE;
+
+    private long cacheTimeToLiveSeconds = ContigAliasCache.DEFAULT_TIME_TO_LIVE.getSeconds();
+
+    private ContigTranslationBackend backend = ContigTranslationBackend.REMOTE;
+
+    /**
+     * Assembly report URL for each assembly accession, used by the LOCAL and LOCAL_THEN_REMOTE backends.
+     */
+    private Map<String, String> assemblyReports = new HashMap<>();
+
     public ContigAliasInputParameters() {
     }
 
@@ -31,4 +48,36 @@ public class ContigAliasInputParameters {
     public void setUrl(String url) {
         this.url = url;
     }
+
+    public int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    public void setCacheMaxSize(int cacheMaxSize) {
+        this.cacheMaxSize = cacheMaxSize;
+    }
+
+    public long getCacheTimeToLiveSeconds() {
+        return cacheTimeToLiveSeconds;
+    }
+
+    public void setCacheTimeToLiveSeconds(long cacheTimeToLiveSeconds) {
+        this.cacheTimeToLiveSeconds = cacheTimeToLiveSeconds;
+    }
+
+    public ContigTranslationBackend getBackend() {
+        return backend;
+    }
+
+    public void setBackend(ContigTranslationBackend backend) {
+        this.backend = backend;
+    }
+
+    public Map<String, String> getAssemblyReports() {
+        return assemblyReports;
+    }
+
+    public void setAssemblyReports(Map<String, String> assemblyReports) {
+        this.assemblyReports = assemblyReports;
+    }
 }
@@ -18,7 +18,6 @@
 package uk.ac.ebi.eva.accession.core.contigalias;
 
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.IEvent;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
@@ -30,30 +29,36 @@ import uk.ac.ebi.eva.accession.core.model.SubmittedVariant;
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantInactiveEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantOperationEntity;
-import uk.ac.ebi.eva.commons.core.models.contigalias.ContigAliasResponse;
-import uk.ac.ebi.eva.commons.core.models.contigalias.ContigAliasTranslator;
 import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
 
-import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 public class ContigAliasService {
 
-    public static final String CONTIG_ALIAS_CHROMOSOMES_GENBANK_ENDPOINT = "/v1/chromosomes/genbank/";
+    private final ContigTranslator contigTranslator;
 
-    public static final String CONTIG_ALIAS_CHROMOSOMES_REFSEQ_ENDPOINT = "/v1/chromosomes/refseq/";
+    private final ContigAliasCache contigAliasCache;
 
-    public static final String CONTIG_ALIAS_CHROMOSOMES_NAME_ENDPOINT = "/v1/chromosomes/name/";
+    public ContigAliasService(RestTemplate restTemplate, String contigAliasUrl) {
+        this(restTemplate, contigAliasUrl,
+             new ContigAliasCache(ContigAliasCache.DEFAULT_MAX_SIZE, ContigAliasCache.DEFAULT_TIME_TO_LIVE));
+    }
 
-    private final RestTemplate restTemplate;
+    public ContigAliasService(RestTemplate restTemplate, String contigAliasUrl, ContigAliasCache contigAliasCache) {
+        this(new RemoteContigTranslator(restTemplate, contigAliasUrl), contigAliasCache);
+    }
 
-    private final String contigAliasUrl;
+    public ContigAliasService(ContigTranslator contigTranslator, ContigAliasCache contigAliasCache) {
+        this.contigTranslator = contigTranslator;
+        this.contigAliasCache = contigAliasCache;
+    }
 
-    public ContigAliasService(RestTemplate restTemplate, String contigAliasUrl) {
-        this.restTemplate = restTemplate;
-        this.contigAliasUrl = contigAliasUrl;
+    public ContigAliasCache getContigAliasCache() {
+        return contigAliasCache;
     }
 
     public List<AccessionWrapper<ISubmittedVariant, String, Long>> getSubmittedVariantsWithTranslatedContig(
@@ -61,8 +66,10 @@ public class ContigAliasService {
             ContigNamingConvention contigNamingConvention) throws NoSuchElementException {
         if (skipContigTranslation(contigNamingConvention)) return submittedVariants;
         List<AccessionWrapper<ISubmittedVariant, String, Long>> submittedVariantsAfterContigAlias = new ArrayList<>();
+        Map<String, String> translatedContigs = new HashMap<>();
         for (AccessionWrapper<ISubmittedVariant, String, Long> submittedVariant : submittedVariants) {
-            String translatedContig = translateContigFromInsdc(submittedVariant.getData().getContig(), contigNamingConvention);
+            String translatedContig = translateContigFromInsdc(submittedVariant.getData().getContig(),
+                                                               contigNamingConvention, translatedContigs);
             submittedVariantsAfterContigAlias.add(
                     createSubmittedVariantAccessionWrapperWithNewContig(submittedVariant, translatedContig));
         }
@@ -83,91 +90,38 @@ public class ContigAliasService {
     }
 
     /**
-     * Query contig alias service to translate the contig to the desired naming convention
+     * Translate the contig to the desired naming convention, using the configured ContigTranslator
      */
     public String translateContigFromInsdc(String genbankContig, ContigNamingConvention contigNamingConvention) {
-        URI uri = buildUri(CONTIG_ALIAS_CHROMOSOMES_GENBANK_ENDPOINT, genbankContig);
-        ContigAliasResponse contigAliasResponse = restTemplate.getForObject(uri, ContigAliasResponse.class);
-        if (contigAliasResponse == null || contigAliasResponse.getEmbedded() == null) {
-            throw new NoSuchElementException("No contig alias data found for Genbank contig: " + genbankContig);
-        }
-        return ContigAliasTranslator.getTranslatedContig(contigAliasResponse, contigNamingConvention);
+        return contigAliasCache.get(ContigAliasCache.Direction.FROM_INSDC, genbankContig, contigNamingConvention, null,
+                                    () -> contigTranslator.translateContigFromInsdc(genbankContig,
+                                                                                     contigNamingConvention));
     }
 
     /**
-     * Query contig alias service to translate the contig from specified naming convention to INSDC.
+     * Translates each distinct contig of a list only once: translations already done for the list are kept in
+     * translatedContigs.
      */
-    public String translateContigToInsdc(String contig, String assembly, ContigNamingConvention contigNamingConvention) {
-        if (skipContigTranslation(contigNamingConvention)) {
-            return contig;
-        }
-        if (contigNamingConvention.equals(ContigNamingConvention.REFSEQ)) {
-            return translateContigRefseqToInsdc(contig);
-        } else {
-            return translateContigNameToInsdc(contig, assembly, contigNamingConvention);
-        }
-    }
-
-    private String translateContigRefseqToInsdc(String refseq) {
-        URI uri = buildUri(CONTIG_ALIAS_CHROMOSOMES_REFSEQ_ENDPOINT, refseq);
-        ContigAliasResponse contigAliasResponse = restTemplate.getForObject(uri, ContigAliasResponse.class);
-        if (contigAliasResponse == null || contigAliasResponse.getEmbedded() == null) {
-            throw new NoSuchElementException("No contig alias data found for RefSeq: " + refseq);
+    private String translateContigFromInsdc(String genbankContig, ContigNamingConvention contigNamingConvention,
+                                            Map<String, String> translatedContigs) {
+        String translatedContig = translatedContigs.get(genbankContig);
+        if (translatedContig == null) {
+            translatedContig = translateContigFromInsdc(genbankContig, contigNamingConvention);
+            translatedContigs.put(genbankContig, translatedContig);
         }
-        return ContigAliasTranslator.getTranslatedContig(contigAliasResponse, ContigNamingConvention.INSDC);
-    }
-
-    private String translateContigNameToInsdc(String contigName, String assembly, ContigNamingConvention contigNamingConvention) {
-        String path = CONTIG_ALIAS_CHROMOSOMES_NAME_ENDPOINT;
-        if (path.endsWith("/")) {
-            path = path.substring(0, path.length() - 1);
-        }
-        URI uri = UriComponentsBuilder.fromHttpUrl(contigAliasUrl)
-                .path(path)
-                .pathSegment(contigName)
-                .queryParam("accession", assembly)
-                .queryParam("name", getNameParam(contigNamingConvention))
-                .build()
-                .encode()
-                .toUri();
-        ContigAliasResponse contigAliasResponse = restTemplate.getForObject(uri, ContigAliasResponse.class);
-        if (contigAliasResponse == null || contigAliasResponse.getEmbedded() == null) {
-            throw new NoSuchElementException("No contig alias data found for contig name: " + contigName);
-        }
-        return ContigAliasTranslator.getTranslatedContig(contigAliasResponse, ContigNamingConvention.INSDC);
-    }
-
-    /**
-     * Builds a safe URI for the contig alias service by encoding the path variable as a single path segment.
-     * Using pathSegment() causes UriComponentsBuilder to encode path-reserved characters (/, ?, #) within
-     * the variable value, preventing path traversal attacks.
-     */
-    private URI buildUri(String endpoint, String pathVariable) {
-        if (".".equals(pathVariable) || "..".equals(pathVariable)) {
-            throw new IllegalArgumentException("Invalid contig identifier: " + pathVariable);
-        }
-        String path = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
-        return UriComponentsBuilder.fromHttpUrl(contigAliasUrl)
-                .path(path)
-                .pathSegment(pathVariable)
-                .build()
-                .encode()
-                .toUri();
+        return translatedContig;
     }
 
     /**
-     * Convert contig naming convention to one of the acceptable name params in the contig alias API.
-     * Defaults to "genbank".
+     * Translate the contig from specified naming convention to INSDC, using the configured ContigTranslator.
      */
-    private String getNameParam(ContigNamingConvention contigNamingConvention) {
-        switch (contigNamingConvention) {
-            case UCSC:
-                return "ucsc";
-            case ENA_SEQUENCE_NAME:
-                return "ena";
-            default:
-                return "genbank";
+    public String translateContigToInsdc(String contig, String assembly, ContigNamingConvention contigNamingConvention) {
+        if (skipContigTranslation(contigNamingConvention)) {
+            return contig;
         }
+        return contigAliasCache.get(ContigAliasCache.Direction.TO_INSDC, contig, contigNamingConvention, assembly,
+                                    () -> contigTranslator.translateContigToInsdc(contig, assembly,
+                                                                                   contigNamingConvention));
     }
 
     public AccessionWrapper<ISubmittedVariant, String, Long> createSubmittedVariantAccessionWrapperWithNewContig(
@@ -193,8 +147,10 @@ public class ContigAliasService {
         List<AccessionWrapper<IClusteredVariant, String, Long>> clusteredVariants, ContigNamingConvention contigNamingConvention) {
         if (skipContigTranslation(contigNamingConvention)) return clusteredVariants;
         List<AccessionWrapper<IClusteredVariant, String, Long>> clusteredVariantsAfterContigAlias = new ArrayList<>();
+        Map<String, String> translatedContigs = new HashMap<>();
         for (AccessionWrapper<IClusteredVariant, String, Long> clusteredVariant : clusteredVariants) {
-            String translatedContig = translateContigFromInsdc(clusteredVariant.getData().getContig(), contigNamingConvention);
+            String translatedContig = translateContigFromInsdc(clusteredVariant.getData().getContig(),
+                                                               contigNamingConvention, translatedContigs);
             clusteredVariantsAfterContigAlias.add(
                     createClusteredVariantAccessionWrapperWithNewContig(clusteredVariant, translatedContig));
         }
@@ -218,13 +174,15 @@ public class ContigAliasService {
             List<? extends IEvent<IClusteredVariant, Long>> events, ContigNamingConvention contigNamingConvention) {
         if (skipContigTranslation(contigNamingConvention)) return events;
         List<ClusteredVariantOperationEntity> allEventsAfterContigAlias = new ArrayList<>();
+        Map<String, String> translatedContigs = new HashMap<>();
         for (IEvent<? extends IClusteredVariant, Long> event : events) {
             List<? extends IAccessionedObject<? extends IClusteredVariant, ?, Long>> inactiveObjects =
                     event.getInactiveObjects();
             List<ClusteredVariantInactiveEntity> inactiveObjectsAfterContigAlias = new ArrayList<>();
             for (IAccessionedObject<? extends IClusteredVariant, ?, Long> inactiveObject : inactiveObjects) {
                 IClusteredVariant clusteredVariant = inactiveObject.getModel();
-                String translatedContig = translateContigFromInsdc(clusteredVariant.getContig(), contigNamingConvention);
+                String translatedContig = translateContigFromInsdc(clusteredVariant.getContig(),
+                                                                   contigNamingConvention, translatedContigs);
                 inactiveObjectsAfterContigAlias.add(createClusteredVariantInactiveEntityWithNewContig(
                         inactiveObject, clusteredVariant, translatedContig));
             }
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contigalias;
+
+/**
+ * Where {@link ContigAliasService} gets its contig translations from.
+ */
+public enum ContigTranslationBackend {
+    REMOTE,  // contig alias web service
+    LOCAL,  // assembly reports loaded in memory, no network access
+    LOCAL_THEN_REMOTE  // assembly reports, and the contig alias web service for contigs not found in them
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contigalias;
+
+import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Backend used by {@link ContigAliasService} to translate contigs between naming conventions.
+ */
+public interface ContigTranslator {
+
+    /**
+     * Translates an INSDC (GenBank) contig to the given naming convention.
+     *
+     * @throws NoSuchElementException if the contig or its synonym in the given convention is not known
+     */
+    String translateContigFromInsdc(String genbankContig, ContigNamingConvention contigNamingConvention)
+            throws NoSuchElementException;
+
+    /**
+     * Translates a contig in the given naming convention to INSDC (GenBank). The assembly is needed to disambiguate
+     * names that are not unique across assemblies, such as UCSC or sequence names.
+     *
+     * @throws NoSuchElementException if the contig or its INSDC synonym is not known
+     */
+    String translateContigToInsdc(String contig, String assembly, ContigNamingConvention contigNamingConvention)
+            throws NoSuchElementException;
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contigalias;
+
+import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Tries to translate with a primary translator (usually local) and falls back to a secondary one (usually remote)
+ * when the primary doesn't know the contig.
+ */
+public class LayeredContigTranslator implements ContigTranslator {
+
+    private final ContigTranslator primary;
+
+    private final ContigTranslator fallback;
+
+    public LayeredContigTranslator(ContigTranslator primary, ContigTranslator fallback) {
+        this.primary = primary;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public String translateContigFromInsdc(String genbankContig, ContigNamingConvention contigNamingConvention) {
+        try {
+            return primary.translateContigFromInsdc(genbankContig, contigNamingConvention);
+        } catch (NoSuchElementException e) {
+            return fallback.translateContigFromInsdc(genbankContig, contigNamingConvention);
+        }
+    }
+
+    @Override
+    public String translateContigToInsdc(String contig, String assembly,
+                                         ContigNamingConvention contigNamingConvention) {
+        try {
+            return primary.translateContigToInsdc(contig, assembly, contigNamingConvention);
+        } catch (NoSuchElementException e) {
+            return fallback.translateContigToInsdc(contig, assembly, contigNamingConvention);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contigalias;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.ac.ebi.eva.accession.core.contig.ContigMapping;
+import uk.ac.ebi.eva.accession.core.contig.ContigNaming;
+import uk.ac.ebi.eva.accession.core.contig.ContigSynonyms;
+import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Translates contigs using the {@link ContigMapping} of the assembly report of each assembly, without any network
+ * access.
+ *
+ * GenBank accessions are unique across assemblies, so a GenBank contig is looked up in all the assemblies. Other names
+ * are only looked up in the assembly they belong to.
+ */
+public class LocalContigTranslator implements ContigTranslator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalContigTranslator.class);
+
+    private final Map<String, ContigMapping> contigMappings;
+
+    /**
+     * @param contigMappings contig mapping of each assembly accession
+     */
+    public LocalContigTranslator(Map<String, ContigMapping> contigMappings) {
+        this.contigMappings = new LinkedHashMap<>(contigMappings);
+    }
+
+    /**
+     * Loads the assembly reports of several assemblies, given as a map from assembly accession to report URL.
+     */
+    public static LocalContigTranslator load(Map<String, String> assemblyReportUrls) throws Exception {
+        Map<String, ContigMapping> contigMappings = new LinkedHashMap<>();
+        for (Map.Entry<String, String> assemblyReport : assemblyReportUrls.entrySet()) {
+            contigMappings.put(assemblyReport.getKey(), new ContigMapping(assemblyReport.getValue()));
+            logger.info("Loaded the assembly report of {}", assemblyReport.getKey());
+        }
+        return new LocalContigTranslator(contigMappings);
+    }
+
+    @Override
+    public String translateContigFromInsdc(String genbankContig, ContigNamingConvention contigNamingConvention) {
+        ContigNaming contigNaming = toContigNaming(contigNamingConvention);
+        for (ContigMapping contigMapping : contigMappings.values()) {
+            ContigSynonyms contigSynonyms = contigMapping.getContigSynonyms(genbankContig);
+            if (contigSynonyms != null && genbankContig.equals(contigSynonyms.getGenBank())) {
+                String translatedContig = contigNaming == null ? null :
+                        contigMapping.getContigSynonym(genbankContig, contigSynonyms, contigNaming);
+                if (translatedContig != null) {
+                    return translatedContig;
+                }
+                break;
+            }
+        }
+        throw new NoSuchElementException("No " + contigNamingConvention + " synonym found in the loaded assembly "
+                                                 + "reports for Genbank contig: " + genbankContig);
+    }
+
+    @Override
+    public String translateContigToInsdc(String contig, String assembly,
+                                         ContigNamingConvention contigNamingConvention) {
+        ContigNaming contigNaming = toContigNaming(contigNamingConvention);
+        if (contigNaming != null) {
+            for (ContigMapping contigMapping : getContigMappings(assembly)) {
+                ContigSynonyms contigSynonyms = contigMapping.getContigSynonyms(contig);
+                // the contig has to be found in the column of the given naming convention, not in any other
+                if (contig.equals(contigMapping.getContigSynonym(contig, contigSynonyms, contigNaming))
+                        && contigSynonyms.getGenBank() != null) {
+                    return contigSynonyms.getGenBank();
+                }
+            }
+        }
+        throw new NoSuchElementException("No Genbank synonym found in the loaded assembly reports for "
+                                                 + contigNamingConvention + " contig '" + contig
+                                                 + "' in assembly " + assembly);
+    }
+
+    /**
+     * @return the mapping of the assembly, or all of them if the assembly is not given
+     */
+    private Collection<ContigMapping> getContigMappings(String assembly) {
+        if (assembly == null) {
+            return contigMappings.values();
+        }
+        ContigMapping contigMapping = contigMappings.get(assembly);
+        return contigMapping == null ? Collections.emptyList() : Collections.singletonList(contigMapping);
+    }
+
+    private static ContigNaming toContigNaming(ContigNamingConvention contigNamingConvention) {
+        if (contigNamingConvention == null) {
+            return null;
+        }
+        switch (contigNamingConvention) {
+            case INSDC:
+                return ContigNaming.INSDC;
+            case REFSEQ:
+                return ContigNaming.REFSEQ;
+            case UCSC:
+                return ContigNaming.UCSC;
+            case ENA_SEQUENCE_NAME:
+                return ContigNaming.SEQUENCE_NAME;
+            default:
+                return null;
+        }
+    }
+
+    public boolean containsAssembly(String assembly) {
+        return contigMappings.containsKey(assembly);
+    }
+
+    public int getAssemblyCount() {
+        return contigMappings.size();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contigalias;
+
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import uk.ac.ebi.eva.commons.core.models.contigalias.ContigAliasResponse;
+import uk.ac.ebi.eva.commons.core.models.contigalias.ContigAliasTranslator;
+import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
+
+import java.net.URI;
+import java.util.NoSuchElementException;
+
+/**
+ * Translates contigs by querying the contig alias web service.
+ */
+public class RemoteContigTranslator implements ContigTranslator {
+
+    public static final String CONTIG_ALIAS_CHROMOSOMES_GENBANK_ENDPOINT = "/v1/chromosomes/genbank/";
+
+    public static final String CONTIG_ALIAS_CHROMOSOMES_REFSEQ_ENDPOINT = "/v1/chromosomes/refseq/";
+
+    public static final String CONTIG_ALIAS_CHROMOSOMES_NAME_ENDPOINT = "/v1/chromosomes/name/";
+
+    private final RestTemplate restTemplate;
+
+    private final String contigAliasUrl;
+
+    public RemoteContigTranslator(RestTemplate restTemplate, String contigAliasUrl) {
+        this.restTemplate = restTemplate;
+        this.contigAliasUrl = contigAliasUrl;
+    }
+
+    /**
+     * Query contig alias service to translate the contig to the desired naming convention
+     */
+    @Override
+    public String translateContigFromInsdc(String genbankContig, ContigNamingConvention contigNamingConvention) {
+        URI uri = buildUri(CONTIG_ALIAS_CHROMOSOMES_GENBANK_ENDPOINT, genbankContig);
+        ContigAliasResponse contigAliasResponse = restTemplate.getForObject(uri, ContigAliasResponse.class);
+        if (contigAliasResponse == null || contigAliasResponse.getEmbedded() == null) {
+            throw new NoSuchElementException("No contig alias data found for Genbank contig: " + genbankContig);
+        }
+        return ContigAliasTranslator.getTranslatedContig(contigAliasResponse, contigNamingConvention);
+    }
+
+    /**
+     * Query contig alias service to translate the contig from specified naming convention to INSDC.
+     */
+    @Override
+    public String translateContigToInsdc(String contig, String assembly, ContigNamingConvention contigNamingConvention) {
+        if (contigNamingConvention.equals(ContigNamingConvention.REFSEQ)) {
+            return translateContigRefseqToInsdc(contig);
+        } else {
+            return translateContigNameToInsdc(contig, assembly, contigNamingConvention);
+        }
+    }
+
+    private String translateContigRefseqToInsdc(String refseq) {
+        URI uri = buildUri(CONTIG_ALIAS_CHROMOSOMES_REFSEQ_ENDPOINT, refseq);
+        ContigAliasResponse contigAliasResponse = restTemplate.getForObject(uri, ContigAliasResponse.class);
+        if (contigAliasResponse == null || contigAliasResponse.getEmbedded() == null) {
+            throw new NoSuchElementException("No contig alias data found for RefSeq: " + refseq);
+        }
+        return ContigAliasTranslator.getTranslatedContig(contigAliasResponse, ContigNamingConvention.INSDC);
+    }
+
+    private String translateContigNameToInsdc(String contigName, String assembly, ContigNamingConvention contigNamingConvention) {
+        String path = CONTIG_ALIAS_CHROMOSOMES_NAME_ENDPOINT;
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        URI uri = UriComponentsBuilder.fromHttpUrl(contigAliasUrl)
+                .path(path)
+                .pathSegment(contigName)
+                .queryParam("accession", assembly)
+                .queryParam("name", getNameParam(contigNamingConvention))
+                .build()
+                .encode()
+                .toUri();
+        ContigAliasResponse contigAliasResponse = restTemplate.getForObject(uri, ContigAliasResponse.class);
+        if (contigAliasResponse == null || contigAliasResponse.getEmbedded() == null) {
+            throw new NoSuchElementException("No contig alias data found for contig name: " + contigName);
+        }
+        return ContigAliasTranslator.getTranslatedContig(contigAliasResponse, ContigNamingConvention.INSDC);
+    }
+
+    /**
+     * Builds a safe URI for the contig alias service by encoding the path variable as a single path segment.
+     * Using pathSegment() causes UriComponentsBuilder to encode path-reserved characters (/, ?, #) within
+     * the variable value, preventing path traversal attacks.
+     */
+    private URI buildUri(String endpoint, String pathVariable) {
+        if (".".equals(pathVariable) || "..".equals(pathVariable)) {
+            throw new IllegalArgumentException("Invalid contig identifier: " + pathVariable);
+        }
+        String path = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+        return UriComponentsBuilder.fromHttpUrl(contigAliasUrl)
+                .path(path)
+                .pathSegment(pathVariable)
+                .build()
+                .encode()
+                .toUri();
+    }
+
+    /**
+     * Convert contig naming convention to one of the acceptable name params in the contig alias API.
+     * Defaults to "genbank".
+     */
+    private String getNameParam(ContigNamingConvention contigNamingConvention) {
+        switch (contigNamingConvention) {
+            case UCSC:
+                return "ucsc";
+            case ENA_SEQUENCE_NAME:
+                return "ena";
+            default:
+                return "genbank";
+        }
+    }
+}
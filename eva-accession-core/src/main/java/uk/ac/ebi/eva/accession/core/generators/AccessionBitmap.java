@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.generators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Accessions used in a range of monotonic accessions, one bit per accession. A range of 100 million accessions takes
+ * 12.5 MB, regardless of how many documents have each accession.
+ */
+public class AccessionBitmap implements LongConsumer {
+
+    private static final int MAX_WORDS = Integer.MAX_VALUE - 8;
+
+    private final long start;
+
+    private final long end;
+
+    private final long[] words;
+
+    private long cardinality;
+
+    /**
+     * @param start first accession of the range
+     * @param end last accession of the range (inclusive)
+     */
+    public AccessionBitmap(long start, long end) {
+        if (end < start) {
+            throw new IllegalArgumentException("Range end " + end + " is lower than range start " + start);
+        }
+        long wordCount = ((end - start) >>> 6) + 1;
+        if (wordCount > MAX_WORDS) {
+            throw new IllegalArgumentException("Range from " + start + " to " + end + " is too big for a bitmap");
+        }
+        this.start = start;
+        this.end = end;
+        this.words = new long[(int) wordCount];
+    }
+
+    public void add(long accession) {
+        if (accession < start || accession > end) {
+            throw new IllegalArgumentException("Accession " + accession + " is not in range " + start + "-" + end);
+        }
+        long offset = accession - start;
+        int index = (int) (offset >>> 6);
+        long mask = 1L << offset;
+        if ((words[index] & mask) == 0) {
+            words[index] |= mask;
+            cardinality++;
+        }
+    }
+
+    @Override
+    public void accept(long accession) {
+        add(accession);
+    }
+
+    public boolean contains(long accession) {
+        if (accession < start || accession > end) {
+            return false;
+        }
+        long offset = accession - start;
+        return (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    /**
+     * @return number of distinct accessions in the bitmap
+     */
+    public long getCardinality() {
+        return cardinality;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * @return the accessions in the bitmap, in ascending order
+     */
+    public LongStream stream() {
+        Spliterator.OfLong spliterator = new Spliterators.AbstractLongSpliterator(
+                cardinality, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.SIZED) {
+
+            private int index = 0;
+
+            private long word = words.length > 0 ? words[0] : 0;
+
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                while (word == 0) {
+                    if (++index >= words.length) {
+                        return false;
+                    }
+                    word = words[index];
+                }
+                action.accept(start + ((long) index << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+                return true;
+            }
+        };
+        return StreamSupport.longStream(spliterator, false);
+    }
+}
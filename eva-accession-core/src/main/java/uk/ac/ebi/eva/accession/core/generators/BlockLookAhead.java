@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.generators;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.entities.ContiguousIdBlock;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.service.ContiguousIdBlockService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reserves contiguous id blocks of a category in a background thread, before the accession generator runs out of
+ * accessions, so that it doesn't have to wait for the blocks database when it needs a new block.
+ *
+ * {@link #getBlockService()} returns a block service that hands out the blocks reserved in advance. Once the generator
+ * has used the given fraction of the last block it received, the next blocks are reserved in the background. The
+ * number of blocks reserved each time grows with the rate at which accessions are issued and the time it takes to
+ * reserve a block, up to a maximum. The size of the blocks is not changed, because other instances and the accession
+ * recovery rely on all the blocks of a category having the size in the block parameters.
+ *
+ * On shutdown, the reservation in progress is allowed to finish, and the blocks reserved in advance that were not used
+ * are released through the block service, so that other instances can use them.
+ */
+public class BlockLookAhead {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockLookAhead.class);
+
+    private static final String RESERVE_NEW_BLOCK = "reserveNewBlock";
+
+    private static final long POLL_MILLISECONDS = 100;
+
+    private static final double RESERVATION_TIME_WEIGHT = 0.5;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+    private final ContiguousIdBlockService delegate;
+
+    private final ContiguousIdBlockService blockService;
+
+    private final String categoryId;
+
+    private final double threshold;
+
+    private final int maxBlocks;
+
+    private final ExecutorService executor;
+
+    private final BlockingQueue<ContiguousIdBlock> reservedBlocks;
+
+    private final AtomicInteger pendingBlocks;
+
+    private final AtomicLong blocksReservedInAdvance;
+
+    private final AtomicLong blocksReservedOnDemand;
+
+    private final AtomicLong waitsForReservation;
+
+    private volatile String instanceId;
+
+    private long blockSize;
+
+    private long availableAccessions;
+
+    private long largestRequest;
+
+    private long accessionsSinceLastReservation;
+
+    private long lastReservationNanos;
+
+    private volatile double reservationSeconds;
+
+    /**
+     * @param blockService service that reserves the blocks in the database
+     * @param threshold fraction of a block that has to be used before the next blocks are reserved, between 0 and 1
+     * @param maxBlocks maximum number of blocks that are reserved in advance at once
+     */
+    public BlockLookAhead(ContiguousIdBlockService blockService, String categoryId, double threshold, int maxBlocks) {
+        if (threshold < 0 || threshold > 1) {
+            throw new IllegalArgumentException("The block look-ahead threshold must be between 0 and 1");
+        }
+        if (maxBlocks < 1) {
+            throw new IllegalArgumentException("At least one block must be reserved in advance");
+        }
+        this.delegate = blockService;
+        this.categoryId = categoryId;
+        this.threshold = threshold;
+        this.maxBlocks = maxBlocks;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "block-look-ahead-" + categoryId);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reservedBlocks = new LinkedBlockingQueue<>();
+        this.pendingBlocks = new AtomicInteger();
+        this.blocksReservedInAdvance = new AtomicLong();
+        this.blocksReservedOnDemand = new AtomicLong();
+        this.waitsForReservation = new AtomicLong();
+        this.blockService = createBlockService(blockService);
+    }
+
+    private BlockLookAhead() {
+        this.delegate = null;
+        this.blockService = null;
+        this.categoryId = null;
+        this.threshold = 1;
+        this.maxBlocks = 0;
+        this.executor = null;
+        this.reservedBlocks = null;
+        this.pendingBlocks = null;
+        this.blocksReservedInAdvance = null;
+        this.blocksReservedOnDemand = null;
+        this.waitsForReservation = null;
+    }
+
+    /**
+     * @return a look-ahead that doesn't reserve any block in advance
+     */
+    public static BlockLookAhead disabled() {
+        return new BlockLookAhead();
+    }
+
+    public boolean isEnabled() {
+        return delegate != null;
+    }
+
+    /**
+     * All the calls are forwarded to the original block service, except the reservation of new blocks, which returns
+     * a block reserved in advance if there is one.
+     */
+    private ContiguousIdBlockService createBlockService(ContiguousIdBlockService blockService) {
+        ProxyFactory proxyFactory = new ProxyFactory(blockService);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) this::invoke);
+        return (ContiguousIdBlockService) proxyFactory.getProxy(blockService.getClass().getClassLoader());
+    }
+
+    private Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        if (!RESERVE_NEW_BLOCK.equals(invocation.getMethod().getName()) || arguments.length != 2
+                || !categoryId.equals(arguments[0])) {
+            return invocation.proceed();
+        }
+        String blockInstanceId = (String) arguments[1];
+        ContiguousIdBlock block = instanceId == null || instanceId.equals(blockInstanceId) ? takeReservedBlock() : null;
+        if (block == null) {
+            long start = System.nanoTime();
+            block = (ContiguousIdBlock) invocation.proceed();
+            updateReservationTime(System.nanoTime() - start);
+            blocksReservedOnDemand.incrementAndGet();
+        }
+        blockReceived(block, blockInstanceId);
+        return block;
+    }
+
+    public ContiguousIdBlockService getBlockService() {
+        return blockService;
+    }
+
+    private ContiguousIdBlock takeReservedBlock() throws InterruptedException {
+        ContiguousIdBlock block = reservedBlocks.poll();
+        // if the reservation is in flight, waiting for it is faster than reserving another block
+        while (block == null && pendingBlocks.get() > 0) {
+            block = reservedBlocks.poll(POLL_MILLISECONDS, TimeUnit.MILLISECONDS);
+            if (block != null) {
+                waitsForReservation.incrementAndGet();
+            }
+        }
+        return block != null ? block : reservedBlocks.poll();
+    }
+
+    private synchronized void blockReceived(ContiguousIdBlock block, String blockInstanceId) {
+        instanceId = blockInstanceId;
+        blockSize = block.getLastValue() - block.getFirstValue() + 1;
+        availableAccessions = Math.max(0, availableAccessions) + blockSize;
+        if (lastReservationNanos == 0) {
+            lastReservationNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Called by the generator after issuing accessions, to reserve the next blocks when the threshold is reached.
+     */
+    public synchronized void accessionsGenerated(int count) {
+        if (!isEnabled()) {
+            return;
+        }
+        availableAccessions -= count;
+        accessionsSinceLastReservation += count;
+        largestRequest = Math.max(largestRequest, count);
+        if (instanceId != null && pendingBlocks.get() == 0 && reservedBlocks.isEmpty()
+                && availableAccessions <= (1 - threshold) * blockSize) {
+            reserveInBackground(getBlocksToReserve(), instanceId);
+        }
+    }
+
+    /**
+     * Enough blocks to issue accessions at the current rate while the next reservation is made, and to serve the
+     * largest request seen so far, with a margin of 2.
+     */
+    private int getBlocksToReserve() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastReservationNanos) / 1e9;
+        double rate = elapsedSeconds > 0 ? accessionsSinceLastReservation / elapsedSeconds : 0;
+        double accessionsNeeded = 2 * (rate * reservationSeconds + largestRequest);
+        accessionsSinceLastReservation = 0;
+        lastReservationNanos = now;
+        return (int) Math.max(1, Math.min(maxBlocks, Math.ceil(accessionsNeeded / blockSize)));
+    }
+
+    private void reserveInBackground(int blocks, String blockInstanceId) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        pendingBlocks.set(blocks);
+        executor.execute(() -> {
+            try {
+                for (int i = 0; i < blocks; i++) {
+                    long start = System.nanoTime();
+                    ContiguousIdBlock block = delegate.reserveNewBlock(categoryId, blockInstanceId);
+                    updateReservationTime(System.nanoTime() - start);
+                    reservedBlocks.add(block);
+                    blocksReservedInAdvance.incrementAndGet();
+                    pendingBlocks.decrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Blocks of category {} could not be reserved in advance, they will be reserved when "
+                            + "needed: {}", categoryId, e.getMessage());
+            } finally {
+                pendingBlocks.set(0);
+            }
+        });
+    }
+
+    private void updateReservationTime(long nanos) {
+        double seconds = nanos / 1e9;
+        reservationSeconds = reservationSeconds == 0 ? seconds :
+                RESERVATION_TIME_WEIGHT * seconds + (1 - RESERVATION_TIME_WEIGHT) * reservationSeconds;
+    }
+
+    /**
+     * @return number of blocks reserved in the background
+     */
+    public long getBlocksReservedInAdvance() {
+        return isEnabled() ? blocksReservedInAdvance.get() : 0;
+    }
+
+    /**
+     * @return number of blocks that the generator had to wait for because none had been reserved in advance
+     */
+    public long getBlocksReservedOnDemand() {
+        return isEnabled() ? blocksReservedOnDemand.get() : 0;
+    }
+
+    /**
+     * @return number of times the generator waited for a reservation that was already in progress
+     */
+    public long getWaitsForReservation() {
+        return isEnabled() ? waitsForReservation.get() : 0;
+    }
+
+    /**
+     * Waits for the reservation in progress, if any, and releases the blocks reserved in advance that were not used.
+     * Blocks are not reserved in advance after this is called.
+     */
+    public void releaseReservedBlocks() {
+        if (!isEnabled()) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("The reservation of blocks of category {} in advance didn't finish in {} seconds",
+                            categoryId, SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<ContiguousIdBlock> unusedBlocks = new ArrayList<>();
+        reservedBlocks.drainTo(unusedBlocks);
+        if (!unusedBlocks.isEmpty()) {
+            unusedBlocks.forEach(ContiguousIdBlock::releaseReserved);
+            delegate.save(unusedBlocks);
+            logger.info("Released {} blocks of category {} reserved in advance and not used", unusedBlocks.size(),
+                        categoryId);
+        }
+    }
+
+    public void shutdown() {
+        if (!isEnabled()) {
+            return;
+        }
+        releaseReservedBlocks();
+        logger.info("Block look-ahead of category {}: {} blocks reserved in advance, {} reserved on demand, {} waits "
+                    + "for a reservation in progress", categoryId, blocksReservedInAdvance.get(),
+                    blocksReservedOnDemand.get(), waitsForReservation.get());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.generators;
+
+import uk.ac.ebi.ampt2d.commons.accession.generators.monotonic.MonotonicAccessionGenerator;
+import uk.ac.ebi.ampt2d.commons.accession.service.BasicSpringDataRepositoryMonotonicDatabaseService;
+
+/**
+ * Monotonic accession generator that takes its blocks from a {@link BlockLookAhead}, and tells it how many accessions
+ * are issued so that the next blocks are reserved before they are needed.
+ */
+public class LookAheadMonotonicAccessionGenerator<MODEL> extends MonotonicAccessionGenerator<MODEL> {
+
+    private final BlockLookAhead blockLookAhead;
+
+    public LookAheadMonotonicAccessionGenerator(String categoryId, BlockLookAhead blockLookAhead,
+                                                BasicSpringDataRepositoryMonotonicDatabaseService<MODEL, ?>
+                                                        databaseService) {
+        super(categoryId, blockLookAhead.getBlockService(), databaseService);
+        this.blockLookAhead = blockLookAhead;
+    }
+
+    @Override
+    public synchronized long[] generateAccessions(int numAccessionsToGenerate, String applicationInstanceId) {
+        long[] accessions = super.generateAccessions(numAccessionsToGenerate, applicationInstanceId);
+        blockLookAhead.accessionsGenerated(accessions.length);
+        return accessions;
+    }
+
+    @Override
+    public void shutDownAccessionGenerator() {
+        blockLookAhead.releaseReservedBlocks();
+        super.shutDownAccessionGenerator();
+    }
+}
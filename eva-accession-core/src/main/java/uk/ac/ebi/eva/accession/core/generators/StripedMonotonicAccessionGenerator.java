@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.generators;
+
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionIsNotPendingException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.generators.monotonic.MonotonicAccessionGenerator;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.service.ContiguousIdBlockService;
+import uk.ac.ebi.ampt2d.commons.accession.service.BasicSpringDataRepositoryMonotonicDatabaseService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Monotonic accession generator that can be used by several threads at the same time.
+ *
+ * Each thread takes a stripe of accessions from the reserved blocks and issues them without going through the
+ * synchronized methods of {@link MonotonicAccessionGenerator}, which are only called once per stripe. Accessions
+ * released by a thread are issued again by the same thread. Committed accessions are buffered and committed together
+ * once a stripe worth of them is ready, so the blocks are updated in the database once per stripe instead of once per
+ * chunk.
+ *
+ * Accessions that are buffered when the application stops are not lost: the generator checks which accessions of the
+ * uncompleted blocks are already in the database when it recovers them. {@link #flush()} commits the buffered
+ * accessions and releases the ones that were not issued, and is called when the generator is shut down.
+ */
+public class StripedMonotonicAccessionGenerator<MODEL> extends MonotonicAccessionGenerator<MODEL> {
+
+    private final int stripeSize;
+
+    private final BlockLookAhead blockLookAhead;
+
+    private final Queue<Stripe> allStripes;
+
+    private final ThreadLocal<Stripe> stripes;
+
+    /**
+     * @param blockLookAhead look-ahead to reserve blocks in advance, its block service is used if it's enabled
+     * @param stripeSize number of accessions each thread takes at once
+     */
+    public StripedMonotonicAccessionGenerator(String categoryId, ContiguousIdBlockService blockService,
+                                              BlockLookAhead blockLookAhead,
+                                              BasicSpringDataRepositoryMonotonicDatabaseService<MODEL, ?>
+                                                      databaseService,
+                                              int stripeSize) {
+        super(categoryId, blockLookAhead.isEnabled() ? blockLookAhead.getBlockService() : blockService,
+              databaseService);
+        if (stripeSize < 1) {
+            throw new IllegalArgumentException("The stripe size must be greater than 0");
+        }
+        this.stripeSize = stripeSize;
+        this.blockLookAhead = blockLookAhead;
+        this.allStripes = new ConcurrentLinkedQueue<>();
+        this.stripes = ThreadLocal.withInitial(() -> {
+            Stripe stripe = new Stripe();
+            allStripes.add(stripe);
+            return stripe;
+        });
+    }
+
+    @Override
+    public long[] generateAccessions(int numAccessionsToGenerate, String applicationInstanceId) {
+        long[] accessions = new long[numAccessionsToGenerate];
+        Stripe stripe = stripes.get();
+        synchronized (stripe) {
+            for (int i = 0; i < numAccessionsToGenerate; i++) {
+                if (stripe.isEmpty()) {
+                    int refillSize = Math.max(stripeSize, numAccessionsToGenerate - i);
+                    stripe.refill(super.generateAccessions(refillSize, applicationInstanceId));
+                    blockLookAhead.accessionsGenerated(refillSize);
+                }
+                accessions[i] = stripe.take();
+            }
+        }
+        return accessions;
+    }
+
+    @Override
+    public <HASH> List<AccessionWrapper<MODEL, HASH, Long>> generateAccessions(Map<HASH, MODEL> messages,
+                                                                               String applicationInstanceId) {
+        long[] accessions = generateAccessions(messages.size(), applicationInstanceId);
+        List<AccessionWrapper<MODEL, HASH, Long>> accessionWrappers = new ArrayList<>(messages.size());
+        int i = 0;
+        for (Map.Entry<HASH, MODEL> entry : messages.entrySet()) {
+            accessionWrappers.add(new AccessionWrapper<>(accessions[i++], entry.getKey(), entry.getValue()));
+        }
+        return accessionWrappers;
+    }
+
+    @Override
+    public void commit(long... accessions) throws AccessionIsNotPendingException {
+        long[] accessionsToCommit = null;
+        Stripe stripe = stripes.get();
+        synchronized (stripe) {
+            stripe.committed.add(accessions);
+            if (stripe.committed.size() >= stripeSize) {
+                accessionsToCommit = stripe.committed.drain();
+            }
+        }
+        if (accessionsToCommit != null) {
+            super.commit(accessionsToCommit);
+        }
+    }
+
+    @Override
+    public void release(long... accessions) throws AccessionIsNotPendingException {
+        Stripe stripe = stripes.get();
+        synchronized (stripe) {
+            stripe.released.add(accessions);
+        }
+    }
+
+    /**
+     * Commits the accessions buffered by all the threads, and releases the ones they took but didn't issue.
+     */
+    public void flush() {
+        for (Stripe stripe : allStripes) {
+            long[] accessionsToCommit;
+            long[] accessionsToRelease;
+            synchronized (stripe) {
+                accessionsToCommit = stripe.committed.drain();
+                accessionsToRelease = stripe.drainAvailable();
+            }
+            if (accessionsToCommit.length > 0) {
+                super.commit(accessionsToCommit);
+            }
+            if (accessionsToRelease.length > 0) {
+                super.release(accessionsToRelease);
+            }
+        }
+    }
+
+    @Override
+    public void shutDownAccessionGenerator() {
+        flush();
+        super.shutDownAccessionGenerator();
+    }
+
+    /**
+     * Accessions taken by one thread. Only that thread uses it, except when the generator is flushed.
+     */
+    private static class Stripe {
+
+        private final AccessionList released = new AccessionList();
+
+        private final AccessionList committed = new AccessionList();
+
+        private long[] accessions = new long[0];
+
+        private int next;
+
+        boolean isEmpty() {
+            return released.size() == 0 && next == accessions.length;
+        }
+
+        void refill(long[] accessions) {
+            this.accessions = accessions;
+            this.next = 0;
+        }
+
+        long take() {
+            return released.size() > 0 ? released.removeLast() : accessions[next++];
+        }
+
+        long[] drainAvailable() {
+            AccessionList available = new AccessionList();
+            available.add(released.drain());
+            for (; next < accessions.length; next++) {
+                available.add(accessions[next]);
+            }
+            return available.drain();
+        }
+    }
+
+    private static class AccessionList {
+
+        private long[] accessions = new long[16];
+
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(long accession) {
+            if (size == accessions.length) {
+                accessions = Arrays.copyOf(accessions, size * 2);
+            }
+            accessions[size++] = accession;
+        }
+
+        void add(long... accessionsToAdd) {
+            for (long accession : accessionsToAdd) {
+                add(accession);
+            }
+        }
+
+        long removeLast() {
+            return accessions[--size];
+        }
+
+        long[] drain() {
+            long[] drained = Arrays.copyOf(accessions, size);
+            size = 0;
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Meters of the in-memory caches, so the hits, misses and evictions of a cache and how much it holds can be followed
+ * while an application runs, and not only in the summary that the cache logs at the end.
+ *
+ * The meters read the statistics of the cache when the registry publishes them, so registering them doesn't add any
+ * work to the lookups.
+ */
+public final class CacheMetrics {
+
+    public static final String GETS_COUNTER = "eva.cache.gets";
+
+    public static final String EVICTIONS_COUNTER = "eva.cache.evictions";
+
+    public static final String WEIGHT_GAUGE = "eva.cache.weight";
+
+    public static final String PEAK_WEIGHT_GAUGE = "eva.cache.weight.peak";
+
+    static final String CACHE_TAG = "cache";
+
+    static final String RESULT_TAG = "result";
+
+    static final String HIT = "hit";
+
+    static final String MISS = "miss";
+
+    /**
+     * Statistics of a cache. The weight is what the cache bounds, e.g. its number of entries.
+     */
+    public interface Statistics {
+
+        long getHits();
+
+        long getMisses();
+
+        long getEvictions();
+
+        long getWeight();
+
+        long getPeakWeight();
+    }
+
+    private CacheMetrics() {
+    }
+
+    /**
+     * @param weightUnit unit of the weight of the cache, e.g. "entries"
+     */
+    public static void register(MeterRegistry meterRegistry, String cacheName, String weightUnit,
+                                Statistics statistics) {
+        Tags tags = Tags.of(CACHE_TAG, cacheName);
+        FunctionCounter.builder(GETS_COUNTER, statistics, Statistics::getHits)
+                       .description("Lookups of keys that were in the cache")
+                       .tags(tags.and(RESULT_TAG, HIT))
+                       .register(meterRegistry);
+        FunctionCounter.builder(GETS_COUNTER, statistics, Statistics::getMisses)
+                       .description("Lookups of keys that were not in the cache")
+                       .tags(tags.and(RESULT_TAG, MISS))
+                       .register(meterRegistry);
+        FunctionCounter.builder(EVICTIONS_COUNTER, statistics, Statistics::getEvictions)
+                       .description("Entries evicted to keep the cache under its maximum weight")
+                       .tags(tags)
+                       .register(meterRegistry);
+        Gauge.builder(WEIGHT_GAUGE, statistics, Statistics::getWeight)
+             .description("Current weight of the cache")
+             .baseUnit(weightUnit)
+             .tags(tags)
+             .register(meterRegistry);
+        Gauge.builder(PEAK_WEIGHT_GAUGE, statistics, Statistics::getPeakWeight)
+             .description("Maximum weight that the cache has had")
+             .baseUnit(weightUnit)
+             .tags(tags)
+             .register(meterRegistry);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of the Mongo commands per command and collection, with the number of documents returned or
+ * written and the size of the replies, and logs the commands slower than a threshold with the shape of their filter.
+ *
+ * The meters are registered in the given registry, so the web service exports them through the actuator, and
+ * {@link #logSummary()} writes the totals of each command when a batch application finishes.
+ */
+public class MongoCommandMetricsListener implements CommandListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoCommandMetricsListener.class);
+
+    public static final String COMMAND_TIMER = "eva.mongo.commands";
+
+    public static final String DOCUMENTS_SUMMARY = "eva.mongo.commands.documents";
+
+    public static final String REPLY_BYTES_SUMMARY = "eva.mongo.commands.reply.bytes";
+
+    public static final String SLOW_COMMANDS_COUNTER = "eva.mongo.commands.slow";
+
+    static final String SUCCESS = "success";
+
+    static final String FAILURE = "failure";
+
+    /**
+     * Bounds the number of filter shapes counted for the summary, in case the filters are built dynamically
+     */
+    private static final int MAX_SLOW_SHAPES = 100;
+
+    private final MeterRegistry meterRegistry;
+
+    private final long slowCommandThresholdNanos;
+
+    private final ConcurrentMap<Integer, StartedCommand> startedCommands;
+
+    private final ConcurrentMap<String, CommandMeters> commandMeters;
+
+    private final ConcurrentMap<String, LongAdder> slowCommandShapes;
+
+    /**
+     * @param slowCommandThreshold commands that take at least this long are logged, zero to not log any
+     */
+    public MongoCommandMetricsListener(MeterRegistry meterRegistry, Duration slowCommandThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowCommandThresholdNanos = slowCommandThreshold.toNanos();
+        this.startedCommands = new ConcurrentHashMap<>();
+        this.commandMeters = new ConcurrentHashMap<>();
+        this.slowCommandShapes = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        String collection = MongoCommands.getCollectionName(commandName, event.getCommand());
+        // the command document is only valid during this callback, so the shape is taken now in case it is slow
+        String filterShape = slowCommandThresholdNanos > 0 ? MongoCommands.getFilterShape(commandName,
+                                                                                          event.getCommand()) : null;
+        startedCommands.put(event.getRequestId(), new StartedCommand(collection, filterShape));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        StartedCommand startedCommand = startedCommands.remove(event.getRequestId());
+        if (startedCommand == null) {
+            return;
+        }
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        CommandMeters meters = getMeters(event.getCommandName(), startedCommand.collection, SUCCESS);
+        meters.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meters.documents.record(MongoCommands.getDocumentCount(event.getResponse()));
+        meters.replyBytes.record(MongoCommands.getSizeInBytes(event.getResponse()));
+        checkIfSlow(event.getCommandName(), startedCommand, elapsedNanos, meters);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        StartedCommand startedCommand = startedCommands.remove(event.getRequestId());
+        if (startedCommand == null) {
+            return;
+        }
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        CommandMeters meters = getMeters(event.getCommandName(), startedCommand.collection, FAILURE);
+        meters.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        checkIfSlow(event.getCommandName(), startedCommand, elapsedNanos, meters);
+    }
+
+    private void checkIfSlow(String commandName, StartedCommand startedCommand, long elapsedNanos,
+                             CommandMeters meters) {
+        if (slowCommandThresholdNanos <= 0 || elapsedNanos < slowCommandThresholdNanos) {
+            return;
+        }
+        meters.slowCommands.increment();
+        String shapeKey = commandName + " " + startedCommand.collection + " " + startedCommand.filterShape;
+        LongAdder shapeCount = slowCommandShapes.get(shapeKey);
+        if (shapeCount == null && slowCommandShapes.size() < MAX_SLOW_SHAPES) {
+            shapeCount = slowCommandShapes.computeIfAbsent(shapeKey, key -> new LongAdder());
+        }
+        if (shapeCount != null) {
+            shapeCount.increment();
+        }
+        logger.warn("Slow Mongo command {} on collection {} took {} ms, filter {}", commandName,
+                    startedCommand.collection, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    startedCommand.filterShape);
+    }
+
+    private CommandMeters getMeters(String commandName, String collection, String status) {
+        return commandMeters.computeIfAbsent(commandName + "/" + collection + "/" + status,
+                                             key -> new CommandMeters(commandName, collection, status));
+    }
+
+    /**
+     * Logs the count and time of each command and collection, slowest first, followed by the shapes of the slow
+     * commands.
+     */
+    public void logSummary() {
+        List<CommandMeters> meters = new ArrayList<>(commandMeters.values());
+        if (meters.isEmpty()) {
+            return;
+        }
+        meters.sort(Comparator.comparingDouble((CommandMeters m) -> m.timer.totalTime(TimeUnit.NANOSECONDS))
+                              .reversed());
+        logger.info("Mongo commands summary (command, collection, status: count, total ms, mean ms, max ms, " +
+                            "documents, reply bytes, slow):");
+        for (CommandMeters m : meters) {
+            logger.info("{}, {}, {}: {}, {}, {}, {}, {}, {}, {}", m.commandName, m.collection, m.status,
+                        m.timer.count(), (long) m.timer.totalTime(TimeUnit.MILLISECONDS),
+                        String.format("%.2f", m.timer.mean(TimeUnit.MILLISECONDS)),
+                        (long) m.timer.max(TimeUnit.MILLISECONDS), (long) m.documents.totalAmount(),
+                        (long) m.replyBytes.totalAmount(), (long) m.slowCommands.count());
+        }
+        for (Map.Entry<String, LongAdder> shape : slowCommandShapes.entrySet()) {
+            logger.info("Slow Mongo command {}: {} times", shape.getKey(), shape.getValue().sum());
+        }
+    }
+
+    private static class StartedCommand {
+
+        private final String collection;
+
+        private final String filterShape;
+
+        StartedCommand(String collection, String filterShape) {
+            this.collection = collection;
+            this.filterShape = filterShape;
+        }
+    }
+
+    private class CommandMeters {
+
+        private final String commandName;
+
+        private final String collection;
+
+        private final String status;
+
+        private final Timer timer;
+
+        private final DistributionSummary documents;
+
+        private final DistributionSummary replyBytes;
+
+        private final Counter slowCommands;
+
+        CommandMeters(String commandName, String collection, String status) {
+            this.commandName = commandName;
+            this.collection = collection;
+            this.status = status;
+            String[] tags = {"command", commandName, "collection", collection, "status", status};
+            this.timer = Timer.builder(COMMAND_TIMER)
+                              .description("Latency of the Mongo commands")
+                              .tags(tags)
+                              .publishPercentileHistogram()
+                              .register(meterRegistry);
+            this.documents = DistributionSummary.builder(DOCUMENTS_SUMMARY)
+                                                .description("Documents returned or written by the Mongo commands")
+                                                .tags(tags)
+                                                .register(meterRegistry);
+            this.replyBytes = DistributionSummary.builder(REPLY_BYTES_SUMMARY)
+                                                 .description("Size of the replies of the Mongo commands")
+                                                 .baseUnit("bytes")
+                                                 .tags(tags)
+                                                 .register(meterRegistry);
+            this.slowCommands = Counter.builder(SLOW_COMMANDS_COUNTER)
+                                       .description("Mongo commands slower than the threshold")
+                                       .tags(tags)
+                                       .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.metrics;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extracts what the command metrics need from the commands and replies seen by a CommandListener. The documents are
+ * only valid during the listener callback, so everything is read there, and the replies are walked with a reader to
+ * avoid decoding the returned documents.
+ */
+final class MongoCommands {
+
+    static final String UNKNOWN_COLLECTION = "none";
+
+    /**
+     * Commands whose first field holds the name of the collection
+     */
+    private static final Set<String> COLLECTION_COMMANDS = new HashSet<>(Arrays.asList(
+            "find", "aggregate", "count", "distinct", "insert", "update", "delete", "findAndModify", "createIndexes",
+            "listIndexes", "drop"));
+
+    private static final String GET_MORE_COMMAND = "getMore";
+
+    private static final String GET_MORE_COLLECTION_FIELD = "collection";
+
+    private static final int MAX_SHAPE_DEPTH = 6;
+
+    private MongoCommands() {
+    }
+
+    static String getCollectionName(String commandName, BsonDocument command) {
+        String field = COLLECTION_COMMANDS.contains(commandName) ? commandName
+                : GET_MORE_COMMAND.equals(commandName) ? GET_MORE_COLLECTION_FIELD : null;
+        if (field == null) {
+            return UNKNOWN_COLLECTION;
+        }
+        BsonValue collection = command.get(field);
+        return collection != null && collection.isString() ? collection.asString().getValue() : UNKNOWN_COLLECTION;
+    }
+
+    /**
+     * The filter of a command with the values replaced by "?", e.g. {seq: ?, rs: {$exists: ?}}, so that slow commands
+     * with the same kind of query can be grouped. Only the first statement of a batched write is considered.
+     */
+    static String getFilterShape(String commandName, BsonDocument command) {
+        switch (commandName) {
+            case "find":
+            case "count":
+            case "distinct":
+                return shapeOf(command.get("filter", command.get("query")));
+            case "findAndModify":
+                return shapeOf(command.get("query"));
+            case "aggregate":
+                return shapeOf(command.get("pipeline"));
+            case "update":
+                return shapeOf(firstStatementField(command.get("updates"), "q"));
+            case "delete":
+                return shapeOf(firstStatementField(command.get("deletes"), "q"));
+            default:
+                return "";
+        }
+    }
+
+    private static BsonValue firstStatementField(BsonValue statements, String field) {
+        if (statements == null || !statements.isArray() || statements.asArray().isEmpty()) {
+            return null;
+        }
+        BsonValue statement = statements.asArray().get(0);
+        return statement.isDocument() ? statement.asDocument().get(field) : null;
+    }
+
+    private static String shapeOf(BsonValue value) {
+        if (value == null) {
+            return "{}";
+        }
+        StringBuilder shape = new StringBuilder();
+        appendShape(shape, value, 0);
+        return shape.toString();
+    }
+
+    private static void appendShape(StringBuilder shape, BsonValue value, int depth) {
+        if (value.isDocument() && depth < MAX_SHAPE_DEPTH) {
+            shape.append('{');
+            String separator = "";
+            for (Map.Entry<String, BsonValue> field : value.asDocument().entrySet()) {
+                shape.append(separator).append(field.getKey()).append(": ");
+                appendShape(shape, field.getValue(), depth + 1);
+                separator = ", ";
+            }
+            shape.append('}');
+        } else if (value.isArray() && depth < MAX_SHAPE_DEPTH && isArrayOfDocuments(value.asArray())) {
+            // pipelines and $and/$or clauses keep their structure, other arrays are just values
+            shape.append('[');
+            String separator = "";
+            for (BsonValue element : value.asArray()) {
+                shape.append(separator);
+                appendShape(shape, element, depth + 1);
+                separator = ", ";
+            }
+            shape.append(']');
+        } else {
+            shape.append('?');
+        }
+    }
+
+    private static boolean isArrayOfDocuments(BsonArray array) {
+        return !array.isEmpty() && array.get(0).isDocument();
+    }
+
+    /**
+     * @return the size of the reply as sent by the server, or 0 if the document doesn't keep it
+     */
+    static long getSizeInBytes(BsonDocument reply) {
+        if (reply instanceof RawBsonDocument) {
+            return ((RawBsonDocument) reply).getByteBuffer().remaining();
+        }
+        try (BsonReader reader = reply.asBsonReader()) {
+            if (reader instanceof BsonBinaryReader) {
+                // the replies of the driver are read from the wire buffer, which starts with the document size
+                return ((BsonBinaryReader) reader).getBsonInput().readInt32();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return the number of documents in the batch of a cursor reply, or the number of documents affected by a write
+     */
+    static long getDocumentCount(BsonDocument reply) {
+        try (BsonReader reader = reply.asBsonReader()) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                String name = reader.readName();
+                if (name.equals("cursor") && reader.getCurrentBsonType() == BsonType.DOCUMENT) {
+                    return countCursorBatch(reader);
+                } else if (name.equals("n") && isNumber(reader.getCurrentBsonType())) {
+                    return readNumber(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static long countCursorBatch(BsonReader reader) {
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if ((name.equals("firstBatch") || name.equals("nextBatch"))
+                    && reader.getCurrentBsonType() == BsonType.ARRAY) {
+                long count = 0;
+                reader.readStartArray();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    reader.skipValue();
+                    count++;
+                }
+                return count;
+            }
+            reader.skipValue();
+        }
+        return 0;
+    }
+
+    private static boolean isNumber(BsonType type) {
+        return type == BsonType.INT32 || type == BsonType.INT64 || type == BsonType.DOUBLE;
+    }
+
+    private static long readNumber(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case INT32:
+                return reader.readInt32();
+            case INT64:
+                return reader.readInt64();
+            default:
+                return (long) reader.readDouble();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model;
+
+import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantHashingFunction;
+import uk.ac.ebi.eva.commons.core.models.VariantType;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Clustered variant that carries its own hash, so that it's computed once even if the variant goes through several
+ * accessioning services. {@link ClusteredVariantHashingFunction} returns the stored hash instead of computing it
+ * again.
+ *
+ * It has no setters, and delegates to the wrapped variant, which must not be modified afterwards.
+ */
+public final class HashedClusteredVariant implements IClusteredVariant {
+
+    private final IClusteredVariant variant;
+
+    private final String hash;
+
+    public HashedClusteredVariant(IClusteredVariant variant) {
+        this(variant, new ClusteredVariantHashingFunction().apply(variant));
+    }
+
+    /**
+     * @param hash must be the hash computed by {@link ClusteredVariantHashingFunction} for the variant
+     */
+    public HashedClusteredVariant(IClusteredVariant variant, String hash) {
+        this.variant = Objects.requireNonNull(variant, "The variant is required");
+        this.hash = Objects.requireNonNull(hash, "The hash is required");
+    }
+
+    /**
+     * @return the same variant if it's already hashed, or a hashed wrapper otherwise
+     */
+    public static HashedClusteredVariant of(IClusteredVariant variant) {
+        if (variant instanceof HashedClusteredVariant) {
+            return (HashedClusteredVariant) variant;
+        }
+        return new HashedClusteredVariant(variant);
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    @Override
+    public String getAssemblyAccession() {
+        return variant.getAssemblyAccession();
+    }
+
+    @Override
+    public int getTaxonomyAccession() {
+        return variant.getTaxonomyAccession();
+    }
+
+    @Override
+    public String getContig() {
+        return variant.getContig();
+    }
+
+    @Override
+    public long getStart() {
+        return variant.getStart();
+    }
+
+    @Override
+    public VariantType getType() {
+        return variant.getType();
+    }
+
+    @Override
+    public Boolean isValidated() {
+        return variant.isValidated();
+    }
+
+    @Override
+    public Integer getMapWeight() {
+        return variant.getMapWeight();
+    }
+
+    @Override
+    public LocalDateTime getCreatedDate() {
+        return variant.getCreatedDate();
+    }
+
+    /**
+     * Two hashed variants are equal if they have the same hash (which covers the assembly, contig, start and type), the
+     * same taxonomy and the same validated flag, so they compare the same fields as
+     * {@link ClusteredVariant#equals(Object)}. A hashed variant is never equal to a {@link ClusteredVariant}, even with
+     * the same fields, so they must not be mixed in sets or compared with each other.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HashedClusteredVariant)) {
+            return false;
+        }
+        HashedClusteredVariant that = (HashedClusteredVariant) o;
+        return hash.equals(that.hash) && getTaxonomyAccession() == that.getTaxonomyAccession()
+                && Objects.equals(isValidated(), that.isValidated());
+    }
+
+    @Override
+    public int hashCode() {
+        return hash.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "HashedClusteredVariant{" +
+                "hash='" + hash + '\'' +
+                ", variant=" + variant +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.codecs;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import uk.ac.ebi.eva.accession.core.model.projections.AccessionView;
+
+/**
+ * Decodes only the accession of any variant or operation document, skipping the rest of the fields.
+ */
+public class AccessionViewCodec implements Codec<AccessionView> {
+
+    private static final String ACCESSION_FIELD = "accession";
+
+    @Override
+    public Class<AccessionView> getEncoderClass() {
+        return AccessionView.class;
+    }
+
+    @Override
+    public AccessionView decode(BsonReader reader, DecoderContext decoderContext) {
+        Long accession = null;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.readName().equals(ACCESSION_FIELD)) {
+                accession = BsonFields.readLong(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new AccessionView(accession);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, AccessionView value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        BsonFields.writeLong(writer, ACCESSION_FIELD, value.getAccession());
+        writer.writeEndDocument();
+    }
+}
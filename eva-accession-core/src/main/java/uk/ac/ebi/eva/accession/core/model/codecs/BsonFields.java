@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.codecs;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Reads and writes the values of the entity fields the same way as the MappingMongoConverter: null values are not
+ * written, numbers are accepted in any numeric BSON type, and dates are converted in the system time zone.
+ */
+final class BsonFields {
+
+    private BsonFields() {
+    }
+
+    static boolean readNullIfPresent(BsonReader reader) {
+        BsonType type = reader.getCurrentBsonType();
+        if (type == BsonType.NULL || type == BsonType.UNDEFINED) {
+            reader.skipValue();
+            return true;
+        }
+        return false;
+    }
+
+    static String readString(BsonReader reader) {
+        return readNullIfPresent(reader) ? null : reader.readString();
+    }
+
+    static Long readLong(BsonReader reader) {
+        if (readNullIfPresent(reader)) {
+            return null;
+        }
+        switch (reader.getCurrentBsonType()) {
+            case INT64:
+                return reader.readInt64();
+            case INT32:
+                return (long) reader.readInt32();
+            case DOUBLE:
+                return (long) reader.readDouble();
+            default:
+                throw new BsonInvalidOperationException("Expected a number but found " + reader.getCurrentBsonType());
+        }
+    }
+
+    static Integer readInteger(BsonReader reader) {
+        Long value = readLong(reader);
+        return value == null ? null : Math.toIntExact(value);
+    }
+
+    static Boolean readBoolean(BsonReader reader) {
+        return readNullIfPresent(reader) ? null : reader.readBoolean();
+    }
+
+    static LocalDateTime readDate(BsonReader reader) {
+        if (readNullIfPresent(reader)) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), ZoneId.systemDefault());
+    }
+
+    static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    static void writeLong(BsonWriter writer, String name, Long value) {
+        if (value != null) {
+            writer.writeInt64(name, value);
+        }
+    }
+
+    static void writeInteger(BsonWriter writer, String name, Integer value) {
+        if (value != null) {
+            writer.writeInt32(name, value);
+        }
+    }
+
+    static void writeBoolean(BsonWriter writer, String name, Boolean value) {
+        if (value != null) {
+            writer.writeBoolean(name, value);
+        }
+    }
+
+    static void writeDate(BsonWriter writer, String name, LocalDateTime value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.codecs;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantInactiveEntity;
+import uk.ac.ebi.eva.commons.core.models.VariantType;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import static uk.ac.ebi.eva.accession.core.model.IClusteredVariant.DEFAULT_VALIDATED;
+
+/**
+ * Decodes clustered variants straight from the BSON sent by the server, and encodes them with the same fields as the
+ * MappingMongoConverter.
+ */
+public class ClusteredVariantEntityCodec<T extends ClusteredVariantEntity> implements Codec<T> {
+
+    private static final String ID_FIELD = "_id";
+
+    private static final String INACTIVE_ID_FIELD = "hashedMessage";
+
+    @FunctionalInterface
+    public interface Factory<T> {
+        T create(Long accession, String hashedMessage, String assemblyAccession, int taxonomyAccession, String contig,
+                 long start, VariantType type, Boolean validated, LocalDateTime createdDate, int version,
+                 Integer mapWeight);
+    }
+
+    private final Class<T> encoderClass;
+
+    private final Factory<T> factory;
+
+    public ClusteredVariantEntityCodec(Class<T> encoderClass, Factory<T> factory) {
+        this.encoderClass = encoderClass;
+        this.factory = factory;
+    }
+
+    public static ClusteredVariantEntityCodec<ClusteredVariantEntity> eva() {
+        return new ClusteredVariantEntityCodec<>(ClusteredVariantEntity.class, ClusteredVariantEntity::new);
+    }
+
+    public static ClusteredVariantEntityCodec<DbsnpClusteredVariantEntity> dbsnp() {
+        return new ClusteredVariantEntityCodec<>(DbsnpClusteredVariantEntity.class, DbsnpClusteredVariantEntity::new);
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return encoderClass;
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        return decode(reader, ID_FIELD);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        encode(writer, ID_FIELD, value.getId(), value.getAccession(), value.getVersion(), value, false);
+    }
+
+    /**
+     * @param toInactiveEntity builds the inactive object from the entity with the same fields
+     */
+    <INACTIVE extends ClusteredVariantInactiveEntity> SubDocumentCodec<INACTIVE> inactiveEntityCodec(
+            Function<T, INACTIVE> toInactiveEntity) {
+        return new SubDocumentCodec<INACTIVE>() {
+            @Override
+            public INACTIVE decode(BsonReader reader) {
+                return toInactiveEntity.apply(ClusteredVariantEntityCodec.this.decode(reader, INACTIVE_ID_FIELD));
+            }
+
+            @Override
+            public void encode(BsonWriter writer, INACTIVE value) {
+                // the inactive objects store the validated flag even when it has the default value
+                ClusteredVariantEntityCodec.encode(writer, INACTIVE_ID_FIELD, value.getHashedMessage(),
+                                                   value.getAccession(), value.getVersion(), value, true);
+            }
+        };
+    }
+
+    private T decode(BsonReader reader, String idField) {
+        String hashedMessage = null;
+        Long accession = null;
+        int version = 1;
+        LocalDateTime createdDate = null;
+        String assemblyAccession = null;
+        int taxonomyAccession = 0;
+        String contig = null;
+        long start = 0;
+        VariantType type = null;
+        Boolean validated = null;
+        Integer mapWeight = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (name.equals(idField)) {
+                hashedMessage = BsonFields.readString(reader);
+                continue;
+            }
+            switch (name) {
+                case "accession":
+                    accession = BsonFields.readLong(reader);
+                    break;
+                case "version":
+                    Integer storedVersion = BsonFields.readInteger(reader);
+                    version = storedVersion == null ? version : storedVersion;
+                    break;
+                case "createdDate":
+                    createdDate = BsonFields.readDate(reader);
+                    break;
+                case "asm":
+                    assemblyAccession = BsonFields.readString(reader);
+                    break;
+                case "tax":
+                    Integer storedTaxonomy = BsonFields.readInteger(reader);
+                    taxonomyAccession = storedTaxonomy == null ? 0 : storedTaxonomy;
+                    break;
+                case "contig":
+                    contig = BsonFields.readString(reader);
+                    break;
+                case "start":
+                    Long storedStart = BsonFields.readLong(reader);
+                    start = storedStart == null ? 0 : storedStart;
+                    break;
+                case "type":
+                    String storedType = BsonFields.readString(reader);
+                    type = storedType == null ? null : VariantType.valueOf(storedType);
+                    break;
+                case "validated":
+                    validated = BsonFields.readBoolean(reader);
+                    break;
+                case "mapWeight":
+                    mapWeight = BsonFields.readInteger(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return factory.create(accession, hashedMessage, assemblyAccession, taxonomyAccession, contig, start, type,
+                              validated == null ? DEFAULT_VALIDATED : validated, createdDate, version, mapWeight);
+    }
+
+    private static void encode(BsonWriter writer, String idField, String hashedMessage, Long accession, int version,
+                               IClusteredVariant variant, boolean writeDefaultValidated) {
+        writer.writeStartDocument();
+        BsonFields.writeString(writer, idField, hashedMessage);
+        BsonFields.writeString(writer, "asm", variant.getAssemblyAccession());
+        writer.writeInt32("tax", variant.getTaxonomyAccession());
+        BsonFields.writeString(writer, "contig", variant.getContig());
+        writer.writeInt64("start", variant.getStart());
+        if (variant.getType() != null) {
+            writer.writeString("type", variant.getType().name());
+        }
+        Boolean validated = variant.isValidated();
+        if (validated != null && (writeDefaultValidated || validated != DEFAULT_VALIDATED)) {
+            writer.writeBoolean("validated", validated);
+        }
+        BsonFields.writeInteger(writer, "mapWeight", variant.getMapWeight());
+        BsonFields.writeLong(writer, "accession", accession);
+        writer.writeInt32("version", version);
+        BsonFields.writeDate(writer, "createdDate", variant.getCreatedDate());
+        writer.writeEndDocument();
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.codecs;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+
+/**
+ * Codec of the inactive objects embedded in the operations.
+ */
+interface SubDocumentCodec<T> {
+
+    T decode(BsonReader reader);
+
+    void encode(BsonWriter writer, T value);
+}
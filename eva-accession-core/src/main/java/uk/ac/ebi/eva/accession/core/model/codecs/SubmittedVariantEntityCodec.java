@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.codecs;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantInactiveEntity;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import static uk.ac.ebi.eva.accession.core.model.ISubmittedVariant.DEFAULT_ALLELES_MATCH;
+import static uk.ac.ebi.eva.accession.core.model.ISubmittedVariant.DEFAULT_ASSEMBLY_MATCH;
+import static uk.ac.ebi.eva.accession.core.model.ISubmittedVariant.DEFAULT_SUPPORTED_BY_EVIDENCE;
+import static uk.ac.ebi.eva.accession.core.model.ISubmittedVariant.DEFAULT_VALIDATED;
+
+/**
+ * Decodes submitted variants straight from the BSON sent by the server, and encodes them with the same fields as the
+ * MappingMongoConverter.
+ */
+public class SubmittedVariantEntityCodec<T extends SubmittedVariantEntity> implements Codec<T> {
+
+    private static final String ID_FIELD = "_id";
+
+    private static final String INACTIVE_ID_FIELD = "hashedMessage";
+
+    private static final String INACTIVE_BACK_PROPAGATED_RS_FIELD = "backPropagatedVariantAccession";
+
+    @FunctionalInterface
+    public interface Factory<T> {
+        T create(Long accession, String hashedMessage, String referenceSequenceAccession, int taxonomyAccession,
+                 String projectAccession, String contig, long start, String referenceAllele, String alternateAllele,
+                 Long clusteredVariantAccession, Boolean supportedByEvidence, Boolean assemblyMatch,
+                 Boolean allelesMatch, Boolean validated, int version);
+    }
+
+    private final Class<T> encoderClass;
+
+    private final Factory<T> factory;
+
+    public SubmittedVariantEntityCodec(Class<T> encoderClass, Factory<T> factory) {
+        this.encoderClass = encoderClass;
+        this.factory = factory;
+    }
+
+    public static SubmittedVariantEntityCodec<SubmittedVariantEntity> eva() {
+        return new SubmittedVariantEntityCodec<>(SubmittedVariantEntity.class, SubmittedVariantEntity::new);
+    }
+
+    public static SubmittedVariantEntityCodec<DbsnpSubmittedVariantEntity> dbsnp() {
+        return new SubmittedVariantEntityCodec<>(DbsnpSubmittedVariantEntity.class, DbsnpSubmittedVariantEntity::new);
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return encoderClass;
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        return decode(reader, ID_FIELD, SubmittedVariantEntity.backPropagatedRSAttribute);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        encode(writer, ID_FIELD, value.getId(), value.getAccession(), value.getVersion(), value,
+               SubmittedVariantEntity.backPropagatedRSAttribute, false);
+    }
+
+    /**
+     * @param toInactiveEntity builds the inactive object from the entity with the same fields
+     */
+    <INACTIVE extends SubmittedVariantInactiveEntity> SubDocumentCodec<INACTIVE> inactiveEntityCodec(
+            Function<T, INACTIVE> toInactiveEntity) {
+        return new SubDocumentCodec<INACTIVE>() {
+            @Override
+            public INACTIVE decode(BsonReader reader) {
+                return toInactiveEntity.apply(SubmittedVariantEntityCodec.this.decode(
+                        reader, INACTIVE_ID_FIELD, INACTIVE_BACK_PROPAGATED_RS_FIELD));
+            }
+
+            @Override
+            public void encode(BsonWriter writer, INACTIVE value) {
+                // the inactive objects store the flags even when they have the default value
+                SubmittedVariantEntityCodec.encode(writer, INACTIVE_ID_FIELD, value.getHashedMessage(),
+                                                   value.getAccession(), value.getVersion(), value,
+                                                   INACTIVE_BACK_PROPAGATED_RS_FIELD, true);
+            }
+        };
+    }
+
+    private T decode(BsonReader reader, String idField, String backPropagatedRSField) {
+        String hashedMessage = null;
+        Long accession = null;
+        int version = 1;
+        LocalDateTime createdDate = null;
+        String referenceSequenceAccession = null;
+        int taxonomyAccession = 0;
+        String projectAccession = null;
+        String contig = null;
+        long start = 0;
+        String referenceAllele = null;
+        String alternateAllele = null;
+        Long clusteredVariantAccession = null;
+        Boolean supportedByEvidence = null;
+        Boolean assemblyMatch = null;
+        Boolean allelesMatch = null;
+        Boolean validated = null;
+        String remappedFrom = null;
+        LocalDateTime remappedDate = null;
+        String remappingId = null;
+        Integer mapWeight = null;
+        Long backPropagatedVariantAccession = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (name.equals(idField)) {
+                hashedMessage = BsonFields.readString(reader);
+                continue;
+            }
+            if (name.equals(backPropagatedRSField)) {
+                backPropagatedVariantAccession = BsonFields.readLong(reader);
+                continue;
+            }
+            switch (name) {
+                case "accession":
+                    accession = BsonFields.readLong(reader);
+                    break;
+                case "version":
+                    Integer storedVersion = BsonFields.readInteger(reader);
+                    version = storedVersion == null ? version : storedVersion;
+                    break;
+                case "createdDate":
+                    createdDate = BsonFields.readDate(reader);
+                    break;
+                case "seq":
+                    referenceSequenceAccession = BsonFields.readString(reader);
+                    break;
+                case "tax":
+                    Integer storedTaxonomy = BsonFields.readInteger(reader);
+                    taxonomyAccession = storedTaxonomy == null ? 0 : storedTaxonomy;
+                    break;
+                case "study":
+                    projectAccession = BsonFields.readString(reader);
+                    break;
+                case "contig":
+                    contig = BsonFields.readString(reader);
+                    break;
+                case "start":
+                    Long storedStart = BsonFields.readLong(reader);
+                    start = storedStart == null ? 0 : storedStart;
+                    break;
+                case "ref":
+                    referenceAllele = BsonFields.readString(reader);
+                    break;
+                case "alt":
+                    alternateAllele = BsonFields.readString(reader);
+                    break;
+                case "rs":
+                    clusteredVariantAccession = BsonFields.readLong(reader);
+                    break;
+                case "evidence":
+                    supportedByEvidence = BsonFields.readBoolean(reader);
+                    break;
+                case "asmMatch":
+                    assemblyMatch = BsonFields.readBoolean(reader);
+                    break;
+                case "allelesMatch":
+                    allelesMatch = BsonFields.readBoolean(reader);
+                    break;
+                case "validated":
+                    validated = BsonFields.readBoolean(reader);
+                    break;
+                case "remappedFrom":
+                    remappedFrom = BsonFields.readString(reader);
+                    break;
+                case "remappedDate":
+                    remappedDate = BsonFields.readDate(reader);
+                    break;
+                case "remappingId":
+                    remappingId = BsonFields.readString(reader);
+                    break;
+                case "mapWeight":
+                    mapWeight = BsonFields.readInteger(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        T entity = factory.create(accession, hashedMessage, referenceSequenceAccession, taxonomyAccession,
+                                  projectAccession, contig, start, referenceAllele, alternateAllele,
+                                  clusteredVariantAccession,
+                                  supportedByEvidence == null ? DEFAULT_SUPPORTED_BY_EVIDENCE : supportedByEvidence,
+                                  assemblyMatch == null ? DEFAULT_ASSEMBLY_MATCH : assemblyMatch,
+                                  allelesMatch == null ? DEFAULT_ALLELES_MATCH : allelesMatch,
+                                  validated == null ? DEFAULT_VALIDATED : validated, version);
+        entity.setCreatedDate(createdDate);
+        entity.setRemappedFrom(remappedFrom);
+        entity.setRemappedDate(remappedDate);
+        entity.setRemappingId(remappingId);
+        entity.setMapWeight(mapWeight);
+        entity.setBackPropagatedVariantAccession(backPropagatedVariantAccession);
+        return entity;
+    }
+
+    private static void encode(BsonWriter writer, String idField, String hashedMessage, Long accession, int version,
+                               ISubmittedVariant variant, String backPropagatedRSField, boolean writeDefaultFlags) {
+        writer.writeStartDocument();
+        BsonFields.writeString(writer, idField, hashedMessage);
+        BsonFields.writeString(writer, "seq", variant.getReferenceSequenceAccession());
+        writer.writeInt32("tax", variant.getTaxonomyAccession());
+        BsonFields.writeString(writer, "study", variant.getProjectAccession());
+        BsonFields.writeString(writer, "contig", variant.getContig());
+        writer.writeInt64("start", variant.getStart());
+        BsonFields.writeString(writer, "ref", variant.getReferenceAllele());
+        BsonFields.writeString(writer, "alt", variant.getAlternateAllele());
+        BsonFields.writeLong(writer, "rs", variant.getClusteredVariantAccession());
+        writeFlag(writer, "evidence", variant.isSupportedByEvidence(), DEFAULT_SUPPORTED_BY_EVIDENCE,
+                  writeDefaultFlags);
+        writeFlag(writer, "asmMatch", variant.isAssemblyMatch(), DEFAULT_ASSEMBLY_MATCH, writeDefaultFlags);
+        writeFlag(writer, "allelesMatch", variant.isAllelesMatch(), DEFAULT_ALLELES_MATCH, writeDefaultFlags);
+        writeFlag(writer, "validated", variant.isValidated(), DEFAULT_VALIDATED, writeDefaultFlags);
+        BsonFields.writeString(writer, "remappedFrom", variant.getRemappedFrom());
+        BsonFields.writeDate(writer, "remappedDate", variant.getRemappedDate());
+        BsonFields.writeString(writer, "remappingId", variant.getRemappingId());
+        BsonFields.writeInteger(writer, "mapWeight", variant.getMapWeight());
+        BsonFields.writeLong(writer, backPropagatedRSField, variant.getBackPropagatedVariantAccession());
+        BsonFields.writeLong(writer, "accession", accession);
+        writer.writeInt32("version", version);
+        BsonFields.writeDate(writer, "createdDate", variant.getCreatedDate());
+        writer.writeEndDocument();
+    }
+
+    /**
+     * The entities store null instead of the default value of the flags.
+     */
+    private static void writeFlag(BsonWriter writer, String name, Boolean value, boolean defaultValue,
+                                  boolean writeDefault) {
+        if (value != null && (writeDefault || value != defaultValue)) {
+            writer.writeBoolean(name, value);
+        }
+    }
+}
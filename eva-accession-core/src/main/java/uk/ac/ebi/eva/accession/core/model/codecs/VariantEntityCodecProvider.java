@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.codecs;
+
+import com.mongodb.client.MongoCollection;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Provides the codecs of the submitted and clustered variant entities, and of their operations, for the exact entity
+ * classes (the dbSNP subclasses have their own codecs), and of the lightweight views read with a projection.
+ *
+ * The readers that don't need the MappingMongoConverter can use {@link #getCollection} to decode the documents
+ * straight into entities, instead of decoding them into Documents that are then converted.
+ */
+public class VariantEntityCodecProvider implements CodecProvider {
+
+    private static final VariantEntityCodecProvider INSTANCE = new VariantEntityCodecProvider();
+
+    private final Map<Class<?>, Codec<?>> codecs;
+
+    public VariantEntityCodecProvider() {
+        List<Codec<?>> allCodecs = Arrays.asList(
+                SubmittedVariantEntityCodec.eva(),
+                SubmittedVariantEntityCodec.dbsnp(),
+                ClusteredVariantEntityCodec.eva(),
+                ClusteredVariantEntityCodec.dbsnp(),
+                VariantOperationEntityCodec.evaSubmittedVariantOperations(),
+                VariantOperationEntityCodec.dbsnpSubmittedVariantOperations(),
+                VariantOperationEntityCodec.evaClusteredVariantOperations(),
+                VariantOperationEntityCodec.dbsnpClusteredVariantOperations(),
+                new AccessionViewCodec());
+        this.codecs = allCodecs.stream().collect(Collectors.toMap(Codec::getEncoderClass, Function.identity()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        return (Codec<T>) codecs.get(clazz);
+    }
+
+    /**
+     * @return the variant entity codecs, followed by the given registry for any other class
+     */
+    public static CodecRegistry withVariantEntityCodecs(CodecRegistry codecRegistry) {
+        return CodecRegistries.fromRegistries(CodecRegistries.fromProviders(INSTANCE), codecRegistry);
+    }
+
+    /**
+     * @param collectionEntityClass entity whose collection is read
+     * @param documentClass entity to decode the documents into, which can be different from the collection entity,
+     *                      e.g. to read the dbSNP collection as EVA entities
+     */
+    public static <T> MongoCollection<T> getCollection(MongoTemplate mongoTemplate, Class<?> collectionEntityClass,
+                                                       Class<T> documentClass) {
+        MongoCollection<T> collection = mongoTemplate.getCollection(
+                mongoTemplate.getCollectionName(collectionEntityClass)).withDocumentClass(documentClass);
+        try {
+            collection.getCodecRegistry().get(documentClass);
+            return collection;
+        } catch (CodecConfigurationException e) {
+            // the client was not created by MongoClientCreator, so the codecs are not registered
+            return collection.withCodecRegistry(withVariantEntityCodecs(collection.getCodecRegistry()));
+        }
+    }
+}
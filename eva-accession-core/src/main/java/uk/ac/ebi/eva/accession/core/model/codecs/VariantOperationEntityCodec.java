@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.codecs;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.EventDocument;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.InactiveSubDocument;
+
+import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantInactiveEntity;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantOperationEntity;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantInactiveEntity;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantOperationEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantInactiveEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantOperationEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantInactiveEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantOperationEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decodes the operations on submitted and clustered variants straight from the BSON sent by the server, including
+ * their inactive objects, and encodes them with the same fields as the MappingMongoConverter.
+ */
+public class VariantOperationEntityCodec<T extends EventDocument<MODEL, Long, INACTIVE>, MODEL,
+        INACTIVE extends InactiveSubDocument<MODEL, Long>> implements Codec<T> {
+
+    private static final String ID_FIELD = "_id";
+
+    private static final String INACTIVE_OBJECTS_FIELD = "inactiveObjects";
+
+    private final Class<T> encoderClass;
+
+    private final Supplier<T> factory;
+
+    private final SubDocumentCodec<INACTIVE> inactiveObjectCodec;
+
+    VariantOperationEntityCodec(Class<T> encoderClass, Supplier<T> factory,
+                                SubDocumentCodec<INACTIVE> inactiveObjectCodec) {
+        this.encoderClass = encoderClass;
+        this.factory = factory;
+        this.inactiveObjectCodec = inactiveObjectCodec;
+    }
+
+    public static VariantOperationEntityCodec<SubmittedVariantOperationEntity, ISubmittedVariant,
+            SubmittedVariantInactiveEntity> evaSubmittedVariantOperations() {
+        return new VariantOperationEntityCodec<>(
+                SubmittedVariantOperationEntity.class, SubmittedVariantOperationEntity::new,
+                SubmittedVariantEntityCodec.eva().inactiveEntityCodec(SubmittedVariantInactiveEntity::new));
+    }
+
+    public static VariantOperationEntityCodec<DbsnpSubmittedVariantOperationEntity, ISubmittedVariant,
+            DbsnpSubmittedVariantInactiveEntity> dbsnpSubmittedVariantOperations() {
+        return new VariantOperationEntityCodec<>(
+                DbsnpSubmittedVariantOperationEntity.class, DbsnpSubmittedVariantOperationEntity::new,
+                SubmittedVariantEntityCodec.dbsnp().inactiveEntityCodec(DbsnpSubmittedVariantInactiveEntity::new));
+    }
+
+    public static VariantOperationEntityCodec<ClusteredVariantOperationEntity, IClusteredVariant,
+            ClusteredVariantInactiveEntity> evaClusteredVariantOperations() {
+        return new VariantOperationEntityCodec<>(
+                ClusteredVariantOperationEntity.class, ClusteredVariantOperationEntity::new,
+                ClusteredVariantEntityCodec.eva().inactiveEntityCodec(ClusteredVariantInactiveEntity::new));
+    }
+
+    public static VariantOperationEntityCodec<DbsnpClusteredVariantOperationEntity, IClusteredVariant,
+            DbsnpClusteredVariantInactiveEntity> dbsnpClusteredVariantOperations() {
+        return new VariantOperationEntityCodec<>(
+                DbsnpClusteredVariantOperationEntity.class, DbsnpClusteredVariantOperationEntity::new,
+                ClusteredVariantEntityCodec.dbsnp().inactiveEntityCodec(DbsnpClusteredVariantInactiveEntity::new));
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return encoderClass;
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        String id = null;
+        EventType eventType = null;
+        Long accession = null;
+        Long mergeInto = null;
+        Long splitInto = null;
+        String reason = null;
+        LocalDateTime createdDate = null;
+        List<INACTIVE> inactiveObjects = Collections.emptyList();
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case ID_FIELD:
+                    id = BsonFields.readString(reader);
+                    break;
+                case "eventType":
+                    String storedEventType = BsonFields.readString(reader);
+                    eventType = storedEventType == null ? null : EventType.valueOf(storedEventType);
+                    break;
+                case "accession":
+                    accession = BsonFields.readLong(reader);
+                    break;
+                case "mergeInto":
+                    mergeInto = BsonFields.readLong(reader);
+                    break;
+                case "splitInto":
+                    splitInto = BsonFields.readLong(reader);
+                    break;
+                case "reason":
+                    reason = BsonFields.readString(reader);
+                    break;
+                case "createdDate":
+                    createdDate = BsonFields.readDate(reader);
+                    break;
+                case INACTIVE_OBJECTS_FIELD:
+                    inactiveObjects = readInactiveObjects(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        T operation = factory.get();
+        operation.fill(eventType, accession, mergeInto != null ? mergeInto : splitInto, reason, inactiveObjects);
+        operation.setId(id);
+        if (createdDate != null) {
+            // otherwise the operation keeps the date it was instantiated, like with the MappingMongoConverter
+            operation.setCreatedDate(createdDate);
+        }
+        return operation;
+    }
+
+    private List<INACTIVE> readInactiveObjects(BsonReader reader) {
+        if (BsonFields.readNullIfPresent(reader)) {
+            return Collections.emptyList();
+        }
+        List<INACTIVE> inactiveObjects = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            inactiveObjects.add(inactiveObjectCodec.decode(reader));
+        }
+        reader.readEndArray();
+        return inactiveObjects;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        BsonFields.writeString(writer, ID_FIELD, value.getId());
+        if (value.getEventType() != null) {
+            writer.writeString("eventType", value.getEventType().name());
+        }
+        BsonFields.writeLong(writer, "accession", value.getAccession());
+        BsonFields.writeLong(writer, "mergeInto", value.getMergedInto());
+        BsonFields.writeLong(writer, "splitInto", value.getSplitInto());
+        BsonFields.writeString(writer, "reason", value.getReason());
+        if (value.getInactiveObjects() != null) {
+            writer.writeStartArray(INACTIVE_OBJECTS_FIELD);
+            for (INACTIVE inactiveObject : value.getInactiveObjects()) {
+                inactiveObjectCodec.encode(writer, inactiveObject);
+            }
+            writer.writeEndArray();
+        }
+        BsonFields.writeDate(writer, "createdDate", value.getCreatedDate());
+        writer.writeEndDocument();
+    }
+}
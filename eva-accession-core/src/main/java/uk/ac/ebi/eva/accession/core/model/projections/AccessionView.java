@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.projections;
+
+import java.util.Objects;
+
+/**
+ * Lightweight view of a variant or operation document read with {@link ProjectionProfile#ACCESSION}, for the steps
+ * that only need the accession.
+ */
+public final class AccessionView {
+
+    private final Long accession;
+
+    public AccessionView(Long accession) {
+        this.accession = accession;
+    }
+
+    public Long getAccession() {
+        return accession;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Objects.equals(accession, ((AccessionView) o).accession);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(accession);
+    }
+
+    @Override
+    public String toString() {
+        return "AccessionView{accession=" + accession + '}';
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.projections;
+
+import com.mongodb.client.model.Projections;
+import org.bson.conversions.Bson;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fields that a reader requests from the server, so a step that only uses a few fields of the variants doesn't
+ * transfer and decode the whole documents. The codecs leave the fields that are not requested with their default
+ * values, so only the steps that don't write the entities back should use a profile other than {@link #FULL}.
+ */
+public enum ProjectionProfile {
+
+    /**
+     * The whole documents, needed when the entities are written back or copied into the inactive objects of an
+     * operation
+     */
+    FULL(true),
+
+    /**
+     * Only the accession of variants or operations, read as an {@link AccessionView}
+     */
+    ACCESSION(false, "accession"),
+
+    /**
+     * The fields of a submitted variant that determine the hash of its clustered variant, plus its accessions
+     */
+    SUBMITTED_VARIANT_FOR_RS_HASH(true, "accession", "version", "createdDate", "seq", "tax", "study", "contig",
+                                  "start", "ref", "alt", "rs", "validated"),
+
+    /**
+     * The accessions involved in a merge or split of clustered variants, without the inactive objects
+     */
+    OPERATION_ACCESSIONS(true, "eventType", "accession", "mergeInto", "splitInto");
+
+    private final boolean includeId;
+
+    private final List<String> fields;
+
+    ProjectionProfile(boolean includeId, String... fields) {
+        this.includeId = includeId;
+        this.fields = Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    /**
+     * @return the fields to request besides the _id, or an empty list to request the whole documents
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return the projection to pass to the find, or null to request the whole documents
+     */
+    public Bson getProjection() {
+        if (fields.isEmpty()) {
+            return null;
+        }
+        Bson included = Projections.include(fields);
+        return includeId ? included : Projections.fields(included, Projections.excludeId());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.repository.nonhuman.eva;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Reads only the accession of the documents in a range of accessions, without mapping them to entities. With the index
+ * on the accession this is a covered query, so the documents themselves are not even loaded by the server.
+ */
+class AccessionRangeQuery {
+
+    private static final String ACCESSION_FIELD = "accession";
+
+    private static final int BATCH_SIZE = 10000;
+
+    private AccessionRangeQuery() {
+    }
+
+    static void forEachAccession(MongoOperations mongoOperations, Class<?> entityClass, long start, long end,
+                                 LongConsumer consumer) {
+        try (MongoCursor<Document> cursor = mongoOperations
+                .getCollection(mongoOperations.getCollectionName(entityClass))
+                .find(Filters.and(Filters.gte(ACCESSION_FIELD, start), Filters.lte(ACCESSION_FIELD, end)))
+                .projection(Projections.fields(Projections.include(ACCESSION_FIELD), Projections.excludeId()))
+                .batchSize(BATCH_SIZE)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                consumer.accept(cursor.next().get(ACCESSION_FIELD, Number.class).longValue());
+            }
+        }
+    }
+}
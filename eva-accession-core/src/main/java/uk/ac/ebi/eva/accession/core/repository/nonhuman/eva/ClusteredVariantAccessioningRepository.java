@@ -25,6 +25,7 @@ import uk.ac.ebi.ampt2d.commons.accession.persistence.repositories.IAccessionedO
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
 
 import java.util.List;
+import java.util.function.LongConsumer;
 
 @Repository
 public interface ClusteredVariantAccessioningRepository extends
@@ -32,6 +33,11 @@ public interface ClusteredVariantAccessioningRepository extends
 
     List<AccessionProjection<Long>> findByAccessionGreaterThanEqualAndAccessionLessThanEqual(Long start, Long end);
 
+    /**
+     * Streams the accessions of the documents in a range, loading only the accession of each document
+     */
+    void forEachAccessionInRange(Long start, Long end, LongConsumer consumer);
+
     List<ClusteredVariantEntity> findByAssemblyAccessionAndAccessionIn(String referenceSequenceAccession,
                                                                        List<Long> accession);
 }
@@ -20,16 +20,14 @@ package uk.ac.ebi.eva.accession.core.repository.nonhuman.eva;
 
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.AccessionProjection;
-import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.AccessionedDocument;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.repository.BasicMongoDbAccessionedCustomRepositoryImpl;
 
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.LongConsumer;
 
 public class ClusteredVariantAccessioningRepositoryImpl
         extends BasicMongoDbAccessionedCustomRepositoryImpl<Long, ClusteredVariantEntity> {
@@ -43,13 +41,12 @@ public class ClusteredVariantAccessioningRepositoryImpl
 
     public List<AccessionProjection<Long>> findByAccessionGreaterThanEqualAndAccessionLessThanEqual(Long start,
                                                                                                     Long end) {
-        Criteria criteria = new Criteria();
-        return mongoOperations.find(Query.query(criteria.andOperator(Criteria.where("accession").gte(start),
-                                                                     Criteria.where("accession").lte(end))),
-                                    ClusteredVariantEntity.class)
-                              .stream()
-                              .map(AccessionedDocument::getAccession)
-                              .map(accession -> (AccessionProjection<Long>) () -> accession)
-                              .collect(Collectors.toList());
+        List<AccessionProjection<Long>> accessions = new ArrayList<>();
+        forEachAccessionInRange(start, end, accession -> accessions.add(() -> accession));
+        return accessions;
+    }
+
+    public void forEachAccessionInRange(Long start, Long end, LongConsumer consumer) {
+        AccessionRangeQuery.forEachAccession(mongoOperations, ClusteredVariantEntity.class, start, end, consumer);
     }
 }
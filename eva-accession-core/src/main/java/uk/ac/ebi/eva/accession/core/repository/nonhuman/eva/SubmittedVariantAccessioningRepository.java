@@ -24,6 +24,7 @@ import uk.ac.ebi.ampt2d.commons.accession.persistence.repositories.IAccessionedO
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 
 import java.util.List;
+import java.util.function.LongConsumer;
 
 @Repository
 public interface SubmittedVariantAccessioningRepository extends
@@ -35,4 +36,9 @@ public interface SubmittedVariantAccessioningRepository extends
                                                                                 List<Long> accession);
 
     List<AccessionProjection<Long>> findByAccessionGreaterThanEqualAndAccessionLessThanEqual(Long start, Long end);
+
+    /**
+     * Streams the accessions of the documents in a range, loading only the accession of each document
+     */
+    void forEachAccessionInRange(Long start, Long end, LongConsumer consumer);
 }
@@ -19,16 +19,14 @@ package uk.ac.ebi.eva.accession.core.repository.nonhuman.eva;
 
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.AccessionProjection;
-import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.document.AccessionedDocument;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.mongodb.repository.BasicMongoDbAccessionedCustomRepositoryImpl;
 
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.LongConsumer;
 
 public class SubmittedVariantAccessioningRepositoryImpl
         extends BasicMongoDbAccessionedCustomRepositoryImpl<Long, SubmittedVariantEntity> {
@@ -40,14 +38,14 @@ public class SubmittedVariantAccessioningRepositoryImpl
         mongoOperations = mongoTemplate;
     }
 
-    public List<AccessionProjection<Long>> findByAccessionGreaterThanEqualAndAccessionLessThanEqual(Long start, Long end) {
-        Criteria criteria = new Criteria();
-        return mongoOperations.find(Query.query(criteria.andOperator(Criteria.where("accession").gte(start),
-                                                                     Criteria.where("accession").lte(end))),
-                                    SubmittedVariantEntity.class)
-                              .stream()
-                              .map(AccessionedDocument::getAccession)
-                              .map(accession -> (AccessionProjection<Long>) () -> accession)
-                              .collect(Collectors.toList());
+    public List<AccessionProjection<Long>> findByAccessionGreaterThanEqualAndAccessionLessThanEqual(Long start,
+                                                                                                    Long end) {
+        List<AccessionProjection<Long>> accessions = new ArrayList<>();
+        forEachAccessionInRange(start, end, accession -> accessions.add(() -> accession));
+        return accessions;
+    }
+
+    public void forEachAccessionInRange(Long start, Long end, LongConsumer consumer) {
+        AccessionRangeQuery.forEachAccession(mongoOperations, SubmittedVariantEntity.class, start, end, consumer);
     }
 }
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.service.nonhuman;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+
+import uk.ac.ebi.eva.accession.core.metrics.CacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Bounded read-through cache of the results of looking up an accession in a collection. The least recently used
+ * entries are evicted once the cache is full, and entries older than the time to live are looked up again. Empty
+ * results are never stored, so an accession that doesn't exist yet is found as soon as it's created.
+ *
+ * The services that modify the variants (merge, deprecate, update, patch, and creating submitted variants) invalidate
+ * the accessions involved, and a lookup that was running while an accession was invalidated doesn't store its result,
+ * so the cache doesn't return variants older than the last modification done through the services in this JVM.
+ * Modifications done directly in the database, or by other applications like the accessioning and clustering
+ * pipelines, are not seen until the entries expire, so the time to live is how stale a result can be.
+ *
+ * Every accession of a lookup is counted once as a hit or a miss, even if it's repeated in a {@link #getAll} call.
+ */
+public class AccessionLookupCache<VALUE> implements CacheMetrics.Statistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessionLookupCache.class);
+
+    public static final String EVA = "eva";
+
+    public static final String DBSNP = "dbsnp";
+
+    private final String name;
+
+    private final int maxEntries;
+
+    private final long timeToLiveNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<Key, Entry<VALUE>> entries;
+
+    private final Set<String> collections;
+
+    private long generation;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    private long invalidations;
+
+    private long expirations;
+
+    private int peakEntries;
+
+    @FunctionalInterface
+    public interface Lookup<VALUE> {
+        VALUE get() throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException;
+    }
+
+    /**
+     * @param name name used in the logs
+     * @param maxEntries maximum number of entries, 0 to disable the cache
+     * @param timeToLive time after which an entry is looked up again, zero for no expiry
+     */
+    public AccessionLookupCache(String name, int maxEntries, Duration timeToLive) {
+        this(name, maxEntries, timeToLive, System::nanoTime);
+    }
+
+    AccessionLookupCache(String name, int maxEntries, Duration timeToLive, LongSupplier nanoClock) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("The maximum number of entries of a cache can't be negative");
+        }
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("The time to live of the entries of a cache can't be negative");
+        }
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+        this.collections = new HashSet<>();
+        this.entries = new LinkedHashMap<Key, Entry<VALUE>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry<VALUE>> eldest) {
+                if (size() > AccessionLookupCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return a cache that always runs the lookups
+     */
+    public static <VALUE> AccessionLookupCache<VALUE> disabled() {
+        return new AccessionLookupCache<>(null, 0, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    public VALUE get(String collection, Long accession, Lookup<VALUE> lookup)
+            throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        if (!isEnabled()) {
+            return lookup.get();
+        }
+        Key key = new Key(collection, accession);
+        long lookupGeneration;
+        synchronized (this) {
+            VALUE value = getEntry(key);
+            if (value != null) {
+                hits++;
+                return value;
+            }
+            misses++;
+            lookupGeneration = generation;
+        }
+        VALUE value = lookup.get();
+        put(key, value, lookupGeneration);
+        return value;
+    }
+
+    /**
+     * Looks up in a single query all the accessions that are not in the cache.
+     *
+     * @param lookup returns the value of each accession looked up. Accessions without a value get the value given by
+     *               emptyValue, which is not stored.
+     */
+    public Map<Long, VALUE> getAll(String collection, Collection<Long> accessions,
+                                   Function<List<Long>, Map<Long, VALUE>> lookup, VALUE emptyValue) {
+        Map<Long, VALUE> values = new LinkedHashMap<>();
+        if (!isEnabled()) {
+            values.putAll(lookup.apply(new ArrayList<>(accessions)));
+            return values;
+        }
+        List<Long> accessionsToLookUp = new ArrayList<>();
+        long lookupGeneration;
+        synchronized (this) {
+            for (Long accession : new LinkedHashSet<>(accessions)) {
+                VALUE value = getEntry(new Key(collection, accession));
+                if (value != null) {
+                    hits++;
+                    values.put(accession, value);
+                } else {
+                    misses++;
+                    accessionsToLookUp.add(accession);
+                }
+            }
+            lookupGeneration = generation;
+        }
+        if (!accessionsToLookUp.isEmpty()) {
+            Map<Long, VALUE> lookedUpValues = lookup.apply(accessionsToLookUp);
+            for (Long accession : accessionsToLookUp) {
+                VALUE value = lookedUpValues.get(accession);
+                if (value == null) {
+                    values.put(accession, emptyValue);
+                } else {
+                    put(new Key(collection, accession), value, lookupGeneration);
+                    values.put(accession, value);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @return the value of the key, or null if it's not in the cache or has expired
+     */
+    private VALUE getEntry(Key key) {
+        Entry<VALUE> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (timeToLiveNanos > 0 && nanoClock.getAsLong() - entry.writtenNanos >= timeToLiveNanos) {
+            entries.remove(key);
+            expirations++;
+            return null;
+        }
+        return entry.value;
+    }
+
+    private synchronized void put(Key key, VALUE value, long lookupGeneration) {
+        // if anything was invalidated during the lookup, the value might be out of date already
+        if (!isEmpty(value) && lookupGeneration == generation) {
+            entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+            collections.add(key.collection);
+            peakEntries = Math.max(peakEntries, entries.size());
+        }
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null || (value instanceof Collection && ((Collection<?>) value).isEmpty());
+    }
+
+    /**
+     * Removes the accessions from all the collections.
+     */
+    public synchronized void invalidate(Long... accessions) {
+        if (!isEnabled()) {
+            return;
+        }
+        generation++;
+        for (String collection : collections) {
+            for (Long accession : accessions) {
+                if (entries.remove(new Key(collection, accession)) != null) {
+                    invalidations++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the entries whose value matches the condition, for modifications of variants that are not cached by
+     * their own accession.
+     */
+    public synchronized void invalidateIf(Predicate<VALUE> condition) {
+        if (!isEnabled()) {
+            return;
+        }
+        generation++;
+        entries.values().removeIf(entry -> {
+            if (condition.test(entry.value)) {
+                invalidations++;
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return number of entries, which is what the cache bounds
+     */
+    @Override
+    public synchronized long getWeight() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized long getPeakWeight() {
+        return peakEntries;
+    }
+
+    @Override
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    @Override
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getInvalidations() {
+        return invalidations;
+    }
+
+    public synchronized long getExpirations() {
+        return expirations;
+    }
+
+    /**
+     * @return proportion of the accessions looked up that were in the cache
+     */
+    public synchronized double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Publishes the statistics of the cache in the registry, if it's enabled
+     */
+    public void registerMetrics(MeterRegistry meterRegistry) {
+        if (isEnabled()) {
+            CacheMetrics.register(meterRegistry, name, "entries", this);
+        }
+    }
+
+    public synchronized void logStatistics() {
+        if (isEnabled() && hits + misses > 0) {
+            logger.info("Cache of {}: {} hits, {} misses (hit ratio {}), {} evictions, {} invalidations, {} "
+                        + "expirations, {} entries (peak {})", name, hits, misses, getHitRatio(), evictions,
+                        invalidations, expirations, entries.size(), peakEntries);
+        }
+    }
+
+    private static class Entry<VALUE> {
+
+        private final VALUE value;
+
+        private final long writtenNanos;
+
+        Entry(VALUE value, long writtenNanos) {
+            this.value = value;
+            this.writtenNanos = writtenNanos;
+        }
+    }
+
+    private static class Key {
+
+        private final String collection;
+
+        private final Long accession;
+
+        Key(String collection, Long accession) {
+            this.collection = collection;
+            this.accession = accession;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(collection, key.collection) && Objects.equals(accession, key.accession);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(collection, accession);
+        }
+    }
+}
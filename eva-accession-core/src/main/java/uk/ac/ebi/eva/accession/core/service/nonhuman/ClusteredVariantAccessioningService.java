@@ -32,6 +32,7 @@ import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrappe
 
 import uk.ac.ebi.eva.accession.core.contigalias.ContigAliasService;
 import uk.ac.ebi.eva.accession.core.model.ClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.HashedClusteredVariant;
 import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpClusteredVariantMonotonicAccessioningService;
 import uk.ac.ebi.eva.accession.core.service.nonhuman.eva.ClusteredVariantMonotonicAccessioningService;
@@ -56,25 +57,61 @@ public class ClusteredVariantAccessioningService implements AccessioningService<
 
     private final ContigAliasService contigAliasService;
 
+    private final DualCollectionQueryExecutor queryExecutor;
+
+    private final VariantLookupCaches lookupCaches;
+
     public ClusteredVariantAccessioningService(ClusteredVariantMonotonicAccessioningService accessioningService,
                                                DbsnpClusteredVariantMonotonicAccessioningService accessioningServiceDbsnp,
                                                Long accessioningMonotonicInitRs,
                                                ContigAliasService contigAliasService) {
+        this(accessioningService, accessioningServiceDbsnp, accessioningMonotonicInitRs, contigAliasService,
+             DualCollectionQueryExecutor.sequential());
+    }
+
+    public ClusteredVariantAccessioningService(ClusteredVariantMonotonicAccessioningService accessioningService,
+                                               DbsnpClusteredVariantMonotonicAccessioningService accessioningServiceDbsnp,
+                                               Long accessioningMonotonicInitRs,
+                                               ContigAliasService contigAliasService,
+                                               DualCollectionQueryExecutor queryExecutor) {
+        this(accessioningService, accessioningServiceDbsnp, accessioningMonotonicInitRs, contigAliasService,
+             queryExecutor, VariantLookupCaches.disabled());
+    }
+
+    /**
+     * @param lookupCaches caches of {@link #getAllByAccession} and {@link #getLastInactive}, which are invalidated by
+     *                     the methods that modify the clustered variants
+     */
+    public ClusteredVariantAccessioningService(ClusteredVariantMonotonicAccessioningService accessioningService,
+                                               DbsnpClusteredVariantMonotonicAccessioningService accessioningServiceDbsnp,
+                                               Long accessioningMonotonicInitRs,
+                                               ContigAliasService contigAliasService,
+                                               DualCollectionQueryExecutor queryExecutor,
+                                               VariantLookupCaches lookupCaches) {
         this.accessioningService = accessioningService;
         this.accessioningServiceDbsnp = accessioningServiceDbsnp;
         this.accessioningMonotonicInitRs = accessioningMonotonicInitRs;
         this.contigAliasService = contigAliasService;
+        this.queryExecutor = queryExecutor;
+        this.lookupCaches = lookupCaches;
     }
 
+    /**
+     * The variants are hashed once (see {@link HashedClusteredVariant}) and the hash is reused in the dbSNP lookup and
+     * the EVA get or create.
+     */
     @Override
     public List<GetOrCreateAccessionWrapper<IClusteredVariant, String, Long>> getOrCreate(
             List<? extends IClusteredVariant> variants, String applicationInstanceId)
             throws AccessionCouldNotBeGeneratedException {
+        List<HashedClusteredVariant> hashedVariants = variants.stream()
+                                                              .map(HashedClusteredVariant::of)
+                                                              .collect(Collectors.toList());
         List<GetOrCreateAccessionWrapper<IClusteredVariant, String, Long>> dbsnpVariants =
-                accessioningServiceDbsnp.get(variants).stream()
+                accessioningServiceDbsnp.get(hashedVariants).stream()
                         .map(d -> new GetOrCreateAccessionWrapper<>(d.getAccession(), d.getHash(), d.getData(), false))
                         .collect(Collectors.toList());
-        List<IClusteredVariant> variantsNotInDbsnp = removeFromList(variants, dbsnpVariants);
+        List<IClusteredVariant> variantsNotInDbsnp = removeFromList(hashedVariants, dbsnpVariants);
         if (variantsNotInDbsnp.isEmpty()) {
             // check this special case because mongo bulk inserts don't allow inserting empty lists
             // (accession-commons BasicMongoDbAccessionedCustomRepositoryImpl.insert would need to change)
@@ -105,16 +142,10 @@ public class ClusteredVariantAccessioningService implements AccessioningService<
                           .collect(Collectors.toList());
     }
 
-    private List<AccessionWrapper<IClusteredVariant, String, Long>> joinLists(
-            List<AccessionWrapper<IClusteredVariant, String, Long>> l1,
-            List<AccessionWrapper<IClusteredVariant, String, Long>> l2) {
-        l1.addAll(l2);
-        return l1;
-    }
-
     @Override
     public List<AccessionWrapper<IClusteredVariant, String, Long>> get(List<? extends IClusteredVariant> variants) {
-        return joinLists(accessioningService.get(variants), accessioningServiceDbsnp.get(variants));
+        return queryExecutor.concat(() -> accessioningService.get(variants),
+                                    () -> accessioningServiceDbsnp.get(variants));
     }
 
     /**
@@ -141,13 +172,18 @@ public class ClusteredVariantAccessioningService implements AccessioningService<
     public List<AccessionWrapper<IClusteredVariant, String, Long>> getAllByAccession(
             Long accession, ContigNamingConvention contigNamingConvention)
             throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        AccessionLookupCache<List<AccessionWrapper<IClusteredVariant, String, Long>>> cache =
+                lookupCaches.getClusteredVariants();
         List<AccessionWrapper<IClusteredVariant, String, Long>> clusteredVariants;
         if (accession >= accessioningMonotonicInitRs) {
-            clusteredVariants = accessioningService.getAllByAccession(accession);
+            clusteredVariants = cache.get(AccessionLookupCache.EVA, accession,
+                                          () -> accessioningService.getAllByAccession(accession));
         } else {
-            clusteredVariants = accessioningServiceDbsnp.getAllByAccession(accession);
+            clusteredVariants = cache.get(AccessionLookupCache.DBSNP, accession,
+                                          () -> accessioningServiceDbsnp.getAllByAccession(accession));
         }
-        return contigAliasService.getClusteredVariantsWithTranslatedContig(clusteredVariants, contigNamingConvention);
+        return contigAliasService.getClusteredVariantsWithTranslatedContig(new ArrayList<>(clusteredVariants),
+                                                                           contigNamingConvention);
     }
 
     public List<AccessionWrapper<IClusteredVariant, String, Long>>
@@ -162,10 +198,9 @@ public class ClusteredVariantAccessioningService implements AccessioningService<
             }
         }
 
-        List<AccessionWrapper<IClusteredVariant, String, Long>> result =
-                accessioningService.getAllActiveByAssemblyAndAccessionIn(assembly, evaAccessions);
-        result.addAll(accessioningServiceDbsnp.getAllActiveByAssemblyAndAccessionIn(assembly, dbsnpAccessions));
-        return result;
+        return queryExecutor.concat(
+                () -> accessioningService.getAllActiveByAssemblyAndAccessionIn(assembly, evaAccessions),
+                () -> accessioningServiceDbsnp.getAllActiveByAssemblyAndAccessionIn(assembly, dbsnpAccessions));
     }
 
     @Override
@@ -195,10 +230,14 @@ public class ClusteredVariantAccessioningService implements AccessioningService<
                                                                             IClusteredVariant iClusteredVariant)
             throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
             AccessionMergedException {
-        if (accession >= accessioningMonotonicInitRs) {
-            return accessioningService.update(accession, version, iClusteredVariant);
-        } else {
-            return accessioningServiceDbsnp.update(accession, version, iClusteredVariant);
+        try {
+            if (accession >= accessioningMonotonicInitRs) {
+                return accessioningService.update(accession, version, iClusteredVariant);
+            } else {
+                return accessioningServiceDbsnp.update(accession, version, iClusteredVariant);
+            }
+        } finally {
+            lookupCaches.invalidateClusteredVariants(accession);
         }
     }
 
@@ -206,43 +245,69 @@ public class ClusteredVariantAccessioningService implements AccessioningService<
     public AccessionVersionsWrapper<IClusteredVariant, String, Long> patch(Long accession, IClusteredVariant variant)
             throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
             AccessionMergedException {
-        if (accession >= accessioningMonotonicInitRs) {
-            return accessioningService.patch(accession, variant);
-        } else {
-            return accessioningServiceDbsnp.patch(accession, variant);
+        try {
+            if (accession >= accessioningMonotonicInitRs) {
+                return accessioningService.patch(accession, variant);
+            } else {
+                return accessioningServiceDbsnp.patch(accession, variant);
+            }
+        } finally {
+            lookupCaches.invalidateClusteredVariants(accession);
         }
     }
 
     @Override
     public void deprecate(Long accession, String reason)
             throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
-        if (accession >= accessioningMonotonicInitRs) {
-            accessioningService.deprecate(accession, reason);
-        } else {
-            accessioningServiceDbsnp.deprecate(accession, reason);
+        try {
+            if (accession >= accessioningMonotonicInitRs) {
+                accessioningService.deprecate(accession, reason);
+            } else {
+                accessioningServiceDbsnp.deprecate(accession, reason);
+            }
+        } finally {
+            lookupCaches.invalidateClusteredVariants(accession);
         }
     }
 
     @Override
     public void merge(Long accessionOrigin, Long mergeInto, String reason)
             throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
-        if (accessionOrigin >= accessioningMonotonicInitRs && mergeInto >= accessioningMonotonicInitRs) {
-            accessioningService.merge(accessionOrigin, mergeInto, reason);
-        } else if (accessionOrigin < accessioningMonotonicInitRs && mergeInto < accessioningMonotonicInitRs) {
-            accessioningServiceDbsnp.merge(accessionOrigin, mergeInto, reason);
-        } else {
+        if (accessionOrigin >= accessioningMonotonicInitRs != mergeInto >= accessioningMonotonicInitRs) {
             throw new UnsupportedOperationException("Can't merge a clustered variant with a dbSNP clustered variant");
         }
+        try {
+            if (accessionOrigin >= accessioningMonotonicInitRs) {
+                accessioningService.merge(accessionOrigin, mergeInto, reason);
+            } else {
+                accessioningServiceDbsnp.merge(accessionOrigin, mergeInto, reason);
+            }
+        } finally {
+            lookupCaches.invalidateClusteredVariants(accessionOrigin, mergeInto);
+        }
     }
 
     public AccessionWrapper<IClusteredVariant, String, Long> getLastInactive(Long accession) {
-        if (accession >= accessioningMonotonicInitRs) {
-            return accessioningService.getLastInactive(accession);
-        } else {
-            return accessioningServiceDbsnp.getLastInactive(accession);
+        try {
+            AccessionLookupCache<AccessionWrapper<IClusteredVariant, String, Long>> cache =
+                    lookupCaches.getLastInactiveClusteredVariants();
+            if (accession >= accessioningMonotonicInitRs) {
+                return cache.get(AccessionLookupCache.EVA, accession,
+                                 () -> accessioningService.getLastInactive(accession));
+            } else {
+                return cache.get(AccessionLookupCache.DBSNP, accession,
+                                 () -> accessioningServiceDbsnp.getLastInactive(accession));
+            }
+        } catch (AccessionMergedException | AccessionDoesNotExistException | AccessionDeprecatedException e) {
+            // getLastInactive doesn't throw these
+            throw new IllegalStateException(e);
         }
     }
 
+    public VariantLookupCaches getLookupCaches() {
+        return lookupCaches;
+    }
+
     public void shutDownAccessionGenerator(){
         accessioningService.shutDownAccessioning();
         accessioningServiceDbsnp.shutDownAccessioning();
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.service.nonhuman;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the EVA and dbSNP halves of a lookup, either one after the other or at the same time.
+ *
+ * In parallel mode the second query is submitted to a bounded pool while the first one runs in the calling thread.
+ * When the pool is saturated, the second query also runs in the calling thread, so callers are never blocked waiting
+ * for a free worker. In both modes the results are concatenated in the same order (first, then second), and if the
+ * first query fails its exception is thrown, as it would have been when running sequentially.
+ */
+public class DualCollectionQueryExecutor {
+
+    private static final int QUEUE_SIZE_PER_THREAD = 4;
+
+    private final ExecutorService executor;
+
+    private DualCollectionQueryExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public static DualCollectionQueryExecutor sequential() {
+        return new DualCollectionQueryExecutor(null);
+    }
+
+    public static DualCollectionQueryExecutor parallel(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed to run queries in parallel");
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(threads * QUEUE_SIZE_PER_THREAD),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dual-collection-query-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return new DualCollectionQueryExecutor(executor);
+    }
+
+    public boolean isParallel() {
+        return executor != null;
+    }
+
+    /**
+     * @return a new list with the results of the first query followed by the results of the second one
+     */
+    public <T> List<T> concat(Supplier<? extends List<? extends T>> firstQuery,
+                              Supplier<? extends List<? extends T>> secondQuery) {
+        List<T> results = new ArrayList<>();
+        if (executor == null) {
+            results.addAll(firstQuery.get());
+            results.addAll(secondQuery.get());
+            return results;
+        }
+
+        Future<? extends List<? extends T>> secondResults = executor.submit(secondQuery::get);
+        try {
+            results.addAll(firstQuery.get());
+        } catch (RuntimeException | Error e) {
+            secondResults.cancel(false);
+            throw e;
+        }
+        results.addAll(join(secondResults));
+        return results;
+    }
+
+    private static <R> R join(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a query to finish", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -38,9 +38,13 @@ import uk.ac.ebi.eva.accession.core.service.nonhuman.eva.SubmittedVariantMonoton
 import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class SubmittedVariantAccessioningService implements AccessioningService<ISubmittedVariant, String, Long> {
@@ -55,20 +59,59 @@ public class SubmittedVariantAccessioningService implements AccessioningService<
 
     private ContigAliasService contigAliasService;
 
+    private final DualCollectionQueryExecutor queryExecutor;
+
+    private final VariantLookupCaches lookupCaches;
+
     public SubmittedVariantAccessioningService(SubmittedVariantMonotonicAccessioningService accessioningService,
                                                DbsnpSubmittedVariantMonotonicAccessioningService accessioningServiceDbsnp,
                                                Long accessioningMonotonicInitSs,
                                                ContigAliasService contigAliasService) {
+        this(accessioningService, accessioningServiceDbsnp, accessioningMonotonicInitSs, contigAliasService,
+             DualCollectionQueryExecutor.sequential());
+    }
+
+    public SubmittedVariantAccessioningService(SubmittedVariantMonotonicAccessioningService accessioningService,
+                                               DbsnpSubmittedVariantMonotonicAccessioningService accessioningServiceDbsnp,
+                                               Long accessioningMonotonicInitSs,
+                                               ContigAliasService contigAliasService,
+                                               DualCollectionQueryExecutor queryExecutor) {
+        this(accessioningService, accessioningServiceDbsnp, accessioningMonotonicInitSs, contigAliasService,
+             queryExecutor, VariantLookupCaches.disabled());
+    }
+
+    /**
+     * @param lookupCaches caches of {@link #getByClusteredVariantAccessionIn}, which are invalidated by the methods
+     *                     that create or modify submitted variants
+     */
+    public SubmittedVariantAccessioningService(SubmittedVariantMonotonicAccessioningService accessioningService,
+                                               DbsnpSubmittedVariantMonotonicAccessioningService accessioningServiceDbsnp,
+                                               Long accessioningMonotonicInitSs,
+                                               ContigAliasService contigAliasService,
+                                               DualCollectionQueryExecutor queryExecutor,
+                                               VariantLookupCaches lookupCaches) {
         this.accessioningService = accessioningService;
         this.accessioningServiceDbsnp = accessioningServiceDbsnp;
         this.accessioningMonotonicInitSs = accessioningMonotonicInitSs;
         this.contigAliasService = contigAliasService;
+        this.queryExecutor = queryExecutor;
+        this.lookupCaches = lookupCaches;
     }
 
     @Override
     public List<GetOrCreateAccessionWrapper<ISubmittedVariant, String, Long>> getOrCreate(
             List<? extends ISubmittedVariant> variants, String applicationInstanceId)
             throws AccessionCouldNotBeGeneratedException {
+        try {
+            return getOrCreateInDbsnpOrEva(variants, applicationInstanceId);
+        } finally {
+            invalidateClusteredVariantAccessions(variants);
+        }
+    }
+
+    private List<GetOrCreateAccessionWrapper<ISubmittedVariant, String, Long>> getOrCreateInDbsnpOrEva(
+            List<? extends ISubmittedVariant> variants, String applicationInstanceId)
+            throws AccessionCouldNotBeGeneratedException {
         List<AccessionWrapper<ISubmittedVariant, String, Long>> dbsnpVariants = accessioningServiceDbsnp.get(variants);
         List<ISubmittedVariant> variantsNotInDbsnp = removeFromList(variants, dbsnpVariants);
         if (variantsNotInDbsnp.isEmpty()) {
@@ -95,6 +138,18 @@ public class SubmittedVariantAccessioningService implements AccessioningService<
         }
     }
 
+    private void invalidateClusteredVariantAccessions(List<? extends ISubmittedVariant> variants) {
+        AccessionLookupCache<List<AccessionWrapper<ISubmittedVariant, String, Long>>> cache =
+                lookupCaches.getSubmittedVariantsByClusteredVariant();
+        if (cache.isEnabled()) {
+            cache.invalidate(variants.stream()
+                                     .map(ISubmittedVariant::getClusteredVariantAccession)
+                                     .filter(Objects::nonNull)
+                                     .distinct()
+                                     .toArray(Long[]::new));
+        }
+    }
+
     private List<ISubmittedVariant> removeFromList(List<? extends ISubmittedVariant> allVariants,
                                                    List<AccessionWrapper<ISubmittedVariant, String, Long>>
                                                            variantsToDelete) {
@@ -118,7 +173,8 @@ public class SubmittedVariantAccessioningService implements AccessioningService<
 
     @Override
     public List<AccessionWrapper<ISubmittedVariant, String, Long>> get(List<? extends ISubmittedVariant> variants) {
-        return joinLists(accessioningService.get(variants), accessioningServiceDbsnp.get(variants));
+        return queryExecutor.concat(() -> accessioningService.get(variants),
+                                    () -> accessioningServiceDbsnp.get(variants));
     }
 
     public List<AccessionWrapper<ISubmittedVariant, String, Long>> getAllByIdFields(
@@ -184,10 +240,31 @@ public class SubmittedVariantAccessioningService implements AccessioningService<
 
     public List<AccessionWrapper<ISubmittedVariant, String, Long>> getByClusteredVariantAccessionIn(
             List<Long> clusteredVariantAccessions, ContigNamingConvention contigNamingConvention) {
-        return joinLists(contigAliasService.getSubmittedVariantsWithTranslatedContig(accessioningService.getByClusteredVariantAccessionIn(clusteredVariantAccessions),
-                                                                                     contigNamingConvention),
-                         contigAliasService.getSubmittedVariantsWithTranslatedContig(accessioningServiceDbsnp.getByClusteredVariantAccessionIn(clusteredVariantAccessions),
-                                                                                     contigNamingConvention));
+        return queryExecutor.concat(
+                () -> contigAliasService.getSubmittedVariantsWithTranslatedContig(
+                        getByClusteredVariantAccessionIn(AccessionLookupCache.EVA, clusteredVariantAccessions,
+                                                         accessioningService::getByClusteredVariantAccessionIn),
+                        contigNamingConvention),
+                () -> contigAliasService.getSubmittedVariantsWithTranslatedContig(
+                        getByClusteredVariantAccessionIn(AccessionLookupCache.DBSNP, clusteredVariantAccessions,
+                                                         accessioningServiceDbsnp::getByClusteredVariantAccessionIn),
+                        contigNamingConvention));
+    }
+
+    private List<AccessionWrapper<ISubmittedVariant, String, Long>> getByClusteredVariantAccessionIn(
+            String collection, List<Long> clusteredVariantAccessions,
+            Function<List<Long>, List<AccessionWrapper<ISubmittedVariant, String, Long>>> lookup) {
+        AccessionLookupCache<List<AccessionWrapper<ISubmittedVariant, String, Long>>> cache =
+                lookupCaches.getSubmittedVariantsByClusteredVariant();
+        if (!cache.isEnabled()) {
+            return lookup.apply(clusteredVariantAccessions);
+        }
+        Map<Long, List<AccessionWrapper<ISubmittedVariant, String, Long>>> submittedVariants = cache.getAll(
+                collection, clusteredVariantAccessions,
+                accessions -> lookup.apply(accessions).stream().collect(Collectors.groupingBy(
+                        variant -> variant.getData().getClusteredVariantAccession())),
+                Collections.emptyList());
+        return submittedVariants.values().stream().flatMap(List::stream).collect(Collectors.toList());
     }
 
     @Override
@@ -195,10 +272,15 @@ public class SubmittedVariantAccessioningService implements AccessioningService<
                                                                             ISubmittedVariant iSubmittedVariant)
             throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
             AccessionMergedException {
-        if (accession >= accessioningMonotonicInitSs) {
-            return accessioningService.update(accession, version, iSubmittedVariant);
-        } else {
-            return accessioningServiceDbsnp.update(accession, version, iSubmittedVariant);
+        try {
+            if (accession >= accessioningMonotonicInitSs) {
+                return accessioningService.update(accession, version, iSubmittedVariant);
+            } else {
+                return accessioningServiceDbsnp.update(accession, version, iSubmittedVariant);
+            }
+        } finally {
+            lookupCaches.invalidateSubmittedVariants(accession);
+            invalidateClusteredVariantAccessions(Collections.singletonList(iSubmittedVariant));
         }
     }
 
@@ -206,33 +288,47 @@ public class SubmittedVariantAccessioningService implements AccessioningService<
     public AccessionVersionsWrapper<ISubmittedVariant, String, Long> patch(Long accession, ISubmittedVariant variant)
             throws AccessionDoesNotExistException, HashAlreadyExistsException, AccessionDeprecatedException,
             AccessionMergedException {
-        if (accession >= accessioningMonotonicInitSs) {
-            return accessioningService.patch(accession, variant);
-        } else {
-            return accessioningServiceDbsnp.patch(accession, variant);
+        try {
+            if (accession >= accessioningMonotonicInitSs) {
+                return accessioningService.patch(accession, variant);
+            } else {
+                return accessioningServiceDbsnp.patch(accession, variant);
+            }
+        } finally {
+            lookupCaches.invalidateSubmittedVariants(accession);
+            invalidateClusteredVariantAccessions(Collections.singletonList(variant));
         }
     }
 
     @Override
     public void deprecate(Long accession, String reason)
             throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
-        if (accession >= accessioningMonotonicInitSs) {
-            accessioningService.deprecate(accession, reason);
-        } else {
-            accessioningServiceDbsnp.deprecate(accession, reason);
+        try {
+            if (accession >= accessioningMonotonicInitSs) {
+                accessioningService.deprecate(accession, reason);
+            } else {
+                accessioningServiceDbsnp.deprecate(accession, reason);
+            }
+        } finally {
+            lookupCaches.invalidateSubmittedVariants(accession);
         }
     }
 
     @Override
     public void merge(Long accessionOrigin, Long mergeInto, String reason)
             throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
-        if (accessionOrigin >= accessioningMonotonicInitSs && mergeInto >= accessioningMonotonicInitSs) {
-            accessioningService.merge(accessionOrigin, mergeInto, reason);
-        } else if (accessionOrigin < accessioningMonotonicInitSs && mergeInto < accessioningMonotonicInitSs) {
-            accessioningServiceDbsnp.merge(accessionOrigin, mergeInto, reason);
-        } else {
+        if (accessionOrigin >= accessioningMonotonicInitSs != mergeInto >= accessioningMonotonicInitSs) {
             throw new UnsupportedOperationException("Can't merge a submitted variant with a dbSNP submitted variant");
         }
+        try {
+            if (accessionOrigin >= accessioningMonotonicInitSs) {
+                accessioningService.merge(accessionOrigin, mergeInto, reason);
+            } else {
+                accessioningServiceDbsnp.merge(accessionOrigin, mergeInto, reason);
+            }
+        } finally {
+            lookupCaches.invalidateSubmittedVariants(accessionOrigin, mergeInto);
+        }
     }
 
     public AccessionWrapper<ISubmittedVariant, String, Long> getLastInactive(Long accession) {
@@ -254,10 +350,9 @@ public class SubmittedVariantAccessioningService implements AccessioningService<
                 dbsnpAccessions.add(accession);
             }
         }
-        List<AccessionWrapper<ISubmittedVariant, String, Long>> result =
-                accessioningService.getAllActiveByAssemblyAndAccessionIn(assembly, evaAccessions);
-        result.addAll(accessioningServiceDbsnp.getAllActiveByAssemblyAndAccessionIn(assembly, dbsnpAccessions));
-        return result;
+        return queryExecutor.concat(
+                () -> accessioningService.getAllActiveByAssemblyAndAccessionIn(assembly, evaAccessions),
+                () -> accessioningServiceDbsnp.getAllActiveByAssemblyAndAccessionIn(assembly, dbsnpAccessions));
     }
 
     public void shutDownAccessionGenerator(){
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.service.nonhuman;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+
+import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Caches of the accession lookups of {@link ClusteredVariantAccessioningService} and
+ * {@link SubmittedVariantAccessioningService}, shared by both services so that modifying a clustered variant also
+ * invalidates the submitted variants looked up by its accession.
+ */
+public class VariantLookupCaches {
+
+    private final AccessionLookupCache<List<AccessionWrapper<IClusteredVariant, String, Long>>> clusteredVariants;
+
+    private final AccessionLookupCache<AccessionWrapper<IClusteredVariant, String, Long>> lastInactiveClusteredVariants;
+
+    private final AccessionLookupCache<List<AccessionWrapper<ISubmittedVariant, String, Long>>>
+            submittedVariantsByClusteredVariant;
+
+    /**
+     * @param maxEntries maximum number of accessions in each cache, 0 to disable the caches
+     * @param timeToLive time after which an accession is looked up again, zero for no expiry
+     */
+    public VariantLookupCaches(int maxEntries, Duration timeToLive) {
+        this.clusteredVariants = new AccessionLookupCache<>("clustered variants by accession", maxEntries,
+                                                            timeToLive);
+        this.lastInactiveClusteredVariants = new AccessionLookupCache<>("last inactive clustered variants",
+                                                                        maxEntries, timeToLive);
+        this.submittedVariantsByClusteredVariant = new AccessionLookupCache<>(
+                "submitted variants by clustered variant accession", maxEntries, timeToLive);
+    }
+
+    public static VariantLookupCaches disabled() {
+        return new VariantLookupCaches(0, Duration.ZERO);
+    }
+
+    public AccessionLookupCache<List<AccessionWrapper<IClusteredVariant, String, Long>>> getClusteredVariants() {
+        return clusteredVariants;
+    }
+
+    public AccessionLookupCache<AccessionWrapper<IClusteredVariant, String, Long>> getLastInactiveClusteredVariants() {
+        return lastInactiveClusteredVariants;
+    }
+
+    public AccessionLookupCache<List<AccessionWrapper<ISubmittedVariant, String, Long>>>
+    getSubmittedVariantsByClusteredVariant() {
+        return submittedVariantsByClusteredVariant;
+    }
+
+    /**
+     * Called after modifying clustered variants.
+     */
+    public void invalidateClusteredVariants(Long... clusteredVariantAccessions) {
+        clusteredVariants.invalidate(clusteredVariantAccessions);
+        lastInactiveClusteredVariants.invalidate(clusteredVariantAccessions);
+        submittedVariantsByClusteredVariant.invalidate(clusteredVariantAccessions);
+    }
+
+    /**
+     * Called after modifying submitted variants.
+     */
+    public void invalidateSubmittedVariants(Long... submittedVariantAccessions) {
+        if (!submittedVariantsByClusteredVariant.isEnabled()) {
+            return;
+        }
+        Set<Long> accessions = new HashSet<>(Arrays.asList(submittedVariantAccessions));
+        submittedVariantsByClusteredVariant.invalidateIf(
+                variants -> variants.stream().anyMatch(variant -> accessions.contains(variant.getAccession())));
+    }
+
+    public void registerMetrics(MeterRegistry meterRegistry) {
+        clusteredVariants.registerMetrics(meterRegistry);
+        lastInactiveClusteredVariants.registerMetrics(meterRegistry);
+        submittedVariantsByClusteredVariant.registerMetrics(meterRegistry);
+    }
+
+    public void logStatistics() {
+        clusteredVariants.logStatistics();
+        lastInactiveClusteredVariants.logStatistics();
+        submittedVariantsByClusteredVariant.logStatistics();
+    }
+}
@@ -34,16 +34,41 @@ public class DbsnpClusteredVariantMonotonicAccessioningService
 
     private final Function<IClusteredVariant, String> hashingFunction;
 
+    private final DbsnpNegativeCache<IClusteredVariant> negativeCache;
+
     public DbsnpClusteredVariantMonotonicAccessioningService(
             MonotonicAccessionGenerator<IClusteredVariant> accessionGenerator,
             DbsnpClusteredVariantAccessioningDatabaseService dbService,
             Function<IClusteredVariant, String> summaryFunction,
             Function<String, String> hashingFunction,
             AccessionSaveMode accessionSaveMode) {
-        super(accessionGenerator, dbService, summaryFunction, hashingFunction, accessionSaveMode);
+        this(accessionGenerator, dbService, summaryFunction, hashingFunction, accessionSaveMode,
+             DbsnpNegativeCache.disabled());
+    }
 
+    public DbsnpClusteredVariantMonotonicAccessioningService(
+            MonotonicAccessionGenerator<IClusteredVariant> accessionGenerator,
+            DbsnpClusteredVariantAccessioningDatabaseService dbService,
+            Function<IClusteredVariant, String> summaryFunction,
+            Function<String, String> hashingFunction,
+            AccessionSaveMode accessionSaveMode,
+            DbsnpNegativeCache<IClusteredVariant> negativeCache) {
+        super(accessionGenerator, dbService, summaryFunction, hashingFunction, accessionSaveMode);
         this.dbService = dbService;
         this.hashingFunction = summaryFunction.andThen(hashingFunction);
+        this.negativeCache = negativeCache;
+    }
+
+    /**
+     * Variants that the negative cache knows are not in dbSNP are not looked up.
+     */
+    @Override
+    public List<AccessionWrapper<IClusteredVariant, String, Long>> get(List<? extends IClusteredVariant> variants) {
+        return negativeCache.get(variants, this::getHash, super::get);
+    }
+
+    public DbsnpNegativeCache<IClusteredVariant> getNegativeCache() {
+        return negativeCache;
     }
 
     public String getHash(IClusteredVariant variant) {
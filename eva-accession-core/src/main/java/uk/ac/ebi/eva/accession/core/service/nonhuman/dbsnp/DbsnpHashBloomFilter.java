@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Bloom filter of the hashes stored in a dbSNP collection for one assembly. {@link #mightContain(String)} never returns
+ * false for a hash that was added, and returns true for a hash that was not added with a probability close to the
+ * false positive rate the filter was created with.
+ *
+ * The bit positions are derived from the hash strings with a fixed function (64-bit FNV-1a mixed with the SplitMix64
+ * finalizer, then double hashing), so a filter written by {@link #write(Path)} gives the same answers in any JVM.
+ */
+public class DbsnpHashBloomFilter {
+
+    static final int MAGIC = 0x45564142;
+
+    static final int VERSION = 1;
+
+    private static final int MAX_HASH_FUNCTIONS = 30;
+
+    private static final int READ_BUFFER_BYTES = 8 * 1024 * 1024;
+
+    private final String collection;
+
+    private final String assembly;
+
+    private final long collectionCount;
+
+    private final int hashFunctions;
+
+    private final long bitCount;
+
+    private final long[] words;
+
+    private long insertions;
+
+    private DbsnpHashBloomFilter(String collection, String assembly, long collectionCount, int hashFunctions,
+                                 long[] words, long insertions) {
+        this.collection = collection;
+        this.assembly = assembly;
+        this.collectionCount = collectionCount;
+        this.hashFunctions = hashFunctions;
+        this.bitCount = (long) words.length * Long.SIZE;
+        this.words = words;
+        this.insertions = insertions;
+    }
+
+    /**
+     * @param collectionCount number of documents in the whole collection when the filter is built, used to detect
+     *                        filters that are out of date
+     */
+    public static DbsnpHashBloomFilter create(String collection, String assembly, long collectionCount,
+                                              long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1 (exclusive)");
+        }
+        long insertions = Math.max(1, expectedInsertions);
+        double bitsPerInsertion = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long wordCount = (long) Math.ceil(insertions * bitsPerInsertion / Long.SIZE);
+        if (wordCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("A Bloom filter of " + expectedInsertions + " hashes with false "
+                                               + "positive rate " + falsePositiveRate + " is too big");
+        }
+        int hashFunctions = (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS,
+                                                       Math.round(bitsPerInsertion * Math.log(2))));
+        return new DbsnpHashBloomFilter(collection, assembly, collectionCount, hashFunctions,
+                                        new long[(int) wordCount], 0);
+    }
+
+    public void put(String hash) {
+        long hash1 = mix(fnv1a(hash));
+        long hash2 = mix(hash1 + 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        insertions++;
+    }
+
+    public boolean mightContain(String hash) {
+        long hash1 = mix(fnv1a(hash));
+        long hash2 = mix(hash1 + 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return probability that {@link #mightContain(String)} returns true for a hash that was not added, estimated from
+     * the proportion of bits set
+     */
+    public double getExpectedFalsePositiveRate() {
+        long bitsSet = 0;
+        for (long word : words) {
+            bitsSet += Long.bitCount(word);
+        }
+        return Math.pow((double) bitsSet / bitCount, hashFunctions);
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public String getAssembly() {
+        return assembly;
+    }
+
+    public long getCollectionCount() {
+        return collectionCount;
+    }
+
+    public long getInsertions() {
+        return insertions;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Writes the filter to a temporary file that is then moved to the given path, so a filter that is being written is
+     * never loaded.
+     */
+    public void write(Path path) throws IOException {
+        Path absolutePath = path.toAbsolutePath();
+        Path temporaryPath = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(),
+                                                  ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryPath), READ_BUFFER_BYTES))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeUTF(collection);
+                output.writeUTF(assembly);
+                output.writeLong(collectionCount);
+                output.writeInt(hashFunctions);
+                output.writeLong(insertions);
+                output.writeInt(words.length);
+                for (long word : words) {
+                    output.writeLong(word);
+                }
+            }
+            try {
+                Files.move(temporaryPath, absolutePath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    public static DbsnpHashBloomFilter load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // not buffered, so that the channel is positioned right after the header once it has been read
+            DataInputStream input = new DataInputStream(Channels.newInputStream(channel));
+            if (channel.size() < 2 * Integer.BYTES || input.readInt() != MAGIC) {
+                throw new IOException(path + " is not a dbSNP Bloom filter");
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException("dbSNP Bloom filter " + path + " has version " + version + " but version "
+                                      + VERSION + " is required");
+            }
+            String collection = input.readUTF();
+            String assembly = input.readUTF();
+            long collectionCount = input.readLong();
+            int hashFunctions = input.readInt();
+            long insertions = input.readLong();
+            int wordCount = input.readInt();
+            if (hashFunctions < 1 || wordCount < 1
+                    || channel.size() != channel.position() + (long) wordCount * Long.BYTES) {
+                throw new IOException("dbSNP Bloom filter " + path + " is truncated or corrupted");
+            }
+
+            long[] words = new long[wordCount];
+            ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+            int wordsRead = 0;
+            while (wordsRead < wordCount) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), (long) (wordCount - wordsRead) * Long.BYTES));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        throw new IOException("dbSNP Bloom filter " + path + " is truncated");
+                    }
+                }
+                buffer.flip();
+                LongBuffer longs = buffer.asLongBuffer();
+                int count = longs.remaining();
+                longs.get(words, wordsRead, count);
+                wordsRead += count;
+            }
+            return new DbsnpHashBloomFilter(collection, assembly, collectionCount, hashFunctions, words, insertions);
+        }
+    }
+}
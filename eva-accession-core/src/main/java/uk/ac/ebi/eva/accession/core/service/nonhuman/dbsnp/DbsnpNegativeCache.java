@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Skips the lookups of variants that are definitely not in a dbSNP collection, according to the
+ * {@link DbsnpHashBloomFilter} of their assembly.
+ *
+ * The filters are read from files named as {@link #getFileName(String, String)} in a directory, the first time a
+ * variant of their assembly is looked up. Variants of assemblies without a filter are always looked up. A filter is
+ * only valid while the collection doesn't change, so it's ignored if the number of documents in the collection is not
+ * the same as when the filter was built, and it has to be built again after anything is written to the collection.
+ * Variants written to the collection while the filter is in use are not added to it, so it must not be used by jobs
+ * that write to the collection.
+ */
+public class DbsnpNegativeCache<MODEL> {
+
+    private static final Logger logger = LoggerFactory.getLogger(DbsnpNegativeCache.class);
+
+    private static final String FILE_EXTENSION = ".bloom";
+
+    private final Path directory;
+
+    private final String collection;
+
+    private final LongSupplier collectionCount;
+
+    private final Function<MODEL, String> assemblyFunction;
+
+    private final Map<String, Optional<DbsnpHashBloomFilter>> filters;
+
+    private final AtomicLong checkedHashes;
+
+    private final AtomicLong skippedHashes;
+
+    private final AtomicLong skippedQueries;
+
+    private final AtomicLong falsePositives;
+
+    /**
+     * @param collectionCount current number of documents in the collection
+     * @param assemblyFunction assembly of a variant, to choose the filter that is used
+     */
+    public DbsnpNegativeCache(Path directory, String collection, LongSupplier collectionCount,
+                              Function<MODEL, String> assemblyFunction) {
+        this.directory = directory;
+        this.collection = collection;
+        this.collectionCount = collectionCount;
+        this.assemblyFunction = assemblyFunction;
+        this.filters = new ConcurrentHashMap<>();
+        this.checkedHashes = new AtomicLong();
+        this.skippedHashes = new AtomicLong();
+        this.skippedQueries = new AtomicLong();
+        this.falsePositives = new AtomicLong();
+    }
+
+    /**
+     * @return a cache that looks up every variant
+     */
+    public static <MODEL> DbsnpNegativeCache<MODEL> disabled() {
+        return new DbsnpNegativeCache<>(null, null, () -> 0, variant -> null);
+    }
+
+    public static String getFileName(String collection, String assembly) {
+        return assembly + "_" + collection + FILE_EXTENSION;
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Runs the query only with the variants that might be in the collection. If none of them can be there, the query is
+     * not run at all.
+     */
+    public List<AccessionWrapper<MODEL, String, Long>> get(
+            List<? extends MODEL> variants, Function<MODEL, String> hashingFunction,
+            Function<List<? extends MODEL>, List<AccessionWrapper<MODEL, String, Long>>> query) {
+        if (!isEnabled() || variants.isEmpty()) {
+            return query.apply(variants);
+        }
+        List<MODEL> variantsToQuery = new ArrayList<>(variants.size());
+        Set<String> hashesInFilter = new HashSet<>();
+        Set<String> hashesNotInFilter = new HashSet<>();
+        for (MODEL variant : variants) {
+            DbsnpHashBloomFilter filter = getFilter(assemblyFunction.apply(variant));
+            if (filter == null) {
+                variantsToQuery.add(variant);
+                continue;
+            }
+            String hash = hashingFunction.apply(variant);
+            if (filter.mightContain(hash)) {
+                variantsToQuery.add(variant);
+                hashesInFilter.add(hash);
+            } else {
+                hashesNotInFilter.add(hash);
+            }
+        }
+        checkedHashes.addAndGet(hashesInFilter.size() + hashesNotInFilter.size());
+        skippedHashes.addAndGet(hashesNotInFilter.size());
+        if (variantsToQuery.isEmpty()) {
+            skippedQueries.incrementAndGet();
+            return new ArrayList<>();
+        }
+
+        List<AccessionWrapper<MODEL, String, Long>> accessionWrappers = query.apply(variantsToQuery);
+        if (!hashesInFilter.isEmpty()) {
+            long found = accessionWrappers.stream()
+                                          .map(AccessionWrapper::getHash)
+                                          .filter(hashesInFilter::contains)
+                                          .distinct()
+                                          .count();
+            falsePositives.addAndGet(hashesInFilter.size() - found);
+        }
+        return accessionWrappers;
+    }
+
+    private DbsnpHashBloomFilter getFilter(String assembly) {
+        if (assembly == null) {
+            return null;
+        }
+        return filters.computeIfAbsent(assembly, this::loadFilter).orElse(null);
+    }
+
+    private Optional<DbsnpHashBloomFilter> loadFilter(String assembly) {
+        Path path = directory.resolve(getFileName(collection, assembly));
+        if (!Files.exists(path)) {
+            logger.info("No Bloom filter of {} for assembly {} in {}, all its variants will be looked up", collection,
+                        assembly, directory);
+            return Optional.empty();
+        }
+        try {
+            DbsnpHashBloomFilter filter = DbsnpHashBloomFilter.load(path);
+            if (!collection.equals(filter.getCollection()) || !assembly.equals(filter.getAssembly())) {
+                logger.warn("Bloom filter {} is for collection {} and assembly {}, it will be ignored", path,
+                            filter.getCollection(), filter.getAssembly());
+                return Optional.empty();
+            }
+            long currentCount = collectionCount.getAsLong();
+            if (currentCount != filter.getCollectionCount()) {
+                logger.warn("Bloom filter {} was built when {} had {} documents, but now it has {}. The filter will "
+                            + "be ignored, please build it again", path, collection, filter.getCollectionCount(),
+                            currentCount);
+                return Optional.empty();
+            }
+            logger.info("Loaded Bloom filter {} with {} hashes and expected false positive rate {}", path,
+                        filter.getInsertions(), filter.getExpectedFalsePositiveRate());
+            return Optional.of(filter);
+        } catch (IOException e) {
+            logger.warn("Bloom filter {} could not be loaded, all the variants of assembly {} will be looked up: {}",
+                        path, assembly, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return number of distinct hashes checked against a filter
+     */
+    public long getCheckedHashes() {
+        return checkedHashes.get();
+    }
+
+    /**
+     * @return number of distinct hashes that were not looked up because the filter said they are not in the collection
+     */
+    public long getSkippedHashes() {
+        return skippedHashes.get();
+    }
+
+    /**
+     * @return number of queries that were not run at all because none of their variants can be in the collection
+     */
+    public long getSkippedQueries() {
+        return skippedQueries.get();
+    }
+
+    /**
+     * @return number of hashes that the filter let through but were not found in the collection
+     */
+    public long getFalsePositives() {
+        return falsePositives.get();
+    }
+
+    /**
+     * @return proportion of the hashes not in the collection that the filter let through
+     */
+    public double getObservedFalsePositiveRate() {
+        long negatives = falsePositives.get() + skippedHashes.get();
+        return negatives == 0 ? 0 : (double) falsePositives.get() / negatives;
+    }
+
+    /**
+     * @return expected false positive rate of the filter loaded for each assembly
+     */
+    public Map<String, Double> getExpectedFalsePositiveRates() {
+        Map<String, Double> rates = new TreeMap<>();
+        filters.forEach((assembly, filter) -> filter.ifPresent(
+                bloomFilter -> rates.put(assembly, bloomFilter.getExpectedFalsePositiveRate())));
+        return rates;
+    }
+
+    public void logStatistics() {
+        if (isEnabled() && checkedHashes.get() > 0) {
+            logger.info("Bloom filters of {}: {} hashes checked, {} lookups and {} queries skipped, {} false "
+                        + "positives (observed false positive rate {}, expected {})", collection,
+                        checkedHashes.get(), skippedHashes.get(), skippedQueries.get(), falsePositives.get(),
+                        getObservedFalsePositiveRate(), getExpectedFalsePositiveRates());
+        }
+    }
+}
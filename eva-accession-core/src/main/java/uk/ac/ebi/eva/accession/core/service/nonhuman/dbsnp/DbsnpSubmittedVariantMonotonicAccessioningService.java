@@ -34,15 +34,41 @@ public class DbsnpSubmittedVariantMonotonicAccessioningService
 
     private final Function<ISubmittedVariant, String> hashingFunction;
 
+    private final DbsnpNegativeCache<ISubmittedVariant> negativeCache;
+
     public DbsnpSubmittedVariantMonotonicAccessioningService(
             MonotonicAccessionGenerator<ISubmittedVariant> accessionGenerator,
             DbsnpSubmittedVariantAccessioningDatabaseService dbService,
             Function<ISubmittedVariant, String> summaryFunction,
             Function<String, String> hashingFunction,
             AccessionSaveMode accessionSaveMode) {
+        this(accessionGenerator, dbService, summaryFunction, hashingFunction, accessionSaveMode,
+             DbsnpNegativeCache.disabled());
+    }
+
+    public DbsnpSubmittedVariantMonotonicAccessioningService(
+            MonotonicAccessionGenerator<ISubmittedVariant> accessionGenerator,
+            DbsnpSubmittedVariantAccessioningDatabaseService dbService,
+            Function<ISubmittedVariant, String> summaryFunction,
+            Function<String, String> hashingFunction,
+            AccessionSaveMode accessionSaveMode,
+            DbsnpNegativeCache<ISubmittedVariant> negativeCache) {
         super(accessionGenerator, dbService, summaryFunction, hashingFunction, accessionSaveMode);
         this.hashingFunction = summaryFunction.andThen(hashingFunction);
         this.dbService = dbService;
+        this.negativeCache = negativeCache;
+    }
+
+    /**
+     * Variants that the negative cache knows are not in dbSNP are not looked up.
+     */
+    @Override
+    public List<AccessionWrapper<ISubmittedVariant, String, Long>> get(List<? extends ISubmittedVariant> variants) {
+        return negativeCache.get(variants, this::getHash, super::get);
+    }
+
+    public DbsnpNegativeCache<ISubmittedVariant> getNegativeCache() {
+        return negativeCache;
     }
 
     public List<AccessionWrapper<ISubmittedVariant, String, Long>> getByClusteredVariantAccessionIn(
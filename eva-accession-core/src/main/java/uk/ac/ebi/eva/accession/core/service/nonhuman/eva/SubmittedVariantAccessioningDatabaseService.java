@@ -23,14 +23,17 @@ import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedExcepti
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.IEvent;
+import uk.ac.ebi.ampt2d.commons.accession.generators.monotonic.MonotonicRange;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.models.IAccessionedObject;
 import uk.ac.ebi.ampt2d.commons.accession.persistence.services.InactiveAccessionService;
 import uk.ac.ebi.ampt2d.commons.accession.service.BasicSpringDataRepositoryMonotonicDatabaseService;
+import uk.ac.ebi.eva.accession.core.generators.AccessionBitmap;
 import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 import uk.ac.ebi.eva.accession.core.repository.nonhuman.eva.SubmittedVariantAccessioningRepository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -53,6 +56,21 @@ public class SubmittedVariantAccessioningDatabaseService
         this.inactiveService = inactiveService;
     }
 
+    /**
+     * Streams only the accessions of each range into a bitmap, instead of loading every document in the range. An
+     * accession used by several documents is returned once.
+     */
+    @Override
+    public long[] getAccessionsInRanges(Collection<MonotonicRange> ranges) {
+        return ranges.stream()
+                     .flatMapToLong(range -> {
+                         AccessionBitmap accessions = new AccessionBitmap(range.getStart(), range.getEnd());
+                         repository.forEachAccessionInRange(range.getStart(), range.getEnd(), accessions);
+                         return accessions.stream();
+                     })
+                     .toArray();
+    }
+
     public List<AccessionWrapper<ISubmittedVariant, String, Long>> findByClusteredVariantAccessionIn(
             List<Long> clusteredVariantIds) {
         List<AccessionWrapper<ISubmittedVariant, String, Long>> wrappedAccessions = new ArrayList<>();
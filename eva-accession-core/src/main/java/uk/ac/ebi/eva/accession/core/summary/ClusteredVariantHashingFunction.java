@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.summary;
+
+import uk.ac.ebi.eva.accession.core.model.HashedClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
+
+import java.util.function.Function;
+
+/**
+ * Computes the hash of a ClusteredVariant from its identifying fields.
+ *
+ * The result is the same as {@code new ClusteredVariantSummaryFunction().andThen(new SHA1HashingFunction())}, but
+ * the summary String is never built (see {@link VariantHashingEngine}). The hash of a {@link HashedClusteredVariant}
+ * is not computed again. This class is stateless and thread-safe.
+ */
+public class ClusteredVariantHashingFunction implements Function<IClusteredVariant, String> {
+
+    @Override
+    public String apply(IClusteredVariant model) {
+        if (model instanceof HashedClusteredVariant) {
+            return ((HashedClusteredVariant) model).getHash();
+        }
+        return VariantHashingEngine.start()
+                                   .append(model.getAssemblyAccession())
+                                   .append(model.getContig())
+                                   .append(model.getStart())
+                                   .append(model.getType())
+                                   .hash();
+    }
+
+}
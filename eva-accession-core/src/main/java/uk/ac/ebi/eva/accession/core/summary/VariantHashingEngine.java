@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.summary;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Computes the SHA-1 of a summary made of several fields joined by "_", without building the summary String.
+ *
+ * The fields are UTF-8 encoded straight into a per-thread byte buffer, digested with a per-thread
+ * {@link MessageDigest} and hex-encoded in upper case into a per-thread char buffer, so the only allocation per hash
+ * is the returned String. The result is the same as applying
+ * {@link uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction} to the concatenated summary.
+ *
+ * Usage: {@code VariantHashingEngine.start().append(a).append(b).append(c).hash()}. The returned engine belongs to
+ * the calling thread and must not be shared with other threads.
+ */
+public final class VariantHashingEngine {
+
+    private static final char SEPARATOR = '_';
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private static final int SHA1_LENGTH = 20;
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private static final ThreadLocal<VariantHashingEngine> ENGINES = ThreadLocal.withInitial(
+            VariantHashingEngine::new);
+
+    private final MessageDigest digest;
+
+    private final byte[] digestBuffer;
+
+    private final char[] hexBuffer;
+
+    private byte[] buffer;
+
+    private int length;
+
+    private boolean firstField;
+
+    private VariantHashingEngine() {
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available in this JVM", e);
+        }
+        digestBuffer = new byte[SHA1_LENGTH];
+        hexBuffer = new char[SHA1_LENGTH * 2];
+        buffer = new byte[INITIAL_BUFFER_SIZE];
+    }
+
+    /**
+     * Returns the engine of the current thread, ready to receive the first field of a new summary.
+     */
+    public static VariantHashingEngine start() {
+        VariantHashingEngine engine = ENGINES.get();
+        engine.length = 0;
+        engine.firstField = true;
+        return engine;
+    }
+
+    /**
+     * Appends a field, preceded by the separator if it is not the first one. A null field is written as "null", the
+     * same way {@link StringBuilder#append(String)} does.
+     */
+    public VariantHashingEngine append(String field) {
+        appendSeparator();
+        String value = field == null ? "null" : field;
+        int fieldLength = value.length();
+        ensureCapacity(length + fieldLength);
+        for (int i = 0; i < fieldLength; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                appendNonAscii(value, i);
+                return this;
+            }
+            buffer[length++] = (byte) c;
+        }
+        return this;
+    }
+
+    /**
+     * Appends a numeric field in decimal notation, preceded by the separator if it is not the first one.
+     */
+    public VariantHashingEngine append(long field) {
+        appendSeparator();
+        if (field < 0) {
+            byte[] bytes = Long.toString(field).getBytes(StandardCharsets.US_ASCII);
+            appendBytes(bytes, 0, bytes.length);
+            return this;
+        }
+        int digits = countDigits(field);
+        ensureCapacity(length + digits);
+        int position = length + digits;
+        do {
+            buffer[--position] = (byte) ('0' + (field % 10));
+            field /= 10;
+        } while (field != 0);
+        length += digits;
+        return this;
+    }
+
+    /**
+     * Appends a field using its {@link Object#toString()} representation, or "null".
+     */
+    public VariantHashingEngine append(Object field) {
+        return append(field == null ? null : field.toString());
+    }
+
+    /**
+     * Digests the fields appended so far and returns the SHA-1 as 40 upper case hexadecimal characters.
+     */
+    public String hash() {
+        digest.update(buffer, 0, length);
+        try {
+            digest.digest(digestBuffer, 0, SHA1_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException("Could not compute SHA-1 digest", e);
+        }
+        for (int i = 0; i < SHA1_LENGTH; i++) {
+            int value = digestBuffer[i] & 0xFF;
+            hexBuffer[i * 2] = HEX_DIGITS[value >>> 4];
+            hexBuffer[i * 2 + 1] = HEX_DIGITS[value & 0x0F];
+        }
+        length = 0;
+        firstField = true;
+        return new String(hexBuffer);
+    }
+
+    private void appendSeparator() {
+        if (firstField) {
+            firstField = false;
+        } else {
+            ensureCapacity(length + 1);
+            buffer[length++] = SEPARATOR;
+        }
+    }
+
+    private void appendNonAscii(String value, int from) {
+        byte[] bytes = value.substring(from).getBytes(StandardCharsets.UTF_8);
+        appendBytes(bytes, 0, bytes.length);
+    }
+
+    private void appendBytes(byte[] bytes, int offset, int count) {
+        ensureCapacity(length + count);
+        System.arraycopy(bytes, offset, buffer, length, count);
+        length += count;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    private static int countDigits(long value) {
+        int digits = 1;
+        long threshold = 10;
+        while (digits < 19 && value >= threshold) {
+            digits++;
+            threshold *= 10;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.io;
+
+import htsjdk.samtools.reference.FastaSequenceIndex;
+import htsjdk.samtools.reference.FastaSequenceIndexCreator;
+import htsjdk.samtools.reference.ReferenceSequenceFile;
+import htsjdk.samtools.reference.ReferenceSequenceFileFactory;
+import htsjdk.samtools.util.BlockCompressedOutputStream;
+import htsjdk.samtools.util.GZIIndex;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.ac.ebi.eva.accession.core.utils.PipelineTemporaryFolderUtil;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockCompressedFastaSequenceFileTest {
+
+    private static final int[] CONTIG_LENGTHS = {300_000, 59, 120_001};
+
+    private static final int LINE_LENGTH = 70;
+
+    private PipelineTemporaryFolderUtil temporaryFolderUtil = new PipelineTemporaryFolderUtil();
+
+    private Path compressedFasta;
+
+    private ReferenceSequenceFile expectedFastaFile;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path root = temporaryFolderUtil.getRoot().toPath();
+        Path fasta = writeRandomFasta(root.resolve("random.fa"));
+        FastaSequenceIndexCreator.create(fasta, true);
+        expectedFastaFile = ReferenceSequenceFileFactory.getReferenceSequenceFile(fasta, true);
+
+        compressedFasta = root.resolve("random.fa.gz");
+        try (OutputStream output = new BlockCompressedOutputStream(compressedFasta.toFile())) {
+            Files.copy(fasta, output);
+        }
+    }
+
+    private Path writeRandomFasta(Path fasta) throws IOException {
+        Random random = new Random(42);
+        String bases = "ACGTNacgtn";
+        try (BufferedWriter writer = Files.newBufferedWriter(fasta)) {
+            for (int contig = 0; contig < CONTIG_LENGTHS.length; contig++) {
+                writer.write(">contig" + contig + " synthetic\n");
+                for (int position = 0; position < CONTIG_LENGTHS[contig]; position++) {
+                    writer.write(bases.charAt(random.nextInt(bases.length())));
+                    if ((position + 1) % LINE_LENGTH == 0 || position + 1 == CONTIG_LENGTHS[contig]) {
+                        writer.write('\n');
+                    }
+                }
+            }
+        }
+        return fasta;
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        expectedFastaFile.close();
+    }
+
+    @Test
+    public void readerCreatesIndexesAndReadsBlockCompressedFasta() throws Exception {
+        FastaSequenceReader reader = new FastaSequenceReader(compressedFasta);
+
+        assertTrue(Files.exists(ReferenceSequenceFileFactory.getFastaIndexFileName(compressedFasta)));
+        assertTrue(Files.exists(GZIIndex.resolveIndexNameForBgzipFile(compressedFasta)));
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            int contig = random.nextInt(CONTIG_LENGTHS.length);
+            long start = 1 + random.nextInt(CONTIG_LENGTHS[contig]);
+            int maxLength = i % 10 == 0 ? 2 * WindowedFastaSequenceFile.WINDOW_SIZE : 200;
+            long end = Math.min(CONTIG_LENGTHS[contig], start + random.nextInt(maxLength));
+            assertEquals(expectedFastaFile.getSubsequenceAt("contig" + contig, start, end).getBaseString(),
+                         reader.getSequence("contig" + contig, start, end),
+                         "contig" + contig + ":" + start + "-" + end);
+        }
+        reader.close();
+    }
+
+    @Test
+    public void contextNucleotidesAreTheSameAsUncompressed() throws Exception {
+        FastaSequenceReader reader = new FastaSequenceReader(compressedFasta);
+        for (long start = 1; start < CONTIG_LENGTHS[0]; start += 9973) {
+            String base = expectedFastaFile.getSubsequenceAt("contig0", start, start).getBaseString();
+            assertEquals(new ImmutableTriple<>(start, base + "A", base),
+                         reader.getContextNucleotideAndNewStart("contig0", start + 1, "A", ""));
+        }
+        assertThrows(IllegalArgumentException.class,
+                     () -> reader.getSequence("contig1", CONTIG_LENGTHS[1], CONTIG_LENGTHS[1] + 1));
+        reader.close();
+    }
+
+    @Test
+    public void onlyNeededBlocksAreInflated() throws Exception {
+        new FastaSequenceReader(compressedFasta).close();
+        BlockCompressedFastaSequenceFile fastaFile = new BlockCompressedFastaSequenceFile(
+                compressedFasta,
+                new FastaSequenceIndex(ReferenceSequenceFileFactory.getFastaIndexFileName(compressedFasta)),
+                GZIIndex.loadIndex(GZIIndex.resolveIndexNameForBgzipFile(compressedFasta)), 2);
+
+        for (long position = 1; position <= 1000; position++) {
+            fastaFile.getSubsequenceAt("contig0", position, position);
+        }
+        // the first window of decoded bases is a bit larger than a BGZF block, the rest are served from the window
+        assertEquals(2, fastaFile.getBlockReads());
+
+        fastaFile.getSubsequenceAt("contig2", CONTIG_LENGTHS[2], CONTIG_LENGTHS[2]);
+        fastaFile.getSubsequenceAt("contig0", 1, 1);
+        assertEquals(expectedFastaFile.getSequence("contig2").getBaseString(),
+                     fastaFile.getSequence("contig2").getBaseString());
+        fastaFile.close();
+    }
+}
@@ -28,8 +28,11 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class FastaSequenceReaderTest {
@@ -180,4 +183,45 @@ public class FastaSequenceReaderTest {
         expected = new ImmutableTriple<Long, String, String>(1L, "TGC", "C");
         assertEquals(expected, reader.getContextNucleotideAndNewStart("22", 1, "TG", ""));
     }
+
+    @Test
+    public void getContextNucleotidesAndNewStarts() {
+        List<ContextNucleotideRequest> requests = Arrays.asList(
+                new ContextNucleotideRequest("22", 60000, "", "A"),
+                new ContextNucleotideRequest("22", 1, "", "A"),
+                new ContextNucleotideRequest("22", 4729743, "G", ""),
+                new ContextNucleotideRequest("23", 10, "", "A"),
+                new ContextNucleotideRequest("22", 2, "GC", ""),
+                new ContextNucleotideRequest("22", 1, "TG", ""),
+                new ContextNucleotideRequest("22", 59990, "CA", ""),
+                new ContextNucleotideRequest("22", 1, "T", "A"),
+                new ContextNucleotideRequest("22", 2000000, "", "T"));
+
+        List<ImmutableTriple<Long, String, String>> results = reader.getContextNucleotidesAndNewStarts(requests);
+
+        assertEquals(requests.size(), results.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ContextNucleotideRequest request = requests.get(i);
+            if (request.getContig().equals("23") || (request.getStart() == 1 && !request.getAlternate().isEmpty()
+                    && !request.getReference().isEmpty())) {
+                assertNull(results.get(i));
+            } else {
+                assertEquals(reader.getContextNucleotideAndNewStart(request.getContig(), request.getStart(),
+                                                                    request.getReference(),
+                                                                    request.getAlternate()),
+                             results.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void getContextNucleotidesAndNewStartsOutsideOfContig() {
+        List<ContextNucleotideRequest> requests = Arrays.asList(new ContextNucleotideRequest("22", 2, "", "A"),
+                                                                new ContextNucleotideRequest("22", 4729745, "", "A"));
+
+        List<ImmutableTriple<Long, String, String>> results = reader.getContextNucleotidesAndNewStarts(requests);
+
+        assertEquals(new ImmutableTriple<>(1L, "T", "TA"), results.get(0));
+        assertNull(results.get(1));
+    }
 }
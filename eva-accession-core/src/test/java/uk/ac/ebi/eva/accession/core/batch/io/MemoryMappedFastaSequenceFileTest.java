@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.io;
+
+import htsjdk.samtools.SAMException;
+import htsjdk.samtools.reference.FastaSequenceIndex;
+import htsjdk.samtools.reference.FastaSequenceIndexCreator;
+import htsjdk.samtools.reference.ReferenceSequenceFile;
+import htsjdk.samtools.reference.ReferenceSequenceFileFactory;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.ac.ebi.eva.accession.core.utils.PipelineTemporaryFolderUtil;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MemoryMappedFastaSequenceFileTest {
+
+    private static final int[] CONTIG_LENGTHS = {150_000, 61, 7, 100_003};
+
+    private static final int LINE_LENGTH = 60;
+
+    /**
+     * Much smaller than the FASTA file, so that many requests span several mapped segments.
+     */
+    private static final int SEGMENT_SIZE = 1000;
+
+    private PipelineTemporaryFolderUtil temporaryFolderUtil = new PipelineTemporaryFolderUtil();
+
+    private ReferenceSequenceFile expectedFastaFile;
+
+    private MemoryMappedFastaSequenceFile mappedFastaFile;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path fasta = writeRandomFasta(temporaryFolderUtil.getRoot().toPath().resolve("random.fa"));
+        FastaSequenceIndexCreator.create(fasta, true);
+        expectedFastaFile = ReferenceSequenceFileFactory.getReferenceSequenceFile(fasta, true);
+        mappedFastaFile = new MemoryMappedFastaSequenceFile(
+                fasta, new FastaSequenceIndex(ReferenceSequenceFileFactory.getFastaIndexFileName(fasta)),
+                SEGMENT_SIZE);
+    }
+
+    private Path writeRandomFasta(Path fasta) throws IOException {
+        Random random = new Random(42);
+        String bases = "ACGTNacgtn";
+        try (BufferedWriter writer = Files.newBufferedWriter(fasta)) {
+            for (int contig = 0; contig < CONTIG_LENGTHS.length; contig++) {
+                writer.write(">contig" + contig + " synthetic\n");
+                for (int position = 0; position < CONTIG_LENGTHS[contig]; position++) {
+                    writer.write(bases.charAt(random.nextInt(bases.length())));
+                    if ((position + 1) % LINE_LENGTH == 0 || position + 1 == CONTIG_LENGTHS[contig]) {
+                        writer.write('\n');
+                    }
+                }
+            }
+        }
+        return fasta;
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        expectedFastaFile.close();
+        mappedFastaFile.close();
+    }
+
+    @Test
+    public void singleBasesInOrder() {
+        for (int contig = 0; contig < CONTIG_LENGTHS.length; contig++) {
+            for (long position = 1; position <= CONTIG_LENGTHS[contig]; position += 7) {
+                assertSameSubsequence("contig" + contig, position, position);
+            }
+        }
+    }
+
+    @Test
+    public void randomRegions() {
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            int contig = random.nextInt(CONTIG_LENGTHS.length);
+            long start = 1 + random.nextInt(CONTIG_LENGTHS[contig]);
+            int maxLength = i % 10 == 0 ? 2 * MemoryMappedFastaSequenceFile.WINDOW_SIZE : 200;
+            long end = Math.min(CONTIG_LENGTHS[contig], start + random.nextInt(maxLength));
+            assertSameSubsequence("contig" + contig, start, end);
+        }
+    }
+
+    @Test
+    public void requestsMovingBackwards() {
+        for (long position = CONTIG_LENGTHS[0]; position >= 1; position -= 997) {
+            assertSameSubsequence("contig0", position, position);
+        }
+    }
+
+    @Test
+    public void wholeSequences() {
+        for (int contig = 0; contig < CONTIG_LENGTHS.length; contig++) {
+            assertEquals(expectedFastaFile.getSequence("contig" + contig).getBaseString(),
+                         mappedFastaFile.getSequence("contig" + contig).getBaseString());
+        }
+    }
+
+    @Test
+    public void iterateSequences() {
+        for (int contig = 0; contig < CONTIG_LENGTHS.length; contig++) {
+            assertEquals("contig" + contig, mappedFastaFile.nextSequence().getName());
+        }
+        assertNull(mappedFastaFile.nextSequence());
+        mappedFastaFile.reset();
+        assertEquals("contig0", mappedFastaFile.nextSequence().getName());
+    }
+
+    @Test
+    public void invalidQueries() {
+        assertThrows(SAMException.class, () -> mappedFastaFile.getSubsequenceAt("missing", 1, 1));
+        assertThrows(SAMException.class, () -> mappedFastaFile.getSubsequenceAt("contig1", 0, 1));
+        assertThrows(SAMException.class, () -> mappedFastaFile.getSubsequenceAt("contig1", 60, 62));
+    }
+
+    private void assertSameSubsequence(String contig, long start, long end) {
+        assertEquals(expectedFastaFile.getSubsequenceAt(contig, start, end).getBaseString(),
+                     mappedFastaFile.getSubsequenceAt(contig, start, end).getBaseString(),
+                     contig + ":" + start + "-" + end);
+    }
+
+    @Test
+    public void memoryMappedFastaSequenceReader() throws Exception {
+        FastaSequenceReader reader = new FastaSequenceReader(copyFasta("fastaWithNoIndex.fa"), true);
+
+        // this sequence is split between three lines in the FASTA file
+        assertEquals("CAGCCGCAGTCCGGACAGCGCATGCGCCAGCCGCGAGACCGCACAGCGCATGCGCCAGCGCGAGTGACAGCG",
+                     reader.getSequence("22", 174, 245));
+        assertEquals(new ImmutableTriple<>(173L, "GC", "G"),
+                     reader.getContextNucleotideAndNewStart("22", 174, "C", ""));
+        assertThrows(IllegalArgumentException.class, () -> reader.getSequence("22", 530, 541));
+        assertThrows(IllegalArgumentException.class, () -> reader.getSequence("23", 1, 1));
+        reader.close();
+    }
+
+    @Test
+    public void memoryMappedFastaSequenceReaderKeepsSoftMasking() throws Exception {
+        FastaSequenceReader reader = new FastaSequenceReader(copyFasta("fastaWithSoftMasking.fa"), true);
+
+        assertEquals("g", reader.getSequence("NW_006738765.1", 1, 1));
+        assertEquals("G", reader.getSequenceToUpperCase("NW_006738765.1", 1, 1));
+        reader.close();
+    }
+
+    private Path copyFasta(String fastaFilename) throws IOException, URISyntaxException {
+        return Files.copy(Paths.get(MemoryMappedFastaSequenceFileTest.class.getResource(
+                                  "/input-files/fasta/" + fastaFilename).toURI()),
+                          temporaryFolderUtil.getRoot().toPath().resolve(fastaFilename));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.io;
+
+import org.junit.jupiter.api.Test;
+
+import uk.ac.ebi.eva.accession.core.utils.PipelineTemporaryFolderUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReportSinkTest {
+
+    private PipelineTemporaryFolderUtil temporaryFolderUtil = new PipelineTemporaryFolderUtil();
+
+    @Test
+    public void appendedLinesAreInTheFileAfterFlush() throws IOException {
+        File file = new File(temporaryFolderUtil.getRoot(), "report.txt");
+        ReportSink reportSink = new ReportSink(file, 1);
+
+        reportSink.append("3000000000\thash1\n");
+        reportSink.append("3000000001\thash2\n");
+        reportSink.flush();
+
+        assertEquals(Arrays.asList("3000000000\thash1", "3000000001\thash2"), Files.readAllLines(file.toPath()));
+        reportSink.close();
+    }
+
+    @Test
+    public void fileIsOpenedAgainAfterClose() throws IOException {
+        File file = new File(temporaryFolderUtil.getRoot(), "report.txt");
+        ReportSink reportSink = new ReportSink(file);
+        reportSink.flush();
+        reportSink.close();
+        assertFalse(file.exists());
+        reportSink.open();
+        reportSink.close();
+        assertEquals(0, file.length());
+
+        reportSink.append("line1\n");
+        reportSink.close();
+        reportSink.append("line2\n");
+        reportSink.close();
+
+        assertEquals(Arrays.asList("line1", "line2"), Files.readAllLines(file.toPath()));
+    }
+
+    @Test
+    public void compressedReport() throws IOException {
+        File file = new File(temporaryFolderUtil.getRoot(), "report.txt.gz");
+        ReportSink reportSink = new ReportSink(file, ReportSink.DEFAULT_QUEUE_CAPACITY, false);
+
+        reportSink.append("line1\n");
+        reportSink.flush();
+        reportSink.append("line2\n");
+        reportSink.close();
+        // every time the file is opened, a new gzip member is appended
+        reportSink.append("line3\n");
+        reportSink.close();
+        assertEquals(Arrays.asList("line1", "line2", "line3"), readCompressedLines(file));
+    }
+
+    @Test
+    public void restartableReportCantBeCompressed() {
+        File file = new File(temporaryFolderUtil.getRoot(), "report.txt.gz");
+        assertThrows(IllegalArgumentException.class, () -> new ReportSink(file));
+    }
+
+    @Test
+    public void linesOfSeveralThreadsDontInterleave() throws Exception {
+        File file = new File(temporaryFolderUtil.getRoot(), "report.txt");
+        ReportSink reportSink = new ReportSink(file, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            String prefix = "thread" + thread;
+            writers.add(executor.submit(() -> {
+                for (int line = 0; line < 1000; line++) {
+                    reportSink.append(prefix + "\t" + line + "\n");
+                }
+                reportSink.flush();
+                return null;
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+        reportSink.close();
+
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals(4000, lines.size());
+        assertEquals(4000, new HashSet<>(lines).size());
+        assertEquals(1000, lines.stream().filter(line -> line.startsWith("thread3\t")).count());
+    }
+
+    @Test
+    public void failureToOpenTheFileIsReported() {
+        File file = new File(new File(temporaryFolderUtil.getRoot(), "missing-folder"), "report.txt");
+        ReportSink reportSink = new ReportSink(file);
+
+        assertThrows(IOException.class, () -> reportSink.append("line1\n"));
+    }
+
+    @Test
+    public void queueCapacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ReportSink(new File("report.txt"), 0));
+    }
+
+    private List<String> readCompressedLines(File file) throws IOException {
+        try (BufferedReader reader = ReportSink.newReader(file, new FileInputStream(file))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.batch.listeners;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.ac.ebi.eva.accession.core.batch.listeners.ChunkTimingListener.CHUNK;
+import static uk.ac.ebi.eva.accession.core.batch.listeners.ChunkTimingListener.CHUNK_TIMER;
+import static uk.ac.ebi.eva.accession.core.batch.listeners.ChunkTimingListener.ITEMS_COUNTER;
+import static uk.ac.ebi.eva.accession.core.batch.listeners.ChunkTimingListener.PROCESS;
+import static uk.ac.ebi.eva.accession.core.batch.listeners.ChunkTimingListener.READ;
+import static uk.ac.ebi.eva.accession.core.batch.listeners.ChunkTimingListener.READ_STALLS_COUNTER;
+import static uk.ac.ebi.eva.accession.core.batch.listeners.ChunkTimingListener.THROUGHPUT_SUMMARY;
+import static uk.ac.ebi.eva.accession.core.batch.listeners.ChunkTimingListener.WRITE;
+
+public class ChunkTimingListenerTest {
+
+    private static final String STEP_NAME = "TEST_STEP";
+
+    private static final Duration READ_STALL_THRESHOLD = Duration.ofMillis(20);
+
+    private MeterRegistry meterRegistry;
+
+    private ChunkTimingListener<String, String> listener;
+
+    private JobExecution jobExecution;
+
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new ChunkTimingListener<>(meterRegistry, READ_STALL_THRESHOLD);
+        jobExecution = new JobExecution(new JobInstance(1L, "TEST_JOB"), 1L, new JobParameters());
+        StepExecution stepExecution = jobExecution.createStepExecution(STEP_NAME);
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    @Test
+    public void phasesOfTheChunkAreTimed() {
+        listener.beforeChunk(chunkContext);
+        for (String item : Arrays.asList("A", "B")) {
+            listener.beforeRead();
+            listener.afterRead(item);
+            listener.beforeProcess(item);
+            listener.afterProcess(item, item);
+        }
+        Chunk<String> items = new Chunk<>("A", "B");
+        listener.beforeWrite(items);
+        listener.afterWrite(items);
+        listener.afterChunk(chunkContext);
+
+        assertEquals(2, timerCount(READ));
+        assertEquals(2, timerCount(PROCESS));
+        assertEquals(1, timerCount(WRITE));
+        assertEquals(1, timerCount(CHUNK));
+        assertEquals(2, meterRegistry.get(ITEMS_COUNTER).tags("step", STEP_NAME).counter().count());
+        assertEquals(1, meterRegistry.get(THROUGHPUT_SUMMARY).tags("step", STEP_NAME).summary().count());
+        assertEquals(0, readStalls());
+    }
+
+    @Test
+    public void lastReadIsTimedWhenTheChunkEnds() {
+        listener.beforeChunk(chunkContext);
+        listener.beforeRead();
+        listener.afterRead("A");
+        // the reader returns null at the end of the input, and afterRead is not called
+        listener.beforeRead();
+        listener.afterChunk(chunkContext);
+
+        assertEquals(2, timerCount(READ));
+    }
+
+    @Test
+    public void slowReadsAreCountedAsStalls() throws InterruptedException {
+        listener.beforeChunk(chunkContext);
+        listener.beforeRead();
+        Thread.sleep(READ_STALL_THRESHOLD.toMillis() + 10);
+        listener.afterRead("A");
+        listener.beforeRead();
+        listener.onReadError(new IllegalStateException("read failed"));
+        listener.afterChunk(chunkContext);
+
+        assertEquals(2, timerCount(READ));
+        assertEquals(1, readStalls());
+    }
+
+    @Test
+    public void callbacksOutsideAChunkAreIgnored() {
+        listener.beforeRead();
+        listener.afterRead("A");
+        listener.beforeWrite(new Chunk<>("A"));
+        listener.afterWrite(new Chunk<>("A"));
+        listener.afterChunk(chunkContext);
+        assertTrue(meterRegistry.find(CHUNK_TIMER).timers().isEmpty());
+
+        listener.beforeChunk(chunkContext);
+        listener.afterChunkError(chunkContext);
+        listener.afterChunk(chunkContext);
+        assertEquals(0, timerCount(CHUNK));
+    }
+
+    @Test
+    public void jobSummaryAcceptsStepsWithoutChunksOrEndTime() {
+        listener.beforeChunk(chunkContext);
+        listener.afterChunk(chunkContext);
+        StepExecution taskletStep = jobExecution.createStepExecution("TASKLET_STEP");
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            stepExecution.setStartTime(LocalDateTime.now().minusSeconds(2));
+            stepExecution.setEndTime(LocalDateTime.now());
+            stepExecution.setStatus(BatchStatus.COMPLETED);
+        }
+        taskletStep.setEndTime(null);
+
+        listener.afterJob(jobExecution);
+    }
+
+    private long timerCount(String phase) {
+        return meterRegistry.get(CHUNK_TIMER).tags("step", STEP_NAME, "phase", phase).timer().count();
+    }
+
+    private double readStalls() {
+        return meterRegistry.get(READ_STALLS_COUNTER).tags("step", STEP_NAME).counter().count();
+    }
+}
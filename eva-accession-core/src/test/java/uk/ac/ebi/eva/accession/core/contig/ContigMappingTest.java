@@ -134,12 +134,12 @@ public class ContigMappingTest {
 
     @Test
     public void checkAllEntriesWereLoaded() {
-        assertEquals(TOTAL_ROWS, contigMapping.sequenceNameToSynonyms.size());
+        assertEquals(TOTAL_ROWS, contigMapping.getNameCount(ContigNaming.SEQUENCE_NAME));
         assertEquals(TOTAL_ROWS - NON_ASSEMBLED_MOLECULE_ROWS - DUPLICATED_ASSEMBLED_MOLECULE_ROWS,
-                     contigMapping.assignedMoleculeToSynonyms.size());
-        assertEquals(TOTAL_ROWS - DUPLICATED_GENBANK, contigMapping.genBankToSynonyms.size());
-        assertEquals(TOTAL_ROWS, contigMapping.refSeqToSynonyms.size());
-        assertEquals(TOTAL_ROWS - MISSING_UCSC_ROWS, contigMapping.ucscToSynonyms.size());
+                     contigMapping.getNameCount(ContigNaming.ASSIGNED_MOLECULE));
+        assertEquals(TOTAL_ROWS - DUPLICATED_GENBANK, contigMapping.getNameCount(ContigNaming.INSDC));
+        assertEquals(TOTAL_ROWS, contigMapping.getNameCount(ContigNaming.REFSEQ));
+        assertEquals(TOTAL_ROWS - MISSING_UCSC_ROWS, contigMapping.getNameCount(ContigNaming.UCSC));
     }
 
     // get SEQNAME
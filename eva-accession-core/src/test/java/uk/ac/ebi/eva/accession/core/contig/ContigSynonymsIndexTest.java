@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.ac.ebi.eva.accession.core.batch.io.AssemblyReportReader;
+import uk.ac.ebi.eva.accession.core.utils.PipelineTemporaryFolderUtil;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ContigSynonymsIndexTest {
+
+    private PipelineTemporaryFolderUtil temporaryFolderUtil = new PipelineTemporaryFolderUtil();
+
+    private String assemblyReportUrl;
+
+    private List<ContigSynonyms> rows;
+
+    private Path snapshotPath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        assemblyReportUrl = ContigSynonymsIndexTest.class.getResource(
+                "/input-files/assembly-report/GCA_000001635.8_Mus_musculus-grcm38.p6_assembly_report.txt").toString();
+        rows = new ArrayList<>();
+        AssemblyReportReader reader = new AssemblyReportReader(assemblyReportUrl);
+        ContigSynonyms contigSynonyms;
+        while ((contigSynonyms = reader.read()) != null) {
+            rows.add(contigSynonyms);
+        }
+        snapshotPath = temporaryFolderUtil.getRoot().toPath().resolve("contig-mapping.bin");
+    }
+
+    @Test
+    public void snapshotFindsTheSameSynonyms() throws Exception {
+        ContigSynonymsIndex index = ContigSynonymsIndex.build(assemblyReportUrl, "version 1", rows);
+        index.write(snapshotPath);
+        ContigSynonymsIndex mappedIndex = ContigSynonymsIndex.load(snapshotPath);
+
+        assertEquals(assemblyReportUrl, mappedIndex.getSource());
+        assertEquals("version 1", mappedIndex.getSourceVersion());
+        assertEquals(rows.size(), mappedIndex.getRowCount());
+        for (ContigNaming contigNaming : Arrays.asList(ContigNaming.SEQUENCE_NAME, ContigNaming.ASSIGNED_MOLECULE,
+                                                       ContigNaming.INSDC, ContigNaming.REFSEQ, ContigNaming.UCSC)) {
+            assertEquals(index.getNameCount(contigNaming), mappedIndex.getNameCount(contigNaming));
+        }
+        for (ContigSynonyms row : rows) {
+            for (String name : Arrays.asList(row.getSequenceName(), row.getAssignedMolecule(), row.getGenBank(),
+                                             row.getRefSeq(), row.getUcsc())) {
+                assertEquals(index.getContigSynonyms(name), mappedIndex.getContigSynonyms(name), name);
+            }
+        }
+        assertNull(mappedIndex.getContigSynonyms("na"));
+        assertNull(mappedIndex.getContigSynonyms("not_in_the_report"));
+    }
+
+    @Test
+    public void lookupPrecedenceAcrossNamings() {
+        ContigSynonymsIndex index = ContigSynonymsIndex.build(null, Arrays.asList(
+                new ContigSynonyms("1", "assembled-molecule", "1", "CM0001.1", "NC_0001.1", "chr1", true),
+                new ContigSynonyms("CM0001.1", "unlocalized-scaffold", "1", "GL0001.1", "NC_0001.1", "chr1_random",
+                                   false),
+                new ContigSynonyms("chr1", "unplaced-scaffold", "na", "CM0001.1", "na", "na", false)));
+
+        assertEquals("1", index.getContigSynonyms("1").getSequenceName());
+        assertEquals("CM0001.1", index.getContigSynonyms("NC_0001.1").getSequenceName());
+        assertEquals("1", index.getContigSynonyms("CM0001.1").getSequenceName());
+        assertEquals("chr1", index.getContigSynonyms("chr1").getSequenceName());
+        assertNull(index.getContigSynonyms("chr1").getRefSeq());
+        assertNull(index.getContigSynonyms("chr1_random").getAssignedMolecule());
+        assertEquals(2, index.getNameCount(ContigNaming.INSDC));
+        assertEquals(1, index.getNameCount(ContigNaming.ASSIGNED_MOLECULE));
+    }
+
+    @Test
+    public void duplicatedSequenceNames() {
+        assertThrows(IllegalArgumentException.class, () -> ContigSynonymsIndex.build(null, Arrays.asList(
+                new ContigSynonyms("1", "assembled-molecule", "1", "CM0001.1", "na", "na", false),
+                new ContigSynonyms("1", "assembled-molecule", "2", "CM0002.1", "na", "na", false))));
+    }
+
+    @Test
+    public void snapshotIsRebuiltForAnotherSource() throws Exception {
+        ContigSynonymsIndex.build("another report", rows.subList(0, 1)).write(snapshotPath);
+
+        ContigSynonymsIndex index = ContigSynonymsIndex.loadOrBuild(snapshotPath, assemblyReportUrl, null, rows);
+        assertEquals(rows.size(), index.getRowCount());
+        assertEquals(rows.size(), ContigSynonymsIndex.load(snapshotPath).getRowCount());
+
+        ContigSynonymsIndex reloadedIndex = ContigSynonymsIndex.loadOrBuild(snapshotPath, assemblyReportUrl, null,
+                                                                            new ArrayList<>());
+        assertEquals(rows.size(), reloadedIndex.getRowCount());
+    }
+
+    @Test
+    public void snapshotIsRebuiltForAnotherVersionOfTheSource() throws Exception {
+        ContigSynonymsIndex.build(assemblyReportUrl, "version 1", rows.subList(0, 1)).write(snapshotPath);
+
+        assertEquals(1, ContigSynonymsIndex.loadOrBuild(snapshotPath, assemblyReportUrl, "version 1", rows)
+                                           .getRowCount());
+        assertEquals(rows.size(), ContigSynonymsIndex.loadOrBuild(snapshotPath, assemblyReportUrl, "version 2", rows)
+                                                     .getRowCount());
+        assertEquals("version 2", ContigSynonymsIndex.load(snapshotPath).getSourceVersion());
+    }
+
+    @Test
+    public void snapshotIsRebuiltWhenTheAssemblyReportChanges() throws Exception {
+        Path assemblyReport = temporaryFolderUtil.getRoot().toPath().resolve("assembly_report.txt");
+        List<String> lines = Files.readAllLines(Paths.get(new URL(assemblyReportUrl).toURI()));
+        Files.write(assemblyReport, lines);
+        String copiedReportUrl = assemblyReport.toUri().toString();
+        String lastSequenceName = rows.get(rows.size() - 1).getSequenceName();
+
+        ContigMapping contigMapping = new ContigMapping(copiedReportUrl, snapshotPath.toString());
+        assertNotNull(contigMapping.getContigSynonyms(lastSequenceName));
+
+        Files.write(assemblyReport, lines.subList(0, lines.size() - 1));
+        ContigMapping changedContigMapping = new ContigMapping(copiedReportUrl, snapshotPath.toString());
+        assertNull(changedContigMapping.getContigSynonyms(lastSequenceName));
+        assertEquals(ContigMapping.getAssemblyReportVersion(copiedReportUrl),
+                     ContigSynonymsIndex.load(snapshotPath).getSourceVersion());
+    }
+
+    @Test
+    public void rowsAreDecodedOnce() throws Exception {
+        ContigSynonymsIndex.build(assemblyReportUrl, rows).write(snapshotPath);
+        ContigSynonymsIndex mappedIndex = ContigSynonymsIndex.load(snapshotPath);
+
+        ContigSynonyms row = rows.get(0);
+        ContigSynonyms contigSynonyms = mappedIndex.getContigSynonyms(row.getGenBank());
+        assertEquals(row, contigSynonyms);
+        assertSame(contigSynonyms, mappedIndex.getContigSynonyms(row.getSequenceName()));
+        assertSame(contigSynonyms, mappedIndex.getContigSynonyms(row.getGenBank()));
+    }
+
+    @Test
+    public void otherFilesAreRejected() throws Exception {
+        Files.write(snapshotPath, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> ContigSynonymsIndex.load(snapshotPath));
+
+        ContigSynonymsIndex.build(assemblyReportUrl, rows).write(snapshotPath);
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+        snapshot[7] = (byte) (ContigSynonymsIndex.VERSION + 1);
+        Files.write(snapshotPath, snapshot);
+        assertThrows(IOException.class, () -> ContigSynonymsIndex.load(snapshotPath));
+
+        assertEquals(rows.size(),
+                     ContigSynonymsIndex.loadOrBuild(snapshotPath, assemblyReportUrl, null, rows).getRowCount());
+        assertEquals(rows.size(), ContigSynonymsIndex.load(snapshotPath).getRowCount());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contigalias;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.ac.ebi.eva.accession.core.contigalias.ContigAliasCache.Direction.FROM_INSDC;
+import static uk.ac.ebi.eva.accession.core.contigalias.ContigAliasCache.Direction.TO_INSDC;
+
+public class ContigAliasCacheTest {
+
+    private static final String ASSEMBLY = "GCA_000001405.15";
+
+    private MutableClock clock;
+
+    private AtomicInteger translations;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock();
+        translations = new AtomicInteger();
+    }
+
+    @Test
+    public void translationIsRequestedOnlyOnce() {
+        ContigAliasCache cache = new ContigAliasCache(10, Duration.ofMinutes(1), clock);
+
+        assertEquals("chr1", translate(cache, FROM_INSDC, "CM000663.2", ContigNamingConvention.UCSC));
+        assertEquals("chr1", translate(cache, FROM_INSDC, "CM000663.2", ContigNamingConvention.UCSC));
+
+        assertEquals(1, translations.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRatio());
+    }
+
+    @Test
+    public void keyIncludesDirectionAndNamingConvention() {
+        ContigAliasCache cache = new ContigAliasCache(10, Duration.ofMinutes(1), clock);
+
+        translate(cache, FROM_INSDC, "CM000663.2", ContigNamingConvention.UCSC);
+        translate(cache, FROM_INSDC, "CM000663.2", ContigNamingConvention.REFSEQ);
+        translate(cache, TO_INSDC, "CM000663.2", ContigNamingConvention.UCSC);
+
+        assertEquals(3, translations.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void expiredEntriesAreTranslatedAgain() {
+        ContigAliasCache cache = new ContigAliasCache(10, Duration.ofMinutes(1), clock);
+
+        translate(cache, FROM_INSDC, "CM000663.2", ContigNamingConvention.UCSC);
+        clock.advance(Duration.ofSeconds(59));
+        translate(cache, FROM_INSDC, "CM000663.2", ContigNamingConvention.UCSC);
+        assertEquals(1, translations.get());
+
+        clock.advance(Duration.ofSeconds(1));
+        translate(cache, FROM_INSDC, "CM000663.2", ContigNamingConvention.UCSC);
+        assertEquals(2, translations.get());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        ContigAliasCache cache = new ContigAliasCache(2, Duration.ofMinutes(1), clock);
+
+        translate(cache, FROM_INSDC, "contig1", ContigNamingConvention.UCSC);
+        translate(cache, FROM_INSDC, "contig2", ContigNamingConvention.UCSC);
+        translate(cache, FROM_INSDC, "contig1", ContigNamingConvention.UCSC);
+        translate(cache, FROM_INSDC, "contig3", ContigNamingConvention.UCSC);
+        assertEquals(3, translations.get());
+        assertEquals(2, cache.size());
+
+        translate(cache, FROM_INSDC, "contig1", ContigNamingConvention.UCSC);
+        assertEquals(3, translations.get());
+        translate(cache, FROM_INSDC, "contig2", ContigNamingConvention.UCSC);
+        assertEquals(4, translations.get());
+    }
+
+    @Test
+    public void failedTranslationsAreNotCached() {
+        ContigAliasCache cache = new ContigAliasCache(10, Duration.ofMinutes(1), clock);
+
+        assertThrows(NoSuchElementException.class, () -> cache.get(FROM_INSDC, "unknown", ContigNamingConvention.UCSC,
+                                                                    null, () -> {
+                    throw new NoSuchElementException();
+                }));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void disabledCacheAlwaysTranslates() {
+        ContigAliasCache cache = ContigAliasCache.disabled();
+
+        translate(cache, FROM_INSDC, "CM000663.2", ContigNamingConvention.UCSC);
+        translate(cache, FROM_INSDC, "CM000663.2", ContigNamingConvention.UCSC);
+
+        assertEquals(2, translations.get());
+        assertEquals(0, cache.size());
+    }
+
+    private String translate(ContigAliasCache cache, ContigAliasCache.Direction direction, String contig,
+                             ContigNamingConvention contigNamingConvention) {
+        return cache.get(direction, contig, contigNamingConvention, ASSEMBLY, () -> {
+            translations.incrementAndGet();
+            return contig.equals("CM000663.2") ? "chr1" : contig + "_translated";
+        });
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
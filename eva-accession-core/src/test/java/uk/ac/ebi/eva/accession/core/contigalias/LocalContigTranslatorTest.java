@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.contigalias;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.ac.ebi.eva.commons.core.models.contigalias.ContigNamingConvention;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalContigTranslatorTest {
+
+    private static final String MOUSE_ASSEMBLY = "GCA_000001635.8";
+
+    private static final String CHICKEN_ASSEMBLY = "GCA_000002315.3";
+
+    private LocalContigTranslator translator;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Map<String, String> assemblyReports = new LinkedHashMap<>();
+        assemblyReports.put(MOUSE_ASSEMBLY, getResource(
+                "/input-files/assembly-report/GCA_000001635.8_Mus_musculus-grcm38.p6_assembly_report.txt"));
+        assemblyReports.put(CHICKEN_ASSEMBLY, getResource(
+                "/input-files/assembly-report/GCF_000002315.4_Gallus_gallus-5.0_assembly_report.txt"));
+        translator = LocalContigTranslator.load(assemblyReports);
+    }
+
+    private String getResource(String path) {
+        return LocalContigTranslatorTest.class.getResource(path).toString();
+    }
+
+    @Test
+    public void severalAssembliesLoaded() {
+        assertEquals(2, translator.getAssemblyCount());
+        assertTrue(translator.containsAssembly(MOUSE_ASSEMBLY));
+        assertTrue(translator.containsAssembly(CHICKEN_ASSEMBLY));
+    }
+
+    @Test
+    public void translateFromGenbank() {
+        assertEquals("chr1", translator.translateContigFromInsdc("CM000994.2", ContigNamingConvention.UCSC));
+        assertEquals("NC_000067.6", translator.translateContigFromInsdc("CM000994.2", ContigNamingConvention.REFSEQ));
+        assertEquals("chrom1", translator.translateContigFromInsdc("CM000994.2",
+                                                                   ContigNamingConvention.ENA_SEQUENCE_NAME));
+        assertEquals("CM000994.2", translator.translateContigFromInsdc("CM000994.2", ContigNamingConvention.INSDC));
+    }
+
+    @Test
+    public void translateFromGenbankOfEveryAssembly() {
+        String chickenGenbank = translator.translateContigToInsdc("NC_006088.4", CHICKEN_ASSEMBLY,
+                                                                  ContigNamingConvention.REFSEQ);
+        assertEquals("NC_006088.4", translator.translateContigFromInsdc(chickenGenbank,
+                                                                        ContigNamingConvention.REFSEQ));
+    }
+
+    @Test
+    public void notAvailableSynonymsAreIgnored() {
+        assertThrows(NoSuchElementException.class,
+                     () -> translator.translateContigFromInsdc("JH584298.1", ContigNamingConvention.UCSC));
+    }
+
+    @Test
+    public void assembledMoleculeIsPreferredForDuplicatedGenbank() {
+        assertEquals("alternate_chr6", translator.translateContigFromInsdc("CM000999.2",
+                                                                           ContigNamingConvention.ENA_SEQUENCE_NAME));
+        assertEquals("7", translator.translateContigFromInsdc("CM001000.2", ContigNamingConvention.ENA_SEQUENCE_NAME));
+    }
+
+    @Test
+    public void translateToGenbank() {
+        assertEquals("CM000994.2", translator.translateContigToInsdc("NC_000067.6", null,
+                                                                     ContigNamingConvention.REFSEQ));
+        assertEquals("CM000994.2", translator.translateContigToInsdc("chr1", MOUSE_ASSEMBLY,
+                                                                     ContigNamingConvention.UCSC));
+        assertEquals("CM000994.2", translator.translateContigToInsdc("chrom1", MOUSE_ASSEMBLY,
+                                                                     ContigNamingConvention.ENA_SEQUENCE_NAME));
+    }
+
+    @Test
+    public void contigMustBeInTheColumnOfTheNamingConvention() {
+        assertThrows(NoSuchElementException.class,
+                     () -> translator.translateContigToInsdc("chr1", MOUSE_ASSEMBLY,
+                                                             ContigNamingConvention.ENA_SEQUENCE_NAME));
+    }
+
+    @Test
+    public void namesAreResolvedWithinTheirAssembly() {
+        assertThrows(NoSuchElementException.class,
+                     () -> translator.translateContigToInsdc("chrom1", CHICKEN_ASSEMBLY,
+                                                             ContigNamingConvention.ENA_SEQUENCE_NAME));
+        assertThrows(NoSuchElementException.class,
+                     () -> translator.translateContigToInsdc("chr1", "GCA_unknown", ContigNamingConvention.UCSC));
+    }
+
+    @Test
+    public void unknownContigsThrow() {
+        assertThrows(NoSuchElementException.class,
+                     () -> translator.translateContigFromInsdc("unknown", ContigNamingConvention.UCSC));
+        assertThrows(NoSuchElementException.class,
+                     () -> translator.translateContigToInsdc("unknown", MOUSE_ASSEMBLY, ContigNamingConvention.UCSC));
+    }
+
+    @Test
+    public void layeredTranslatorFallsBackWhenUnknownLocally() {
+        ContigTranslator fallback = new ContigTranslator() {
+            @Override
+            public String translateContigFromInsdc(String genbankContig,
+                                                   ContigNamingConvention contigNamingConvention) {
+                return "remote_" + genbankContig;
+            }
+
+            @Override
+            public String translateContigToInsdc(String contig, String assembly,
+                                                 ContigNamingConvention contigNamingConvention) {
+                return "remote_" + contig;
+            }
+        };
+        ContigTranslator layeredTranslator = new LayeredContigTranslator(translator, fallback);
+
+        assertEquals("chr1", layeredTranslator.translateContigFromInsdc("CM000994.2", ContigNamingConvention.UCSC));
+        assertEquals("remote_unknown", layeredTranslator.translateContigFromInsdc("unknown",
+                                                                                  ContigNamingConvention.UCSC));
+        assertEquals("CM000994.2", layeredTranslator.translateContigToInsdc("chr1", MOUSE_ASSEMBLY,
+                                                                            ContigNamingConvention.UCSC));
+        assertEquals("remote_chr1", layeredTranslator.translateContigToInsdc("chr1", CHICKEN_ASSEMBLY + "x",
+                                                                             ContigNamingConvention.UCSC));
+    }
+}
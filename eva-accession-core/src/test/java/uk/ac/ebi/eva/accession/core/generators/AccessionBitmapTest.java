@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.generators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AccessionBitmapTest {
+
+    private static final long START = 5000000000L;
+
+    @Test
+    public void accessionsAreReturnedOnceAndInOrder() {
+        AccessionBitmap bitmap = new AccessionBitmap(START, START + 999);
+        LongStream.of(START + 999, START + 64, START, START + 63, START + 64, START + 500, START)
+                  .forEach(bitmap::add);
+
+        assertArrayEquals(new long[]{START, START + 63, START + 64, START + 500, START + 999},
+                          bitmap.stream().toArray());
+        assertEquals(5, bitmap.getCardinality());
+        assertTrue(bitmap.contains(START + 63));
+        assertFalse(bitmap.contains(START + 62));
+        assertFalse(bitmap.contains(START - 1));
+        assertFalse(bitmap.contains(START + 1000));
+    }
+
+    @Test
+    public void emptyAndFullRanges() {
+        AccessionBitmap bitmap = new AccessionBitmap(START, START + 129);
+        assertEquals(0, bitmap.stream().count());
+
+        LongStream.rangeClosed(START, START + 129).forEach(bitmap);
+        assertArrayEquals(LongStream.rangeClosed(START, START + 129).toArray(), bitmap.stream().toArray());
+
+        AccessionBitmap singleAccession = new AccessionBitmap(START, START);
+        singleAccession.add(START);
+        assertArrayEquals(new long[]{START}, singleAccession.stream().toArray());
+    }
+
+    @Test
+    public void accessionsOutOfTheRangeAreRejected() {
+        AccessionBitmap bitmap = new AccessionBitmap(START, START + 10);
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(START + 11));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(START - 1));
+        assertThrows(IllegalArgumentException.class, () -> new AccessionBitmap(START, START - 1));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.generators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.entities.ContiguousIdBlock;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.service.ContiguousIdBlockService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BlockLookAheadTest {
+
+    private static final String CATEGORY_ID = "ss";
+
+    private static final String INSTANCE_ID = "instance-01";
+
+    private static final long BLOCK_SIZE = 100;
+
+    private static final long TIMEOUT_MILLISECONDS = 5000;
+
+    private ContiguousIdBlockService blockService;
+
+    private BlockLookAhead blockLookAhead;
+
+    private List<ContiguousIdBlock> blocks;
+
+    @BeforeEach
+    public void setUp() {
+        blockService = mock(ContiguousIdBlockService.class);
+        blocks = new ArrayList<>();
+        AtomicLong nextFirstValue = new AtomicLong(5000000000L);
+        when(blockService.reserveNewBlock(anyString(), anyString())).thenAnswer(invocation -> {
+            long firstValue = nextFirstValue.getAndAdd(BLOCK_SIZE);
+            ContiguousIdBlock block = mock(ContiguousIdBlock.class);
+            when(block.getFirstValue()).thenReturn(firstValue);
+            when(block.getLastValue()).thenReturn(firstValue + BLOCK_SIZE - 1);
+            blocks.add(block);
+            return block;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (blockLookAhead != null) {
+            blockLookAhead.shutdown();
+        }
+    }
+
+    @Test
+    public void disabledLookAhead() {
+        BlockLookAhead disabled = BlockLookAhead.disabled();
+        assertFalse(disabled.isEnabled());
+        disabled.accessionsGenerated(10);
+        disabled.shutdown();
+        assertEquals(0, disabled.getBlocksReservedInAdvance());
+    }
+
+    @Test
+    public void nextBlockIsReservedOnceThresholdIsReached() throws InterruptedException {
+        blockLookAhead = new BlockLookAhead(blockService, CATEGORY_ID, 0.5, 4);
+        ContiguousIdBlockService lookAheadService = blockLookAhead.getBlockService();
+
+        ContiguousIdBlock firstBlock = lookAheadService.reserveNewBlock(CATEGORY_ID, INSTANCE_ID);
+        assertEquals(5000000000L, firstBlock.getFirstValue());
+        assertEquals(1, blockLookAhead.getBlocksReservedOnDemand());
+
+        blockLookAhead.accessionsGenerated(40);
+        Thread.sleep(100);
+        assertEquals(0, blockLookAhead.getBlocksReservedInAdvance());
+
+        blockLookAhead.accessionsGenerated(10);
+        waitFor(blockLookAhead::getBlocksReservedInAdvance, 1);
+
+        ContiguousIdBlock secondBlock = lookAheadService.reserveNewBlock(CATEGORY_ID, INSTANCE_ID);
+        assertEquals(5000000100L, secondBlock.getFirstValue());
+        assertEquals(1, blockLookAhead.getBlocksReservedOnDemand());
+    }
+
+    @Test
+    public void moreBlocksAreReservedForBigRequests() throws InterruptedException {
+        blockLookAhead = new BlockLookAhead(blockService, CATEGORY_ID, 0.5, 4);
+        ContiguousIdBlockService lookAheadService = blockLookAhead.getBlockService();
+
+        lookAheadService.reserveNewBlock(CATEGORY_ID, INSTANCE_ID);
+        lookAheadService.reserveNewBlock(CATEGORY_ID, INSTANCE_ID);
+        blockLookAhead.accessionsGenerated(150);
+        waitFor(blockLookAhead::getBlocksReservedInAdvance, 3);
+
+        for (int i = 0; i < 3; i++) {
+            lookAheadService.reserveNewBlock(CATEGORY_ID, INSTANCE_ID);
+        }
+        assertEquals(2, blockLookAhead.getBlocksReservedOnDemand());
+    }
+
+    @Test
+    public void otherCallsAreForwarded() {
+        blockLookAhead = new BlockLookAhead(blockService, CATEGORY_ID, 0.5, 4);
+        ContiguousIdBlockService lookAheadService = blockLookAhead.getBlockService();
+
+        lookAheadService.getBlockParameters(CATEGORY_ID);
+        verify(blockService).getBlockParameters(CATEGORY_ID);
+
+        ContiguousIdBlock firstBlock = lookAheadService.reserveNewBlock("rs", INSTANCE_ID);
+        ContiguousIdBlock secondBlock = lookAheadService.reserveNewBlock("rs", INSTANCE_ID);
+        assertEquals(firstBlock.getLastValue() + 1, secondBlock.getFirstValue());
+        assertEquals(0, blockLookAhead.getBlocksReservedOnDemand());
+        verify(blockService, times(2)).reserveNewBlock("rs", INSTANCE_ID);
+    }
+
+    @Test
+    public void unusedBlocksAreReleasedOnShutdown() throws InterruptedException {
+        blockLookAhead = new BlockLookAhead(blockService, CATEGORY_ID, 0.5, 4);
+        ContiguousIdBlockService lookAheadService = blockLookAhead.getBlockService();
+
+        lookAheadService.reserveNewBlock(CATEGORY_ID, INSTANCE_ID);
+        blockLookAhead.accessionsGenerated(50);
+        waitFor(blockLookAhead::getBlocksReservedInAdvance, 1);
+
+        blockLookAhead.releaseReservedBlocks();
+        List<ContiguousIdBlock> unusedBlocks = new ArrayList<>(blocks.subList(1, blocks.size()));
+        assertEquals(blockLookAhead.getBlocksReservedInAdvance(), unusedBlocks.size());
+        unusedBlocks.forEach(block -> verify(block).releaseReserved());
+        verify(blockService).save(unusedBlocks);
+
+        blockLookAhead.accessionsGenerated(100);
+        Thread.sleep(100);
+        assertEquals(unusedBlocks.size(), blockLookAhead.getBlocksReservedInAdvance());
+    }
+
+    private void waitFor(LongSupplier counter, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLISECONDS;
+        while (counter.getAsLong() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(counter.getAsLong() >= expected);
+    }
+}
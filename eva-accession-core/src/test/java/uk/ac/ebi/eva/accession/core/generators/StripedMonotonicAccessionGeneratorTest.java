@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.generators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionCouldNotBeGeneratedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.ampt2d.commons.accession.generators.monotonic.MonotonicAccessionGenerator;
+import uk.ac.ebi.ampt2d.commons.accession.generators.monotonic.MonotonicAccessionRecoveryAgent;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.entities.ContiguousIdBlock;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.repositories.ContiguousIdBlockRepository;
+import uk.ac.ebi.ampt2d.commons.accession.persistence.jpa.monotonic.service.ContiguousIdBlockService;
+import uk.ac.ebi.eva.accession.core.configuration.ContiguousIdBlocksDataSourceConfiguration;
+import uk.ac.ebi.eva.accession.core.configuration.nonhuman.SubmittedVariantAccessioningConfiguration;
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.core.model.SubmittedVariant;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.SubmittedVariantAccessioningService;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.eva.SubmittedVariantAccessioningDatabaseService;
+import uk.ac.ebi.eva.accession.core.test.configuration.nonhuman.MongoTestConfiguration;
+import uk.ac.ebi.eva.accession.core.utils.MongoTestContainerHelper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.ac.ebi.eva.accession.core.model.ISubmittedVariant.DEFAULT_ASSEMBLY_MATCH;
+import static uk.ac.ebi.eva.accession.core.model.ISubmittedVariant.DEFAULT_SUPPORTED_BY_EVIDENCE;
+import static uk.ac.ebi.eva.accession.core.model.ISubmittedVariant.DEFAULT_VALIDATED;
+
+@ExtendWith(SpringExtension.class)
+@TestPropertySource(value = "classpath:ss-accession-test.properties", properties = "accessioning.stripeSize=10")
+@ContextConfiguration(classes = {SubmittedVariantAccessioningConfiguration.class, MongoTestConfiguration.class,
+        ContiguousIdBlocksDataSourceConfiguration.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class StripedMonotonicAccessionGeneratorTest extends MongoTestContainerHelper {
+
+    private static final String CATEGORY_ID = "test-ss";
+
+    private static final String INSTANCE_ID = "test-instance-01";
+
+    private static final int STRIPE_SIZE = 10;
+
+    private static final int THREADS = 4;
+
+    @Autowired
+    private ContiguousIdBlockService blockService;
+
+    @Autowired
+    private ContiguousIdBlockRepository blockRepository;
+
+    @Autowired
+    private SubmittedVariantAccessioningDatabaseService databaseService;
+
+    @Autowired
+    private SubmittedVariantAccessioningService service;
+
+    @Autowired
+    private MonotonicAccessionGenerator<ISubmittedVariant> submittedVariantAccessionGenerator;
+
+    @Autowired
+    private Long accessioningMonotonicInitSs;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        mongoTemplate.getDb().drop();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS contiguous_id_blocks");
+        }
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        populator.addScript(new ClassPathResource("test-data/contiguous_id_blocks_schema.sql"));
+        populator.execute(dataSource);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Test
+    public void stripeSizeEnablesTheStripedGenerator() {
+        assertTrue(submittedVariantAccessionGenerator instanceof StripedMonotonicAccessionGenerator);
+    }
+
+    @Test
+    public void severalThreadsDontIssueTheSameAccession() throws Exception {
+        StripedMonotonicAccessionGenerator<ISubmittedVariant> generator = newGenerator();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Long>>> threads = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            threads.add(executor.submit(() -> {
+                List<Long> accessions = new ArrayList<>();
+                for (int request = 0; request < 50; request++) {
+                    long[] generated = generator.generateAccessions(7, INSTANCE_ID);
+                    generator.commit(generated);
+                    Arrays.stream(generated).forEach(accessions::add);
+                }
+                return accessions;
+            }));
+        }
+        List<Long> allAccessions = new ArrayList<>();
+        for (Future<List<Long>> thread : threads) {
+            allAccessions.addAll(thread.get());
+        }
+        executor.shutdown();
+        generator.flush();
+
+        assertEquals(THREADS * 50 * 7, allAccessions.size());
+        assertEquals(allAccessions.size(), new HashSet<>(allAccessions).size());
+        assertTrue(allAccessions.stream().allMatch(accession -> accession >= accessioningMonotonicInitSs));
+    }
+
+    @Test
+    public void releasedAccessionsAreIssuedAgain() {
+        StripedMonotonicAccessionGenerator<ISubmittedVariant> generator = newGenerator();
+        long[] accessions = generator.generateAccessions(5, INSTANCE_ID);
+        generator.release(accessions[1], accessions[3]);
+        generator.commit(accessions[0], accessions[2], accessions[4]);
+
+        Set<Long> reissued = Arrays.stream(generator.generateAccessions(2, INSTANCE_ID))
+                                   .boxed()
+                                   .collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList(accessions[1], accessions[3])), reissued);
+
+        long[] next = generator.generateAccessions(1, INSTANCE_ID);
+        assertArrayEquals(new long[]{accessions[4] + 1}, next);
+    }
+
+    @Test
+    public void commitsAreHeldUntilTheStripeIsComplete() {
+        StripedMonotonicAccessionGenerator<ISubmittedVariant> generator = newGenerator();
+        long[] firstAccessions = generator.generateAccessions(STRIPE_SIZE - 1, INSTANCE_ID);
+        generator.commit(firstAccessions);
+        assertEquals(accessioningMonotonicInitSs - 1, getBlock().getLastCommitted());
+
+        long[] lastAccession = generator.generateAccessions(1, INSTANCE_ID);
+        generator.commit(lastAccession);
+        assertEquals(accessioningMonotonicInitSs + STRIPE_SIZE - 1, getBlock().getLastCommitted());
+
+        long[] bufferedAccessions = generator.generateAccessions(3, INSTANCE_ID);
+        generator.commit(bufferedAccessions);
+        assertEquals(accessioningMonotonicInitSs + STRIPE_SIZE - 1, getBlock().getLastCommitted());
+
+        generator.flush();
+        assertEquals(accessioningMonotonicInitSs + STRIPE_SIZE + 2, getBlock().getLastCommitted());
+    }
+
+    @Test
+    public void shutDownCommitsBufferedAccessionsAndReleasesTheBlock() {
+        StripedMonotonicAccessionGenerator<ISubmittedVariant> generator = newGenerator();
+        generator.commit(generator.generateAccessions(3, INSTANCE_ID));
+        assertEquals(accessioningMonotonicInitSs - 1, getBlock().getLastCommitted());
+
+        generator.shutDownAccessionGenerator();
+        ContiguousIdBlock block = getBlock();
+        assertEquals(accessioningMonotonicInitSs + 2, block.getLastCommitted());
+        assertTrue(block.isNotReserved());
+    }
+
+    @Test
+    public void restartRecoversAccessionsNotFlushed() throws AccessionCouldNotBeGeneratedException {
+        List<GetOrCreateAccessionWrapper<ISubmittedVariant, String, Long>> flushed =
+                service.getOrCreate(createVariants(0, STRIPE_SIZE), INSTANCE_ID);
+        List<GetOrCreateAccessionWrapper<ISubmittedVariant, String, Long>> notFlushed =
+                service.getOrCreate(createVariants(STRIPE_SIZE, 5), INSTANCE_ID);
+        assertEquals(STRIPE_SIZE, flushed.size());
+        assertEquals(5, notFlushed.size());
+        assertEquals(accessioningMonotonicInitSs + STRIPE_SIZE - 1, getBlock().getLastCommitted());
+
+        // the application stops without flushing the generator, and the recovery runs before it's restarted
+        new MonotonicAccessionRecoveryAgent(blockService, databaseService)
+                .runRecovery(CATEGORY_ID, "test-recovery-instance", LocalDateTime.now().plusMinutes(1));
+        ContiguousIdBlock block = getBlock();
+        assertEquals(accessioningMonotonicInitSs + STRIPE_SIZE + 4, block.getLastCommitted());
+        assertTrue(block.isNotReserved());
+
+        Set<Long> issuedAccessions = new HashSet<>();
+        flushed.forEach(wrapper -> issuedAccessions.add(wrapper.getAccession()));
+        notFlushed.forEach(wrapper -> issuedAccessions.add(wrapper.getAccession()));
+        StripedMonotonicAccessionGenerator<ISubmittedVariant> restartedGenerator = newGenerator();
+        for (long accession : restartedGenerator.generateAccessions(STRIPE_SIZE, "test-instance-02")) {
+            assertFalse(issuedAccessions.contains(accession));
+        }
+    }
+
+    private StripedMonotonicAccessionGenerator<ISubmittedVariant> newGenerator() {
+        return new StripedMonotonicAccessionGenerator<>(CATEGORY_ID, blockService, BlockLookAhead.disabled(),
+                                                        databaseService, STRIPE_SIZE);
+    }
+
+    private ContiguousIdBlock getBlock() {
+        List<ContiguousIdBlock> blocks = new ArrayList<>();
+        blockRepository.findAll().forEach(blocks::add);
+        assertEquals(1, blocks.size());
+        return blocks.get(0);
+    }
+
+    private List<SubmittedVariant> createVariants(int first, int count) {
+        List<SubmittedVariant> variants = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            variants.add(new SubmittedVariant("assembly", 1111, "project", "contig", 100 + i, "A", "T", null,
+                                              DEFAULT_SUPPORTED_BY_EVIDENCE, DEFAULT_ASSEMBLY_MATCH, true,
+                                              DEFAULT_VALIDATED, null));
+        }
+        return variants;
+    }
+}
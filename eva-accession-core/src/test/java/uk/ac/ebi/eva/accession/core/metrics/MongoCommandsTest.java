@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.metrics;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MongoCommandsTest {
+
+    @Test
+    public void collectionIsReadFromTheCommand() {
+        assertEquals("submittedVariantEntity", MongoCommands.getCollectionName(
+                "find", BsonDocument.parse("{find: 'submittedVariantEntity', filter: {seq: 'GCA_1'}}")));
+        assertEquals("clusteredVariantEntity", MongoCommands.getCollectionName(
+                "getMore", BsonDocument.parse("{getMore: NumberLong(12), collection: 'clusteredVariantEntity'}")));
+        assertEquals(MongoCommands.UNKNOWN_COLLECTION, MongoCommands.getCollectionName(
+                "ping", BsonDocument.parse("{ping: 1}")));
+    }
+
+    @Test
+    public void filterShapeHidesTheValues() {
+        BsonDocument find = BsonDocument.parse(
+                "{find: 'submittedVariantEntity', filter: {seq: {$in: ['GCA_1', 'GCA_2']}, rs: {$exists: true}}}");
+        assertEquals("{seq: {$in: ?}, rs: {$exists: ?}}", MongoCommands.getFilterShape("find", find));
+
+        BsonDocument aggregate = BsonDocument.parse(
+                "{aggregate: 'clusteredVariantEntity', pipeline: [{$match: {$or: [{asm: 'GCA_1'}, {asm: 'GCA_2'}]}}," +
+                        " {$limit: 10}]}");
+        assertEquals("[{$match: {$or: [{asm: ?}, {asm: ?}]}}, {$limit: ?}]",
+                     MongoCommands.getFilterShape("aggregate", aggregate));
+
+        BsonDocument update = BsonDocument.parse(
+                "{update: 'submittedVariantEntity', updates: [{q: {_id: 'A'}, u: {$set: {rs: 1}}}, {q: {_id: 'B'}}]}");
+        assertEquals("{_id: ?}", MongoCommands.getFilterShape("update", update));
+
+        assertEquals("", MongoCommands.getFilterShape("insert", BsonDocument.parse("{insert: 'dbsnpSVE'}")));
+        assertEquals("{}", MongoCommands.getFilterShape("find", BsonDocument.parse("{find: 'dbsnpSVE'}")));
+    }
+
+    @Test
+    public void documentsAreCountedInCursorBatchesAndWrites() {
+        BsonDocument firstBatch = BsonDocument.parse(
+                "{cursor: {id: NumberLong(5), ns: 'eva.sve', firstBatch: [{_id: 'A'}, {_id: 'B'}, {_id: 'C'}]}}");
+        assertEquals(3, MongoCommands.getDocumentCount(new RawBsonDocument(firstBatch, new BsonDocumentCodec())));
+        assertEquals(3, MongoCommands.getDocumentCount(firstBatch));
+
+        BsonDocument nextBatch = BsonDocument.parse("{cursor: {id: NumberLong(0), nextBatch: [{_id: 'D'}]}, ok: 1}");
+        assertEquals(1, MongoCommands.getDocumentCount(nextBatch));
+
+        assertEquals(7, MongoCommands.getDocumentCount(BsonDocument.parse("{n: 7, nModified: 2, ok: 1}")));
+        assertEquals(0, MongoCommands.getDocumentCount(BsonDocument.parse("{ok: 1}")));
+    }
+
+    @Test
+    public void sizeIsTakenFromTheEncodedReply() {
+        BsonDocument reply = BsonDocument.parse("{n: 7, ok: 1}");
+        RawBsonDocument rawReply = new RawBsonDocument(reply, new BsonDocumentCodec());
+
+        assertEquals(rawReply.getByteBuffer().remaining(), MongoCommands.getSizeInBytes(rawReply));
+        assertEquals(0, MongoCommands.getSizeInBytes(reply));
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.codecs;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantInactiveEntity;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantOperationEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantInactiveEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantOperationEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+import uk.ac.ebi.eva.commons.core.models.VariantType;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VariantEntityCodecProviderTest {
+
+    private static final LocalDateTime CREATED_DATE = LocalDateTime.of(2022, 4, 26, 8, 33, 26, 562000000);
+
+    private static final LocalDateTime REMAPPED_DATE = LocalDateTime.of(2021, 8, 12, 2, 53, 48, 966000000);
+
+    private MappingMongoConverter converter;
+
+    private CodecRegistry codecRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(Collections.emptyList());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.setTypeMapper(new DefaultMongoTypeMapper(null));
+        converter.afterPropertiesSet();
+        codecRegistry = VariantEntityCodecProvider.withVariantEntityCodecs(new CodecRegistry() {
+            @Override
+            public <T> Codec<T> get(Class<T> clazz) {
+                throw new AssertionError("Unexpected codec lookup of " + clazz);
+            }
+
+            @Override
+            public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+                throw new AssertionError("Unexpected codec lookup of " + clazz);
+            }
+        });
+    }
+
+    @Test
+    public void submittedVariantsAreDecodedLikeTheConverter() {
+        SubmittedVariantEntity variant = remappedSubmittedVariant();
+        SubmittedVariantEntity decoded = decode(SubmittedVariantEntity.class, writeWithConverter(variant));
+        assertSubmittedVariantsEqual(variant, decoded);
+
+        SubmittedVariantEntity readByConverter = converter.read(SubmittedVariantEntity.class,
+                                                                encode(SubmittedVariantEntity.class, variant));
+        assertSubmittedVariantsEqual(variant, readByConverter);
+    }
+
+    @Test
+    public void defaultFlagsAreNotStored() {
+        SubmittedVariantEntity variant = new SubmittedVariantEntity(5000000000L, "hash", "GCA_000000001.1", 3000,
+                                                                    "PRJEB00001", "CM000001.2", 3000, "C", "T", null,
+                                                                    true, true, true, false, 1);
+        Document document = encode(SubmittedVariantEntity.class, variant);
+
+        assertEquals(writeWithConverter(variant).keySet(), document.keySet());
+        assertFalse(document.containsKey("evidence"));
+        assertFalse(document.containsKey("rs"));
+        assertSubmittedVariantsEqual(variant, decode(SubmittedVariantEntity.class, document));
+    }
+
+    @Test
+    public void dbsnpSubmittedVariantsAreDecoded() {
+        DbsnpSubmittedVariantEntity variant = new DbsnpSubmittedVariantEntity(1000L, "hash", "GCA_000000001.1", 3000,
+                                                                              "PRJEB00001", "CM000001.2", 3000, "C",
+                                                                              "T", 2000L, false, true, false, true, 2);
+        DbsnpSubmittedVariantEntity decoded = decode(DbsnpSubmittedVariantEntity.class, writeWithConverter(variant));
+
+        assertEquals(DbsnpSubmittedVariantEntity.class, decoded.getClass());
+        assertSubmittedVariantsEqual(variant, decoded);
+    }
+
+    @Test
+    public void clusteredVariantsAreDecodedLikeTheConverter() {
+        ClusteredVariantEntity variant = new ClusteredVariantEntity(3000000000L, "hash", "GCA_000000001.1", 3000,
+                                                                    "CM000001.2", 3000, VariantType.SNV, true,
+                                                                    CREATED_DATE, 2, 3);
+        ClusteredVariantEntity decoded = decode(ClusteredVariantEntity.class, writeWithConverter(variant));
+        assertClusteredVariantsEqual(variant, decoded);
+
+        DbsnpClusteredVariantEntity dbsnpVariant = new DbsnpClusteredVariantEntity(
+                1000L, "hash", "GCA_000000001.1", 3000, "CM000001.2", 3000, VariantType.INS, false, CREATED_DATE, 1);
+        Document document = encode(DbsnpClusteredVariantEntity.class, dbsnpVariant);
+        assertEquals(writeWithConverter(dbsnpVariant), document);
+        assertClusteredVariantsEqual(dbsnpVariant, converter.read(DbsnpClusteredVariantEntity.class, document));
+    }
+
+    @Test
+    public void operationsAreDecodedWithTheirInactiveObjects() {
+        DbsnpSubmittedVariantEntity variant = new DbsnpSubmittedVariantEntity(1000L, "hash", "GCA_000000001.1", 3000,
+                                                                              "PRJEB00001", "CM000001.2", 3000, "C",
+                                                                              "T", 2000L, false, true, true, false, 1);
+        variant.setCreatedDate(CREATED_DATE);
+        variant.setBackPropagatedVariantAccession(3000L);
+        DbsnpSubmittedVariantOperationEntity operation = new DbsnpSubmittedVariantOperationEntity();
+        operation.fill(EventType.MERGED, 1000L, 1001L, "Merged into ss1001",
+                       Collections.singletonList(new DbsnpSubmittedVariantInactiveEntity(variant)));
+        operation.setId("MERGED_1000_1001");
+        operation.setCreatedDate(CREATED_DATE);
+
+        DbsnpSubmittedVariantOperationEntity decoded = decode(DbsnpSubmittedVariantOperationEntity.class,
+                                                              writeWithConverter(operation));
+        assertEquals(operation.toString(), decoded.toString());
+        assertEquals(operation.getInactiveObjects(), decoded.getInactiveObjects());
+        assertEquals(CREATED_DATE, decoded.getInactiveObjects().get(0).getCreatedDate());
+
+        DbsnpSubmittedVariantOperationEntity readByConverter = converter.read(
+                DbsnpSubmittedVariantOperationEntity.class, encode(DbsnpSubmittedVariantOperationEntity.class,
+                                                                   operation));
+        assertEquals(operation.toString(), readByConverter.toString());
+        assertEquals(operation.getInactiveObjects(), readByConverter.getInactiveObjects());
+    }
+
+    @Test
+    public void splitOperationsKeepTheirDestination() {
+        ClusteredVariantEntity first = new ClusteredVariantEntity(3000000000L, "hash1", "GCA_000000001.1", 3000,
+                                                                  "CM000001.2", 3000, VariantType.SNV, false,
+                                                                  CREATED_DATE, 1);
+        ClusteredVariantEntity second = new ClusteredVariantEntity(3000000000L, "hash2", "GCA_000000001.1", 3000,
+                                                                   "CM000001.2", 3001, VariantType.SNV, false,
+                                                                   CREATED_DATE, 1);
+        ClusteredVariantOperationEntity operation = new ClusteredVariantOperationEntity();
+        operation.fill(EventType.RS_SPLIT, 3000000000L, 3000000001L, "Hash mismatch",
+                       Arrays.asList(new ClusteredVariantInactiveEntity(first),
+                                     new ClusteredVariantInactiveEntity(second)));
+        operation.setId("RSS_3000000000");
+        operation.setCreatedDate(CREATED_DATE);
+
+        ClusteredVariantOperationEntity decoded = decode(ClusteredVariantOperationEntity.class,
+                                                         writeWithConverter(operation));
+        assertEquals(Long.valueOf(3000000001L), decoded.getSplitInto());
+        assertNull(decoded.getMergedInto());
+        assertEquals(CREATED_DATE, decoded.getCreatedDate());
+        assertEquals(operation.toString(), decoded.toString());
+    }
+
+    @Test
+    public void onlyTheVariantEntitiesHaveCodecs() {
+        VariantEntityCodecProvider provider = new VariantEntityCodecProvider();
+        assertNotNull(provider.get(SubmittedVariantEntity.class, codecRegistry));
+        assertNotNull(provider.get(DbsnpClusteredVariantEntity.class, codecRegistry));
+        assertNotNull(provider.get(ClusteredVariantOperationEntity.class, codecRegistry));
+        assertNull(provider.get(ClusteredVariantInactiveEntity.class, codecRegistry));
+        assertNull(provider.get(Document.class, codecRegistry));
+        assertTrue(codecRegistry.get(SubmittedVariantEntity.class) instanceof SubmittedVariantEntityCodec);
+    }
+
+    private SubmittedVariantEntity remappedSubmittedVariant() {
+        SubmittedVariantEntity variant = new SubmittedVariantEntity(5000000000L, "hash", "GCA_000000001.1", 3000,
+                                                                    "PRJEB00001", "CM000001.2", 3000, "C", "T",
+                                                                    3000000000L, false, false, false, true, 2, 3);
+        variant.setCreatedDate(CREATED_DATE);
+        variant.setRemappedFrom("GCA_000003205.6");
+        variant.setRemappedDate(REMAPPED_DATE);
+        variant.setRemappingId("E076D09482EF2504D3168AABB13BC94172A92C27");
+        variant.setBackPropagatedVariantAccession(3000000001L);
+        return variant;
+    }
+
+    private Document writeWithConverter(Object entity) {
+        Document document = new Document();
+        converter.write(entity, document);
+        return document;
+    }
+
+    private <T> T decode(Class<T> entityClass, Document document) {
+        BsonDocument bsonDocument = document.toBsonDocument(Document.class,
+                                                            converter.getCodecRegistry());
+        return codecRegistry.get(entityClass).decode(new BsonDocumentReader(bsonDocument),
+                                                      DecoderContext.builder().build());
+    }
+
+    private <T> Document encode(Class<T> entityClass, T entity) {
+        BsonDocument bsonDocument = new BsonDocument();
+        codecRegistry.get(entityClass).encode(new BsonDocumentWriter(bsonDocument), entity,
+                                              EncoderContext.builder().build());
+        return new DocumentCodec().decode(new BsonDocumentReader(bsonDocument), DecoderContext.builder().build());
+    }
+
+    private void assertSubmittedVariantsEqual(SubmittedVariantEntity expected, SubmittedVariantEntity actual) {
+        assertEquals(expected, actual);
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getAccession(), actual.getAccession());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getCreatedDate(), actual.getCreatedDate());
+        assertEquals(expected.getRemappingId(), actual.getRemappingId());
+    }
+
+    private void assertClusteredVariantsEqual(ClusteredVariantEntity expected, ClusteredVariantEntity actual) {
+        assertEquals(expected, actual);
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getAccession(), actual.getAccession());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getCreatedDate(), actual.getCreatedDate());
+        assertEquals(expected.getMapWeight(), actual.getMapWeight());
+    }
+}
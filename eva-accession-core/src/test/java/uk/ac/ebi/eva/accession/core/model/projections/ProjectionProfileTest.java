@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.model.projections;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+
+import uk.ac.ebi.eva.accession.core.model.codecs.VariantEntityCodecProvider;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantInactiveEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantOperationEntity;
+import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+import uk.ac.ebi.eva.commons.core.models.VariantType;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProjectionProfileTest {
+
+    private static final LocalDateTime CREATED_DATE = LocalDateTime.of(2022, 4, 26, 8, 33, 26, 562000000);
+
+    private final CodecRegistry codecRegistry = VariantEntityCodecProvider.withVariantEntityCodecs(
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    @Test
+    public void fullProfileHasNoProjection() {
+        assertNull(ProjectionProfile.FULL.getProjection());
+        assertTrue(ProjectionProfile.FULL.getFields().isEmpty());
+    }
+
+    @Test
+    public void accessionProfileExcludesTheId() {
+        BsonDocument projection = ProjectionProfile.ACCESSION.getProjection().toBsonDocument(BsonDocument.class,
+                                                                                           codecRegistry);
+        assertEquals(BsonDocument.parse("{accession: 1, _id: 0}"), projection);
+    }
+
+    @Test
+    public void accessionViewIsReadFromVariantsAndOperations() {
+        ClusteredVariantEntity variant = clusteredVariant();
+        assertEquals(new AccessionView(3000000000L),
+                     readProjected(variant, ClusteredVariantEntity.class, ProjectionProfile.ACCESSION,
+                                   AccessionView.class));
+
+        ClusteredVariantOperationEntity operation = new ClusteredVariantOperationEntity();
+        operation.fill(EventType.MERGED, 3000000000L, 3000000001L, "Identical clustered variant received multiple RS",
+                       Collections.singletonList(new ClusteredVariantInactiveEntity(variant)));
+        operation.setId("MERGED_3000000000");
+        assertEquals(new AccessionView(3000000000L),
+                     readProjected(operation, ClusteredVariantOperationEntity.class, ProjectionProfile.ACCESSION,
+                                   AccessionView.class));
+    }
+
+    @Test
+    public void submittedVariantKeepsTheFieldsOfTheClusteredVariantHash() {
+        SubmittedVariantEntity variant = new SubmittedVariantEntity(5000000000L, "hash", "GCA_000000001.1", 3000,
+                                                                    "PRJEB00001", "CM000001.2", 3000, "C", "T",
+                                                                    3000000000L, false, false, false, true, 2, 3);
+        variant.setCreatedDate(CREATED_DATE);
+        variant.setRemappedFrom("GCA_000003205.6");
+        variant.setBackPropagatedVariantAccession(3000000001L);
+
+        SubmittedVariantEntity projected = readProjected(variant, SubmittedVariantEntity.class,
+                                                         ProjectionProfile.SUBMITTED_VARIANT_FOR_RS_HASH,
+                                                         SubmittedVariantEntity.class);
+
+        assertEquals(variant.getId(), projected.getId());
+        assertEquals(variant.getAccession(), projected.getAccession());
+        assertEquals(variant.getVersion(), projected.getVersion());
+        assertEquals(variant.getCreatedDate(), projected.getCreatedDate());
+        assertEquals(variant.getReferenceSequenceAccession(), projected.getReferenceSequenceAccession());
+        assertEquals(variant.getTaxonomyAccession(), projected.getTaxonomyAccession());
+        assertEquals(variant.getContig(), projected.getContig());
+        assertEquals(variant.getStart(), projected.getStart());
+        assertEquals(variant.getReferenceAllele(), projected.getReferenceAllele());
+        assertEquals(variant.getAlternateAllele(), projected.getAlternateAllele());
+        assertEquals(variant.getClusteredVariantAccession(), projected.getClusteredVariantAccession());
+        assertEquals(variant.isValidated(), projected.isValidated());
+        assertNull(projected.getRemappedFrom());
+        assertNull(projected.getMapWeight());
+        assertNull(projected.getBackPropagatedVariantAccession());
+    }
+
+    @Test
+    public void operationKeepsItsAccessionsWithoutTheInactiveObjects() {
+        ClusteredVariantOperationEntity operation = new ClusteredVariantOperationEntity();
+        operation.fill(EventType.RS_SPLIT, 3000000000L, 3000000002L, "Hash mismatch",
+                       Collections.singletonList(new ClusteredVariantInactiveEntity(clusteredVariant())));
+        operation.setId("RSS_3000000000");
+
+        ClusteredVariantOperationEntity projected = readProjected(operation, ClusteredVariantOperationEntity.class,
+                                                                  ProjectionProfile.OPERATION_ACCESSIONS,
+                                                                  ClusteredVariantOperationEntity.class);
+
+        assertEquals(operation.getId(), projected.getId());
+        assertEquals(EventType.RS_SPLIT, projected.getEventType());
+        assertEquals(operation.getAccession(), projected.getAccession());
+        assertEquals(operation.getSplitInto(), projected.getSplitInto());
+        assertNull(projected.getMergedInto());
+        assertTrue(projected.getInactiveObjects().isEmpty());
+    }
+
+    private ClusteredVariantEntity clusteredVariant() {
+        return new ClusteredVariantEntity(3000000000L, "hash", "GCA_000000001.1", 3000, "CM000001.2", 3000,
+                                          VariantType.SNV, false, CREATED_DATE, 1);
+    }
+
+    /**
+     * Stores the entity and keeps only the fields that the server would return for the given projection.
+     */
+    private <T, V> V readProjected(T entity, Class<T> entityClass, ProjectionProfile profile, Class<V> viewClass) {
+        BsonDocument stored = new BsonDocument();
+        codecRegistry.get(entityClass).encode(new BsonDocumentWriter(stored), entity, EncoderContext.builder().build());
+
+        BsonDocument projection = profile.getProjection().toBsonDocument(BsonDocument.class, codecRegistry);
+        Set<String> returnedFields = new HashSet<>(profile.getFields());
+        if (!projection.containsKey("_id")) {
+            returnedFields.add("_id");
+        }
+        BsonDocument returned = new BsonDocument();
+        stored.forEach((name, value) -> {
+            if (returnedFields.contains(name)) {
+                returned.put(name, value);
+            }
+        });
+        return codecRegistry.get(viewClass).decode(new BsonDocumentReader(returned), DecoderContext.builder().build());
+    }
+}
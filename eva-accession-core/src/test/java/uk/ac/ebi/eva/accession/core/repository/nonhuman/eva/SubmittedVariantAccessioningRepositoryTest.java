@@ -33,6 +33,7 @@ import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 import uk.ac.ebi.eva.accession.core.test.configuration.nonhuman.MongoTestConfiguration;
 import uk.ac.ebi.eva.accession.core.utils.MongoTestContainerHelper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -108,6 +109,26 @@ public class SubmittedVariantAccessioningRepositoryTest extends MongoTestContain
                 repository.findByAccessionGreaterThanEqualAndAccessionLessThanEqual(1001L, 1005L));
     }
 
+    @Test
+    public void streamAccessionRange() {
+        long firstAccession = 1000L;
+        long secondAccession = 1002L;
+        List<SubmittedVariantEntity> variants = Arrays.asList(
+                new SubmittedVariantEntity(firstAccession, "hash-1", submittedVariant, 1),
+                new SubmittedVariantEntity(firstAccession, "hash-3", newSubmittedVariant, 1),
+                new SubmittedVariantEntity(secondAccession, "hash-2", newSubmittedVariant, 1));
+        repository.saveAll(variants);
+
+        List<Long> accessions = new ArrayList<>();
+        repository.forEachAccessionInRange(1000L, 1005L, accessions::add);
+        Collections.sort(accessions);
+        assertEquals(Arrays.asList(firstAccession, firstAccession, secondAccession), accessions);
+
+        accessions.clear();
+        repository.forEachAccessionInRange(1001L, 1001L, accessions::add);
+        assertEquals(Collections.emptyList(), accessions);
+    }
+
     private void assertAccessionsEquals(List<Long> expectedAccessions,
                                         List<AccessionProjection<Long>> accessionsProjection) {
         assertEquals(new TreeSet<>(expectedAccessions),
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.service.nonhuman;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDeprecatedException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionDoesNotExistException;
+import uk.ac.ebi.ampt2d.commons.accession.core.exceptions.AccessionMergedException;
+
+import uk.ac.ebi.eva.accession.core.metrics.CacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AccessionLookupCacheTest {
+
+    private static final String EVA = AccessionLookupCache.EVA;
+
+    private static final String DBSNP = AccessionLookupCache.DBSNP;
+
+    @Test
+    public void repeatedLookupsAreCached()
+            throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        AccessionLookupCache<String> cache = new AccessionLookupCache<>("test", 10, Duration.ZERO);
+        AtomicInteger lookups = new AtomicInteger();
+
+        assertEquals("rs1", cache.get(EVA, 1L, () -> "rs" + lookups.incrementAndGet()));
+        assertEquals("rs1", cache.get(EVA, 1L, () -> "rs" + lookups.incrementAndGet()));
+        assertEquals("rs2", cache.get(DBSNP, 1L, () -> "rs" + lookups.incrementAndGet()));
+
+        assertEquals(2, lookups.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(1.0 / 3, cache.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted()
+            throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        AccessionLookupCache<String> cache = new AccessionLookupCache<>("test", 2, Duration.ZERO);
+        cache.get(EVA, 1L, () -> "rs1");
+        cache.get(EVA, 2L, () -> "rs2");
+        cache.get(EVA, 1L, () -> "unexpected lookup");
+        cache.get(EVA, 3L, () -> "rs3");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals("rs1", cache.get(EVA, 1L, () -> "unexpected lookup"));
+        assertEquals("rs2 again", cache.get(EVA, 2L, () -> "rs2 again"));
+    }
+
+    @Test
+    public void invalidatedAccessionsAreLookedUpAgain()
+            throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        AccessionLookupCache<String> cache = new AccessionLookupCache<>("test", 10, Duration.ZERO);
+        cache.get(EVA, 1L, () -> "rs1");
+        cache.get(DBSNP, 1L, () -> "rs1 in dbsnp");
+        cache.get(EVA, 2L, () -> "rs2");
+
+        cache.invalidate(1L);
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getInvalidations());
+        assertEquals("rs1 merged", cache.get(EVA, 1L, () -> "rs1 merged"));
+        assertEquals("rs1 merged in dbsnp", cache.get(DBSNP, 1L, () -> "rs1 merged in dbsnp"));
+        assertEquals("rs2", cache.get(EVA, 2L, () -> "unexpected lookup"));
+
+        cache.invalidateIf(value -> value.startsWith("rs1"));
+        assertEquals(1, cache.size());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void lookupsRunningDuringAnInvalidationAreNotStored()
+            throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        AccessionLookupCache<String> cache = new AccessionLookupCache<>("test", 10, Duration.ZERO);
+        String value = cache.get(EVA, 1L, () -> {
+            cache.invalidate(1L);
+            return "rs1 before merge";
+        });
+
+        assertEquals("rs1 before merge", value);
+        assertEquals(0, cache.size());
+        assertEquals("rs1 after merge", cache.get(EVA, 1L, () -> "rs1 after merge"));
+    }
+
+    @Test
+    public void missingAccessionsAreLookedUpTogether() {
+        AccessionLookupCache<List<String>> cache = new AccessionLookupCache<>("test", 10, Duration.ZERO);
+        List<List<Long>> lookups = new ArrayList<>();
+        Map<Long, List<String>> database = new HashMap<>();
+        database.put(1L, Arrays.asList("ss1", "ss2"));
+        database.put(2L, Collections.singletonList("ss3"));
+
+        Map<Long, List<String>> values = cache.getAll(EVA, Arrays.asList(1L, 3L, 1L), accessions -> {
+            lookups.add(accessions);
+            return lookup(database, accessions);
+        }, Collections.emptyList());
+        assertEquals(Arrays.asList("ss1", "ss2"), values.get(1L));
+        assertEquals(Collections.emptyList(), values.get(3L));
+
+        values = cache.getAll(EVA, Arrays.asList(1L, 2L, 3L), accessions -> {
+            lookups.add(accessions);
+            return lookup(database, accessions);
+        }, Collections.emptyList());
+        assertEquals(3, values.size());
+        assertEquals(Collections.singletonList("ss3"), values.get(2L));
+
+        // the accession that was not found is looked up again
+        assertEquals(Arrays.asList(Arrays.asList(1L, 3L), Arrays.asList(2L, 3L)), lookups);
+        // the repeated accession of the first lookup is only counted once
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void statisticsArePublishedInTheRegistry()
+            throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        AccessionLookupCache<String> cache = new AccessionLookupCache<>("test", 2, Duration.ZERO);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache.registerMetrics(meterRegistry);
+
+        cache.get(EVA, 1L, () -> "rs1");
+        cache.get(EVA, 1L, () -> "unexpected lookup");
+        cache.get(EVA, 2L, () -> "rs2");
+        cache.get(EVA, 3L, () -> "rs3");
+        cache.invalidate(3L);
+
+        assertEquals(1, meterRegistry.get(CacheMetrics.GETS_COUNTER).tags("cache", "test", "result", "hit")
+                                     .functionCounter().count());
+        assertEquals(3, meterRegistry.get(CacheMetrics.GETS_COUNTER).tags("cache", "test", "result", "miss")
+                                     .functionCounter().count());
+        assertEquals(1, meterRegistry.get(CacheMetrics.EVICTIONS_COUNTER).functionCounter().count());
+        assertEquals(1, meterRegistry.get(CacheMetrics.WEIGHT_GAUGE).gauge().value());
+        assertEquals(2, meterRegistry.get(CacheMetrics.PEAK_WEIGHT_GAUGE).gauge().value());
+    }
+
+    @Test
+    public void disabledCachesAreNotPublished() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccessionLookupCache.disabled().registerMetrics(meterRegistry);
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void emptyResultsAreNotCached()
+            throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        AccessionLookupCache<List<String>> cache = new AccessionLookupCache<>("test", 10, Duration.ZERO);
+        cache.get(EVA, 1L, Collections::emptyList);
+
+        assertEquals(0, cache.size());
+        assertEquals(Collections.singletonList("rs1"), cache.get(EVA, 1L, () -> Collections.singletonList("rs1")));
+    }
+
+    @Test
+    public void expiredEntriesAreLookedUpAgain()
+            throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        AtomicLong nanoTime = new AtomicLong();
+        AccessionLookupCache<String> cache = new AccessionLookupCache<>("test", 10, Duration.ofSeconds(60),
+                                                                        nanoTime::get);
+        cache.get(EVA, 1L, () -> "rs1");
+        nanoTime.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertEquals("rs1", cache.get(EVA, 1L, () -> "unexpected lookup"));
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals("rs1 modified", cache.get(EVA, 1L, () -> "rs1 modified"));
+        assertEquals(1, cache.getExpirations());
+        assertEquals("rs1 modified", cache.get(EVA, 1L, () -> "unexpected lookup"));
+    }
+
+    @Test
+    public void disabledCacheAlwaysLooksUp()
+            throws AccessionMergedException, AccessionDoesNotExistException, AccessionDeprecatedException {
+        AccessionLookupCache<String> cache = AccessionLookupCache.disabled();
+        AtomicInteger lookups = new AtomicInteger();
+
+        assertFalse(cache.isEnabled());
+        cache.get(EVA, 1L, () -> "rs" + lookups.incrementAndGet());
+        cache.get(EVA, 1L, () -> "rs" + lookups.incrementAndGet());
+        cache.invalidate(1L);
+
+        assertEquals(2, lookups.get());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+    }
+
+    private Map<Long, List<String>> lookup(Map<Long, List<String>> database, List<Long> accessions) {
+        Map<Long, List<String>> values = new HashMap<>();
+        for (Long accession : accessions) {
+            if (database.containsKey(accession)) {
+                values.put(accession, database.get(accession));
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.service.nonhuman;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DualCollectionQueryExecutorTest {
+
+    private DualCollectionQueryExecutor parallelExecutor = DualCollectionQueryExecutor.parallel(2);
+
+    @AfterEach
+    public void tearDown() {
+        parallelExecutor.shutdown();
+    }
+
+    @Test
+    public void resultsKeepTheOrderOfTheQueries() {
+        for (DualCollectionQueryExecutor executor : Arrays.asList(DualCollectionQueryExecutor.sequential(),
+                                                                  parallelExecutor)) {
+            List<Integer> results = executor.concat(() -> Arrays.asList(1, 2), () -> {
+                sleep(50);
+                return Arrays.asList(3, 4);
+            });
+            assertEquals(Arrays.asList(1, 2, 3, 4), results);
+            assertEquals(Collections.emptyList(), executor.concat(Collections::emptyList, Collections::emptyList));
+        }
+        assertFalse(DualCollectionQueryExecutor.sequential().isParallel());
+        assertTrue(parallelExecutor.isParallel());
+    }
+
+    @Test
+    public void queriesRunAtTheSameTime() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<String> results = parallelExecutor.concat(() -> awaitOther(bothStarted, "eva"),
+                                                       () -> awaitOther(bothStarted, "dbsnp"));
+        assertEquals(Arrays.asList("eva", "dbsnp"), results);
+    }
+
+    @Test
+    public void exceptionOfTheFirstQueryWins() {
+        for (DualCollectionQueryExecutor executor : Arrays.asList(DualCollectionQueryExecutor.sequential(),
+                                                                  parallelExecutor)) {
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> executor.concat(
+                    () -> {
+                        throw new IllegalStateException("first");
+                    },
+                    () -> {
+                        throw new IllegalArgumentException("second");
+                    }));
+            assertEquals("first", exception.getMessage());
+
+            IllegalArgumentException secondException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> executor.concat(Collections::emptyList, () -> {
+                        throw new IllegalArgumentException("second");
+                    }));
+            assertEquals("second", secondException.getMessage());
+        }
+    }
+
+    @Test
+    public void saturatedPoolRunsQueriesInTheCallingThread() throws Exception {
+        DualCollectionQueryExecutor singleThreadExecutor = DualCollectionQueryExecutor.parallel(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Thread blocker = new Thread(() -> singleThreadExecutor.concat(Collections::emptyList, () -> {
+                awaitQuietly(release);
+                return Collections.emptyList();
+            }));
+            blocker.start();
+            for (int i = 0; i < 10; i++) {
+                assertEquals(Arrays.asList(1, 2),
+                             singleThreadExecutor.concat(() -> Collections.singletonList(1),
+                                                         () -> Collections.singletonList(2)));
+            }
+            release.countDown();
+            blocker.join(TimeUnit.SECONDS.toMillis(10));
+        } finally {
+            release.countDown();
+            singleThreadExecutor.shutdown();
+        }
+    }
+
+    private static List<String> awaitOther(CountDownLatch bothStarted, String result) {
+        bothStarted.countDown();
+        try {
+            assertTrue(bothStarted.await(10, TimeUnit.SECONDS), "The other query didn't start");
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return Collections.singletonList(result);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp;
+
+import org.junit.jupiter.api.Test;
+
+import uk.ac.ebi.eva.accession.core.utils.PipelineTemporaryFolderUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DbsnpHashBloomFilterTest {
+
+    private static final int HASHES = 100000;
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private PipelineTemporaryFolderUtil temporaryFolderUtil = new PipelineTemporaryFolderUtil();
+
+    @Test
+    public void addedHashesAreAlwaysFound() {
+        DbsnpHashBloomFilter bloomFilter = buildBloomFilter();
+        for (int i = 0; i < HASHES; i++) {
+            assertTrue(bloomFilter.mightContain(hash(i)));
+        }
+        assertEquals(HASHES, bloomFilter.getInsertions());
+    }
+
+    @Test
+    public void falsePositiveRateIsCloseToTheRequestedOne() {
+        DbsnpHashBloomFilter bloomFilter = buildBloomFilter();
+        int falsePositives = 0;
+        for (int i = HASHES; i < 2 * HASHES; i++) {
+            if (bloomFilter.mightContain(hash(i))) {
+                falsePositives++;
+            }
+        }
+        double observedRate = (double) falsePositives / HASHES;
+        assertTrue(observedRate < FALSE_POSITIVE_RATE * 1.5, "Observed false positive rate " + observedRate);
+        assertTrue(bloomFilter.getExpectedFalsePositiveRate() < FALSE_POSITIVE_RATE * 1.5);
+        assertTrue(bloomFilter.getExpectedFalsePositiveRate() > FALSE_POSITIVE_RATE / 2);
+    }
+
+    @Test
+    public void emptyFilterContainsNothing() {
+        DbsnpHashBloomFilter bloomFilter = DbsnpHashBloomFilter.create("collection", "assembly", 0, 0,
+                                                                       FALSE_POSITIVE_RATE);
+        assertFalse(bloomFilter.mightContain(hash(0)));
+        assertEquals(0, bloomFilter.getExpectedFalsePositiveRate());
+    }
+
+    @Test
+    public void loadedFilterGivesTheSameAnswers() throws Exception {
+        DbsnpHashBloomFilter bloomFilter = buildBloomFilter();
+        Path path = temporaryFolderUtil.getRoot().toPath().resolve("filter.bloom");
+        bloomFilter.write(path);
+        DbsnpHashBloomFilter loadedFilter = DbsnpHashBloomFilter.load(path);
+
+        assertEquals("dbsnpSubmittedVariantEntity", loadedFilter.getCollection());
+        assertEquals("GCA_000001215.4", loadedFilter.getAssembly());
+        assertEquals(3 * HASHES, loadedFilter.getCollectionCount());
+        assertEquals(bloomFilter.getInsertions(), loadedFilter.getInsertions());
+        assertEquals(bloomFilter.getBitCount(), loadedFilter.getBitCount());
+        assertEquals(bloomFilter.getHashFunctions(), loadedFilter.getHashFunctions());
+        for (int i = 0; i < 2 * HASHES; i++) {
+            assertEquals(bloomFilter.mightContain(hash(i)), loadedFilter.mightContain(hash(i)));
+        }
+    }
+
+    @Test
+    public void otherFilesAreRejected() throws Exception {
+        Path path = temporaryFolderUtil.getRoot().toPath().resolve("filter.bloom");
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> DbsnpHashBloomFilter.load(path));
+
+        buildBloomFilter().write(path);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> DbsnpHashBloomFilter.load(path));
+
+        bytes[7] = (byte) (DbsnpHashBloomFilter.VERSION + 1);
+        Files.write(path, bytes);
+        assertThrows(IOException.class, () -> DbsnpHashBloomFilter.load(path));
+    }
+
+    private DbsnpHashBloomFilter buildBloomFilter() {
+        DbsnpHashBloomFilter bloomFilter = DbsnpHashBloomFilter.create("dbsnpSubmittedVariantEntity",
+                                                                       "GCA_000001215.4", 3 * HASHES, HASHES,
+                                                                       FALSE_POSITIVE_RATE);
+        for (int i = 0; i < HASHES; i++) {
+            bloomFilter.put(hash(i));
+        }
+        return bloomFilter;
+    }
+
+    private static String hash(int i) {
+        return String.format("%040X", (long) i * 0x9E3779B97F4A7C15L);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
+
+import uk.ac.ebi.eva.accession.core.utils.PipelineTemporaryFolderUtil;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The variants in these tests are strings with the assembly and the hash separated by a colon.
+ */
+public class DbsnpNegativeCacheTest {
+
+    private static final String COLLECTION = "dbsnpSubmittedVariantEntity";
+
+    private static final String ASSEMBLY = "GCA_000001215.4";
+
+    private static final String ASSEMBLY_WITHOUT_FILTER = "GCA_000002315.5";
+
+    private static final long COLLECTION_COUNT = 10;
+
+    private PipelineTemporaryFolderUtil temporaryFolderUtil = new PipelineTemporaryFolderUtil();
+
+    private Path directory;
+
+    private List<List<String>> queries;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        directory = temporaryFolderUtil.getRoot().toPath();
+        DbsnpHashBloomFilter bloomFilter = DbsnpHashBloomFilter.create(COLLECTION, ASSEMBLY, COLLECTION_COUNT, 10,
+                                                                       0.001);
+        bloomFilter.put("hashInDbsnp");
+        bloomFilter.put("hashDeletedFromDbsnp");
+        bloomFilter.write(directory.resolve(DbsnpNegativeCache.getFileName(COLLECTION, ASSEMBLY)));
+        queries = new ArrayList<>();
+    }
+
+    @Test
+    public void variantsNotInTheFilterAreNotLookedUp() {
+        DbsnpNegativeCache<String> negativeCache = newNegativeCache(COLLECTION_COUNT);
+        List<AccessionWrapper<String, String, Long>> accessionWrappers = negativeCache.get(
+                Arrays.asList(variant(ASSEMBLY, "hashInDbsnp"), variant(ASSEMBLY, "newHash")),
+                DbsnpNegativeCacheTest::getHash, this::queryDbsnp);
+
+        assertEquals(Collections.singletonList(Collections.singletonList(variant(ASSEMBLY, "hashInDbsnp"))), queries);
+        assertEquals(1, accessionWrappers.size());
+        assertEquals("hashInDbsnp", accessionWrappers.get(0).getHash());
+        assertEquals(2, negativeCache.getCheckedHashes());
+        assertEquals(1, negativeCache.getSkippedHashes());
+        assertEquals(0, negativeCache.getSkippedQueries());
+        assertEquals(0, negativeCache.getFalsePositives());
+    }
+
+    @Test
+    public void queryIsSkippedIfNoVariantCanBeInDbsnp() {
+        DbsnpNegativeCache<String> negativeCache = newNegativeCache(COLLECTION_COUNT);
+        List<AccessionWrapper<String, String, Long>> accessionWrappers = negativeCache.get(
+                Arrays.asList(variant(ASSEMBLY, "newHash"), variant(ASSEMBLY, "anotherNewHash")),
+                DbsnpNegativeCacheTest::getHash, this::queryDbsnp);
+
+        assertTrue(accessionWrappers.isEmpty());
+        assertTrue(queries.isEmpty());
+        assertEquals(2, negativeCache.getSkippedHashes());
+        assertEquals(1, negativeCache.getSkippedQueries());
+    }
+
+    @Test
+    public void variantsOfAssembliesWithoutFilterAreLookedUp() {
+        DbsnpNegativeCache<String> negativeCache = newNegativeCache(COLLECTION_COUNT);
+        negativeCache.get(Arrays.asList(variant(ASSEMBLY_WITHOUT_FILTER, "newHash"), variant(ASSEMBLY, "newHash")),
+                          DbsnpNegativeCacheTest::getHash, this::queryDbsnp);
+
+        assertEquals(Collections.singletonList(Collections.singletonList(variant(ASSEMBLY_WITHOUT_FILTER,
+                                                                                 "newHash"))), queries);
+        assertEquals(1, negativeCache.getCheckedHashes());
+        assertEquals(Collections.singleton(ASSEMBLY), negativeCache.getExpectedFalsePositiveRates().keySet());
+    }
+
+    @Test
+    public void falsePositivesAreCounted() {
+        DbsnpNegativeCache<String> negativeCache = newNegativeCache(COLLECTION_COUNT);
+        negativeCache.get(Arrays.asList(variant(ASSEMBLY, "hashDeletedFromDbsnp"), variant(ASSEMBLY, "newHash"),
+                                        variant(ASSEMBLY, "anotherNewHash"), variant(ASSEMBLY, "hashInDbsnp")),
+                          DbsnpNegativeCacheTest::getHash, this::queryDbsnp);
+
+        assertEquals(1, negativeCache.getFalsePositives());
+        assertEquals(2, negativeCache.getSkippedHashes());
+        assertEquals(1.0 / 3, negativeCache.getObservedFalsePositiveRate(), 1e-9);
+    }
+
+    @Test
+    public void outdatedFiltersAreIgnored() {
+        DbsnpNegativeCache<String> negativeCache = newNegativeCache(COLLECTION_COUNT + 1);
+        negativeCache.get(Collections.singletonList(variant(ASSEMBLY, "newHash")), DbsnpNegativeCacheTest::getHash,
+                          this::queryDbsnp);
+
+        assertEquals(1, queries.size());
+        assertEquals(0, negativeCache.getCheckedHashes());
+        assertTrue(negativeCache.getExpectedFalsePositiveRates().isEmpty());
+    }
+
+    @Test
+    public void disabledCacheLooksUpEveryVariant() {
+        DbsnpNegativeCache<String> negativeCache = DbsnpNegativeCache.disabled();
+        negativeCache.get(Collections.singletonList(variant(ASSEMBLY, "newHash")), DbsnpNegativeCacheTest::getHash,
+                          this::queryDbsnp);
+
+        assertFalse(negativeCache.isEnabled());
+        assertEquals(1, queries.size());
+        assertEquals(0, negativeCache.getCheckedHashes());
+    }
+
+    private DbsnpNegativeCache<String> newNegativeCache(long collectionCount) {
+        return new DbsnpNegativeCache<>(directory, COLLECTION, () -> collectionCount,
+                                        variant -> variant.split(":")[0]);
+    }
+
+    private List<AccessionWrapper<String, String, Long>> queryDbsnp(List<? extends String> variants) {
+        queries.add(new ArrayList<>(variants));
+        Set<String> hashesInDbsnp = Collections.singleton("hashInDbsnp");
+        return variants.stream()
+                       .filter(variant -> hashesInDbsnp.contains(getHash(variant)))
+                       .map(variant -> new AccessionWrapper<>(1L, getHash(variant), variant))
+                       .collect(Collectors.toList());
+    }
+
+    private static String variant(String assembly, String hash) {
+        return assembly + ":" + hash;
+    }
+
+    private static String getHash(String variant) {
+        return variant.split(":")[1];
+    }
+}
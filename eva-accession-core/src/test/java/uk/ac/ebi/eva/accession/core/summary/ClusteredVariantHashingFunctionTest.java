@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.summary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
+
+import uk.ac.ebi.eva.accession.core.model.ClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.HashedClusteredVariant;
+import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
+import uk.ac.ebi.eva.commons.core.models.VariantType;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ClusteredVariantHashingFunctionTest {
+
+    private Function<IClusteredVariant, String> hashingFunction;
+
+    private Function<IClusteredVariant, String> expectedHashingFunction;
+
+    @BeforeEach
+    public void setUp() {
+        hashingFunction = new ClusteredVariantHashingFunction();
+        expectedHashingFunction = new ClusteredVariantSummaryFunction().andThen(new SHA1HashingFunction());
+    }
+
+    @Test
+    public void sameHashAsSummaryAndSha1ForAllTypes() {
+        for (VariantType type : VariantType.values()) {
+            assertSameHash(new ClusteredVariant("GCA_000001405.27", 9606, "CM000663.2", 12345L, type, null, null));
+        }
+    }
+
+    @Test
+    public void sameHashWithExtremeStarts() {
+        assertSameHash(new ClusteredVariant("assembly", 1, "contig", 0L, VariantType.SNV, null, null));
+        assertSameHash(new ClusteredVariant("assembly", 1, "contig", Long.MAX_VALUE, VariantType.SNV, null, null));
+    }
+
+    @Test
+    public void hashingFunctionMustBeIdempotent() {
+        IClusteredVariant clusteredVariant = new ClusteredVariant("assembly", 1, "contig", 100L, VariantType.INS,
+                                                                  null, null);
+        assertEquals(hashingFunction.apply(clusteredVariant), hashingFunction.apply(clusteredVariant));
+    }
+
+    @Test
+    public void hashedVariantKeepsItsHash() {
+        IClusteredVariant clusteredVariant = new ClusteredVariant("assembly", 1, "contig", 100L, VariantType.SNV,
+                                                                  true, null);
+        HashedClusteredVariant hashedVariant = HashedClusteredVariant.of(clusteredVariant);
+
+        assertEquals(hashingFunction.apply(clusteredVariant), hashedVariant.getHash());
+        assertEquals(hashingFunction.apply(clusteredVariant), hashingFunction.apply(hashedVariant));
+        assertEquals(clusteredVariant.getStart(), hashedVariant.getStart());
+        assertEquals(clusteredVariant.isValidated(), hashedVariant.isValidated());
+        assertEquals(new HashedClusteredVariant(clusteredVariant), hashedVariant);
+        assertSame(hashedVariant, HashedClusteredVariant.of(hashedVariant));
+        assertEquals("precomputed", hashingFunction.apply(new HashedClusteredVariant(clusteredVariant, "precomputed")));
+    }
+
+    @Test
+    public void hashedVariantsWithAnotherTaxonomyAreNotEqual() {
+        HashedClusteredVariant hashedVariant = new HashedClusteredVariant(
+                new ClusteredVariant("assembly", 1, "contig", 100L, VariantType.SNV, true, null));
+        HashedClusteredVariant otherTaxonomy = new HashedClusteredVariant(
+                new ClusteredVariant("assembly", 2, "contig", 100L, VariantType.SNV, true, null));
+        HashedClusteredVariant notValidated = new HashedClusteredVariant(
+                new ClusteredVariant("assembly", 1, "contig", 100L, VariantType.SNV, false, null));
+
+        assertEquals(hashedVariant.getHash(), otherTaxonomy.getHash());
+        assertNotEquals(hashedVariant, otherTaxonomy);
+        assertNotEquals(hashedVariant, notValidated);
+    }
+
+    private void assertSameHash(IClusteredVariant clusteredVariant) {
+        assertEquals(expectedHashingFunction.apply(clusteredVariant), hashingFunction.apply(clusteredVariant));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.core.summary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
+
+import uk.ac.ebi.eva.accession.core.model.ISubmittedVariant;
+import uk.ac.ebi.eva.accession.core.model.SubmittedVariant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SubmittedVariantHashingFunctionTest {
+
+    private Function<ISubmittedVariant, String> hashingFunction;
+
+    private Function<ISubmittedVariant, String> expectedHashingFunction;
+
+    @BeforeEach
+    public void setUp() {
+        hashingFunction = new SubmittedVariantHashingFunction();
+        expectedHashingFunction = new SubmittedVariantSummaryFunction().andThen(new SHA1HashingFunction());
+    }
+
+    @Test
+    public void sameHashAsSummaryAndSha1() {
+        assertSameHash(new SubmittedVariant("GCA_000001405.27", 9606, "PRJEB1234", "CM000663.2", 12345L, "A", "T",
+                                            null));
+    }
+
+    @Test
+    public void sameHashWithEmptyAllele() {
+        assertSameHash(new SubmittedVariant("GCA_000001405.27", 9606, "PRJEB1234", "CM000663.2", 1L, "", "TTAGG",
+                                            null));
+    }
+
+    @Test
+    public void sameHashWithExtremeStarts() {
+        assertSameHash(new SubmittedVariant("assembly", 1, "project", "contig", 0L, "A", "T", null));
+        assertSameHash(new SubmittedVariant("assembly", 1, "project", "contig", Long.MAX_VALUE, "A", "T", null));
+        assertSameHash(new SubmittedVariant("assembly", 1, "project", "contig", -1L, "A", "T", null));
+    }
+
+    @Test
+    public void sameHashWithNonAsciiFields() {
+        assertSameHash(new SubmittedVariant("assembly", 1, "projéct", "contig_ñ", 10L, "A", "T", null));
+    }
+
+    @Test
+    public void sameHashWithLongAlleles() {
+        StringBuilder longAllele = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            longAllele.append("ACGT".charAt(i % 4));
+        }
+        assertSameHash(new SubmittedVariant("assembly", 1, "project", "contig", 10L, longAllele.toString(), "T",
+                                            null));
+        assertSameHash(new SubmittedVariant("assembly", 1, "project", "contig", 10L, "A", "T", null));
+    }
+
+    @Test
+    public void sameHashFromSeveralThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (long start = 1; start <= 1000; start++) {
+                        assertSameHash(new SubmittedVariant("assembly", 1, "project", "contig", start, "A", "T",
+                                                            null));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void assertSameHash(ISubmittedVariant submittedVariant) {
+        assertEquals(expectedHashingFunction.apply(submittedVariant), hashingFunction.apply(submittedVariant));
+    }
+}
@@ -15,12 +15,10 @@
  */
 package uk.ac.ebi.eva.accession.deprecate.batch.io;
 
-import com.mongodb.BasicDBObject;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
-import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,9 +26,10 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
 
+import uk.ac.ebi.eva.accession.core.model.codecs.VariantEntityCodecProvider;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.projections.ProjectionProfile;
 
 /**
  * Read all SubmittedVariants for a given study
@@ -47,39 +46,38 @@ public class StudySubmittedVariantsReader implements ItemStreamReader<SubmittedV
 
     String study;
 
-    MongoCursor<Document> evaCursor;
-
-    MongoConverter converter;
+    MongoCursor<SubmittedVariantEntity> evaCursor;
 
     MongoTemplate mongoTemplate;
 
     int chunkSize;
 
+    private final ProjectionProfile projectionProfile;
+
     private static final String ID_FIELD = "_id";
 
     public StudySubmittedVariantsReader(String assembly, String study, MongoTemplate mongoTemplate, int chunkSize) {
+        // the deprecation writer copies the whole submitted variants into the operations
+        this(assembly, study, mongoTemplate, chunkSize, ProjectionProfile.FULL);
+    }
+
+    public StudySubmittedVariantsReader(String assembly, String study, MongoTemplate mongoTemplate, int chunkSize,
+                                        ProjectionProfile projectionProfile) {
         this.assembly = assembly;
         this.study = study;
         this.mongoTemplate = mongoTemplate;
         this.chunkSize = chunkSize;
+        this.projectionProfile = projectionProfile;
     }
 
     @Override
     public SubmittedVariantEntity read() {
-        Document nextElement = null;
         if (evaCursor != null && evaCursor.hasNext()) {
-            nextElement = evaCursor.next();
-        }
-        if (nextElement != null) {
-            return getSubmittedVariantEntity(nextElement);
+            return evaCursor.next();
         }
         return null;
     }
 
-    private SubmittedVariantEntity getSubmittedVariantEntity(Document notClusteredSubmittedVariants) {
-        return converter.read(SubmittedVariantEntity.class, new BasicDBObject(notClusteredSubmittedVariants));
-    }
-
     @Override
     public void open(ExecutionContext executionContext) throws ItemStreamException {
         initializeReader();
@@ -87,19 +85,19 @@ public class StudySubmittedVariantsReader implements ItemStreamReader<SubmittedV
 
     public void initializeReader() {
         Bson query = Filters.and(Filters.eq(ASSEMBLY_FIELD, assembly), Filters.eq(STUDY_FIELD, this.study));
-        FindIterable<Document> submittedVariantsEVA;
+        FindIterable<SubmittedVariantEntity> submittedVariantsEVA;
         logger.info("Issuing find in EVA collection: {}", query);
         submittedVariantsEVA = getSubmittedVariants(query, SubmittedVariantEntity.class);
         evaCursor = submittedVariantsEVA.iterator();
-        converter = mongoTemplate.getConverter();
     }
 
-    private FindIterable<Document> getSubmittedVariants(Bson query, Class<?> entityClass) {
-        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
-                            .find(query)
-                            .sort(Sorts.ascending(ID_FIELD))
-                            .noCursorTimeout(true)
-                            .batchSize(chunkSize);
+    private FindIterable<SubmittedVariantEntity> getSubmittedVariants(Bson query, Class<?> entityClass) {
+        return VariantEntityCodecProvider.getCollection(mongoTemplate, entityClass, SubmittedVariantEntity.class)
+                                         .find(query)
+                                         .projection(projectionProfile.getProjection())
+                                         .sort(Sorts.ascending(ID_FIELD))
+                                         .noCursorTimeout(true)
+                                         .batchSize(chunkSize);
     }
 
     @Override
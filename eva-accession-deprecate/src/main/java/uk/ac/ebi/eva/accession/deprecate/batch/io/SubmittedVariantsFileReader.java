@@ -15,11 +15,9 @@
  */
 package uk.ac.ebi.eva.accession.deprecate.batch.io;
 
-import com.mongodb.BasicDBObject;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
-import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +25,7 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
+import uk.ac.ebi.eva.accession.core.model.codecs.VariantEntityCodecProvider;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 
 import java.io.BufferedReader;
@@ -50,8 +48,7 @@ public class SubmittedVariantsFileReader implements ItemStreamReader<SubmittedVa
     private boolean endOfFile = false;
     private String assembly;
     private String variantIdFile;
-    private MongoCursor<Document> evaCursor;
-    private MongoConverter converter;
+    private MongoCursor<SubmittedVariantEntity> evaCursor;
     private MongoTemplate mongoTemplate;
     private int chunkSize;
 
@@ -72,12 +69,7 @@ public class SubmittedVariantsFileReader implements ItemStreamReader<SubmittedVa
             loadNextBatchAndQuery();
         }
 
-        Document nextElement = evaCursor.next();
-        return getSubmittedVariantEntity(nextElement);
-    }
-
-    private SubmittedVariantEntity getSubmittedVariantEntity(Document document) {
-        return converter.read(SubmittedVariantEntity.class, new BasicDBObject(document));
+        return evaCursor.next();
     }
 
     @Override
@@ -91,7 +83,6 @@ public class SubmittedVariantsFileReader implements ItemStreamReader<SubmittedVa
     }
 
     public void initializeReader() {
-        converter = mongoTemplate.getConverter();
         loadNextBatchAndQuery();
     }
 
@@ -116,12 +107,12 @@ public class SubmittedVariantsFileReader implements ItemStreamReader<SubmittedVa
 
         Bson query = Filters.and(Filters.in(ACCESSION_FIELD, variantIds), Filters.eq(ASSEMBLY_FIELD, assembly));
         logger.info("Issuing find in EVA collection for a batch of IDs: {}", query);
-        FindIterable<Document> submittedVariantsEVA = getSubmittedVariants(query, SubmittedVariantEntity.class);
+        FindIterable<SubmittedVariantEntity> submittedVariantsEVA = getSubmittedVariants(query, SubmittedVariantEntity.class);
         evaCursor = submittedVariantsEVA.iterator();
     }
 
-    private FindIterable<Document> getSubmittedVariants(Bson query, Class<?> entityClass) {
-        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
+    private FindIterable<SubmittedVariantEntity> getSubmittedVariants(Bson query, Class<?> entityClass) {
+        return VariantEntityCodecProvider.getCollection(mongoTemplate, entityClass, SubmittedVariantEntity.class)
                 .find(query)
                 .noCursorTimeout(true)
                 .batchSize(chunkSize);
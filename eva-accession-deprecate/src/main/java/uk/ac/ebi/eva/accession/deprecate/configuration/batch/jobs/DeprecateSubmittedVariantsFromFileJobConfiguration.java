@@ -16,6 +16,7 @@
 package uk.ac.ebi.eva.accession.deprecate.configuration.batch.jobs;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -25,6 +26,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import uk.ac.ebi.eva.accession.deprecate.configuration.BeanNames;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
+
 @Configuration
 public class DeprecateSubmittedVariantsFromFileJobConfiguration {
 
@@ -33,8 +36,11 @@ public class DeprecateSubmittedVariantsFromFileJobConfiguration {
     private Step deprecateSubmittedVariantsFromFileStep;
 
     @Bean(BeanNames.DEPRECATE_SUBMITTED_VARIANTS_FROM_FILE_JOB)
-    public Job deprecateStudySubmittedVariantsFromFileJob(JobRepository jobRepository) {
+    public Job deprecateStudySubmittedVariantsFromFileJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(BeanNames.DEPRECATE_SUBMITTED_VARIANTS_FROM_FILE_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(deprecateSubmittedVariantsFromFileStep)
                 .build();
     }
@@ -31,6 +31,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 import uk.ac.ebi.eva.accession.deprecate.configuration.BeanNames;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 
 @Configuration
@@ -48,6 +49,10 @@ public class DeprecateSubmittedVariantsFromFileStepConfiguration {
     @Qualifier(BeanNames.DEPRECATION_PROGRESS_LISTENER)
     private StepExecutionListener progressListener;
 
+    @Autowired
+    @Qualifier(CHUNK_TIMING_LISTENER)
+    private StepExecutionListener chunkTimingListener;
+
     @Bean(BeanNames.DEPRECATE_SUBMITTED_VARIANTS_FROM_FILE_STEP)
     public Step deprecateSubmittedVariantsFromFileStep(JobRepository jobRepository,
                                                        @Qualifier(BATCH_TRANSACTION_MANAGER)
@@ -58,6 +63,7 @@ public class DeprecateSubmittedVariantsFromFileStepConfiguration {
                 .reader(submittedVariantsFileReader)
                 .writer(submittedVariantDeprecationWriter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
@@ -18,13 +18,12 @@ package uk.ac.ebi.eva.accession.dbsnp2.batch.processors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.ItemProcessor;
-import uk.ac.ebi.ampt2d.commons.accession.hashing.SHA1HashingFunction;
 import uk.ac.ebi.eva.accession.core.contig.ContigMapping;
 import uk.ac.ebi.eva.accession.core.contig.ContigSynonyms;
 import uk.ac.ebi.eva.accession.core.model.ClusteredVariant;
 import uk.ac.ebi.eva.accession.core.model.IClusteredVariant;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
-import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantSummaryFunction;
+import uk.ac.ebi.eva.accession.core.summary.ClusteredVariantHashingFunction;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -43,9 +42,12 @@ public class ContigToGenbankReplacerProcessor
 
     private Set<String> processedContigs;
 
+    private Function<IClusteredVariant, String> hashingFunction;
+
     public ContigToGenbankReplacerProcessor(ContigMapping contigMapping) {
         this.contigMapping = contigMapping;
         this.processedContigs = new HashSet<>();
+        this.hashingFunction = new ClusteredVariantHashingFunction();
     }
 
     @Override
@@ -68,8 +70,6 @@ public class ContigToGenbankReplacerProcessor
                                                                variant.isValidated(),
                                                                variant.getCreatedDate());
 
-            Function<IClusteredVariant, String> hashingFunction =
-                    new ClusteredVariantSummaryFunction().andThen(new SHA1HashingFunction());
             return new DbsnpClusteredVariantEntity(variant.getAccession(),
                                                    hashingFunction.apply(newVariant),
                                                    newVariant,
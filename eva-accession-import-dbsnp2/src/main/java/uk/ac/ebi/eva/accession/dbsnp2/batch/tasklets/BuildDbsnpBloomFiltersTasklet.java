@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.dbsnp2.batch.tasklets;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.util.StringUtils;
+
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
+import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpSubmittedVariantEntity;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpHashBloomFilter;
+import uk.ac.ebi.eva.accession.core.service.nonhuman.dbsnp.DbsnpNegativeCache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes the Bloom filters of the hashes of an assembly in the dbSNP submitted and clustered variant collections, to
+ * be used by {@link DbsnpNegativeCache}. The filters must be built again whenever those collections are modified.
+ */
+public class BuildDbsnpBloomFiltersTasklet implements Tasklet {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuildDbsnpBloomFiltersTasklet.class);
+
+    private static final String ID_FIELD = "_id";
+
+    private static final String SUBMITTED_VARIANT_ASSEMBLY_FIELD = "seq";
+
+    private static final String CLUSTERED_VARIANT_ASSEMBLY_FIELD = "asm";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final String assembly;
+
+    private final String directory;
+
+    private final double falsePositiveRate;
+
+    private final int batchSize;
+
+    public BuildDbsnpBloomFiltersTasklet(MongoTemplate mongoTemplate, String assembly, String directory,
+                                         double falsePositiveRate, int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.assembly = assembly;
+        this.directory = directory;
+        this.falsePositiveRate = falsePositiveRate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (!StringUtils.hasText(directory)) {
+            throw new IllegalArgumentException("A directory to write the Bloom filters is required");
+        }
+        Path directoryPath = Files.createDirectories(Paths.get(directory));
+        long hashes = buildBloomFilter(directoryPath, DbsnpSubmittedVariantEntity.class,
+                                       SUBMITTED_VARIANT_ASSEMBLY_FIELD)
+                + buildBloomFilter(directoryPath, DbsnpClusteredVariantEntity.class, CLUSTERED_VARIANT_ASSEMBLY_FIELD);
+        contribution.incrementReadCount(hashes);
+        contribution.incrementWriteCount(hashes);
+        return RepeatStatus.FINISHED;
+    }
+
+    private long buildBloomFilter(Path directoryPath, Class<?> entityClass, String assemblyField)
+            throws IOException {
+        String collectionName = mongoTemplate.getCollectionName(entityClass);
+        MongoCollection<Document> collection = mongoTemplate.getCollection(collectionName);
+        long collectionCount = collection.estimatedDocumentCount();
+        Bson query = Filters.eq(assemblyField, assembly);
+        long expectedHashes = collection.countDocuments(query);
+        logger.info("Building Bloom filter of {} hashes of assembly {} in {}", expectedHashes, assembly,
+                    collectionName);
+
+        DbsnpHashBloomFilter bloomFilter = DbsnpHashBloomFilter.create(collectionName, assembly, collectionCount,
+                                                                       expectedHashes, falsePositiveRate);
+        try (MongoCursor<Document> cursor = collection.find(query)
+                                                      .projection(Projections.include(ID_FIELD))
+                                                      .noCursorTimeout(true)
+                                                      .batchSize(batchSize)
+                                                      .iterator()) {
+            while (cursor.hasNext()) {
+                bloomFilter.put(cursor.next().getString(ID_FIELD));
+            }
+        }
+        if (collection.estimatedDocumentCount() != collectionCount) {
+            throw new IllegalStateException(collectionName + " was modified while its Bloom filter was being built");
+        }
+
+        Path path = directoryPath.resolve(DbsnpNegativeCache.getFileName(collectionName, assembly));
+        bloomFilter.write(path);
+        logger.info("Bloom filter of {} hashes written to {} ({} bits, expected false positive rate {})",
+                    bloomFilter.getInsertions(), path, bloomFilter.getBitCount(),
+                    bloomFilter.getExpectedFalsePositiveRate());
+        return bloomFilter.getInsertions();
+    }
+}
@@ -30,4 +30,8 @@ public class BeanNames {
     public static final String IMPORT_DBSNP_JSON_VARIANTS_FLOW = "IMPORT_DBSNP_JSON_VARIANTS_FLOW";
 
     public static final String IMPORT_DBSNP_JSON_VARIANTS_PROGRESS_LISTENER = "IMPORT_DBSNP_JSON_VARIANTS_PROGRESS_LISTENER";
+
+    public static final String BUILD_DBSNP_BLOOM_FILTERS_STEP = "BUILD_DBSNP_BLOOM_FILTERS_STEP";
+
+    public static final String BUILD_DBSNP_BLOOM_FILTERS_JOB = "BUILD_DBSNP_BLOOM_FILTERS_JOB";
 }
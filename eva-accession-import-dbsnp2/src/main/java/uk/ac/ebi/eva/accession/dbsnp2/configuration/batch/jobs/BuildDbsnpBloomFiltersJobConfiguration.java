@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.dbsnp2.configuration.batch.jobs;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
+import static uk.ac.ebi.eva.accession.dbsnp2.configuration.BeanNames.BUILD_DBSNP_BLOOM_FILTERS_JOB;
+import static uk.ac.ebi.eva.accession.dbsnp2.configuration.BeanNames.BUILD_DBSNP_BLOOM_FILTERS_STEP;
+
+/**
+ * Configuration to run a job that writes the Bloom filters of the dbSNP collections for an assembly, once the dbSNP
+ * variants have been imported. It can be run again to rebuild the filters after the collections change.
+ */
+@Configuration
+public class BuildDbsnpBloomFiltersJobConfiguration {
+
+    @Autowired
+    @Qualifier(BUILD_DBSNP_BLOOM_FILTERS_STEP)
+    private Step buildDbsnpBloomFiltersStep;
+
+    @Bean(BUILD_DBSNP_BLOOM_FILTERS_JOB)
+    public Job buildDbsnpBloomFiltersJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
+        return new JobBuilder(BUILD_DBSNP_BLOOM_FILTERS_JOB, jobRepository)
+                .listener(chunkTimingListener)
+                .start(buildDbsnpBloomFiltersStep)
+                .build();
+    }
+}
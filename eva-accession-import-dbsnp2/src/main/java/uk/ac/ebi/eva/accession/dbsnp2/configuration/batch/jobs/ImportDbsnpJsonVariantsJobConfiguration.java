@@ -16,6 +16,7 @@
 package uk.ac.ebi.eva.accession.dbsnp2.configuration.batch.jobs;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.job.flow.Flow;
 import org.springframework.batch.core.repository.JobRepository;
@@ -24,6 +25,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.dbsnp2.configuration.BeanNames.IMPORT_DBSNP_JSON_VARIANTS_FLOW;
 import static uk.ac.ebi.eva.accession.dbsnp2.configuration.BeanNames.IMPORT_DBSNP_JSON_VARIANTS_JOB;
 
@@ -38,8 +40,11 @@ public class ImportDbsnpJsonVariantsJobConfiguration {
     private Flow importFlow;
 
     @Bean(IMPORT_DBSNP_JSON_VARIANTS_JOB)
-    public Job importDbsnpJsonVariantsJob(JobRepository jobRepository) {
+    public Job importDbsnpJsonVariantsJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(IMPORT_DBSNP_JSON_VARIANTS_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(importFlow)
                 .end()
                 .build();
@@ -69,6 +69,6 @@ public class JsonNodeToClusteredVariantProcessorConfiguration {
 
     @Bean
     ContigMapping contigMapping(InputParameters parameters) throws Exception {
-        return new ContigMapping(parameters.getAssemblyReportUrl());
+        return new ContigMapping(parameters.getAssemblyReportUrl(), parameters.getContigMappingSnapshot());
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 EMBL - European Bioinformatics Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.eva.accession.dbsnp2.configuration.batch.steps;
+
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import uk.ac.ebi.eva.accession.core.configuration.nonhuman.MongoConfiguration;
+import uk.ac.ebi.eva.accession.dbsnp2.batch.tasklets.BuildDbsnpBloomFiltersTasklet;
+import uk.ac.ebi.eva.accession.dbsnp2.parameters.InputParameters;
+
+import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
+import static uk.ac.ebi.eva.accession.dbsnp2.configuration.BeanNames.BUILD_DBSNP_BLOOM_FILTERS_STEP;
+
+/**
+ * Configuration of the step that writes the Bloom filters of the dbSNP collections for an assembly
+ */
+@Configuration
+@Import({MongoConfiguration.class})
+public class BuildDbsnpBloomFiltersStepConfiguration {
+
+    @Bean(BUILD_DBSNP_BLOOM_FILTERS_STEP)
+    public Step buildDbsnpBloomFiltersStep(JobRepository jobRepository,
+                                           @Qualifier(BATCH_TRANSACTION_MANAGER)
+                                           PlatformTransactionManager transactionManager,
+                                           MongoTemplate mongoTemplate, InputParameters parameters) {
+        BuildDbsnpBloomFiltersTasklet tasklet = new BuildDbsnpBloomFiltersTasklet(
+                mongoTemplate, parameters.getGenbankAssembly(), parameters.getBloomFilterDirectory(),
+                parameters.getBloomFilterFalsePositiveRate(), parameters.getChunkSize());
+        return new StepBuilder(BUILD_DBSNP_BLOOM_FILTERS_STEP, jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+}
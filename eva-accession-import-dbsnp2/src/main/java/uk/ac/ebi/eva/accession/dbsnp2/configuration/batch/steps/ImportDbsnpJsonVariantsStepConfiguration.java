@@ -31,6 +31,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 import static uk.ac.ebi.eva.accession.dbsnp2.configuration.BeanNames.DBSNP_JSON_VARIANT_PROCESSOR;
 import static uk.ac.ebi.eva.accession.dbsnp2.configuration.BeanNames.DBSNP_JSON_VARIANT_READER;
@@ -60,6 +61,9 @@ public class ImportDbsnpJsonVariantsStepConfiguration {
     @Qualifier(IMPORT_DBSNP_JSON_VARIANTS_PROGRESS_LISTENER)
     private StepExecutionListener importDbsnpJsonVariantsProgressListener;
 
+    @Autowired
+    @Qualifier(CHUNK_TIMING_LISTENER)
+    private StepExecutionListener chunkTimingListener;
 
     @Bean(IMPORT_DBSNP_JSON_VARIANTS_STEP)
     public Step importDbsnpJsonVariantsStep(JobRepository jobRepository,
@@ -71,6 +75,7 @@ public class ImportDbsnpJsonVariantsStepConfiguration {
                 .processor(variantProcessor)
                 .writer(variantWriter)
                 .listener(importDbsnpJsonVariantsProgressListener)
+                .listener(chunkTimingListener)
                 .build();
     }
 }
@@ -24,11 +24,16 @@ public class InputParameters {
     private String genbankAssembly;
     private String refseqAssembly;
     private String assemblyReportUrl;
+
+    private String contigMappingSnapshot;
     private int previousImportedBuild;
     private boolean incrementalImport;
     private int chunkSize;
     private boolean forceImport;
 
+    private String bloomFilterDirectory;
+    private double bloomFilterFalsePositiveRate = 0.01;
+
     public JobParameters toJobParameters() {
         return new JobParametersBuilder()
                 .addString("input", input)
@@ -70,6 +75,14 @@ public class InputParameters {
         this.assemblyReportUrl = assemblyReportUrl;
     }
 
+    public String getContigMappingSnapshot() {
+        return contigMappingSnapshot;
+    }
+
+    public void setContigMappingSnapshot(String contigMappingSnapshot) {
+        this.contigMappingSnapshot = contigMappingSnapshot;
+    }
+
     public int getPreviousImportedBuild() {
         return previousImportedBuild;
     }
@@ -101,4 +114,20 @@ public class InputParameters {
     public void setForceImport(boolean forceImport) {
         this.forceImport = forceImport;
     }
+
+    public String getBloomFilterDirectory() {
+        return bloomFilterDirectory;
+    }
+
+    public void setBloomFilterDirectory(String bloomFilterDirectory) {
+        this.bloomFilterDirectory = bloomFilterDirectory;
+    }
+
+    public double getBloomFilterFalsePositiveRate() {
+        return bloomFilterFalsePositiveRate;
+    }
+
+    public void setBloomFilterFalsePositiveRate(double bloomFilterFalsePositiveRate) {
+        this.bloomFilterFalsePositiveRate = bloomFilterFalsePositiveRate;
+    }
 }
@@ -22,6 +22,7 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.AccessionWrapper;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.GetOrCreateAccessionWrapper;
+import uk.ac.ebi.eva.accession.core.batch.io.ContextNucleotideRequest;
 import uk.ac.ebi.eva.accession.core.batch.io.FastaSequenceReader;
 import uk.ac.ebi.eva.accession.core.contig.ContigMapping;
 import uk.ac.ebi.eva.accession.core.contig.ContigNaming;
@@ -41,6 +42,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -265,36 +267,60 @@ public class AccessionReportWriter {
         return originalChromosomes.iterator().next();
     }
 
+    /**
+     * The context bases of the whole chunk are read at once, sorted by position, see
+     * {@link FastaSequenceReader#getContextNucleotidesAndNewStarts(List)}.
+     */
     private List<? extends AccessionWrapper<ISubmittedVariant, String, Long>> denormalizeVariants(
             List<? extends AccessionWrapper<ISubmittedVariant, String, Long>> accessions) {
+        List<ContextNucleotideRequest> contextNucleotideRequests = new ArrayList<>();
+        for (AccessionWrapper<ISubmittedVariant, String, Long> accession : accessions) {
+            ISubmittedVariant normalizedVariant = accession.getData();
+            if (needsContextBase(normalizedVariant)) {
+                contextNucleotideRequests.add(new ContextNucleotideRequest(normalizedVariant.getContig(),
+                                                                           normalizedVariant.getStart(),
+                                                                           normalizedVariant.getReferenceAllele(),
+                                                                           normalizedVariant.getAlternateAllele()));
+            }
+        }
+        Iterator<ImmutableTriple<Long, String, String>> contextNucleotides =
+                fastaSequenceReader.getContextNucleotidesAndNewStarts(contextNucleotideRequests).iterator();
+
         List<AccessionWrapper<ISubmittedVariant, String, Long>> denormalizedAccessions = new ArrayList<>();
         for (AccessionWrapper<ISubmittedVariant, String, Long> accession : accessions) {
+            ISubmittedVariant normalizedVariant = accession.getData();
+            ISubmittedVariant denormalizedVariant = needsContextBase(normalizedVariant) ?
+                    denormalizeVariant(normalizedVariant, contextNucleotides.next()) : normalizedVariant;
             denormalizedAccessions.add(new AccessionWrapper<>(accession.getAccession(), accession.getHash(),
-                    denormalizeVariant(accession.getData())));
+                    denormalizedVariant));
         }
         return denormalizedAccessions;
     }
 
-    private ISubmittedVariant denormalizeVariant(ISubmittedVariant normalizedVariant) {
-        if (normalizedVariant.getReferenceAllele().isEmpty() || normalizedVariant.getAlternateAllele().isEmpty()) {
-            if (fastaSequenceReader.doesContigExist(normalizedVariant.getContig())) {
-                return createVariantWithContextBase(normalizedVariant);
-            } else {
-                throw new IllegalArgumentException("Contig '" + normalizedVariant.getContig()
-                        + "' does not appear in the FASTA file ");
-            }
+    private boolean needsContextBase(ISubmittedVariant normalizedVariant) {
+        return normalizedVariant.getReferenceAllele().isEmpty() || normalizedVariant.getAlternateAllele().isEmpty();
+    }
+
+    /**
+     * @param contextNucleotideInfo context base read in bulk, or null if it must be read for this variant alone
+     */
+    private ISubmittedVariant denormalizeVariant(ISubmittedVariant normalizedVariant,
+                                                 ImmutableTriple<Long, String, String> contextNucleotideInfo) {
+        if (fastaSequenceReader.doesContigExist(normalizedVariant.getContig())) {
+            return createVariantWithContextBase(normalizedVariant, contextNucleotideInfo);
         } else {
-            return normalizedVariant;
+            throw new IllegalArgumentException("Contig '" + normalizedVariant.getContig()
+                    + "' does not appear in the FASTA file ");
         }
     }
 
-    private ISubmittedVariant createVariantWithContextBase(ISubmittedVariant normalizedVariant) {
-        String oldReference = normalizedVariant.getReferenceAllele();
-        String oldAlternate = normalizedVariant.getAlternateAllele();
-        long oldStart = normalizedVariant.getStart();
-        ImmutableTriple<Long, String, String> contextNucleotideInfo =
-                fastaSequenceReader.getContextNucleotideAndNewStart(normalizedVariant.getContig(), oldStart,
-                        oldReference, oldAlternate);
+    private ISubmittedVariant createVariantWithContextBase(
+            ISubmittedVariant normalizedVariant, ImmutableTriple<Long, String, String> contextNucleotideInfo) {
+        if (contextNucleotideInfo == null) {
+            contextNucleotideInfo = fastaSequenceReader.getContextNucleotideAndNewStart(
+                    normalizedVariant.getContig(), normalizedVariant.getStart(),
+                    normalizedVariant.getReferenceAllele(), normalizedVariant.getAlternateAllele());
+        }
 
         return new SubmittedVariant(normalizedVariant.getReferenceSequenceAccession(),
                 normalizedVariant.getTaxonomyAccession(),
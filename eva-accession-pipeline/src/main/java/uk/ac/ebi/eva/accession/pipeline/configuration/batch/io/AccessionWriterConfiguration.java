@@ -56,7 +56,8 @@ public class AccessionWriterConfiguration {
             throws IOException {
         return new AccessionReportWriter(new File(inputParameters.getOutputVcf()),
                                          new FastaSynonymSequenceReader(contigMapping,
-                                                                        Paths.get(inputParameters.getFasta())),
+                                                                        Paths.get(inputParameters.getFasta()),
+                                                                        inputParameters.isMemoryMappedFasta()),
                                          contigMapping,
                                          inputParameters.getContigNaming());
     }
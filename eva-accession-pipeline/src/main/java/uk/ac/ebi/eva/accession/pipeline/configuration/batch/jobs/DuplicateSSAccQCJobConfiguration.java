@@ -1,6 +1,7 @@
 package uk.ac.ebi.eva.accession.pipeline.configuration.batch.jobs;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.DUPLICATE_SS_ACC_QC_JOB;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.DUPLICATE_SS_ACC_QC_STEP;
 
@@ -20,8 +22,11 @@ public class DuplicateSSAccQCJobConfiguration {
     private Step duplicateSSAccQCStep;
 
     @Bean(DUPLICATE_SS_ACC_QC_JOB)
-    public Job duplicateSSAccQCJob(JobRepository jobRepository) {
+    public Job duplicateSSAccQCJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(DUPLICATE_SS_ACC_QC_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(duplicateSSAccQCStep)
                 .build();
     }
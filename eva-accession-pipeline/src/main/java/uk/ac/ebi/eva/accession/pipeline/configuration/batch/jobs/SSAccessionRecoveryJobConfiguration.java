@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.SS_ACCESSION_RECOVERY_JOB;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.SS_ACCESSION_RECOVERY_JOB_LISTENER;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.SS_ACCESSION_RECOVERY_STEP;
@@ -26,10 +27,13 @@ public class SSAccessionRecoveryJobConfiguration {
     private JobExecutionListener ssAccessionRecoveryJobListener;
 
     @Bean(SS_ACCESSION_RECOVERY_JOB)
-    public Job createSSAccessionRecoveryJob(JobRepository jobRepository) {
+    public Job createSSAccessionRecoveryJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(SS_ACCESSION_RECOVERY_JOB, jobRepository)
                 .start(ssAccessionRecoveryStep)
                 .listener(ssAccessionRecoveryJobListener)
+                .listener(chunkTimingListener)
                 .build();
     }
 
@@ -26,6 +26,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.ACCESSIONING_SHUTDOWN_STEP;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.BUILD_REPORT_STEP;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.SUBSNP_ACCESSION_JOB;
@@ -52,12 +53,15 @@ public class SubsnpAccessionsJobConfiguration {
     private JobExecutionListener subsnpAccessionJobListener;
 
     @Bean(SUBSNP_ACCESSION_JOB)
-    public Job subsnpAccessionJob(JobRepository jobRepository) {
+    public Job subsnpAccessionJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(SUBSNP_ACCESSION_JOB, jobRepository)
                 .start(subsnpAccessionStep)
                 .next(accessioningShutdownStep)
                 .next(buildReportStep)
                 .listener(subsnpAccessionJobListener)
+                .listener(chunkTimingListener)
                 .build();
     }
 }
@@ -66,6 +66,6 @@ public class VariantProcessorConfiguration {
 
     @Bean
     ContigMapping contigMapping(InputParameters parameters) throws Exception {
-        return new ContigMapping(parameters.getAssemblyReportUrl());
+        return new ContigMapping(parameters.getAssemblyReportUrl(), parameters.getContigMappingSnapshot());
     }
 }
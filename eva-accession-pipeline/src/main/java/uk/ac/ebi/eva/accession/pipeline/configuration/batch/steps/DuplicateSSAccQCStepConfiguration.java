@@ -1,6 +1,7 @@
 package uk.ac.ebi.eva.accession.pipeline.configuration.batch.steps;
 
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.TaskletStep;
@@ -16,6 +17,7 @@ import uk.ac.ebi.eva.accession.pipeline.batch.io.DuplicateSSAccQCResult;
 
 import java.util.List;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.DUPLICATE_SS_ACC_QC_PROCESSOR;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.DUPLICATE_SS_ACC_QC_STEP;
@@ -37,6 +39,10 @@ public class DuplicateSSAccQCStepConfiguration {
     @Qualifier(DUPLICATE_SS_ACC_QC_WRITER)
     private ItemWriter<List<DuplicateSSAccQCResult>> duplicateSSAccQCWriter;
 
+    @Autowired
+    @Qualifier(CHUNK_TIMING_LISTENER)
+    private StepExecutionListener chunkTimingListener;
+
     @Bean(DUPLICATE_SS_ACC_QC_STEP)
     public Step duplicateSSAccQCStep(JobRepository jobRepository,
                                      @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager) {
@@ -47,6 +53,7 @@ public class DuplicateSSAccQCStepConfiguration {
                 .reader(ssAccFileReader)
                 .processor(duplicateSSAccQCProcessor)
                 .writer(duplicateSSAccQCWriter)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
@@ -36,6 +36,7 @@ import uk.ac.ebi.eva.accession.pipeline.batch.policies.InvalidVariantSkipPolicy;
 import uk.ac.ebi.eva.commons.core.models.IVariant;
 import uk.ac.ebi.eva.commons.core.models.pipeline.Variant;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.ACCESSION_WRITER;
 import static uk.ac.ebi.eva.accession.pipeline.configuration.BeanNames.COMPOSITE_VARIANT_PROCESSOR;
@@ -65,6 +66,10 @@ public class SubsnpAccessionsStepConfiguration {
     @Autowired
     private InvalidVariantSkipPolicy invalidVariantSkipPolicy;
 
+    @Autowired
+    @Qualifier(CHUNK_TIMING_LISTENER)
+    private StepExecutionListener chunkTimingListener;
+
     @Bean(SUBSNP_ACCESSION_STEP)
     public Step subsnpAccessionStep(JobRepository jobRepository,
                                     @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
@@ -82,6 +87,7 @@ public class SubsnpAccessionsStepConfiguration {
                 .backOffPolicy(new ExponentialBackOffPolicy())
                 .skipPolicy(invalidVariantSkipPolicy)
                 .listener(stepListener)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
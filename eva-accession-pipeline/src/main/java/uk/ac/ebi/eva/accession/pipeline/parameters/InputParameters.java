@@ -30,10 +30,14 @@ public class InputParameters {
 
     private String fasta;
 
+    private boolean memoryMappedFasta;
+
     private String outputVcf;
 
     private String assemblyReportUrl;
 
+    private String contigMappingSnapshot;
+
     private String assemblyAccession;
 
     private int taxonomyAccession;
@@ -97,6 +101,14 @@ public class InputParameters {
         this.fasta = fasta;
     }
 
+    public boolean isMemoryMappedFasta() {
+        return memoryMappedFasta;
+    }
+
+    public void setMemoryMappedFasta(boolean memoryMappedFasta) {
+        this.memoryMappedFasta = memoryMappedFasta;
+    }
+
     public String getOutputVcf() {
         return outputVcf;
     }
@@ -113,6 +125,14 @@ public class InputParameters {
         this.assemblyReportUrl = assemblyReportUrl;
     }
 
+    public String getContigMappingSnapshot() {
+        return contigMappingSnapshot;
+    }
+
+    public void setContigMappingSnapshot(String contigMappingSnapshot) {
+        this.contigMappingSnapshot = contigMappingSnapshot;
+    }
+
     public String getAssemblyAccession() {
         return assemblyAccession;
     }
@@ -3,23 +3,23 @@ package uk.ac.ebi.eva.accession.release.batch.io;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
-import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import uk.ac.ebi.ampt2d.commons.accession.core.models.EventType;
+import uk.ac.ebi.eva.accession.core.model.codecs.VariantEntityCodecProvider;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.dbsnp.DbsnpClusteredVariantOperationEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantEntity;
 import uk.ac.ebi.eva.accession.core.model.eva.ClusteredVariantOperationEntity;
+import uk.ac.ebi.eva.accession.core.model.projections.AccessionView;
+import uk.ac.ebi.eva.accession.core.model.projections.ProjectionProfile;
 
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 
-import static uk.ac.ebi.eva.accession.release.batch.io.VariantMongoAggregationReader.ACCESSION_FIELD;
-
 public class DumpRSAccessionsInFile {
     private static Logger logger = LoggerFactory.getLogger(DumpRSAccessionsInFile.class);
     public static final String CVE_ASSEMBLY_FIELD = "asm";
@@ -41,15 +41,16 @@ public class DumpRSAccessionsInFile {
 
         try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(rsAccDumpFile, true))) {
             logger.info("Issuing find in EVA collection: {}", query);
-            FindIterable<Document> clusteredVariants = getClusteredVariants(query, rsDumpType.getEvaClass());
-            MongoCursor<Document> evaCursor = clusteredVariants.iterator();
+            FindIterable<AccessionView> clusteredVariants = getClusteredVariants(query, rsDumpType.getEvaClass());
+            MongoCursor<AccessionView> evaCursor = clusteredVariants.iterator();
             writeDataToFile(evaCursor, bufferedWriter);
 
             evaCursor.close();
 
             logger.info("Issuing find in DBSNP collection: {}", query);
-            FindIterable<Document> dbsnpClusteredVariants = getClusteredVariants(query, rsDumpType.getDbsnpClass());
-            MongoCursor<Document> dbsnpCursor = dbsnpClusteredVariants.iterator();
+            FindIterable<AccessionView> dbsnpClusteredVariants = getClusteredVariants(query,
+                                                                                      rsDumpType.getDbsnpClass());
+            MongoCursor<AccessionView> dbsnpCursor = dbsnpClusteredVariants.iterator();
             writeDataToFile(dbsnpCursor, bufferedWriter);
 
             dbsnpCursor.close();
@@ -60,21 +61,22 @@ public class DumpRSAccessionsInFile {
         }
     }
 
-    private FindIterable<Document> getClusteredVariants(Bson query, Class<?> entityClass) {
-        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
+    private FindIterable<AccessionView> getClusteredVariants(Bson query, Class<?> entityClass) {
+        // only the accession is transferred, for both the variants and the operations
+        return VariantEntityCodecProvider.getCollection(mongoTemplate, entityClass, AccessionView.class)
                 .find(query)
+                .projection(ProjectionProfile.ACCESSION.getProjection())
                 .noCursorTimeout(true)
                 .batchSize(chunkSize);
     }
 
-    private void writeDataToFile(MongoCursor<Document> cursor, BufferedWriter bufferedWriter) throws IOException {
+    private void writeDataToFile(MongoCursor<AccessionView> cursor, BufferedWriter bufferedWriter) throws IOException {
         StringBuilder batch = new StringBuilder();
         int totalDocuments = 0;
         int count = 0;
 
         while (cursor.hasNext()) {
-            Document doc = cursor.next();
-            Object accession = doc.get(ACCESSION_FIELD);
+            Long accession = cursor.next().getAccession();
             if (accession != null) {
                 batch.append(accession).append("\n");
                 count++;
@@ -22,7 +22,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.ItemProcessor;
 
+import uk.ac.ebi.eva.accession.core.batch.io.ContextNucleotideRequest;
 import uk.ac.ebi.eva.accession.core.batch.io.FastaSynonymSequenceReader;
+import uk.ac.ebi.eva.accession.core.batch.listeners.ContextNucleotidePrefetchListener;
 import uk.ac.ebi.eva.accession.core.exceptions.PositionOutsideOfContigException;
 import uk.ac.ebi.eva.commons.core.models.IVariant;
 import uk.ac.ebi.eva.commons.core.models.VariantType;
@@ -36,8 +38,33 @@ public class ContextNucleotideAdditionProcessor implements ItemProcessor<Variant
 
     private FastaSynonymSequenceReader fastaSequenceReader;
 
+    private ContextNucleotidePrefetchListener<Variant> contextNucleotides;
+
     public ContextNucleotideAdditionProcessor(FastaSynonymSequenceReader fastaReader) {
+        this(fastaReader, new ContextNucleotidePrefetchListener<>(fastaReader, variant -> null));
+    }
+
+    /**
+     * @param contextNucleotides listener registered in the step, so that the context bases of a whole chunk are read
+     *                           at once. Use {@link #toContextNucleotideRequest(Variant)} to create it.
+     */
+    public ContextNucleotideAdditionProcessor(FastaSynonymSequenceReader fastaReader,
+                                              ContextNucleotidePrefetchListener<Variant> contextNucleotides) {
         this.fastaSequenceReader = fastaReader;
+        this.contextNucleotides = contextNucleotides;
+    }
+
+    /**
+     * @return the context base that will likely be requested when processing the variant, or null if none is needed
+     */
+    public static ContextNucleotideRequest toContextNucleotideRequest(Variant variant) {
+        if (variant.getType().equals(VariantType.SEQUENCE_ALTERATION)) {
+            return new ContextNucleotideRequest(variant.getChromosome(), variant.getStart(), "", "");
+        } else if (variant.getReference().isEmpty() || variant.getAlternate().isEmpty()) {
+            return new ContextNucleotideRequest(variant.getChromosome(), variant.getStart(), variant.getReference(),
+                                                variant.getAlternate());
+        }
+        return null;
     }
 
     @Override
@@ -77,7 +104,7 @@ public class ContextNucleotideAdditionProcessor implements ItemProcessor<Variant
             return variant;
         } else {
             ImmutableTriple<Long, String, String> startAndReferenceAndAlternate =
-                    fastaSequenceReader.getContextNucleotideAndNewStart(contig, oldStart, "", "");
+                    contextNucleotides.getContextNucleotideAndNewStart(contig, oldStart, "", "");
             long newStart = startAndReferenceAndAlternate.getLeft();
             long newEnd = newStart; // TODO jmmut: can we find out the real end? named variants are not easy to parse
             String newReference = startAndReferenceAndAlternate.getMiddle();
@@ -98,7 +125,7 @@ public class ContextNucleotideAdditionProcessor implements ItemProcessor<Variant
         String newReference;
         String newAlternate;
         ImmutableTriple<Long, String, String> contextNucleotideInfo =
-                fastaSequenceReader.getContextNucleotideAndNewStart(contig, oldStart, oldReference, oldAlternate);
+                contextNucleotides.getContextNucleotideAndNewStart(contig, oldStart, oldReference, oldAlternate);
 
         long newStart = contextNucleotideInfo.getLeft();
         newReference = contextNucleotideInfo.getMiddle();
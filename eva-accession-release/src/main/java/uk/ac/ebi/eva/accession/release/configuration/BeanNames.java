@@ -19,6 +19,8 @@ public class BeanNames {
 
     public static final String RELEASE_PROCESSOR = "RELEASE_PROCESSOR";
 
+    public static final String CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER = "CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER";
+
     public static final String EVA_RELEASE_WRITER = "EVA_RELEASE_WRITER";
 
     public static final String EVA_MERGED_RELEASE_WRITER = "EVA_MERGED_RELEASE_WRITER";
@@ -2,6 +2,7 @@ package uk.ac.ebi.eva.accession.release.configuration.batch.jobs;
 
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.DUMP_ACTIVE_ACCESSIONS_JOB;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.DUMP_ACTIVE_ACCESSIONS_STEP;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.DUMP_MERGED_AND_DEPRECATED_ACCESSIONS_JOB;
@@ -27,15 +29,21 @@ public class DumpRSAccessionsJobConfiguration {
     private Step dumpMergedAndDeprecatedAccessionsStep;
 
     @Bean(DUMP_ACTIVE_ACCESSIONS_JOB)
-    public Job dumpActiveAccessionJob(JobRepository jobRepository) {
+    public Job dumpActiveAccessionJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(DUMP_ACTIVE_ACCESSIONS_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(dumpActiveAccessionsStep)
                 .build();
     }
 
     @Bean(DUMP_MERGED_AND_DEPRECATED_ACCESSIONS_JOB)
-    public Job dumpMergedAndDeprecatedAccessionJob(JobRepository jobRepository) {
+    public Job dumpMergedAndDeprecatedAccessionJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(DUMP_MERGED_AND_DEPRECATED_ACCESSIONS_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(dumpMergedAndDeprecatedAccessionsStep)
                 .build();
     }
@@ -1,6 +1,7 @@
 package uk.ac.ebi.eva.accession.release.configuration.batch.jobs;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.MERGED_AND_DEPRECATED_ACCESSIONS_RELEASE_FROM_DB_JOB;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.MERGED_AND_DEPRECATED_ACCESSIONS_RELEASE_FROM_DB_STEP;
 
@@ -20,8 +22,11 @@ public class MergedAndDeprecatedAccessionReleaseFromDBJobConfiguration {
     private Step mergedAndDeprecatedAccessionsReleaseFromDBStep;
 
     @Bean(MERGED_AND_DEPRECATED_ACCESSIONS_RELEASE_FROM_DB_JOB)
-    public Job mergedAndDeprecatedAccessionReleaseFromDBJob(JobRepository jobRepository) {
+    public Job mergedAndDeprecatedAccessionReleaseFromDBJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
+            JobRepository jobRepository) {
         return new JobBuilder(MERGED_AND_DEPRECATED_ACCESSIONS_RELEASE_FROM_DB_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(mergedAndDeprecatedAccessionsReleaseFromDBStep)
                 .build();
     }
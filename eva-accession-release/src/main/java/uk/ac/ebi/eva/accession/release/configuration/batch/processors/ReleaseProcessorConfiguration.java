@@ -19,9 +19,11 @@ package uk.ac.ebi.eva.accession.release.configuration.batch.processors;
 import htsjdk.variant.variantcontext.VariantContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import uk.ac.ebi.eva.accession.core.batch.io.FastaSynonymSequenceReader;
+import uk.ac.ebi.eva.accession.core.batch.listeners.ContextNucleotidePrefetchListener;
 import uk.ac.ebi.eva.accession.core.contig.ContigMapping;
 import uk.ac.ebi.eva.accession.release.batch.processors.ContextNucleotideAdditionProcessor;
 import uk.ac.ebi.eva.accession.release.batch.processors.ExcludeInvalidVariantsProcessor;
@@ -35,35 +37,45 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 
+import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.RELEASE_PROCESSOR;
 
 @Configuration
 public class ReleaseProcessorConfiguration {
 
     @Bean(RELEASE_PROCESSOR)
-    public ItemProcessor<Variant, VariantContext> releaseProcessor(FastaSynonymSequenceReader fastaReader,
-                                                                   ContigMapping contigMapping,
-                                                                   InputParameters inputParameters) {
+    public ItemProcessor<Variant, VariantContext> releaseProcessor(
+            FastaSynonymSequenceReader fastaReader, ContigMapping contigMapping, InputParameters inputParameters,
+            @Qualifier(CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER)
+            ContextNucleotidePrefetchListener<Variant> contextNucleotidePrefetchListener) {
         CompositeItemProcessor<Variant, VariantContext> compositeItemProcessor = new CompositeItemProcessor<>();
         compositeItemProcessor.setDelegates(Arrays.asList(new NamedVariantProcessor(),
                                                           new ExcludeInvalidVariantsProcessor(),
-                                                          new ContextNucleotideAdditionProcessor(fastaReader),
+                                                          new ContextNucleotideAdditionProcessor(
+                                                                  fastaReader, contextNucleotidePrefetchListener),
                                                           new ExcludeInvalidVariantsProcessor(),
                                                           new VariantToVariantContextProcessor
                                                                   (contigMapping, inputParameters.getContigNaming())));
         return compositeItemProcessor;
     }
 
+    @Bean(CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER)
+    public ContextNucleotidePrefetchListener<Variant> contextNucleotidePrefetchListener(
+            FastaSynonymSequenceReader fastaReader) {
+        return new ContextNucleotidePrefetchListener<>(fastaReader,
+                                                       ContextNucleotideAdditionProcessor::toContextNucleotideRequest);
+    }
+
     @Bean
     FastaSynonymSequenceReader fastaSynonymSequenceReader(ContigMapping contigMapping, InputParameters parameters)
             throws IOException {
         Path referenceFastaFile = Paths.get(parameters.getFasta());
-        return new FastaSynonymSequenceReader(contigMapping, referenceFastaFile);
+        return new FastaSynonymSequenceReader(contigMapping, referenceFastaFile, parameters.isMemoryMappedFasta());
     }
 
     @Bean
     ContigMapping contigMapping(InputParameters parameters) throws Exception {
-        return new ContigMapping(parameters.getAssemblyReportUrl());
+        return new ContigMapping(parameters.getAssemblyReportUrl(), parameters.getContigMappingSnapshot());
     }
 
 }
@@ -2,6 +2,7 @@ package uk.ac.ebi.eva.accession.release.configuration.batch.steps;
 
 import htsjdk.variant.variantcontext.VariantContext;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.TaskletStep;
@@ -16,9 +17,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 import uk.ac.ebi.eva.commons.core.models.pipeline.Variant;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.ACTIVE_ACCESSIONS_RELEASE_FROM_DB_STEP;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.ACTIVE_ACCESSIONS_VARIANT_READER;
+import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.EVA_RELEASE_WRITER;
 import static uk.ac.ebi.eva.accession.release.configuration.BeanNames.RELEASE_PROCESSOR;
 
@@ -33,10 +36,18 @@ public class ActiveAccessionReleaseFromDBStepConfiguration {
     @Qualifier(RELEASE_PROCESSOR)
     ItemProcessor<Variant, VariantContext> variantProcessor;
 
+    @Autowired
+    @Qualifier(CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER)
+    StepExecutionListener contextNucleotidePrefetchListener;
+
     @Autowired
     @Qualifier(EVA_RELEASE_WRITER)
     ItemStreamWriter<VariantContext> accessionWriter;
 
+    @Autowired
+    @Qualifier(CHUNK_TIMING_LISTENER)
+    StepExecutionListener chunkTimingListener;
+
     @Bean(ACTIVE_ACCESSIONS_RELEASE_FROM_DB_STEP)
     public Step activeAccessionsReleaseFromDBStep(JobRepository jobRepository,
                                                   @Qualifier(BATCH_TRANSACTION_MANAGER)
@@ -47,6 +58,8 @@ public class ActiveAccessionReleaseFromDBStepConfiguration {
                 .reader(variantReader)
                 .processor(variantProcessor)
                 .writer(accessionWriter)
+                .listener(contextNucleotidePrefetchListener)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
@@ -29,8 +29,12 @@ public class InputParameters {
 
     private String fasta;
 
+    private boolean memoryMappedFasta;
+
     private String assemblyReportUrl;
 
+    private String contigMappingSnapshot;
+
     private String outputFolder;
 
     private int chunkSize;
@@ -79,6 +83,14 @@ public class InputParameters {
         this.fasta = fasta;
     }
 
+    public boolean isMemoryMappedFasta() {
+        return memoryMappedFasta;
+    }
+
+    public void setMemoryMappedFasta(boolean memoryMappedFasta) {
+        this.memoryMappedFasta = memoryMappedFasta;
+    }
+
     public String getAssemblyReportUrl() {
         return assemblyReportUrl;
     }
@@ -87,6 +99,14 @@ public class InputParameters {
         this.assemblyReportUrl = assemblyReportUrl;
     }
 
+    public String getContigMappingSnapshot() {
+        return contigMappingSnapshot;
+    }
+
+    public void setContigMappingSnapshot(String contigMappingSnapshot) {
+        this.contigMappingSnapshot = contigMappingSnapshot;
+    }
+
     public String getOutputFolder() {
         return outputFolder;
     }
@@ -21,7 +21,9 @@ import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.ItemProcessor;
+import uk.ac.ebi.eva.accession.core.batch.io.ContextNucleotideRequest;
 import uk.ac.ebi.eva.accession.core.batch.io.FastaSequenceReader;
+import uk.ac.ebi.eva.accession.core.batch.listeners.ContextNucleotidePrefetchListener;
 import uk.ac.ebi.eva.accession.core.exceptions.PositionOutsideOfContigException;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 import uk.ac.ebi.eva.commons.core.models.VariantType;
@@ -38,8 +40,32 @@ public class ContextNucleotideAdditionProcessor
 
     private FastaSequenceReader fastaSequenceReader;
 
+    private ContextNucleotidePrefetchListener<SubmittedVariantEntity> contextNucleotides;
+
     public ContextNucleotideAdditionProcessor(FastaSequenceReader fastaReader) {
+        this(fastaReader, new ContextNucleotidePrefetchListener<>(fastaReader, variant -> null));
+    }
+
+    /**
+     * @param contextNucleotides listener registered in the step, so that the context bases of a whole chunk are read
+     *                           at once. Use {@link #toContextNucleotideRequest(SubmittedVariantEntity)} to create it.
+     */
+    public ContextNucleotideAdditionProcessor(
+            FastaSequenceReader fastaReader,
+            ContextNucleotidePrefetchListener<SubmittedVariantEntity> contextNucleotides) {
         this.fastaSequenceReader = fastaReader;
+        this.contextNucleotides = contextNucleotides;
+    }
+
+    /**
+     * @return the context base that will be requested when processing the variant, or null if none is needed
+     */
+    public static ContextNucleotideRequest toContextNucleotideRequest(SubmittedVariantEntity variant) {
+        if (variant.getReferenceAllele().isEmpty() != variant.getAlternateAllele().isEmpty()) {
+            return new ContextNucleotideRequest(variant.getContig(), variant.getStart(),
+                                                variant.getReferenceAllele(), variant.getAlternateAllele());
+        }
+        return null;
     }
 
     @Override
@@ -126,7 +152,7 @@ public class ContextNucleotideAdditionProcessor
         String newReference;
         String newAlternate;
         ImmutableTriple<Long, String, String> contextNucleotideInfo =
-                fastaSequenceReader.getContextNucleotideAndNewStart(contig, oldStart, oldReference, oldAlternate);
+                contextNucleotides.getContextNucleotideAndNewStart(contig, oldStart, oldReference, oldAlternate);
 
         long newStart = contextNucleotideInfo.getLeft();
         newReference = contextNucleotideInfo.getMiddle();
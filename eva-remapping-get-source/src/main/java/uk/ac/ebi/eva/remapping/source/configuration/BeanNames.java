@@ -36,4 +36,6 @@ public class BeanNames {
     public static final String EXCLUDE_VARIANTS_LISTENER = "EXCLUDE_VARIANTS_LISTENER";
 
     public static final String PROGRESS_LISTENER = "PROGRESS_LISTENER";
+
+    public static final String CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER = "CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER";
 }
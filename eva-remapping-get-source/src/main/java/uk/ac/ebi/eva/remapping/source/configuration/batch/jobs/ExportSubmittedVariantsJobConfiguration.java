@@ -17,6 +17,7 @@
 package uk.ac.ebi.eva.remapping.source.configuration.batch.jobs;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -27,6 +28,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import uk.ac.ebi.eva.remapping.source.configuration.batch.steps.ExportSubmittedVariantsStepConfiguration;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.remapping.source.configuration.BeanNames.EXPORT_DBSNP_SUBMITTED_VARIANTS_STEP;
 import static uk.ac.ebi.eva.remapping.source.configuration.BeanNames.EXPORT_EVA_SUBMITTED_VARIANTS_STEP;
 import static uk.ac.ebi.eva.remapping.source.configuration.BeanNames.EXPORT_SUBMITTED_VARIANTS_JOB;
@@ -37,11 +39,13 @@ public class ExportSubmittedVariantsJobConfiguration {
 
     @Bean(EXPORT_SUBMITTED_VARIANTS_JOB)
     public Job accessionReleaseJob(
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
             JobRepository jobRepository,
             @Autowired @Qualifier(EXPORT_EVA_SUBMITTED_VARIANTS_STEP) Step exportEvaSubmittedVariantsStep,
             @Autowired @Qualifier(EXPORT_DBSNP_SUBMITTED_VARIANTS_STEP) Step exportDbsnpSubmittedVariantsStep
     ) {
         return new JobBuilder(EXPORT_SUBMITTED_VARIANTS_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(exportEvaSubmittedVariantsStep)
                 .next(exportDbsnpSubmittedVariantsStep)
                 .build();
@@ -19,11 +19,13 @@ package uk.ac.ebi.eva.remapping.source.configuration.batch.processors;
 import htsjdk.variant.variantcontext.VariantContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import uk.ac.ebi.eva.accession.core.batch.io.FastaSequenceReader;
 import uk.ac.ebi.eva.accession.core.batch.io.FastaSynonymSequenceReader;
+import uk.ac.ebi.eva.accession.core.batch.listeners.ContextNucleotidePrefetchListener;
 import uk.ac.ebi.eva.accession.core.contig.ContigMapping;
 import uk.ac.ebi.eva.accession.core.model.eva.SubmittedVariantEntity;
 import uk.ac.ebi.eva.remapping.source.batch.processors.ContextNucleotideAdditionProcessor;
@@ -42,7 +44,10 @@ import java.util.Arrays;
 public class SubmittedVariantsProcessorConfiguration {
 
     @Bean(BeanNames.SUBMITTED_VARIANT_PROCESSOR)
-    public ItemProcessor<SubmittedVariantEntity, VariantContext> submittedVariantProcessor(FastaSequenceReader fastaReader) {
+    public ItemProcessor<SubmittedVariantEntity, VariantContext> submittedVariantProcessor(
+            FastaSequenceReader fastaReader,
+            @Qualifier(BeanNames.CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER)
+            ContextNucleotidePrefetchListener<SubmittedVariantEntity> contextNucleotidePrefetchListener) {
         CompositeItemProcessor<SubmittedVariantEntity, VariantContext> compositeItemProcessor =
                 new CompositeItemProcessor<>();
 
@@ -50,22 +55,31 @@ public class SubmittedVariantsProcessorConfiguration {
                 new ExcludeMultimapVariantsProcessor(),
                 new ExcludeAllelesMismatchVariantsProcessor(),
                 new ExcludeInvalidVariantsProcessor(),
-                new ContextNucleotideAdditionProcessor(fastaReader),
+                new ContextNucleotideAdditionProcessor(fastaReader, contextNucleotidePrefetchListener),
                 new ExcludeInvalidVariantsProcessor(),  // exclude again in case a IUPAC code is added as context base
                 new SubmittedVariantToVariantContextProcessor()));
 
         return compositeItemProcessor;
     }
 
+    @Bean(BeanNames.CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER)
+    public ContextNucleotidePrefetchListener<SubmittedVariantEntity> contextNucleotidePrefetchListener(
+            FastaSequenceReader fastaReader) {
+        return new ContextNucleotidePrefetchListener<>(fastaReader,
+                                                       ContextNucleotideAdditionProcessor::toContextNucleotideRequest);
+    }
+
     @Bean
     FastaSequenceReader fastaSequenceReader(InputParameters parameters)
             throws Exception {
         if (parameters.getAssemblyReportUrl().isEmpty()) {
-            return new FastaSequenceReader(Paths.get(parameters.getFasta()));
+            return new FastaSequenceReader(Paths.get(parameters.getFasta()), parameters.isMemoryMappedFasta());
         } else {
             Path referenceFastaFile = Paths.get(parameters.getFasta());
-            ContigMapping contigMapping = new ContigMapping(parameters.getAssemblyReportUrl());
-            return new FastaSynonymSequenceReader(contigMapping, referenceFastaFile);
+            ContigMapping contigMapping = new ContigMapping(parameters.getAssemblyReportUrl(),
+                                                            parameters.getContigMappingSnapshot());
+            return new FastaSynonymSequenceReader(contigMapping, referenceFastaFile,
+                                                  parameters.isMemoryMappedFasta());
         }
     }
 }
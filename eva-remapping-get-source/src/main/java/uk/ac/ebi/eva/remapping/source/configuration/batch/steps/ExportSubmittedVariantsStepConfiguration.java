@@ -41,6 +41,7 @@ import uk.ac.ebi.eva.remapping.source.configuration.batch.listeners.ListenersCon
 import uk.ac.ebi.eva.remapping.source.configuration.batch.policies.PoliciesConfiguration;
 import uk.ac.ebi.eva.remapping.source.configuration.batch.processors.SubmittedVariantsProcessorConfiguration;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 
 @Configuration
@@ -61,6 +62,8 @@ public class ExportSubmittedVariantsStepConfiguration {
             @Autowired @Qualifier(BeanNames.EVA_SUBMITTED_VARIANT_WRITER) ItemStreamWriter<VariantContext> accessionWriter,
             @Autowired @Qualifier(BeanNames.PROGRESS_LISTENER) StepExecutionListener progressListener,
             @Autowired @Qualifier(BeanNames.EXCLUDE_VARIANTS_LISTENER) StepExecutionListener excludeVariantsListener,
+            @Autowired @Qualifier(BeanNames.CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER) StepExecutionListener contextNucleotidePrefetchListener,
+            @Autowired @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             @Autowired IllegalStartSkipPolicy illegalStartSkipPolicy) {
         TaskletStep step = new StepBuilder(BeanNames.EXPORT_EVA_SUBMITTED_VARIANTS_STEP, jobRepository)
                 .<SubmittedVariantEntity, VariantContext>chunk(chunkSizeCompletionPolicy, transactionManager)
@@ -71,6 +74,8 @@ public class ExportSubmittedVariantsStepConfiguration {
                 .skipPolicy(illegalStartSkipPolicy)
                 .listener(excludeVariantsListener)
                 .listener(progressListener)
+                .listener(contextNucleotidePrefetchListener)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
@@ -85,6 +90,8 @@ public class ExportSubmittedVariantsStepConfiguration {
             @Autowired @Qualifier(BeanNames.DBSNP_SUBMITTED_VARIANT_WRITER) ItemStreamWriter<VariantContext> accessionWriter,
             @Autowired @Qualifier(BeanNames.PROGRESS_LISTENER) StepExecutionListener progressListener,
             @Autowired @Qualifier(BeanNames.EXCLUDE_VARIANTS_LISTENER) StepExecutionListener excludeVariantsListener,
+            @Autowired @Qualifier(BeanNames.CONTEXT_NUCLEOTIDE_PREFETCH_LISTENER) StepExecutionListener contextNucleotidePrefetchListener,
+            @Autowired @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             @Autowired IllegalStartSkipPolicy illegalStartSkipPolicy) {
         TaskletStep step = new StepBuilder(BeanNames.EXPORT_DBSNP_SUBMITTED_VARIANTS_STEP, jobRepository)
                 .<SubmittedVariantEntity, VariantContext>chunk(chunkSizeCompletionPolicy, transactionManager)
@@ -95,6 +102,8 @@ public class ExportSubmittedVariantsStepConfiguration {
                 .skipPolicy(illegalStartSkipPolicy)
                 .listener(excludeVariantsListener)
                 .listener(progressListener)
+                .listener(contextNucleotidePrefetchListener)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
@@ -27,8 +27,12 @@ public class InputParameters {
 
     private String fasta;
 
+    private boolean memoryMappedFasta;
+
     private String assemblyReportUrl;
 
+    private String contigMappingSnapshot;
+
     private String outputFolder;
 
     private List<String> projects;
@@ -64,6 +68,14 @@ public class InputParameters {
         this.fasta = fasta;
     }
 
+    public boolean isMemoryMappedFasta() {
+        return memoryMappedFasta;
+    }
+
+    public void setMemoryMappedFasta(boolean memoryMappedFasta) {
+        this.memoryMappedFasta = memoryMappedFasta;
+    }
+
     public String getAssemblyReportUrl() {
         return assemblyReportUrl;
     }
@@ -72,6 +84,14 @@ public class InputParameters {
         this.assemblyReportUrl = assemblyReportUrl;
     }
 
+    public String getContigMappingSnapshot() {
+        return contigMappingSnapshot;
+    }
+
+    public void setContigMappingSnapshot(String contigMappingSnapshot) {
+        this.contigMappingSnapshot = contigMappingSnapshot;
+    }
+
     public String getOutputFolder() {
         return outputFolder;
     }
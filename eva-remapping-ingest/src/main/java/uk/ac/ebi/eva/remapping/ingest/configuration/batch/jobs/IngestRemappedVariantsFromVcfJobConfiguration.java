@@ -16,6 +16,7 @@
 package uk.ac.ebi.eva.remapping.ingest.configuration.batch.jobs;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -23,6 +24,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.remapping.ingest.configuration.BeanNames.INGEST_REMAPPED_VARIANTS_FROM_VCF_JOB;
 import static uk.ac.ebi.eva.remapping.ingest.configuration.BeanNames.INGEST_REMAPPED_VARIANTS_FROM_VCF_STEP;
 import static uk.ac.ebi.eva.remapping.ingest.configuration.BeanNames.STORE_REMAPPING_METADATA_STEP;
@@ -34,8 +36,10 @@ public class IngestRemappedVariantsFromVcfJobConfiguration {
     public Job ingestRemappedVariantsFromVcfJob(
             @Qualifier(INGEST_REMAPPED_VARIANTS_FROM_VCF_STEP) Step ingestRemappedVariantsStep,
             @Qualifier(STORE_REMAPPING_METADATA_STEP) Step storeRemappingMetadataStep,
+            @Qualifier(CHUNK_TIMING_LISTENER) JobExecutionListener chunkTimingListener,
             JobRepository jobRepository) {
         return new JobBuilder(INGEST_REMAPPED_VARIANTS_FROM_VCF_JOB, jobRepository)
+                .listener(chunkTimingListener)
                 .start(storeRemappingMetadataStep)
                 .next(ingestRemappedVariantsStep)
                 .build();
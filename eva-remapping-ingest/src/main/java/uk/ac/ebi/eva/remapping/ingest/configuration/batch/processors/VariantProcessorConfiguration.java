@@ -54,7 +54,7 @@ public class VariantProcessorConfiguration {
 
     @Bean
     public ContigMapping contigMapping(InputParameters parameters) throws Exception {
-        return new ContigMapping(parameters.getAssemblyReportUrl());
+        return new ContigMapping(parameters.getAssemblyReportUrl(), parameters.getContigMappingSnapshot());
     }
 
     @Bean
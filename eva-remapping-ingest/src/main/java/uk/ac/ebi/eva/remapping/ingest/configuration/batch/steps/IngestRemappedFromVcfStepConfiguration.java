@@ -34,6 +34,7 @@ import uk.ac.ebi.eva.commons.core.models.IVariant;
 import uk.ac.ebi.eva.commons.core.models.pipeline.Variant;
 import uk.ac.ebi.eva.remapping.ingest.configuration.BeanNames;
 
+import static uk.ac.ebi.eva.accession.core.configuration.ChunkTimingListenerConfiguration.CHUNK_TIMING_LISTENER;
 import static uk.ac.ebi.eva.accession.core.configuration.InMemoryBatchConfiguration.BATCH_TRANSACTION_MANAGER;
 import static uk.ac.ebi.eva.remapping.ingest.configuration.BeanNames.COMPOSITE_VARIANT_PROCESSOR;
 import static uk.ac.ebi.eva.remapping.ingest.configuration.BeanNames.PROGRESS_LISTENER;
@@ -49,6 +50,7 @@ public class IngestRemappedFromVcfStepConfiguration {
             @Qualifier(COMPOSITE_VARIANT_PROCESSOR) ItemProcessor<IVariant, SubmittedVariantEntity> processor,
             @Qualifier(REMAPPED_SUBMITTED_VARIANTS_WRITER) ItemWriter<SubmittedVariantEntity> submittedVariantWriter,
             @Qualifier(PROGRESS_LISTENER) StepExecutionListener progressListener,
+            @Qualifier(CHUNK_TIMING_LISTENER) StepExecutionListener chunkTimingListener,
             JobRepository jobRepository,
             @Qualifier(BATCH_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
             SimpleCompletionPolicy chunkSizeCompletionPolicy) {
@@ -58,6 +60,7 @@ public class IngestRemappedFromVcfStepConfiguration {
                 .processor(processor)
                 .writer(submittedVariantWriter)
                 .listener(progressListener)
+                .listener(chunkTimingListener)
                 .build();
         return step;
     }
@@ -30,6 +30,8 @@ public class InputParameters {
 
     private String assemblyReportUrl;
 
+    private String contigMappingSnapshot;
+
     private String remappingVersion;
 
     private int chunkSize;
@@ -74,6 +76,14 @@ public class InputParameters {
         this.assemblyReportUrl = assemblyReportUrl;
     }
 
+    public String getContigMappingSnapshot() {
+        return contigMappingSnapshot;
+    }
+
+    public void setContigMappingSnapshot(String contigMappingSnapshot) {
+        this.contigMappingSnapshot = contigMappingSnapshot;
+    }
+
     public String getRemappingVersion() {
         return remappingVersion;
     }